@@ -19,18 +19,25 @@
 package org.wso2.carbon.apimgt.cache.invalidation;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.cache.invalidation.internal.DataHolder;
+import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.CacheInvalidationConfiguration;
 import org.wso2.carbon.caching.impl.CacheImpl;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
 
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.cache.Cache;
@@ -76,7 +83,7 @@ public class APIMgtCacheInvalidationListener implements MessageListener {
                             String key = (String) enumeration.nextElement();
                             map.put(key, mapMessage.getObject(key));
                         }
-                        handleCacheInvalidationMessage(map);
+                        handleCacheInvalidationMessage(map, message.getJMSTimestamp());
                     } else {
                         log.warn("Event dropped due to unsupported message type " + message.getClass());
                     }
@@ -89,7 +96,7 @@ public class APIMgtCacheInvalidationListener implements MessageListener {
         }
     }
 
-    private void handleCacheInvalidationMessage(Map map) {
+    private void handleCacheInvalidationMessage(Map map, long messageTimestamp) {
 
         String cacheManagerName = (String) map.get("cacheManagerName");
         String cacheName = (String) map.get("cacheName");
@@ -107,15 +114,25 @@ public class APIMgtCacheInvalidationListener implements MessageListener {
                 carbonContext.setTenantDomain(tenantDomain);
                 CacheManager cacheManager = Caching.getCacheManagerFactory().getCacheManager(cacheManagerName);
                 Cache<Object, Object> cache = cacheManager.getCache(cacheName);
-                Object cacheKeyObject = constructCacheKeyObject(cacheKey);
+                List<Object> cacheKeyObjects = new ArrayList<>();
+                long publishedTime = constructCacheKeyObjects(cacheKey, cacheKeyObjects);
+                if (publishedTime <= 0) {
+                    publishedTime = messageTimestamp;
+                }
                 if (cache instanceof CacheImpl) {
-
-                    if (CLEAR_ALL_PREFIX.equals(cacheKeyObject)) {
-                        ((CacheImpl) cache).removeAllLocal();
-                    } else {
-                        ((CacheImpl) cache).removeLocal(cacheKeyObject);
+                    // The keys of a batch are all removed while in the tenant flow of their cache
+                    for (Object cacheKeyObject : cacheKeyObjects) {
+                        if (CLEAR_ALL_PREFIX.equals(cacheKeyObject)) {
+                            ((CacheImpl) cache).removeAllLocal();
+                        } else {
+                            ((CacheImpl) cache).removeLocal(cacheKeyObject);
+                        }
                     }
                 }
+                getHistogram("BatchSize").update(cacheKeyObjects.size());
+                if (publishedTime > 0) {
+                    getHistogram("InvalidationLag").update(Math.max(0, System.currentTimeMillis() - publishedTime));
+                }
             } catch (ClassNotFoundException e) {
                 log.error("Error while removing cache Object", e);
             } finally {
@@ -124,15 +141,48 @@ public class APIMgtCacheInvalidationListener implements MessageListener {
         }
     }
 
-    private Object constructCacheKeyObject(String cacheKey) throws ClassNotFoundException {
+    /**
+     * Deserializes the keys of an invalidation message, which is either a single key or a batch of keys.
+     *
+     * @param cacheKey        serialized key or batch of keys
+     * @param cacheKeyObjects list the keys are added to
+     * @return time in milliseconds the batch was sent, or 0 if the message holds a single key
+     */
+    long constructCacheKeyObjects(String cacheKey, List<Object> cacheKeyObjects) throws ClassNotFoundException {
 
         JsonElement parsedValue = new JsonParser().parse(cacheKey);
         if (parsedValue instanceof JsonObject) {
             JsonObject jsonObject = (JsonObject) parsedValue;
+            JsonElement keys = jsonObject.get(CachingConstants.KEYS);
+            if (keys instanceof JsonArray) {
+                Gson gson = new Gson();
+                for (JsonElement key : (JsonArray) keys) {
+                    cacheKeyObjects.add(constructCacheKeyObject(gson, key));
+                }
+                JsonElement publishedTime = jsonObject.get(CachingConstants.PUBLISHED_TIME);
+                return publishedTime != null ? publishedTime.getAsLong() : 0;
+            }
+            cacheKeyObjects.add(constructCacheKeyObject(new Gson(), jsonObject));
+        } else {
+            cacheKeyObjects.add(null);
+        }
+        return 0;
+    }
+
+    private Object constructCacheKeyObject(Gson gson, JsonElement cacheKey) throws ClassNotFoundException {
+
+        if (cacheKey instanceof JsonObject) {
+            JsonObject jsonObject = (JsonObject) cacheKey;
             String type = jsonObject.get(CachingConstants.TYPE).getAsString();
             JsonElement value = jsonObject.get(CachingConstants.VALUE);
-            return new Gson().fromJson(value, Class.forName(type));
+            return gson.fromJson(value, Class.forName(type));
         }
         return null;
     }
+
+    protected Histogram getHistogram(String name) {
+
+        return MetricManager.histogram(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), name));
+    }
 }
@@ -23,9 +23,16 @@ import com.google.gson.JsonParser;
 import org.wso2.carbon.apimgt.cache.invalidation.internal.DataHolder;
 import org.wso2.carbon.apimgt.eventing.EventPublisherEvent;
 import org.wso2.carbon.apimgt.eventing.EventPublisherType;
+import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.CacheInvalidationConfiguration;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.caching.impl.Util;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.cache.CacheEntryInfo;
 import javax.cache.CacheInvalidationRequestSender;
@@ -35,42 +42,107 @@ import javax.cache.event.CacheEntryListenerException;
 import javax.cache.event.CacheEntryRemovedListener;
 import javax.cache.event.CacheEntryUpdatedListener;
 
+import static org.wso2.carbon.caching.impl.CachingConstants.CLEAR_ALL_PREFIX;
+
 /**
  *This class used to send Caching Events to Traffic manager node in order to distribute.
+ * When batching is enabled, the keys invalidated in a cache are sent together in a single event.
  */
 public class APIMgtCacheInvalidationRequestSender implements CacheEntryRemovedListener, CacheEntryUpdatedListener,
         CacheEntryCreatedListener, CacheInvalidationRequestSender {
 
     CacheInvalidationConfiguration cacheInvalidationConfiguration;
+    private final Map<String, Boolean> excludedCacheNames = new ConcurrentHashMap<>();
+    private final CacheInvalidationBatcher batcher;
 
     public APIMgtCacheInvalidationRequestSender(CacheInvalidationConfiguration cacheInvalidationConfiguration) {
 
         this.cacheInvalidationConfiguration = cacheInvalidationConfiguration;
-
+        if (cacheInvalidationConfiguration.isBatchingEnabled()) {
+            batcher = new CacheInvalidationBatcher(cacheInvalidationConfiguration.getBatchingWindow(),
+                    cacheInvalidationConfiguration.getMaxBatchSize(), this::publishBatch);
+        } else {
+            batcher = null;
+        }
     }
 
     public void send(CacheEntryInfo cacheInfo) {
 
-        if (cacheInvalidationConfiguration.isEnabled() && DataHolder.getInstance().isStarted()) {
-            boolean excludedCachePresent = false;
+        if (cacheInvalidationConfiguration.isEnabled() && DataHolder.getInstance().isStarted()
+                && !isExcludedCache(cacheInfo.getCacheName())) {
+            String cacheKey = constructCacheKeyString(cacheInfo.getCacheKey());
+            if (batcher != null) {
+                batcher.add(cacheInfo.getCacheManagerName(), cacheInfo.getCacheName(), cacheInfo.getTenantDomain(),
+                        cacheInfo.getTenantId(), cacheKey, CLEAR_ALL_PREFIX.equals(cacheInfo.getCacheKey()));
+            } else {
+                publish(cacheInfo.getCacheManagerName(), cacheInfo.getCacheName(), cacheKey,
+                        cacheInfo.getTenantDomain(), cacheInfo.getTenantId());
+            }
+        }
+    }
+
+    /**
+     * Sends the invalidated keys waiting to be batched and stops batching.
+     */
+    public void shutdown() {
+
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    private boolean isExcludedCache(String cacheName) {
+
+        // Cache names are few, hence the result of matching a name against the excluded caches is kept
+        return excludedCacheNames.computeIfAbsent(cacheName, name -> {
             for (String excludedCache : cacheInvalidationConfiguration.getExcludedCaches()) {
-                if (cacheInfo.getCacheName().contains(excludedCache)) {
-                    excludedCachePresent = true;
-                    break;
+                if (name.contains(excludedCache)) {
+                    return true;
                 }
             }
-            if (!excludedCachePresent) {
-                Object[] objects = new Object[]{cacheInfo.getCacheManagerName(), cacheInfo.getCacheName(),
-                        constructCacheKeyString(cacheInfo.getCacheKey()), cacheInfo.getTenantDomain(),
-                        cacheInfo.getTenantId(),
-                        cacheInvalidationConfiguration.getDomain(), DataHolder.getNodeId()};
-                EventPublisherEvent globalCacheInvalidationEvent =
-                        new EventPublisherEvent(cacheInvalidationConfiguration.getStream(), System.currentTimeMillis(),
-                                                objects);
-                APIUtil.publishEvent(EventPublisherType.GLOBAL_CACHE_INVALIDATION, globalCacheInvalidationEvent,
-                        globalCacheInvalidationEvent.toString());
+            return false;
+        });
+    }
+
+    /**
+     * Sends a batch of keys as a single event, whose cache key is a JSON object holding the serialized keys and
+     * the time the batch was sent.
+     */
+    void publishBatch(CacheInvalidationBatcher.Batch batch) {
+
+        long publishedTime = System.currentTimeMillis();
+        StringBuilder cacheKeys = new StringBuilder("{\"").append(CachingConstants.KEYS).append("\":[");
+        boolean first = true;
+        for (String cacheKey : batch.getCacheKeys()) {
+            if (!first) {
+                cacheKeys.append(',');
             }
+            cacheKeys.append(cacheKey);
+            first = false;
         }
+        cacheKeys.append("],\"").append(CachingConstants.PUBLISHED_TIME).append("\":").append(publishedTime)
+                .append('}');
+        getHistogram("BatchSize").update(batch.getCacheKeys().size());
+        getHistogram("BatchingDelay").update(publishedTime - batch.getCreatedTime());
+        publish(batch.getCacheManagerName(), batch.getCacheName(), cacheKeys.toString(), batch.getTenantDomain(),
+                batch.getTenantId());
+    }
+
+    void publish(String cacheManagerName, String cacheName, String cacheKey, String tenantDomain, int tenantId) {
+
+        Object[] objects = new Object[]{cacheManagerName, cacheName, cacheKey, tenantDomain, tenantId,
+                cacheInvalidationConfiguration.getDomain(), DataHolder.getNodeId()};
+        EventPublisherEvent globalCacheInvalidationEvent =
+                new EventPublisherEvent(cacheInvalidationConfiguration.getStream(), System.currentTimeMillis(),
+                                        objects);
+        APIUtil.publishEvent(EventPublisherType.GLOBAL_CACHE_INVALIDATION, globalCacheInvalidationEvent,
+                globalCacheInvalidationEvent.toString());
+    }
+
+    protected Histogram getHistogram(String name) {
+
+        return MetricManager.histogram(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), name));
     }
 
     public void entryCreated(CacheEntryEvent cacheEntryEvent) throws CacheEntryListenerException {
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.cache.invalidation;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects the keys invalidated in a cache of a tenant for a short window, so that they are sent to the other nodes
+ * in a single message instead of a message per key. A batch is sent once the window has elapsed since the first key
+ * waiting to be sent was added, or as soon as it reaches the maximum batch size.
+ */
+public class CacheInvalidationBatcher {
+
+    private static final Log log = LogFactory.getLog(CacheInvalidationBatcher.class);
+
+    private final long batchingWindow;
+    private final int maxBatchSize;
+    private final Consumer<Batch> publisher;
+    private final Map<BatchKey, Batch> pendingBatches = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private boolean flushScheduled;
+
+    /**
+     * @param batchingWindow time in milliseconds keys are collected for before being sent
+     * @param maxBatchSize   maximum number of keys sent in a batch
+     * @param publisher      sends a batch of invalidated keys to the other nodes
+     */
+    public CacheInvalidationBatcher(long batchingWindow, int maxBatchSize, Consumer<Batch> publisher) {
+
+        this.batchingWindow = Math.max(0, batchingWindow);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.publisher = publisher;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "CacheInvalidationBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds an invalidated key to the batch of its cache.
+     *
+     * @param cacheManagerName name of the cache manager of the cache
+     * @param cacheName        name of the cache
+     * @param tenantDomain     tenant domain of the cache
+     * @param tenantId         tenant id of the cache
+     * @param cacheKey         serialized key invalidated
+     * @param clearAll         whether the key stands for all the entries of the cache
+     */
+    public void add(String cacheManagerName, String cacheName, String tenantDomain, int tenantId, String cacheKey,
+                    boolean clearAll) {
+
+        Batch fullBatch = null;
+        synchronized (pendingBatches) {
+            BatchKey batchKey = new BatchKey(cacheManagerName, cacheName, tenantDomain, tenantId);
+            Batch batch = pendingBatches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch(batchKey);
+                pendingBatches.put(batchKey, batch);
+            }
+            batch.add(cacheKey, clearAll);
+            if (batch.getCacheKeys().size() >= maxBatchSize) {
+                fullBatch = pendingBatches.remove(batchKey);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, batchingWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            publish(fullBatch);
+        }
+    }
+
+    /**
+     * Sends all the batches waiting to be sent.
+     */
+    public void flush() {
+
+        List<Batch> batches;
+        synchronized (pendingBatches) {
+            batches = new ArrayList<>(pendingBatches.values());
+            pendingBatches.clear();
+            flushScheduled = false;
+        }
+        for (Batch batch : batches) {
+            publish(batch);
+        }
+    }
+
+    /**
+     * Sends the batches waiting to be sent and stops collecting keys.
+     */
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    private void publish(Batch batch) {
+
+        try {
+            publisher.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("Error while sending the invalidated keys of cache " + batch.getCacheName(), e);
+        }
+    }
+
+    private static final class BatchKey {
+
+        private final String cacheManagerName;
+        private final String cacheName;
+        private final String tenantDomain;
+        private final int tenantId;
+
+        private BatchKey(String cacheManagerName, String cacheName, String tenantDomain, int tenantId) {
+
+            this.cacheManagerName = cacheManagerName;
+            this.cacheName = cacheName;
+            this.tenantDomain = tenantDomain;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey batchKey = (BatchKey) o;
+            return tenantId == batchKey.tenantId && Objects.equals(cacheManagerName, batchKey.cacheManagerName)
+                    && Objects.equals(cacheName, batchKey.cacheName)
+                    && Objects.equals(tenantDomain, batchKey.tenantDomain);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(cacheManagerName, cacheName, tenantDomain, tenantId);
+        }
+    }
+
+    /**
+     * Keys invalidated in a cache of a tenant. Once all the entries of the cache are invalidated, the batch only
+     * holds the key standing for all of them.
+     */
+    public static final class Batch {
+
+        private final BatchKey batchKey;
+        private final Set<String> cacheKeys = new LinkedHashSet<>();
+        private final long createdTime = System.currentTimeMillis();
+        private boolean clearAll;
+
+        private Batch(BatchKey batchKey) {
+
+            this.batchKey = batchKey;
+        }
+
+        private void add(String cacheKey, boolean clearAllKey) {
+
+            if (clearAll) {
+                return;
+            }
+            if (clearAllKey) {
+                cacheKeys.clear();
+                clearAll = true;
+            }
+            cacheKeys.add(cacheKey);
+        }
+
+        public String getCacheManagerName() {
+
+            return batchKey.cacheManagerName;
+        }
+
+        public String getCacheName() {
+
+            return batchKey.cacheName;
+        }
+
+        public String getTenantDomain() {
+
+            return batchKey.tenantDomain;
+        }
+
+        public int getTenantId() {
+
+            return batchKey.tenantId;
+        }
+
+        public Set<String> getCacheKeys() {
+
+            return cacheKeys;
+        }
+
+        /**
+         * @return time in milliseconds the first key of the batch was invalidated
+         */
+        public long getCreatedTime() {
+
+            return createdTime;
+        }
+    }
+}
@@ -26,6 +26,8 @@ public class CachingConstants {
     public static final String TYPE = "type";
     public static final String VALUE = "value";
     public static final String TOPIC_NAME = "globalCacheInvalidation";
+    public static final String KEYS = "keys";
+    public static final String PUBLISHED_TIME = "publishedTime";
 
     private CachingConstants() {
 
@@ -18,8 +18,15 @@
 
 package org.wso2.carbon.apimgt.cache.invalidation;
 
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.CacheInvalidationConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public class APIMgtCacheInvalidationListenerTest {
 
@@ -30,4 +37,30 @@ public class APIMgtCacheInvalidationListenerTest {
     @Test
     public void testOnMessage() {
     }
+
+    @Test
+    public void testConstructSingleCacheKey() throws ClassNotFoundException {
+
+        APIMgtCacheInvalidationListener listener =
+                new APIMgtCacheInvalidationListener(new CacheInvalidationConfiguration());
+        List<Object> cacheKeys = new ArrayList<>();
+        long publishedTime = listener.constructCacheKeyObjects(
+                "{\"type\":\"java.lang.String\",\"value\":\"token1\"}", cacheKeys);
+        Assert.assertEquals(0, publishedTime);
+        Assert.assertEquals(Collections.singletonList("token1"), cacheKeys);
+    }
+
+    @Test
+    public void testConstructBatchedCacheKeys() throws ClassNotFoundException {
+
+        APIMgtCacheInvalidationListener listener =
+                new APIMgtCacheInvalidationListener(new CacheInvalidationConfiguration());
+        List<Object> cacheKeys = new ArrayList<>();
+        long publishedTime = listener.constructCacheKeyObjects("{\"keys\":["
+                + "{\"type\":\"java.lang.String\",\"value\":\"token1\"},"
+                + "{\"type\":\"java.lang.String\",\"value\":\"token2\"}],\"publishedTime\":1700000000000}",
+                cacheKeys);
+        Assert.assertEquals(1700000000000L, publishedTime);
+        Assert.assertEquals(Arrays.asList("token1", "token2"), cacheKeys);
+    }
 }
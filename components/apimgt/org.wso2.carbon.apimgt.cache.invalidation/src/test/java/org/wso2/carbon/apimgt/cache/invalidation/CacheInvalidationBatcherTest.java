@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.cache.invalidation;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases of the collection of invalidated keys in {@link CacheInvalidationBatcher}.
+ */
+public class CacheInvalidationBatcherTest {
+
+    private static final String CACHE_MANAGER = "API_MANAGER_CACHE_MANAGER";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+
+    private List<CacheInvalidationBatcher.Batch> publishedBatches;
+    private CacheInvalidationBatcher batcher;
+
+    @Before
+    public void setUp() {
+
+        publishedBatches = Collections.synchronizedList(new ArrayList<>());
+        // The window is long enough for the batches to be sent only when flushed by the test
+        batcher = new CacheInvalidationBatcher(60000, 3, publishedBatches::add);
+    }
+
+    @After
+    public void tearDown() {
+
+        batcher.shutdown();
+    }
+
+    @Test
+    public void testKeysAreBatchedPerCache() {
+
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key1", false);
+        batcher.add(CACHE_MANAGER, "resourceCache", TENANT_DOMAIN, TENANT_ID, "key2", false);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key3", false);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key1", false);
+        Assert.assertTrue(publishedBatches.isEmpty());
+
+        batcher.flush();
+        Assert.assertEquals(2, publishedBatches.size());
+        CacheInvalidationBatcher.Batch tokenCacheBatch = publishedBatches.get(0);
+        Assert.assertEquals("tokenCache", tokenCacheBatch.getCacheName());
+        Assert.assertEquals(CACHE_MANAGER, tokenCacheBatch.getCacheManagerName());
+        Assert.assertEquals(TENANT_DOMAIN, tokenCacheBatch.getTenantDomain());
+        Assert.assertEquals(TENANT_ID, tokenCacheBatch.getTenantId());
+        Assert.assertEquals(Arrays.asList("key1", "key3"), new ArrayList<>(tokenCacheBatch.getCacheKeys()));
+        Assert.assertEquals(Collections.singletonList("key2"),
+                new ArrayList<>(publishedBatches.get(1).getCacheKeys()));
+    }
+
+    @Test
+    public void testFullBatchIsSentImmediately() {
+
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key1", false);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key2", false);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key3", false);
+        Assert.assertEquals(1, publishedBatches.size());
+        Assert.assertEquals(3, publishedBatches.get(0).getCacheKeys().size());
+
+        batcher.flush();
+        Assert.assertEquals(1, publishedBatches.size());
+    }
+
+    @Test
+    public void testClearAllSupersedesOtherKeys() {
+
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key1", false);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "clearAll", true);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key2", false);
+        batcher.flush();
+        Assert.assertEquals(1, publishedBatches.size());
+        Assert.assertEquals(Collections.singletonList("clearAll"),
+                new ArrayList<>(publishedBatches.get(0).getCacheKeys()));
+    }
+
+    @Test
+    public void testBatchIsSentAfterWindow() throws InterruptedException {
+
+        batcher.shutdown();
+        batcher = new CacheInvalidationBatcher(10, 100, publishedBatches::add);
+        batcher.add(CACHE_MANAGER, "tokenCache", TENANT_DOMAIN, TENANT_ID, "key1", false);
+        long deadline = System.currentTimeMillis() + 10000;
+        while (publishedBatches.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, publishedBatches.size());
+    }
+}
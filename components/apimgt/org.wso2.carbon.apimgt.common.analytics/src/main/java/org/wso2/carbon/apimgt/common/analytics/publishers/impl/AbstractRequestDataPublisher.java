@@ -38,35 +38,39 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
     protected static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
             new TypeReference<Map<String, Object>>() {
             };
+    protected static final AnalyticsEventWriter EVENT_WRITER = new AnalyticsEventWriter(OBJECT_MAPPER);
     private static final Log log = LogFactory.getLog(AbstractRequestDataPublisher.class);
 
     @Override
     public void publish(Event analyticsEvent) {
 
-        Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
         List<CounterMetric> multipleCounterMetrics = this.getMultipleCounterMetrics();
         if (multipleCounterMetrics == null) {
             log.error("All the counterMetrics are invalid. Event will be dropped.");
             return;
         }
 
+        // Events of the known DTOs are written straight into the builders, others are converted with Jackson once
+        Map<String, Object> dataMap = EVENT_WRITER.isSupported(analyticsEvent) ? null
+                : OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
         for (CounterMetric counterMetric : multipleCounterMetrics) {
             if (counterMetric == null) {
                 log.error("counterMetric cannot be null.");
             } else {
-                String counterMetricClassName = counterMetric.getClass().toString().
-                        replaceAll("[\r\n]", "").split(" ")[1];
                 boolean caughtException = false;
                 MetricEventBuilder builder = counterMetric.getEventBuilder();
-                for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
-                    try {
-                        builder.addAttribute(entry.getKey(), entry.getValue());
-                    } catch (MetricReportingException e) {
-                        caughtException = true;
-                        log.error("Error adding data to the event stream. counterMetric: " + counterMetricClassName
-                                , e);
-                        break;
+                try {
+                    if (dataMap == null) {
+                        EVENT_WRITER.write(analyticsEvent, builder);
+                    } else {
+                        for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+                            builder.addAttribute(entry.getKey(), entry.getValue());
+                        }
                     }
+                } catch (MetricReportingException e) {
+                    caughtException = true;
+                    log.error("Error adding data to the event stream. counterMetric: "
+                            + counterMetric.getClass().getName(), e);
                 }
                 if (!caughtException) {
                     try {
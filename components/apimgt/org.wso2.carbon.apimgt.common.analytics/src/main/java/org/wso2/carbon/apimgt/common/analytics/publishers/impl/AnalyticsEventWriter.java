@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the attributes of an analytics {@link Event} straight into a {@link MetricEventBuilder}, walking the event
+ * DTOs through their getters instead of converting the event to a map with Jackson for every request.
+ * <p>
+ * The attributes written are the ones the conversion with {@link ObjectMapper#convertValue} produces: the properties
+ * of the nested DTOs are unwrapped into the event, lists of DTOs are written as lists of maps, enums as their names
+ * and null values are kept. Events of other types than the DTOs known to the writer, such as subclasses defining
+ * further properties, are not supported and have to be converted with Jackson.
+ */
+public final class AnalyticsEventWriter {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param objectMapper mapper used to convert custom property values which are not strings, numbers or booleans
+     */
+    public AnalyticsEventWriter(ObjectMapper objectMapper) {
+
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param event analytics event
+     * @return whether the attributes of the event can be written by this writer
+     */
+    public boolean isSupported(Event event) {
+
+        API api = event.getApi();
+        return event.getClass() == Event.class
+                && (api == null || api.getClass() == API.class || api.getClass() == ExtendedAPI.class)
+                && isExactType(event.getOperation(), Operation.class)
+                && isExactType(event.getTarget(), Target.class)
+                && isExactType(event.getApplication(), Application.class)
+                && isExactType(event.getLatencies(), Latencies.class)
+                && isExactType(event.getMetaInfo(), MetaInfo.class)
+                && isExactType(event.getError(), Error.class)
+                && (event.getError() == null || event.getError().getErrorMessage() == null
+                        || event.getError().getErrorMessage() instanceof Enum);
+    }
+
+    /**
+     * Writes the attributes of an event into a builder. The event has to be supported by this writer.
+     *
+     * @param event   analytics event
+     * @param builder builder of the metric event
+     * @throws MetricReportingException if the builder rejects an attribute
+     */
+    public void write(Event event, MetricEventBuilder builder) throws MetricReportingException {
+
+        API api = event.getApi();
+        if (api != null) {
+            builder.addAttribute("apiId", api.getApiId());
+            builder.addAttribute("apiType", api.getApiType());
+            builder.addAttribute("apiName", api.getApiName());
+            builder.addAttribute("apiVersion", api.getApiVersion());
+            builder.addAttribute("apiCreator", api.getApiCreator());
+            builder.addAttribute("apiCreatorTenantDomain", api.getApiCreatorTenantDomain());
+            builder.addAttribute("uriTemplates", toURITemplateMaps(api.getUriTemplates()));
+            builder.addAttribute("apiPolicies", toOperationPolicyMaps(api.getApiPolicies()));
+            if (api instanceof ExtendedAPI) {
+                ExtendedAPI extendedAPI = (ExtendedAPI) api;
+                builder.addAttribute("organizationId", extendedAPI.getOrganizationId());
+                builder.addAttribute("apiContext", extendedAPI.getApiContext());
+            }
+        }
+        Operation operation = event.getOperation();
+        if (operation != null) {
+            builder.addAttribute("apiMethod", operation.getApiMethod());
+            builder.addAttribute("apiResourceTemplate", operation.getApiResourceTemplate());
+        }
+        Target target = event.getTarget();
+        if (target != null) {
+            builder.addAttribute("targetResponseCode", target.getTargetResponseCode());
+            builder.addAttribute("responseCacheHit", target.isResponseCacheHit());
+            builder.addAttribute("destination", target.getDestination());
+        }
+        Application application = event.getApplication();
+        if (application != null) {
+            builder.addAttribute("keyType", application.getKeyType());
+            builder.addAttribute("applicationId", application.getApplicationId());
+            builder.addAttribute("applicationName", application.getApplicationName());
+            builder.addAttribute("applicationOwner", application.getApplicationOwner());
+        }
+        Latencies latencies = event.getLatencies();
+        if (latencies != null) {
+            builder.addAttribute("responseLatency", latencies.getResponseLatency());
+            builder.addAttribute("backendLatency", latencies.getBackendLatency());
+            builder.addAttribute("requestMediationLatency", latencies.getRequestMediationLatency());
+            builder.addAttribute("responseMediationLatency", latencies.getResponseMediationLatency());
+        }
+        MetaInfo metaInfo = event.getMetaInfo();
+        if (metaInfo != null) {
+            builder.addAttribute("correlationId", metaInfo.getCorrelationId());
+            builder.addAttribute("regionId", metaInfo.getRegionId());
+            builder.addAttribute("gatewayType", metaInfo.getGatewayType());
+        }
+        Error error = event.getError();
+        if (error != null) {
+            builder.addAttribute("errorCode", error.getErrorCode());
+            builder.addAttribute("errorMessage", error.getErrorMessage() != null
+                    ? ((Enum<?>) error.getErrorMessage()).name() : null);
+        }
+        builder.addAttribute("proxyResponseCode", event.getProxyResponseCode());
+        builder.addAttribute("requestTimestamp", event.getRequestTimestamp());
+        builder.addAttribute("userAgentHeader", event.getUserAgentHeader());
+        builder.addAttribute("userName", event.getUserName());
+        builder.addAttribute("userIp", event.getUserIp());
+        builder.addAttribute("errorType", event.getErrorType());
+        builder.addAttribute("properties", toPropertiesMap(event.getProperties()));
+    }
+
+    private static boolean isExactType(Object value, Class<?> type) {
+
+        return value == null || value.getClass() == type;
+    }
+
+    private static List<Map<String, Object>> toURITemplateMaps(List<URITemplate> uriTemplates) {
+
+        List<Map<String, Object>> uriTemplateMaps = new ArrayList<>(uriTemplates.size());
+        for (URITemplate uriTemplate : uriTemplates) {
+            if (uriTemplate == null) {
+                uriTemplateMaps.add(null);
+                continue;
+            }
+            Map<String, Object> uriTemplateMap = new LinkedHashMap<>();
+            uriTemplateMap.put("uriTemplate", uriTemplate.getUriTemplate());
+            uriTemplateMap.put("resourceURI", uriTemplate.getResourceURI());
+            uriTemplateMap.put("resourceSandboxURI", uriTemplate.getResourceSandboxURI());
+            uriTemplateMap.put("httpVerb", uriTemplate.getHttpVerb());
+            uriTemplateMap.put("authScheme", uriTemplate.getAuthScheme());
+            uriTemplateMap.put("operationPolicies", toOperationPolicyMaps(uriTemplate.getOperationPolicies()));
+            uriTemplateMaps.add(uriTemplateMap);
+        }
+        return uriTemplateMaps;
+    }
+
+    private static List<Map<String, Object>> toOperationPolicyMaps(List<OperationPolicy> operationPolicies) {
+
+        List<Map<String, Object>> operationPolicyMaps = new ArrayList<>(operationPolicies.size());
+        for (OperationPolicy operationPolicy : operationPolicies) {
+            if (operationPolicy == null) {
+                operationPolicyMaps.add(null);
+                continue;
+            }
+            Map<String, Object> operationPolicyMap = new LinkedHashMap<>();
+            operationPolicyMap.put("policyId", operationPolicy.getPolicyId());
+            operationPolicyMap.put("policyName", operationPolicy.getPolicyName());
+            operationPolicyMap.put("policyVersion", operationPolicy.getPolicyVersion());
+            operationPolicyMap.put("direction", operationPolicy.getDirection());
+            operationPolicyMap.put("order", operationPolicy.getOrder());
+            operationPolicyMaps.add(operationPolicyMap);
+        }
+        return operationPolicyMaps;
+    }
+
+    private Map<String, Object> toPropertiesMap(Map<String, Object> properties) {
+
+        if (properties == null) {
+            return null;
+        }
+        Map<String, Object> propertiesMap = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                    || value instanceof Double || value instanceof Boolean) {
+                propertiesMap.put(entry.getKey(), value);
+            } else {
+                propertiesMap.put(entry.getKey(), objectMapper.convertValue(value, Object.class));
+            }
+        }
+        return propertiesMap;
+    }
+}
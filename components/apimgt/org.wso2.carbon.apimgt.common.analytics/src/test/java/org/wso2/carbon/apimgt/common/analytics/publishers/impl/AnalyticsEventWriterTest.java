@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategories;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases verifying that {@link AnalyticsEventWriter} writes the attributes Jackson converts an event to.
+ */
+public class AnalyticsEventWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    private final AnalyticsEventWriter writer = new AnalyticsEventWriter(OBJECT_MAPPER);
+
+    @Test
+    public void testWriteSuccessEvent() throws Exception {
+
+        Event event = new Event();
+        ExtendedAPI api = new ExtendedAPI();
+        api.setApiId("7f2c6e1a-5b3d-4a9e-8c7f-1d2e3f4a5b6c");
+        api.setApiType("HTTP");
+        api.setApiName("PetStore");
+        api.setApiVersion("1.0.0");
+        api.setApiCreator("admin");
+        api.setApiCreatorTenantDomain("carbon.super");
+        api.setOrganizationId("carbon.super");
+        api.setApiContext("/petstore/1.0.0");
+        OperationPolicy operationPolicy = new OperationPolicy();
+        operationPolicy.setPolicyId("1");
+        operationPolicy.setPolicyName("addHeader");
+        operationPolicy.setPolicyVersion("v1");
+        operationPolicy.setDirection("request");
+        operationPolicy.setOrder(1);
+        URITemplate uriTemplate = new URITemplate();
+        uriTemplate.setUriTemplate("/pets/{id}");
+        uriTemplate.setHttpVerb("GET");
+        uriTemplate.setAuthScheme("Any");
+        uriTemplate.setResourceURI("http://localhost:8080/pets");
+        uriTemplate.setOperationPolicies(Collections.singletonList(operationPolicy));
+        api.setUriTemplates(Collections.singletonList(uriTemplate));
+        api.setApiPolicies(Collections.singletonList(operationPolicy));
+        event.setApi(api);
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate("/pets/{id}");
+        event.setOperation(operation);
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setResponseCacheHit(true);
+        target.setDestination("http://localhost:8080/pets");
+        event.setTarget(target);
+        Application application = new Application();
+        application.setKeyType("PRODUCTION");
+        application.setApplicationId("5c2b7e9a-4f1d-4e3b-8a6c-0d9e8f7a6b5c");
+        application.setApplicationName("DefaultApplication");
+        application.setApplicationOwner("admin");
+        event.setApplication(application);
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(120L);
+        latencies.setBackendLatency(100L);
+        latencies.setRequestMediationLatency(10L);
+        latencies.setResponseMediationLatency(5000000000L);
+        event.setLatencies(latencies);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("0f6c3b1e-2d4a-4e5f-9a8b-7c6d5e4f3a2b");
+        metaInfo.setRegionId("default");
+        metaInfo.setGatewayType("SYNAPSE");
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2026-01-01T00:00:00.000Z");
+        event.setUserAgentHeader("curl/8.0");
+        event.setUserIp("192.168.1.10");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("apiContext", "/petstore/1.0.0");
+        properties.put("responseSize", 1024L);
+        properties.put("userName", null);
+        properties.put("headers", Collections.singletonMap("Content-Type", "application/json"));
+        event.setProperties(properties);
+
+        Assert.assertTrue(writer.isSupported(event));
+        Assert.assertEquals(OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE), write(event));
+    }
+
+    @Test
+    public void testWriteFaultEvent() throws Exception {
+
+        Event event = new Event();
+        API api = new API();
+        api.setApiId("7f2c6e1a-5b3d-4a9e-8c7f-1d2e3f4a5b6c");
+        api.setApiName("PetStore");
+        event.setApi(api);
+        Error error = new Error();
+        error.setErrorCode(900804);
+        error.setErrorMessage(FaultSubCategories.Throttling.SUBSCRIPTION_LIMIT_EXCEEDED);
+        event.setError(error);
+        event.setErrorType("THROTTLED");
+        event.setProxyResponseCode(429);
+
+        Assert.assertTrue(writer.isSupported(event));
+        Assert.assertEquals(OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE), write(event));
+    }
+
+    @Test
+    public void testSubclassOfEventIsNotSupported() {
+
+        Assert.assertFalse(writer.isSupported(new Event() {
+        }));
+        Event event = new Event();
+        event.setTarget(new Target() {
+        });
+        Assert.assertFalse(writer.isSupported(event));
+    }
+
+    private Map<String, Object> write(Event event) throws Exception {
+
+        Map<String, Object> attributes = new HashMap<>();
+        MetricEventBuilder builder = (MetricEventBuilder) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{MetricEventBuilder.class}, (proxy, method, args) -> {
+                    if ("addAttribute".equals(method.getName())) {
+                        Assert.assertFalse("Attribute written twice: " + args[0], attributes.containsKey(args[0]));
+                        attributes.put((String) args[0], args[1]);
+                        return proxy;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        writer.write(event, builder);
+        return attributes;
+    }
+}
@@ -47,6 +47,7 @@ public class GraphQLConstants {
     public static final String MAXIMUM_QUERY_DEPTH = "max_query_depth";
     public static final String GRAPHQL_MAX_DEPTH = "graphQLMaxDepth";
     public static final String GRAPHQL_MAX_COMPLEXITY = "graphQLMaxComplexity";
+    public static final int QUERY_ANALYSIS_CACHE_SIZE = 1000;
 
     /**
      * GraphQL Constants related to GraphQL Subscription operations
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway.graphql;
+
+/**
+ * Result of the static depth and complexity analysis of a GraphQL query document.
+ */
+public class QueryAnalysisResult {
+
+    private final int depth;
+    private final int complexity;
+    private final String complexityPolicy;
+    private final String error;
+
+    QueryAnalysisResult(int depth, int complexity, String complexityPolicy) {
+        this.depth = depth;
+        this.complexity = complexity;
+        this.complexityPolicy = complexityPolicy;
+        this.error = null;
+    }
+
+    QueryAnalysisResult(String error) {
+        this.depth = 0;
+        this.complexity = 0;
+        this.complexityPolicy = null;
+        this.error = error;
+    }
+
+    /**
+     * @return maximum nesting level of the fields selected by the operation
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return total complexity of the operation calculated using the complexity policy
+     */
+    public int getComplexity() {
+        return complexity;
+    }
+
+    /**
+     * @return complexity policy the complexity was calculated with
+     */
+    public String getComplexityPolicy() {
+        return complexityPolicy;
+    }
+
+    /**
+     * @return error occurred while analysing the document, or null if the analysis was successful
+     */
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
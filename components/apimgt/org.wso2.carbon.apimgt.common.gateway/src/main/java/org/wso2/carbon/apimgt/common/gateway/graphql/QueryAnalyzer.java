@@ -18,29 +18,63 @@
  */
 package org.wso2.carbon.apimgt.common.gateway.graphql;
 
-import graphql.ExecutionResult;
-import graphql.GraphQL;
-import graphql.GraphQLError;
+import graphql.GraphQLException;
 import graphql.analysis.FieldComplexityCalculator;
-import graphql.analysis.MaxQueryComplexityInstrumentation;
-import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.CoercedVariables;
+import graphql.language.Document;
+import graphql.parser.Parser;
 import graphql.schema.GraphQLSchema;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.simple.parser.ParseException;
+import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
-import java.util.List;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class contains methods using for Graphql query depth and complexity analysis.
+ * <p>
+ * Depth and complexity are calculated statically by traversing the query document against the schema, in a single
+ * pass, without executing the query. Analysis results are kept in a bounded LRU cache keyed by the hash of the
+ * normalized query, so that repeated queries are not traversed again.
  */
 public class QueryAnalyzer {
 
     private static final Log log = LogFactory.getLog(QueryAnalyzer.class);
     private final GraphQLSchema schema;
+    private final Map<String, QueryAnalysisResult> analysisCache;
 
     public QueryAnalyzer(GraphQLSchema schema) {
+        this(schema, GraphQLConstants.QUERY_ANALYSIS_CACHE_SIZE);
+    }
+
+    /**
+     * @param schema    GraphQL schema the queries are analysed against
+     * @param cacheSize maximum number of analysis results to cache. Caching is disabled if not a positive value
+     */
+    public QueryAnalyzer(GraphQLSchema schema, final int cacheSize) {
         this.schema = schema;
+        if (cacheSize > 0) {
+            this.analysisCache = Collections.synchronizedMap(
+                    new LinkedHashMap<String, QueryAnalysisResult>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, QueryAnalysisResult> eldest) {
+                            return size() > cacheSize;
+                        }
+                    });
+        } else {
+            this.analysisCache = null;
+        }
     }
 
     /**
@@ -51,41 +85,37 @@ public class QueryAnalyzer {
      * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
      */
     public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, String payload) {
+        return analyseQueryDepth(maxQueryDepth, payload, null);
+    }
+
+    /**
+     * This method analyses the query depth, reusing the document already parsed from the payload.
+     *
+     * @param maxQueryDepth maximum query depth
+     * @param payload       payload of the request
+     * @param document      parsed payload, or null if the payload has not been parsed
+     * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, String payload, Document document) {
 
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query depth for " + payload + " and max query depth:" + maxQueryDepth);
         }
-        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
-
         // If maxQueryDepth is a positive value, perform the depth limitation check. Otherwise, bypass the check.
         if (maxQueryDepth > 0) {
-            MaxQueryDepthInstrumentation maxQueryDepthInstrumentation =
-                    new MaxQueryDepthInstrumentation(maxQueryDepth);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryDepthInstrumentation).build();
-
-            ExecutionResult executionResult = runtime.execute(payload);
-            List<GraphQLError> errors = executionResult.getErrors();
-            if (errors.size() > 0) {
-                for (GraphQLError error : errors) {
-                    queryAnalyzerResponseDTO.addErrorToList((error.getMessage()));
+            // Depth does not depend on the complexity policy, hence any cached result of the query can be used
+            QueryAnalysisResult analysisResult = getCachedResult(getCacheKey(payload));
+            if (analysisResult == null) {
+                try {
+                    analysisResult = analyseQuery(payload, document, null);
+                } catch (ParseException e) {
+                    // Not expected, as there is no complexity policy to parse
+                    analysisResult = new QueryAnalysisResult(e.getMessage());
                 }
-                // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
-                queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
-                if (queryAnalyzerResponseDTO.getErrorList().size() == 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Maximum query depth of " + maxQueryDepth + " was not exceeded");
-                    }
-                    queryAnalyzerResponseDTO.setSuccess(true);
-                    return queryAnalyzerResponseDTO;
-                }
-                log.error(queryAnalyzerResponseDTO.getErrorList().toString());
-                queryAnalyzerResponseDTO.setSuccess(false);
-                return queryAnalyzerResponseDTO;
             }
+            return validateQueryDepth(maxQueryDepth, analysisResult);
         }
-
-        queryAnalyzerResponseDTO.setSuccess(true);
-        return queryAnalyzerResponseDTO;
+        return validateQueryDepth(maxQueryDepth, null);
     }
 
     /**
@@ -102,40 +132,14 @@ public class QueryAnalyzer {
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query complexity for " + payload + " and max complexity: " + maxQueryComplexity);
         }
-        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
-
         // If maxQueryComplexity is a positive value, perform the complexity limitation check.
         // Otherwise, bypass the check.
         if (maxQueryComplexity > 0) {
-            MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation =
-                    new MaxQueryComplexityInstrumentation(maxQueryComplexity, fieldComplexityCalculator);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryComplexityInstrumentation).build();
-
-            ExecutionResult executionResult = runtime.execute(payload);
-            List<GraphQLError> errors = executionResult.getErrors();
-            if (errors.size() > 0) {
-                for (GraphQLError error : errors) {
-                    queryAnalyzerResponseDTO.addErrorToList((error.getMessage()));
-                }
-                // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
-                queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
-                if (queryAnalyzerResponseDTO.getErrorList().size() == 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Maximum query complexity was not exceeded");
-                    }
-                    queryAnalyzerResponseDTO.setSuccess(true);
-                } else {
-                    log.error(queryAnalyzerResponseDTO.getErrorList());
-                    queryAnalyzerResponseDTO.getErrorList().clear();
-                    queryAnalyzerResponseDTO.addErrorToList("maximum query complexity exceeded");
-                }
-                queryAnalyzerResponseDTO.setSuccess(false);
-                return queryAnalyzerResponseDTO;
-            }
+            // Results calculated with an arbitrary calculator are not cached
+            return validateQueryComplexity(maxQueryComplexity,
+                    analyseQuery(payload, null, fieldComplexityCalculator, null, null));
         }
-
-        queryAnalyzerResponseDTO.setSuccess(true);
-        return queryAnalyzerResponseDTO;
+        return validateQueryComplexity(maxQueryComplexity, null);
     }
 
     /**
@@ -147,12 +151,284 @@ public class QueryAnalyzer {
      */
     public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, int maxQueryComplexity,
                                                                    String complexityInfoJson) throws ParseException {
+        return analyseQueryMutationComplexity(payload, null, maxQueryComplexity, complexityInfoJson);
+    }
+
+    /**
+     * This method analyses the query complexity, reusing the document already parsed from the payload.
+     *
+     * @param payload            payload of the request
+     * @param document           parsed payload, or null if the payload has not been parsed
+     * @param complexityInfoJson gql complexity info in json string format
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, Document document,
+                                                                   int maxQueryComplexity, String complexityInfoJson)
+            throws ParseException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Analyzing query complexity for " + payload + " and max complexity: " + maxQueryComplexity);
+        }
+        if (maxQueryComplexity > 0) {
+            return validateQueryComplexity(maxQueryComplexity, analyseQuery(payload, document, complexityInfoJson));
+        }
+        return validateQueryComplexity(maxQueryComplexity, null);
+    }
+
+    /**
+     * Calculates the depth and the complexity of the query in a single traversal of the query document. The result
+     * is served from the cache if the same query was already analysed with the same complexity policy.
+     *
+     * @param payload            payload of the request
+     * @param document           parsed payload, or null if the payload has not been parsed
+     * @param complexityInfoJson gql complexity info in json string format
+     * @return analysis result
+     * @throws ParseException if the complexity info cannot be parsed
+     */
+    public QueryAnalysisResult analyseQuery(String payload, Document document, String complexityInfoJson)
+            throws ParseException {
+
+        String cacheKey = getCacheKey(payload);
+        QueryAnalysisResult analysisResult = getCachedResult(cacheKey);
+        if (analysisResult != null && Objects.equals(analysisResult.getComplexityPolicy(), complexityInfoJson)) {
+            return analysisResult;
+        }
         FieldComplexityCalculatorImpl fieldComplexityCalculator = new FieldComplexityCalculatorImpl();
         fieldComplexityCalculator.parseAccessControlPolicy(complexityInfoJson);
-        return analyseQueryComplexity(maxQueryComplexity, payload, fieldComplexityCalculator);
+        return analyseQuery(payload, document, fieldComplexityCalculator, complexityInfoJson, cacheKey);
+    }
+
+    /**
+     * Validates the analysed query depth against the maximum query depth.
+     *
+     * @param maxQueryDepth  maximum query depth
+     * @param analysisResult analysis result of the query
+     * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO validateQueryDepth(int maxQueryDepth, QueryAnalysisResult analysisResult) {
+
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
+        if (maxQueryDepth > 0) {
+            if (!analysisResult.isSuccess()) {
+                queryAnalyzerResponseDTO.addErrorToList(analysisResult.getError());
+            } else if (analysisResult.getDepth() > maxQueryDepth) {
+                queryAnalyzerResponseDTO.addErrorToList("maximum query depth exceeded " + analysisResult.getDepth()
+                        + " > " + maxQueryDepth);
+            }
+            if (!queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
+                log.error(queryAnalyzerResponseDTO.getErrorList().toString());
+                queryAnalyzerResponseDTO.setSuccess(false);
+                return queryAnalyzerResponseDTO;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Maximum query depth of " + maxQueryDepth + " was not exceeded");
+            }
+        }
+        queryAnalyzerResponseDTO.setSuccess(true);
+        return queryAnalyzerResponseDTO;
+    }
+
+    /**
+     * Validates the analysed query complexity against the maximum query complexity.
+     *
+     * @param maxQueryComplexity Maximum query complexity value
+     * @param analysisResult     analysis result of the query
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO validateQueryComplexity(int maxQueryComplexity,
+                                                            QueryAnalysisResult analysisResult) {
+
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
+        if (maxQueryComplexity > 0) {
+            if (!analysisResult.isSuccess()) {
+                log.error(analysisResult.getError());
+                queryAnalyzerResponseDTO.addErrorToList(analysisResult.getError());
+                queryAnalyzerResponseDTO.setSuccess(false);
+                return queryAnalyzerResponseDTO;
+            }
+            if (analysisResult.getComplexity() > maxQueryComplexity) {
+                log.error("maximum query complexity exceeded " + analysisResult.getComplexity() + " > "
+                        + maxQueryComplexity);
+                queryAnalyzerResponseDTO.addErrorToList("maximum query complexity exceeded");
+                queryAnalyzerResponseDTO.setSuccess(false);
+                return queryAnalyzerResponseDTO;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Maximum query complexity was not exceeded");
+            }
+        }
+        queryAnalyzerResponseDTO.setSuccess(true);
+        return queryAnalyzerResponseDTO;
     }
 
     public GraphQLSchema getSchema() {
         return schema;
     }
+
+    private QueryAnalysisResult analyseQuery(String payload, Document document,
+                                             FieldComplexityCalculator fieldComplexityCalculator,
+                                             String complexityInfoJson, String cacheKey) {
+
+        QueryAnalysisResult analysisResult;
+        try {
+            if (document == null) {
+                document = new Parser().parseDocument(payload);
+            }
+            QueryTraverser queryTraverser = QueryTraverser.newQueryTraverser()
+                    .schema(schema)
+                    .document(document)
+                    .operationName(null)
+                    .coercedVariables(CoercedVariables.emptyVariables())
+                    .build();
+            DepthAndComplexityVisitor visitor = new DepthAndComplexityVisitor(fieldComplexityCalculator);
+            queryTraverser.visitPostOrder(visitor);
+            analysisResult = new QueryAnalysisResult(visitor.depth, visitor.getComplexity(), complexityInfoJson);
+        } catch (GraphQLException e) {
+            // Invalid syntax, unknown or ambiguous operation
+            return new QueryAnalysisResult(e.getMessage());
+        } catch (RuntimeException e) {
+            // Document does not conform to the schema
+            log.error("Error while analysing query " + payload, e);
+            return new QueryAnalysisResult("Error while analysing query: " + e.getMessage());
+        }
+        if (cacheKey != null) {
+            analysisCache.put(cacheKey, analysisResult);
+        }
+        return analysisResult;
+    }
+
+    private QueryAnalysisResult getCachedResult(String cacheKey) {
+        if (analysisCache == null || cacheKey == null) {
+            return null;
+        }
+        return analysisCache.get(cacheKey);
+    }
+
+    private String getCacheKey(String payload) {
+        if (analysisCache == null || payload == null) {
+            return null;
+        }
+        return DigestUtils.sha256Hex(normalizeQuery(payload));
+    }
+
+    /**
+     * Normalizes the query so that queries differing only in insignificant tokens share the same cache entry.
+     * Comments are removed and each run of white spaces, line terminators and commas outside string values is
+     * collapsed to a single space.
+     *
+     * @param query GraphQL query
+     * @return normalized query
+     */
+    static String normalizeQuery(String query) {
+
+        StringBuilder normalized = new StringBuilder(query.length());
+        boolean pendingSeparator = false;
+        int length = query.length();
+        int i = 0;
+        while (i < length) {
+            char c = query.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == '\uFEFF') {
+                pendingSeparator = true;
+                i++;
+            } else if (c == '#') {
+                while (i < length && query.charAt(i) != '\n' && query.charAt(i) != '\r') {
+                    i++;
+                }
+                pendingSeparator = true;
+            } else {
+                if (pendingSeparator && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSeparator = false;
+                if (c == '"') {
+                    int end = query.startsWith("\"\"\"", i) ? endOfBlockString(query, i + 3)
+                            : endOfString(query, i + 1);
+                    normalized.append(query, i, end);
+                    i = end;
+                } else {
+                    normalized.append(c);
+                    i++;
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static int endOfString(String query, int i) {
+        int length = query.length();
+        while (i < length) {
+            char c = query.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"' || c == '\n' || c == '\r') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static int endOfBlockString(String query, int i) {
+        int length = query.length();
+        while (i < length) {
+            if (query.startsWith("\\\"\"\"", i)) {
+                i += 4;
+            } else if (query.startsWith("\"\"\"", i)) {
+                return i + 3;
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Query visitor calculating the maximum depth and the total complexity of the visited fields, using the same
+     * semantics as {@link graphql.analysis.MaxQueryDepthInstrumentation} and
+     * {@link graphql.analysis.MaxQueryComplexityInstrumentation}. Fields must be visited in post order.
+     */
+    private static class DepthAndComplexityVisitor extends QueryVisitorStub {
+
+        private final FieldComplexityCalculator fieldComplexityCalculator;
+        private final Map<QueryVisitorFieldEnvironment, Integer> complexityByParent = new HashMap<>();
+        private int depth;
+
+        DepthAndComplexityVisitor(FieldComplexityCalculator fieldComplexityCalculator) {
+            this.fieldComplexityCalculator = fieldComplexityCalculator;
+        }
+
+        @Override
+        public void visitField(QueryVisitorFieldEnvironment env) {
+
+            int fieldDepth = 0;
+            for (QueryVisitorFieldEnvironment current = env; current != null;
+                 current = current.getParentEnvironment()) {
+                fieldDepth++;
+            }
+            depth = Math.max(depth, fieldDepth);
+
+            // Children are visited before their parent, hence their complexity is already accumulated
+            Integer childComplexity = complexityByParent.remove(env);
+            int complexity = 0;
+            if (!env.isTypeNameIntrospectionField()) {
+                complexity = fieldComplexityCalculator.calculate(toComplexityEnvironment(env),
+                        childComplexity != null ? childComplexity : 0);
+            }
+            complexityByParent.merge(env.getParentEnvironment(), complexity, Integer::sum);
+        }
+
+        private int getComplexity() {
+            Integer complexity = complexityByParent.get(null);
+            return complexity != null ? complexity : 0;
+        }
+
+        private static FieldComplexityEnvironment toComplexityEnvironment(QueryVisitorFieldEnvironment env) {
+            if (env == null) {
+                return null;
+            }
+            return new FieldComplexityEnvironment(env.getField(), env.getFieldDefinition(), env.getFieldsContainer(),
+                    env.getArguments(), toComplexityEnvironment(env.getParentEnvironment()));
+        }
+    }
 }
@@ -17,6 +17,8 @@
  */
 package org.wso2.carbon.apimgt.common.gateway.graphql;
 
+import graphql.language.Document;
+import graphql.parser.Parser;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
@@ -39,6 +41,7 @@ public class QueryAnalyzerTestCase {
             + "schema_with_subscriptions.graphql";
     private QueryAnalyzer queryAnalyzer;
     private FieldComplexityCalculatorImpl fieldComplexityCalculator;
+    private String complexityPolicy;
 
     @Before
     public void setup() throws Exception {
@@ -48,7 +51,7 @@ public class QueryAnalyzerTestCase {
         TypeDefinitionRegistry registry = schemaParser.parse(schemaString);
         GraphQLSchema graphQLSchema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
         queryAnalyzer = new QueryAnalyzer(graphQLSchema);
-        String complexityPolicy = "{\"complexity\":{\"Subscription\":{\"liftStatusChange\":3},"
+        complexityPolicy = "{\"complexity\":{\"Subscription\":{\"liftStatusChange\":3},"
                 + "\"Lift\":{\"night\":1,\"name\":1,\"elevationGain\":1,\"id\":1,\"capacity\":1}}}";
         fieldComplexityCalculator = new FieldComplexityCalculatorImpl();
         fieldComplexityCalculator.parseAccessControlPolicy(complexityPolicy);
@@ -121,4 +124,56 @@ public class QueryAnalyzerTestCase {
         Assert.assertTrue(queryAnalyzerResponseDTO.isSuccess());
         Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().isEmpty());
     }
+
+    @Test
+    public void testAnalyseQueryWithParsedDocument() throws Exception {
+        String payload = "subscription {\n" +
+                "  liftStatusChange {\n" +
+                "    name\n" +
+                "    id\n" +
+                "    night\n" +
+                "  }\n" +
+                "}\n";
+        Document document = new Parser().parseDocument(payload);
+        QueryAnalysisResult analysisResult = queryAnalyzer.analyseQuery(payload, document, complexityPolicy);
+        Assert.assertTrue(analysisResult.isSuccess());
+        Assert.assertEquals(2, analysisResult.getDepth());
+        Assert.assertEquals(6, analysisResult.getComplexity());
+        Assert.assertTrue(queryAnalyzer.validateQueryDepth(2, analysisResult).isSuccess());
+        Assert.assertFalse(queryAnalyzer.validateQueryDepth(1, analysisResult).isSuccess());
+        Assert.assertTrue(queryAnalyzer.validateQueryComplexity(6, analysisResult).isSuccess());
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = queryAnalyzer.validateQueryComplexity(5, analysisResult);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().toString()
+                .contains("maximum query complexity exceeded"));
+        queryAnalyzerResponseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, document, 5,
+                complexityPolicy);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+    }
+
+    @Test
+    public void testAnalyseQueryCachedForEquivalentQueries() throws Exception {
+        String payload = "subscription { liftStatusChange { name id } }";
+        String equivalentPayload = "subscription {\n  # lift status\n  liftStatusChange {\n    name,\n    id\n  }\n}";
+        QueryAnalysisResult analysisResult = queryAnalyzer.analyseQuery(payload, null, complexityPolicy);
+        Assert.assertSame(analysisResult, queryAnalyzer.analyseQuery(equivalentPayload, null, complexityPolicy));
+        Assert.assertEquals(QueryAnalyzer.normalizeQuery(payload), QueryAnalyzer.normalizeQuery(equivalentPayload));
+        // Results calculated with a different complexity policy are not reused for complexity
+        QueryAnalysisResult defaultPolicyResult = queryAnalyzer.analyseQuery(payload, null, null);
+        Assert.assertNotSame(analysisResult, defaultPolicyResult);
+        Assert.assertEquals(analysisResult.getDepth(), defaultPolicyResult.getDepth());
+        // White spaces within string values are significant
+        Assert.assertNotEquals(QueryAnalyzer.normalizeQuery("{ a(b: \"x  y\") }"),
+                QueryAnalyzer.normalizeQuery("{ a(b: \"x y\") }"));
+    }
+
+    @Test
+    public void testAnalyseInvalidQuery() throws Exception {
+        QueryAnalysisResult analysisResult = queryAnalyzer.analyseQuery("subscription { liftStatusChange { ",
+                null, complexityPolicy);
+        Assert.assertFalse(analysisResult.isSuccess());
+        Assert.assertFalse(queryAnalyzer.validateQueryDepth(3, analysisResult).isSuccess());
+        Assert.assertFalse(queryAnalyzer.validateQueryComplexity(4, analysisResult).isSuccess());
+        Assert.assertTrue(queryAnalyzer.validateQueryDepth(0, analysisResult).isSuccess());
+    }
 }
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis based distributed counter manager which pre-aggregates throttle counter increments locally. Increments are
+ * added to a per key local counter on the request path and synced to Redis in a single pipelined batch of
+ * <code>INCRBY</code> commands every sync interval. The values returned by the sync reconcile the local view of each
+ * counter with the increments done by the other gateways.
+ * <p>
+ * A counter is synced on the request path as soon as it holds more than the configured maximum of unsynced increments,
+ * so the over-admission of a gateway per counter between two syncs is bounded by that amount. Timestamps, expiry and
+ * locks are not batched and are handled as in {@link RedisBaseDistributedCountManager}. Resetting a counter waits for
+ * an ongoing sync of it, and increments synced after a reset never include increments done before it.
+ */
+public class BatchedRedisDistributedCountManager extends RedisBaseDistributedCountManager {
+
+    private static final Log log = LogFactory.getLog(BatchedRedisDistributedCountManager.class);
+    private static final int IDLE_SYNC_INTERVALS_BEFORE_EVICTION = 100;
+    private static final String BATCH_SIZE_METRIC = "BatchSize";
+    private static final String SYNC_LATENCY_METRIC = "SyncLatency";
+    private static final String DRIFT_METRIC = "Drift";
+
+    private final Map<String, LocalCounter> localCounters = new ConcurrentHashMap<>();
+    private final long syncInterval;
+    private final long maxUnsyncedDelta;
+    private ScheduledExecutorService counterSyncExecutor;
+
+    public BatchedRedisDistributedCountManager(JedisPool redisPool, long keyLockRetrievalTimeout, long syncInterval,
+                                               long maxUnsyncedDelta) {
+
+        super(redisPool, keyLockRetrievalTimeout);
+        this.syncInterval = syncInterval > 0 ? syncInterval : 1;
+        this.maxUnsyncedDelta = maxUnsyncedDelta > 0 ? maxUnsyncedDelta : 1;
+    }
+
+    /**
+     * Starts the task syncing the local counters to Redis.
+     */
+    public void start() {
+
+        counterSyncExecutor = Executors.newSingleThreadScheduledExecutor();
+        counterSyncExecutor.scheduleWithFixedDelay(this::syncCounters, syncInterval, syncInterval,
+                TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Started throttle counter sync task with sync interval " + syncInterval
+                    + " ms and maximum unsynced delta " + maxUnsyncedDelta);
+        }
+    }
+
+    /**
+     * Stops the sync task and syncs the remaining local increments to Redis.
+     */
+    public void stop() {
+
+        if (counterSyncExecutor != null) {
+            counterSyncExecutor.shutdown();
+            try {
+                counterSyncExecutor.awaitTermination(syncInterval * 10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            counterSyncExecutor = null;
+        }
+        syncCounters();
+    }
+
+    @Override
+    public long getCounter(String key) {
+
+        LocalCounter counter = localCounters.get(key);
+        long now = System.currentTimeMillis();
+        if (counter != null && now - counter.lastSyncTime <= syncInterval) {
+            return counter.estimate();
+        }
+        long remoteValue = super.getCounter(key);
+        if (counter != null) {
+            counter.remoteValue = remoteValue;
+            counter.lastSyncTime = now;
+            counter.lastAccessTime = now;
+            return remoteValue + counter.pending.get();
+        }
+        return remoteValue;
+    }
+
+    @Override
+    public long addAndGetCounter(String key, long value) {
+
+        LocalCounter counter = add(key, value);
+        return counter.estimate();
+    }
+
+    @Override
+    public long asyncGetAndAddCounter(String key, long value) {
+
+        LocalCounter counter = add(key, value);
+        return counter.estimate() - value;
+    }
+
+    @Override
+    public long asyncAddCounter(String key, long value) {
+
+        LocalCounter counter = add(key, value);
+        return counter.estimate();
+    }
+
+    @Override
+    public long asyncGetAndAlterCounter(String key, long value) {
+
+        return resetCounter(key, () -> super.asyncGetAndAlterCounter(key, value));
+    }
+
+    @Override
+    public long asyncGetAlterAndSetExpiryOfCounter(String key, long value, long expiryTimeStamp) {
+
+        return resetCounter(key, () -> super.asyncGetAlterAndSetExpiryOfCounter(key, value, expiryTimeStamp));
+    }
+
+    @Override
+    public void removeCounter(String key) {
+
+        resetCounter(key, () -> {
+            super.removeCounter(key);
+            return 0;
+        });
+    }
+
+    /**
+     * Resets the counter of the key in Redis. The local counter is locked while resetting, so that the increments of
+     * the previous window are not synced after the reset and end up in the new window. Those increments are
+     * discarded, as they are included in the returned value. The increments added while resetting belong to the new
+     * window and are kept in a new local counter.
+     */
+    private long resetCounter(String key, LongSupplier reset) {
+
+        LocalCounter counter = localCounters.computeIfAbsent(key, k -> new LocalCounter());
+        counter.syncLock.lock();
+        try {
+            long previousPending = counter.pending.getAndSet(0);
+            long current;
+            try {
+                current = reset.getAsLong();
+            } catch (RuntimeException e) {
+                // the counter was not reset, so the increments are still to be synced
+                counter.pending.addAndGet(previousPending);
+                throw e;
+            }
+            counter.retired = true;
+            localCounters.computeIfPresent(key, (k, localCounter) -> {
+                if (localCounter != counter) {
+                    return localCounter;
+                }
+                long pending = counter.pending.getAndSet(0);
+                if (pending == 0) {
+                    return null;
+                }
+                LocalCounter nextCounter = new LocalCounter();
+                nextCounter.pending.set(pending);
+                nextCounter.lastAccessTime = counter.lastAccessTime;
+                return nextCounter;
+            });
+            return current + previousPending;
+        } finally {
+            counter.syncLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given value to the local counter of the key. The counter is synced to Redis on the calling thread if
+     * it holds more unsynced increments than allowed.
+     */
+    private LocalCounter add(String key, long value) {
+
+        long now = System.currentTimeMillis();
+        // The value is added while holding the entry of the key, so that a concurrent eviction or reset of the
+        // counter can not drop it
+        LocalCounter counter = localCounters.compute(key, (k, localCounter) -> {
+            LocalCounter currentCounter = localCounter != null ? localCounter : new LocalCounter();
+            currentCounter.pending.addAndGet(value);
+            currentCounter.lastAccessTime = now;
+            return currentCounter;
+        });
+        if (counter.lastSyncTime == 0 || counter.pending.get() >= maxUnsyncedDelta) {
+            // on the first access of the key by this gateway, the counter starts from the current value in Redis
+            syncCounter(key, counter);
+        }
+        return counter;
+    }
+
+    /**
+     * Syncs a single counter to Redis. Only one thread syncs a counter at a time, the other threads keep adding
+     * to the local counter.
+     */
+    private void syncCounter(String key, LocalCounter counter) {
+
+        if (!counter.syncLock.tryLock()) {
+            return;
+        }
+        try {
+            if (counter.retired) {
+                return;
+            }
+            long delta = counter.pending.getAndSet(0);
+            try (Jedis jedis = redisPool.getResource()) {
+                counter.reconcile(delta, jedis.incrBy(key, delta), System.currentTimeMillis());
+            } catch (JedisException e) {
+                counter.pending.addAndGet(delta);
+                log.error("Error while syncing throttle counter " + key + " to Redis", e);
+            }
+        } finally {
+            counter.syncLock.unlock();
+        }
+    }
+
+    /**
+     * Syncs the increments of all local counters to Redis in a single pipeline and evicts the counters which have
+     * not been used for a while.
+     */
+    void syncCounters() {
+
+        List<String> keys = new ArrayList<>();
+        List<LocalCounter> counters = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        try {
+            for (Map.Entry<String, LocalCounter> entry : localCounters.entrySet()) {
+                LocalCounter counter = entry.getValue();
+                if (!counter.syncLock.tryLock()) {
+                    continue;
+                }
+                long delta = counter.retired ? 0 : counter.pending.getAndSet(0);
+                if (delta != 0) {
+                    // the counter stays locked until the pipeline is synced
+                    keys.add(entry.getKey());
+                    counters.add(counter);
+                    deltas.add(delta);
+                    continue;
+                }
+                counter.syncLock.unlock();
+                if (now - counter.lastAccessTime > syncInterval * IDLE_SYNC_INTERVALS_BEFORE_EVICTION) {
+                    evict(entry.getKey(), counter, now);
+                }
+            }
+            if (keys.isEmpty()) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            try (Jedis jedis = redisPool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                List<Response<Long>> responses = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    responses.add(pipeline.incrBy(keys.get(i), deltas.get(i)));
+                }
+                pipeline.sync();
+                long syncTime = System.currentTimeMillis();
+                Histogram driftHistogram = getHistogram(DRIFT_METRIC);
+                for (int i = 0; i < keys.size(); i++) {
+                    long drift = counters.get(i).reconcile(deltas.get(i), responses.get(i).get(), syncTime);
+                    driftHistogram.update(drift);
+                }
+            } catch (JedisException e) {
+                for (int i = 0; i < counters.size(); i++) {
+                    counters.get(i).pending.addAndGet(deltas.get(i));
+                }
+                log.error("Error while syncing " + keys.size() + " throttle counters to Redis", e);
+            } finally {
+                getTimer(SYNC_LATENCY_METRIC).update(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                getHistogram(BATCH_SIZE_METRIC).update(keys.size());
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Synced " + keys.size() + " throttle counters to Redis in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+            }
+        } finally {
+            for (LocalCounter counter : counters) {
+                counter.syncLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Evicts an idle counter. The counter is only removed while holding the entry of the key and if nothing was
+     * added to it meanwhile, so that increments added concurrently are not dropped.
+     */
+    private void evict(String key, LocalCounter counter, long now) {
+
+        localCounters.computeIfPresent(key, (k, localCounter) -> localCounter == counter
+                && localCounter.pending.get() == 0
+                && now - localCounter.lastAccessTime > syncInterval * IDLE_SYNC_INTERVALS_BEFORE_EVICTION
+                ? null : localCounter);
+    }
+
+    /**
+     * @return number of counters held locally
+     */
+    int getLocalCounterCount() {
+
+        return localCounters.size();
+    }
+
+    protected Timer getTimer(String name) {
+
+        return MetricManager.timer(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), name));
+    }
+
+    protected Histogram getHistogram(String name) {
+
+        return MetricManager.histogram(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), name));
+    }
+
+    /**
+     * Local view of a distributed counter.
+     */
+    private static final class LocalCounter {
+
+        private final AtomicLong pending = new AtomicLong();
+        // held while the counter is synced to or reset in Redis
+        private final ReentrantLock syncLock = new ReentrantLock();
+        private volatile boolean retired;
+        private volatile long remoteValue;
+        private volatile long lastSyncTime;
+        private volatile long lastAccessTime;
+
+        private long estimate() {
+
+            return remoteValue + pending.get();
+        }
+
+        /**
+         * Updates the counter with the value returned by Redis for an increment of the given delta.
+         *
+         * @return drift of the counter since the previous sync, i.e. the increments done by the other gateways
+         */
+        private long reconcile(long delta, long syncedValue, long syncTime) {
+
+            long drift = lastSyncTime == 0 ? 0 : Math.abs(syncedValue - (remoteValue + delta));
+            remoteValue = syncedValue;
+            lastSyncTime = syncTime;
+            return drift;
+        }
+    }
+}
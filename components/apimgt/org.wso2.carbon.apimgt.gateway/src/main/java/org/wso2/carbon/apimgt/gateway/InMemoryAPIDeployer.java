@@ -69,6 +69,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * This class contains the methods used to retrieve artifacts from a storage and deploy and undeploy the API in gateway.
@@ -76,6 +86,8 @@ import java.util.UUID;
 public class InMemoryAPIDeployer {
 
     private static final Log log = LogFactory.getLog(InMemoryAPIDeployer.class);
+    private static final Gson gson = new Gson();
+    private static final Map<String, Object> tenantDeploymentLocks = new ConcurrentHashMap<>();
     ArtifactRetriever artifactRetriever;
     GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
 
@@ -103,11 +115,16 @@ public class InMemoryAPIDeployer {
                 APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
                 MessageContext.setCurrentMessageContext(
                         org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
-                unDeployAPI(apiGatewayAdmin, gatewayEvent);
-                apiGatewayAdmin.deployAPI(gatewayAPIDTO);
+                // Deployment events of different APIs are processed in parallel
+                synchronized (getTenantDeploymentLock(gatewayEvent.getTenantDomain())) {
+                    invalidateRetrievedArtifacts(gatewayEvent.getTenantDomain());
+                    unDeployAPI(apiGatewayAdmin, gatewayEvent);
+                    apiGatewayAdmin.deployAPI(gatewayAPIDTO);
+                }
                 addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
+                DataHolder.getInstance().removeOpenAPIValidatorOfAPI(apiId);
                 DataHolder.getInstance().addAPIMetaData(gatewayEvent);
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
                 if (log.isDebugEnabled()) {
@@ -141,10 +158,12 @@ public class InMemoryAPIDeployer {
                 APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
                 MessageContext.setCurrentMessageContext(
                         org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+                invalidateRetrievedArtifacts(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
                 apiGatewayAdmin.deployAPI(gatewayAPIDTO);
                 addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
+                DataHolder.getInstance().removeOpenAPIValidatorOfAPI(apiId);
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
                 if (log.isDebugEnabled()) {
                     log.debug("API with " + apiId + " is deployed in gateway with the labels " + String.join(",",
@@ -162,6 +181,19 @@ public class InMemoryAPIDeployer {
         return true;
     }
 
+    /**
+     * Makes the next redeployment of the tenant retrieve all the artifacts again, as the deployed APIs no longer match
+     * the artifacts last retrieved once an API is deployed or undeployed individually.
+     *
+     * @param tenantDomain tenant domain of the API
+     */
+    private void invalidateRetrievedArtifacts(String tenantDomain) {
+
+        if (artifactRetriever != null) {
+            artifactRetriever.invalidateRetrievedArtifacts(tenantDomain);
+        }
+    }
+
     private GatewayAPIDTO retrieveArtifact(String apiId, Set<String> gatewayLabels)
             throws ArtifactSynchronizerException {
 
@@ -173,7 +205,7 @@ public class InMemoryAPIDeployer {
             try {
                 String gatewayRuntimeArtifact = artifactRetriever.retrieveArtifact(apiId, encodedString);
                 if (StringUtils.isNotEmpty(gatewayRuntimeArtifact)) {
-                    result = new Gson().fromJson(gatewayRuntimeArtifact, GatewayAPIDTO.class);
+                    result = gson.fromJson(gatewayRuntimeArtifact, GatewayAPIDTO.class);
                 } else {
                     String msg = "Error retrieving artifacts for API " + apiId + ". Storage returned null";
                     log.error(msg);
@@ -199,6 +231,11 @@ public class InMemoryAPIDeployer {
 
     /**
      * Deploy an API in the gateway using the deployAPI method in gateway admin.
+     * <p>
+     * The artifacts are streamed from the storage and deployed as they are read. When a deployment concurrency
+     * greater than one is configured, the artifacts are deserialized and prepared by a bounded pool of workers, while
+     * the mutations of the Synapse configuration of the tenant are still applied one at a time. Reading the
+     * artifacts is paused while the workers are busy, so that only a few artifacts are held in memory at a time.
      *
      * @param assignedGatewayLabels - The labels which the gateway subscribed to
      * @param tenantDomain          tenantDomain of API.
@@ -209,7 +246,6 @@ public class InMemoryAPIDeployer {
                                                  boolean redeployChangedAPIs) throws ArtifactSynchronizerException {
 
         boolean result = false;
-        Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap = null;
 
         if (!redeployChangedAPIs) {
             try {
@@ -227,10 +263,13 @@ public class InMemoryAPIDeployer {
         }
         if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()) {
             if (artifactRetriever != null) {
+                int concurrency = gatewayArtifactSynchronizerProperties.getDeploymentConcurrency();
+                ExecutorService deploymentExecutor = null;
+                DeploymentTimings timings = new DeploymentTimings();
+                String labelString = String.join("|", assignedGatewayLabels);
+                String encodedString = Base64.encodeBase64URLSafeString(labelString.getBytes());
+                boolean deployedAll = false;
                 try {
-                    int errorCount = 0;
-                    String labelString = String.join("|", assignedGatewayLabels);
-                    String encodedString = Base64.encodeBase64URLSafeString(labelString.getBytes());
 
                     APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
                     MessageContext.setCurrentMessageContext(
@@ -238,49 +277,59 @@ public class InMemoryAPIDeployer {
                     PrivilegedCarbonContext.startTenantFlow();
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .setTenantDomain(tenantDomain, true);
-                    List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance().getArtifactRetriever()
-                            .retrieveAllArtifacts(encodedString, tenantDomain);
-                    if (gatewayRuntimeArtifacts.isEmpty()) {
-                        return true;
-                    }
+                    Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap = null;
                     if (redeployChangedAPIs) {
                         DataHolder dataHolder = DataHolder.getInstance();
                         apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
                     }
-                    for (String runtimeArtifact : gatewayRuntimeArtifacts) {
-                        GatewayAPIDTO gatewayAPIDTO = null;
-                        try {
-                            if (StringUtils.isNotEmpty(runtimeArtifact)) {
-                                gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
-                                if (redeployChangedAPIs && apiMap != null) {
-                                    org.wso2.carbon.apimgt.keymgt.model.entity.API api =
-                                            apiMap.get(gatewayAPIDTO.getApiContext());
-                                    // Here, we redeploy APIs only if there is a new revision deployed in the
-                                    // Control Plane and not synced with the gateway due to connection issues.
-                                    if (api != null && api.getRevisionId() != null &&
-                                            (!api.getRevisionId().equalsIgnoreCase(gatewayAPIDTO.getRevision()))) {
-                                        DeployAPIInGatewayEvent deployAPIInGatewayEvent =
-                                                new DeployAPIInGatewayEvent(UUID.randomUUID().toString(),
-                                                        System.currentTimeMillis(),
-                                                        APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(),
-                                                        tenantDomain, api.getApiId(), api.getUuid(),
-                                                        assignedGatewayLabels, api.getName(), api.getVersion(),
-                                                        api.getApiProvider(), api.getApiType(), api.getContext());
-                                        unDeployAPI(deployAPIInGatewayEvent);
-                                        deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                    } else {
-                                        if (log.isDebugEnabled()) {
-                                            log.debug("API " + gatewayAPIDTO.getName() + " is already deployed");
-                                        }
+                    ArtifactDeployment artifactDeployment =
+                            new ArtifactDeployment(assignedGatewayLabels, tenantDomain, apiMap, apiGatewayAdmin,
+                                    timings);
+                    Consumer<String> artifactConsumer;
+                    Semaphore inFlightDeployments = null;
+                    if (concurrency > 1) {
+                        AtomicInteger threadNumber = new AtomicInteger(1);
+                        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                                r -> new Thread(r, "APIDeployer-" + tenantDomain + "-" + threadNumber
+                                        .getAndIncrement()));
+                        deploymentExecutor = executor;
+                        // Bounds the artifacts waiting to be deployed, so that they are not all held in memory
+                        Semaphore semaphore = new Semaphore(concurrency * 2);
+                        inFlightDeployments = semaphore;
+                        artifactConsumer = runtimeArtifact -> {
+                            semaphore.acquireUninterruptibly();
+                            try {
+                                executor.execute(() -> {
+                                    try {
+                                        artifactDeployment.deployInWorker(runtimeArtifact);
+                                    } finally {
+                                        semaphore.release();
                                     }
-                                } else {
-                                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                }
+                                });
+                            } catch (RejectedExecutionException e) {
+                                semaphore.release();
+                                throw e;
                             }
-                        } catch (AxisFault axisFault) {
-                            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
-                            errorCount++;
-                        }
+                        };
+                    } else {
+                        artifactConsumer = artifactDeployment::deploy;
+                    }
+                    long retrievalStartTime = System.nanoTime();
+                    // When redeploying, the artifacts are not sent again unless they have changed since all of them
+                    // were last deployed
+                    int artifactCount = redeployChangedAPIs
+                            ? artifactRetriever.retrieveChangedArtifacts(encodedString, tenantDomain,
+                            artifactConsumer)
+                            : artifactRetriever.retrieveAllArtifacts(encodedString, tenantDomain, artifactConsumer);
+                    if (deploymentExecutor != null) {
+                        deploymentExecutor.shutdown();
+                        inFlightDeployments.acquireUninterruptibly(concurrency * 2);
+                    }
+                    timings.total = System.nanoTime() - retrievalStartTime;
+                    artifactDeployment.throwIfFailed();
+                    deployedAll = artifactDeployment.errorCount.get() == 0;
+                    if (artifactCount == 0) {
+                        return true;
                     }
                     // reload dynamic profiles to avoid delays in loading certs in mutual ssl enabled APIs upon
                     // server restart
@@ -288,9 +337,12 @@ public class InMemoryAPIDeployer {
                     if (log.isDebugEnabled()) {
                         log.debug("APIs deployed in gateway with the labels of " + labelString);
                     }
+                    log.info("Deployed " + (artifactCount - artifactDeployment.errorCount.get()) + " of "
+                            + artifactCount + " APIs of tenant " + tenantDomain + " with " + concurrency
+                            + " worker(s). " + timings);
                     result = true;
                     //Setting the result to false only if all the API deployments are failed
-                    if (gatewayRuntimeArtifacts.size() == errorCount) {
+                    if (artifactCount == artifactDeployment.errorCount.get()) {
                         return false;
                     }
                 } catch (AxisFault e) {
@@ -298,6 +350,13 @@ public class InMemoryAPIDeployer {
                     log.error(msg, e);
                     return false;
                 } finally {
+                    if (deploymentExecutor != null) {
+                        deploymentExecutor.shutdownNow();
+                    }
+                    if (!deployedAll) {
+                        // The artifacts are retrieved again on the next redeployment to retry the failed APIs
+                        artifactRetriever.invalidateRetrievedArtifacts(encodedString, tenantDomain);
+                    }
                     MessageContext.destroyCurrentMessageContext();
                     PrivilegedCarbonContext.endTenantFlow();
                 }
@@ -311,16 +370,167 @@ public class InMemoryAPIDeployer {
     }
 
     private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, APIGatewayAdmin apiGatewayAdmin) throws AxisFault {
+
+        deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin, buildGraphQLSchemaDTO(gatewayAPIDTO));
+    }
+
+    private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, APIGatewayAdmin apiGatewayAdmin,
+                                  GraphQLSchemaDTO graphQLSchemaDTO) throws AxisFault {
         log.info("Deploying synapse artifacts of API ID: " + gatewayAPIDTO.getApiId() +
                 " and Context: " + gatewayAPIDTO.getApiContext());
         apiGatewayAdmin.deployAPI(gatewayAPIDTO);
         addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
-        addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+        if (graphQLSchemaDTO != null) {
+            DataHolder.getInstance().addApiToGraphQLSchemaDTO(gatewayAPIDTO.getApiId(), graphQLSchemaDTO);
+        }
         DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
                 gatewayAPIDTO.getKeyManagers());
+        DataHolder.getInstance().removeOpenAPIValidatorOfAPI(gatewayAPIDTO.getApiId());
         DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
     }
 
+    /**
+     * Returns the lock guarding the Synapse configuration of the given tenant. The admin service proxies used to
+     * deploy an API check for and replace existing artifacts in separate steps, hence the deployments of a tenant
+     * must not be interleaved.
+     */
+    private static Object getTenantDeploymentLock(String tenantDomain) {
+
+        return tenantDeploymentLocks.computeIfAbsent(String.valueOf(tenantDomain), k -> new Object());
+    }
+
+    /**
+     * Deploys the runtime artifacts of a tenant retrieved at gateway startup.
+     */
+    private final class ArtifactDeployment {
+
+        private final Set<String> assignedGatewayLabels;
+        private final String tenantDomain;
+        private final Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap;
+        private final APIGatewayAdmin apiGatewayAdmin;
+        private final DeploymentTimings timings;
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private ArtifactDeployment(Set<String> assignedGatewayLabels, String tenantDomain,
+                                   Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                   APIGatewayAdmin apiGatewayAdmin, DeploymentTimings timings) {
+
+            this.assignedGatewayLabels = assignedGatewayLabels;
+            this.tenantDomain = tenantDomain;
+            this.apiMap = apiMap;
+            this.apiGatewayAdmin = apiGatewayAdmin;
+            this.timings = timings;
+        }
+
+        /**
+         * Deploys the given artifact from a deployment worker, which does not carry the tenant flow and message
+         * context of the thread that started the deployment.
+         */
+        private void deployInWorker(String runtimeArtifact) {
+
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                MessageContext.setCurrentMessageContext(
+                        org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+                deploy(runtimeArtifact);
+            } catch (AxisFault axisFault) {
+                log.error("Error while creating the message context to deploy APIs of tenant " + tenantDomain,
+                        axisFault);
+                errorCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                MessageContext.destroyCurrentMessageContext();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+
+        private void deploy(String runtimeArtifact) {
+
+            if (StringUtils.isEmpty(runtimeArtifact)) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            GatewayAPIDTO gatewayAPIDTO = gson.fromJson(runtimeArtifact, GatewayAPIDTO.class);
+            long deserializedTime = System.nanoTime();
+            timings.deserialization.add(deserializedTime - startTime);
+            try {
+                DeployAPIInGatewayEvent deployAPIInGatewayEvent = null;
+                if (apiMap != null) {
+                    org.wso2.carbon.apimgt.keymgt.model.entity.API api = apiMap.get(gatewayAPIDTO.getApiContext());
+                    // Here, we redeploy APIs only if there is a new revision deployed in the
+                    // Control Plane and not synced with the gateway due to connection issues.
+                    if (api != null && api.getRevisionId() != null &&
+                            (!api.getRevisionId().equalsIgnoreCase(gatewayAPIDTO.getRevision()))) {
+                        deployAPIInGatewayEvent = new DeployAPIInGatewayEvent(UUID.randomUUID().toString(),
+                                System.currentTimeMillis(), APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(),
+                                tenantDomain, api.getApiId(), api.getUuid(), assignedGatewayLabels, api.getName(),
+                                api.getVersion(), api.getApiProvider(), api.getApiType(), api.getContext());
+                    } else {
+                        if (log.isDebugEnabled()) {
+                            log.debug("API " + gatewayAPIDTO.getName() + " is already deployed");
+                        }
+                        return;
+                    }
+                }
+                GraphQLSchemaDTO graphQLSchemaDTO = buildGraphQLSchemaDTO(gatewayAPIDTO);
+                long preparedTime = System.nanoTime();
+                timings.preparation.add(preparedTime - deserializedTime);
+                synchronized (getTenantDeploymentLock(tenantDomain)) {
+                    long lockAcquiredTime = System.nanoTime();
+                    timings.lockWait.add(lockAcquiredTime - preparedTime);
+                    try {
+                        if (deployAPIInGatewayEvent != null) {
+                            unDeployAPI(apiGatewayAdmin, deployAPIInGatewayEvent);
+                        }
+                        deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin, graphQLSchemaDTO);
+                    } finally {
+                        timings.synapseDeployment.add(System.nanoTime() - lockAcquiredTime);
+                    }
+                }
+            } catch (AxisFault axisFault) {
+                log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
+                errorCount.incrementAndGet();
+            }
+        }
+
+        private void throwIfFailed() {
+
+            RuntimeException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Time spent in each phase of deploying the APIs of a tenant at gateway startup. Phases executed by deployment
+     * workers are summed up across the workers.
+     */
+    private static final class DeploymentTimings {
+
+        private final LongAdder deserialization = new LongAdder();
+        private final LongAdder preparation = new LongAdder();
+        private final LongAdder lockWait = new LongAdder();
+        private final LongAdder synapseDeployment = new LongAdder();
+        private long total;
+
+        @Override
+        public String toString() {
+
+            return "Total: " + TimeUnit.NANOSECONDS.toMillis(total) + " ms, deserialization: "
+                    + TimeUnit.NANOSECONDS.toMillis(deserialization.sum()) + " ms, preparation: "
+                    + TimeUnit.NANOSECONDS.toMillis(preparation.sum()) + " ms, waiting for synapse configuration: "
+                    + TimeUnit.NANOSECONDS.toMillis(lockWait.sum()) + " ms, synapse deployment: "
+                    + TimeUnit.NANOSECONDS.toMillis(synapseDeployment.sum()) + " ms";
+        }
+    }
+
 
     private void unDeployAPI(APIGatewayAdmin apiGatewayAdmin, DeployAPIInGatewayEvent gatewayEvent)
             throws AxisFault {
@@ -352,7 +562,7 @@ public class InMemoryAPIDeployer {
                                 org.wso2.carbon.apimgt.impl.utils.GatewayUtils
                                         .addStringToList(gatewayEvent.getUuid().concat(
                                                 "_graphQL"), gatewayAPIDTO.getLocalEntriesToBeRemove()));
-                        DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().remove(gatewayEvent.getUuid());
+                        DataHolder.getInstance().removeApiFromGraphQLSchemaDTO(gatewayEvent.getUuid());
                     }
                     if (APIConstants.APITransportType.WS.toString().equalsIgnoreCase(gatewayEvent.getApiType())) {
                         org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.setWebsocketEndpointsToBeRemoved(
@@ -372,6 +582,7 @@ public class InMemoryAPIDeployer {
                 apiGatewayAdmin.unDeployAPI(gatewayAPIDTO);
                 DataHolder.getInstance().getApiToCertificatesMap().remove(gatewayEvent.getUuid());
                 DataHolder.getInstance().removeKeyManagerToAPIMapping(gatewayAPIDTO.getApiId());
+                DataHolder.getInstance().removeOpenAPIValidatorOfAPI(gatewayAPIDTO.getApiId());
                 DataHolder.getInstance().releaseCache(generateAPIKeyForEndpoints(gatewayAPIDTO));
                 if (isAPIResourceValidationEnabled()) {
                     new CacheInvalidationServiceImpl().invalidateResourceCache(
@@ -388,7 +599,10 @@ public class InMemoryAPIDeployer {
         try {
             APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
             MessageContext.setCurrentMessageContext(org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
-            unDeployAPI(apiGatewayAdmin, gatewayEvent);
+            synchronized (getTenantDeploymentLock(gatewayEvent.getTenantDomain())) {
+                invalidateRetrievedArtifacts(gatewayEvent.getTenantDomain());
+                unDeployAPI(apiGatewayAdmin, gatewayEvent);
+            }
         } catch (AxisFault axisFault) {
             throw new ArtifactSynchronizerException("Error while unDeploying api ", axisFault);
         } finally {
@@ -475,14 +689,27 @@ public class InMemoryAPIDeployer {
      */
     private void addDeployedGraphqlQLToAPI(GatewayAPIDTO gatewayAPIDTO) {
 
+        GraphQLSchemaDTO schemaDTO = buildGraphQLSchemaDTO(gatewayAPIDTO);
+        if (schemaDTO != null) {
+            DataHolder.getInstance().addApiToGraphQLSchemaDTO(gatewayAPIDTO.getApiId(), schemaDTO);
+        }
+    }
+
+    /**
+     * Build the GraphQLSchemaDTO of a GraphQL API.
+     *
+     * @param gatewayAPIDTO GatewayAPIDTO
+     * @return GraphQLSchemaDTO of the API, or null if the API does not have a GraphQL schema
+     */
+    private static GraphQLSchemaDTO buildGraphQLSchemaDTO(GatewayAPIDTO gatewayAPIDTO) {
+
         if (gatewayAPIDTO != null && gatewayAPIDTO.getGraphQLSchema() != null) {
-            String apiId = gatewayAPIDTO.getApiId();
             SchemaParser schemaParser = new SchemaParser();
             TypeDefinitionRegistry registry = schemaParser.parse(gatewayAPIDTO.getGraphQLSchema());
             GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
-            GraphQLSchemaDTO schemaDTO = new GraphQLSchemaDTO(schema, registry);
-            DataHolder.getInstance().addApiToGraphQLSchemaDTO(apiId, schemaDTO);
+            return new GraphQLSchemaDTO(schema, registry);
         }
+        return null;
     }
 
     private void setClientCertificatesToRemoveIntoGatewayDTO(GatewayAPIDTO gatewayDTO) {
@@ -44,6 +44,11 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         keyLockRetrievalTimeout = redisConfig.getKeyLockRetrievalTimeout();
     }
 
+    protected RedisBaseDistributedCountManager(JedisPool redisPool, long keyLockRetrievalTimeout) {
+        this.redisPool = redisPool;
+        this.keyLockRetrievalTimeout = keyLockRetrievalTimeout;
+    }
+
     @Override
     public long getCounter(String key) {
 
@@ -92,7 +92,7 @@ public class WebsocketHandler extends CombinedChannelDuplexHandler<WebsocketInbo
                 handleSubscribeFrameErrorEvent(ctx,responseDTO);
             }
             //remove inbound message context from data holder
-            InboundMessageContextDataHolder.getInstance().getInboundMessageContextMap().remove(channelId);
+            InboundMessageContextDataHolder.getInstance().removeInboundMessageContextForConnection(channelId);
             //if the inbound frame is a closed frame, throttling, analytics will not be published.
             outboundHandler().write(ctx, msg, promise);
         } else if (msg instanceof PongWebSocketFrame || msg instanceof PingWebSocketFrame) {
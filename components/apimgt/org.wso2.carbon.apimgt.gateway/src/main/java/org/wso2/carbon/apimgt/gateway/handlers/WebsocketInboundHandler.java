@@ -251,7 +251,7 @@ public class WebsocketInboundHandler extends ChannelInboundHandlerAdapter {
             }
         } else if (msg instanceof CloseWebSocketFrame) {
             //remove inbound message context from data holder
-            InboundMessageContextDataHolder.getInstance().getInboundMessageContextMap().remove(channelId);
+            InboundMessageContextDataHolder.getInstance().removeInboundMessageContextForConnection(channelId);
             //if the inbound frame is a closed frame, throttling, analytics will not be published.
             ctx.fireChannelRead(msg);
         } else if (msg instanceof PingWebSocketFrame || msg instanceof PongWebSocketFrame) {
@@ -265,7 +265,7 @@ public class WebsocketInboundHandler extends ChannelInboundHandlerAdapter {
                 ReferenceCountUtil.release(msg);
                 if (responseDTO.isCloseConnection()) {
                     //remove inbound message context from data holder
-                    InboundMessageContextDataHolder.getInstance().getInboundMessageContextMap().remove(channelId);
+                    InboundMessageContextDataHolder.getInstance().removeInboundMessageContextForConnection(channelId);
                     Attribute<Object> attributes = ctx.channel().attr(AttributeKey.valueOf(API_PROPERTIES));
                     if (attributes != null) {
                         try {
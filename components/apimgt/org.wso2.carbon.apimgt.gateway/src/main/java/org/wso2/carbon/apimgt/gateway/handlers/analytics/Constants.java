@@ -89,5 +89,6 @@ public class Constants {
     public static final String AI_TOTAL_TOKEN_USAGE = "totalTokens";
     public static final String IS_EGRESS = "isEgress";
     public static final String SUBTYPE = "subtype";
+    public static final String EVENT_COUNT = "eventCount";
 
 }
@@ -17,6 +17,7 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
+import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,6 +29,7 @@ import org.apache.synapse.rest.AbstractHandler;
 import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalysisResult;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
@@ -54,7 +56,8 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
             queryAnalyzer = new QueryAnalyzer(schema);
         }
         String payload = messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD).toString();
-        if (!isDepthAndComplexityValid(messageContext, payload)) {
+        Document document = (Document) messageContext.getProperty(APIConstants.GRAPHQL_DOCUMENT);
+        if (!isDepthAndComplexityValid(messageContext, payload, document)) {
             log.debug("Query was blocked by the static query analyser");
             return false;
         }
@@ -62,29 +65,48 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
     }
 
     /**
-     * This method analyses the query.
+     * This method analyses the query. Depth and complexity are calculated together in a single analysis of the
+     * query document.
      *
      * @param messageContext message context of the request
      * @param payload        payload of the request
+     * @param document       parsed payload of the request, or null if not available
      * @return true, if the query is not blocked or false, if the query is blocked
      */
-    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload, Document document) {
+        int maxQueryDepth = -1;
+        if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
+            maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
+        }
+        int maxQueryComplexity = -1;
+        if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
+            maxQueryComplexity = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY);
+        }
+        if (maxQueryDepth <= 0 && maxQueryComplexity <= 0) {
+            return true;
+        }
+        String complexityInfoJson = (String) messageContext
+                .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
+        QueryAnalysisResult analysisResult;
         try {
-            return isDepthValid(messageContext, payload) && isComplexityValid(messageContext, payload);
+            analysisResult = queryAnalyzer.analyseQuery(payload, document, complexityInfoJson);
+        } catch (ParseException e) {
+            String errorMessage = "Policy definition parsing failed. ";
+            handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
+            return false;
         } catch (Exception e) {
             String errorMessage = "Policy definition parsing failed. ";
             log.error(errorMessage, e);
             handleFailure(messageContext);
             return false;
         }
+        return isDepthValid(messageContext, maxQueryDepth, analysisResult)
+                && isComplexityValid(messageContext, maxQueryComplexity, analysisResult);
     }
 
-    private boolean isDepthValid(MessageContext messageContext, String payload) {
-        int maxQueryDepth = -1;
-        if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
-            maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
-        }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+    private boolean isDepthValid(MessageContext messageContext, int maxQueryDepth,
+                                 QueryAnalysisResult analysisResult) {
+        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.validateQueryDepth(maxQueryDepth, analysisResult);
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -94,21 +116,11 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
-    private boolean isComplexityValid(MessageContext messageContext, String payload) {
-        int queryComplexity = -1;
-        if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
-            queryComplexity = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY);
-        }
-        String complexityInfoJson = (String) messageContext
-                .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
-        QueryAnalyzerResponseDTO responseDTO = null;
-        try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson);
-        } catch (ParseException e) {
-            String errorMessage = "Policy definition parsing failed. ";
-            handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
-        }
-        if (responseDTO != null && !responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
+    private boolean isComplexityValid(MessageContext messageContext, int maxQueryComplexity,
+                                      QueryAnalysisResult analysisResult) {
+        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.validateQueryComplexity(maxQueryComplexity,
+                analysisResult);
+        if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_COMPLEX, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_COMPLEX_MESSAGE, responseDTO.getErrorList().toString());
             log.error(responseDTO.getErrorList().toString());
@@ -36,6 +36,7 @@ import org.wso2.carbon.apimgt.gateway.MethodStats;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.keys.APIKeyDataStore;
 import org.wso2.carbon.apimgt.gateway.handlers.security.keys.WSAPIKeyDataStore;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.ThrottleConditionEvaluator;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -85,6 +86,8 @@ public class APIKeyValidator {
 
     private ArrayList<URITemplate> uriTemplates = null;
 
+    private volatile ResourceRouter resourceRouter = null;
+
     public APIKeyValidator() {
 
         this.dataStore = new WSAPIKeyDataStore();
@@ -368,7 +371,8 @@ public class APIKeyValidator {
         if (resourceArray != null) {
             for (String resourceString : resourceArray) {
                 VerbInfoDTO verbInfo;
-                if (isGatewayAPIResourceValidationEnabled) {
+                // Once the resources of the API are compiled, matching verbs are resolved from the router
+                if (isGatewayAPIResourceValidationEnabled && resourceRouter == null) {
                     String apiCacheKey = APIUtil.getAPIInfoDTOCacheKey(apiContext, apiVersion);
                     if (!getResourceCache().containsKey(apiCacheKey)) {
                         break;
@@ -449,7 +453,7 @@ public class APIKeyValidator {
             }
             //Set the elected resource
             synCtx.setProperty(APIConstants.API_ELECTED_RESOURCE, resourceString);
-            if (isGatewayAPIResourceValidationEnabled) {
+            if (isGatewayAPIResourceValidationEnabled && resourceRouter == null) {
                 VerbInfoDTO verbInfo;
                 verbInfo = (VerbInfoDTO) getResourceCache().get(resourceCacheKey);
                 //Cache hit
@@ -490,30 +494,25 @@ public class APIKeyValidator {
                 getResourceCache().put(apiCacheKey, apiInfoDTO);
             }
         }
-        if (apiInfoDTO.getResources() != null) {
-            for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
-                Set<VerbInfoDTO> verbDTOList = resourceInfoDTO.getHttpVerbs();
-                for (VerbInfoDTO verb : verbDTOList) {
-                    if (verb.getHttpVerb().equals(httpMethod)) {
-                        for (String resourceString : resourceArray) {
-                            if (isResourcePathMatching(resourceString, resourceInfoDTO)) {
-                                resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion,
-                                        resourceString, httpMethod);
-                                verb.setRequestKey(resourceCacheKey);
-                                verbInfoList.add(verb);
-                                if (isGatewayAPIResourceValidationEnabled) {
-                                    //Store verb in cache
-                                    //Set cache key in the message c\ontext so that it can be used by the subsequent handlers.
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Putting resource object in cache with key: " + resourceCacheKey);
-                                    }
-                                    getResourceCache().put(resourceCacheKey, verb);
-                                    synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
-                                }
-                            }
-                        }
-                    }
-                }
+        // The router is only reused while it was compiled from the cached API info. Resource cache invalidation
+        // removes the API info from the cache, so the router is recompiled from the refreshed resources.
+        ResourceRouter router = resourceRouter;
+        if (router == null || !router.isCompiledFrom(apiInfoDTO)) {
+            router = compileResourceRouter(apiInfoDTO);
+        }
+        for (String resourceString : resourceArray) {
+            VerbInfoDTO[] matchingVerbs = router.getMatchingVerbs(httpMethod, resourceString);
+            if (matchingVerbs.length == 0) {
+                continue;
+            }
+            resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion, resourceString, httpMethod);
+            for (VerbInfoDTO verb : matchingVerbs) {
+                verb.setRequestKey(resourceCacheKey);
+                verbInfoList.add(verb);
+            }
+            if (isGatewayAPIResourceValidationEnabled) {
+                //Set cache key in the message context so that it can be used by the subsequent handlers.
+                synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
             }
         }
         if (verbInfoList.size() == 0) {
@@ -536,22 +535,21 @@ public class APIKeyValidator {
         return requestPath;
     }
 
-    private boolean isResourcePathMatching(String resourceString, ResourceInfoDTO resourceInfoDTO) {
-        String resource = resourceString.trim();
-        String urlPattern = resourceInfoDTO.getUrlPattern().trim();
-
-        if (resource.equalsIgnoreCase(urlPattern)) {
-            return true;
-        }
-
-        // If the urlPattern is only one character longer than the resource and the urlPattern ends with a '/'
-        if (resource.length() + 1 == urlPattern.length() && urlPattern.endsWith("/")) {
-            // Check if resource is equal to urlPattern if the trailing '/' of the urlPattern is ignored
-            String urlPatternWithoutSlash = urlPattern.substring(0, urlPattern.length() - 1);
-            return resource.equalsIgnoreCase(urlPatternWithoutSlash);
+    /**
+     * Compiles the resources of the API into a router. The router is kept for subsequent resource lookups of this
+     * validator instance only when the API info is cached, since it is then reused until the cache entry changes.
+     *
+     * @param apiInfoDTO API info holding the resources of the API
+     * @return compiled router
+     */
+    private ResourceRouter compileResourceRouter(APIInfoDTO apiInfoDTO) {
+        ResourceRouter router = ResourceRouter.compile(apiInfoDTO);
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled " + router.getResourceCount() + " resources of API " + apiInfoDTO.getContext()
+                    + ':' + apiInfoDTO.getVersion());
         }
-
-        return false;
+        resourceRouter = isGatewayAPIResourceValidationEnabled ? router : null;
+        return router;
     }
 
     @MethodStats
@@ -598,6 +596,7 @@ public class APIKeyValidator {
             verbInfoDTO.setContentAware(uriTemplate.checkContentAwareFromThrottlingTiers());
             verbInfoDTO.setThrottlingConditions(uriTemplate.getThrottlingConditions());
             verbInfoDTO.setConditionGroups(uriTemplate.getConditionGroups());
+            ThrottleConditionEvaluator.getInstance().compileConditionGroups(uriTemplate.getConditionGroups());
             verbInfoDTO.setApplicableLevel(uriTemplate.getApplicableLevel());
             resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
         }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled routing table of the resources of a single API. Resources are stored in a path segment trie, where
+ * each node holds the verbs of the URL patterns terminating at that node, keyed by HTTP method. Path parameter
+ * segments (e.g. <code>{petId}</code>) and wildcard segments (<code>*</code>) are kept in dedicated child nodes.
+ * <p>
+ * The matching semantics are the same as the linear URL pattern comparison previously done by
+ * {@link APIKeyValidator}: segments are compared ignoring case and a URL pattern with a trailing '/' also matches
+ * the resource without it. A router is immutable once compiled and lookups do not allocate.
+ */
+public final class ResourceRouter {
+
+    private static final VerbInfoDTO[] NO_MATCH = new VerbInfoDTO[0];
+
+    private final Node root;
+    private final int resourceCount;
+    private final APIInfoDTO apiInfoDTO;
+
+    private ResourceRouter(Node root, int resourceCount, APIInfoDTO apiInfoDTO) {
+
+        this.root = root;
+        this.resourceCount = resourceCount;
+        this.apiInfoDTO = apiInfoDTO;
+    }
+
+    /**
+     * Compiles the resources of the given API into a router.
+     *
+     * @param apiInfoDTO API info holding the resources and their verbs
+     * @return compiled router
+     */
+    public static ResourceRouter compile(APIInfoDTO apiInfoDTO) {
+
+        NodeBuilder rootBuilder = new NodeBuilder();
+        int resourceCount = 0;
+        if (apiInfoDTO != null && apiInfoDTO.getResources() != null) {
+            for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
+                if (resourceInfoDTO.getUrlPattern() == null || resourceInfoDTO.getHttpVerbs() == null) {
+                    continue;
+                }
+                String urlPattern = resourceInfoDTO.getUrlPattern().trim();
+                rootBuilder.insert(urlPattern, resourceInfoDTO.getHttpVerbs());
+                // A URL pattern ending with '/' also matches the same resource without the trailing '/'
+                if (urlPattern.endsWith("/")) {
+                    rootBuilder.insert(urlPattern.substring(0, urlPattern.length() - 1),
+                            resourceInfoDTO.getHttpVerbs());
+                }
+                resourceCount++;
+            }
+        }
+        return new ResourceRouter(rootBuilder.build(), resourceCount, apiInfoDTO);
+    }
+
+    /**
+     * Returns the verbs of the given HTTP method whose URL pattern matches the given resource template.
+     *
+     * @param httpMethod HTTP method of the request
+     * @param resource   elected resource template (e.g. /pets/{petId})
+     * @return matching verbs, or an empty array if nothing matches. The returned array must not be modified.
+     */
+    public VerbInfoDTO[] getMatchingVerbs(String httpMethod, String resource) {
+
+        if (httpMethod == null || resource == null) {
+            return NO_MATCH;
+        }
+        String path = resource.trim();
+        int length = path.length();
+        int start = 0;
+        Node node = root;
+        while (node != null) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.getChild(path, start, end);
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
+        }
+        if (node == null) {
+            return NO_MATCH;
+        }
+        VerbInfoDTO[] verbs = node.verbs.get(httpMethod);
+        return verbs != null ? verbs : NO_MATCH;
+    }
+
+    /**
+     * @return number of resources compiled into this router
+     */
+    public int getResourceCount() {
+
+        return resourceCount;
+    }
+
+    /**
+     * Checks whether this router was compiled from the given API info instance.
+     *
+     * @param apiInfoDTO API info to check
+     * @return true if the router was compiled from the same instance
+     */
+    public boolean isCompiledFrom(APIInfoDTO apiInfoDTO) {
+
+        return this.apiInfoDTO == apiInfoDTO;
+    }
+
+    private static boolean isPathParameter(String path, int start, int end) {
+
+        return end - start >= 2 && path.charAt(start) == '{' && path.charAt(end - 1) == '}';
+    }
+
+    private static boolean isWildcard(String path, int start, int end) {
+
+        return end - start == 1 && path.charAt(start) == '*';
+    }
+
+    /**
+     * Immutable trie node used for lookups.
+     */
+    private static final class Node {
+
+        private final String[] segments;
+        private final Node[] children;
+        private final Node pathParameterChild;
+        private final Node wildcardChild;
+        private final Map<String, VerbInfoDTO[]> verbs;
+
+        private Node(String[] segments, Node[] children, Node pathParameterChild, Node wildcardChild,
+                     Map<String, VerbInfoDTO[]> verbs) {
+
+            this.segments = segments;
+            this.children = children;
+            this.pathParameterChild = pathParameterChild;
+            this.wildcardChild = wildcardChild;
+            this.verbs = verbs;
+        }
+
+        private Node getChild(String path, int start, int end) {
+
+            if (isPathParameter(path, start, end)) {
+                return pathParameterChild;
+            }
+            if (isWildcard(path, start, end)) {
+                return wildcardChild;
+            }
+            int segmentLength = end - start;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == segmentLength && segment.regionMatches(true, 0, path, start, segmentLength)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable trie node used while compiling the router.
+     */
+    private static final class NodeBuilder {
+
+        private final Map<String, String> segments = new LinkedHashMap<>();
+        private final Map<String, NodeBuilder> children = new LinkedHashMap<>();
+        private NodeBuilder pathParameterChild;
+        private NodeBuilder wildcardChild;
+        private final Map<String, List<VerbInfoDTO>> verbs = new HashMap<>();
+
+        private void insert(String urlPattern, Set<VerbInfoDTO> httpVerbs) {
+
+            int length = urlPattern.length();
+            int start = 0;
+            NodeBuilder node = this;
+            while (true) {
+                int end = urlPattern.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                node = node.getOrCreateChild(urlPattern, start, end);
+                if (end == length) {
+                    break;
+                }
+                start = end + 1;
+            }
+            for (VerbInfoDTO verb : httpVerbs) {
+                if (verb.getHttpVerb() != null) {
+                    node.verbs.computeIfAbsent(verb.getHttpVerb(), k -> new ArrayList<>()).add(verb);
+                }
+            }
+        }
+
+        private NodeBuilder getOrCreateChild(String urlPattern, int start, int end) {
+
+            if (isPathParameter(urlPattern, start, end)) {
+                if (pathParameterChild == null) {
+                    pathParameterChild = new NodeBuilder();
+                }
+                return pathParameterChild;
+            }
+            if (isWildcard(urlPattern, start, end)) {
+                if (wildcardChild == null) {
+                    wildcardChild = new NodeBuilder();
+                }
+                return wildcardChild;
+            }
+            String segment = urlPattern.substring(start, end);
+            String key = segment.toLowerCase(Locale.ENGLISH);
+            segments.putIfAbsent(key, segment);
+            return children.computeIfAbsent(key, k -> new NodeBuilder());
+        }
+
+        private Node build() {
+
+            String[] segmentArray = new String[children.size()];
+            Node[] childArray = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<String, NodeBuilder> entry : children.entrySet()) {
+                segmentArray[i] = segments.get(entry.getKey());
+                childArray[i] = entry.getValue().build();
+                i++;
+            }
+            Map<String, VerbInfoDTO[]> verbArrays = new HashMap<>();
+            for (Map.Entry<String, List<VerbInfoDTO>> entry : verbs.entrySet()) {
+                verbArrays.put(entry.getKey(), entry.getValue().toArray(new VerbInfoDTO[0]));
+            }
+            return new Node(segmentArray, childArray,
+                    pathParameterChild != null ? pathParameterChild.build() : null,
+                    wildcardChild != null ? wildcardChild.build() : null, verbArrays);
+        }
+    }
+}
@@ -29,10 +29,12 @@ import org.apache.synapse.rest.AbstractHandler;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.security.model.OpenAPIRequest;
 import org.wso2.carbon.apimgt.gateway.handlers.security.model.OpenAPIResponse;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 
 /**
  * This SchemaValidator handler validates the request/response messages against schema defined in the swagger.
+ * The validator of the swagger is built once per deployed revision of the API and shared by its messages.
  */
 public class SchemaValidator extends AbstractHandler {
 
@@ -40,6 +42,7 @@ public class SchemaValidator extends AbstractHandler {
     private static final Log logger = LogFactory.getLog(SchemaValidator.class);
     private static final String HTTP_SC_CODE = "400";
     public static final String REG_TIME_MODULE = "register.timeModule";
+    private static volatile boolean timeModuleRegistered;
 
     /**
      * Method to generate OpenApiInteractionValidator when the openAPI is provided.
@@ -47,7 +50,7 @@ public class SchemaValidator extends AbstractHandler {
      * @param openAPI openAPI
      * @return OpenApiInteractionValidator object for the provided swagger.
      */
-    private static OpenApiInteractionValidator getOpenAPIValidator(OpenAPI openAPI) {
+    public static OpenApiInteractionValidator createOpenAPIValidator(OpenAPI openAPI) {
 
         return OpenApiInteractionValidator
                 .createFor(openAPI)
@@ -60,17 +63,44 @@ public class SchemaValidator extends AbstractHandler {
                 .build();
     }
 
+    /**
+     * Returns the validator of the swagger of the API the message belongs to. Validators of deployed APIs are built
+     * once and reused, as building one resolves all the schemas of the swagger.
+     *
+     * @param messageContext message context
+     * @param openAPI        swagger of the API
+     * @return OpenApiInteractionValidator object for the provided swagger.
+     */
+    private static OpenApiInteractionValidator getOpenAPIValidator(MessageContext messageContext, OpenAPI openAPI) {
+
+        String apiUUID = (String) messageContext.getProperty(APIMgtGatewayConstants.API_UUID_PROPERTY);
+        if (apiUUID == null) {
+            return createOpenAPIValidator(openAPI);
+        }
+        return DataHolder.getInstance().getOpenAPIValidatorForAPI(apiUUID, openAPI,
+                SchemaValidator::createOpenAPIValidator);
+    }
+
+    private static void registerTimeModule() {
+
+        if (!timeModuleRegistered && Boolean.parseBoolean(System.getProperty(REG_TIME_MODULE, "false"))) {
+            synchronized (SchemaValidator.class) {
+                if (!timeModuleRegistered) {
+                    Json.mapper().registerModule(new JavaTimeModule());
+                    timeModuleRegistered = true;
+                }
+            }
+        }
+    }
+
     @Override
     public boolean handleRequest(MessageContext messageContext) {
 
-        boolean timeModuleRegisterEnabled = Boolean.parseBoolean(System.getProperty(REG_TIME_MODULE, "false"));
-        if (timeModuleRegisterEnabled) {
-            Json.mapper().registerModule(new JavaTimeModule());
-        }
+        registerTimeModule();
         logger.debug("Validating the API request Body content..");
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIRequest request = new OpenAPIRequest(messageContext);
 
             ValidationReport validationReport = validator.validateRequest(request);
@@ -97,7 +127,7 @@ public class SchemaValidator extends AbstractHandler {
 
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIResponse response = new OpenAPIResponse(messageContext);
 
             ValidationReport validationReport = validator.validateResponse(response.getPath(), response.getMethod(),
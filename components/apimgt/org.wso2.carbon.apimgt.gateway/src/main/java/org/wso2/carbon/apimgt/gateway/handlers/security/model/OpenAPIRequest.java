@@ -73,12 +73,16 @@ public class OpenAPIRequest implements Request {
         //Set Request path
         path = SchemaValidationUtils.getRestSubRequestPath(
                 messageContext.getProperty(REST_SUB_REQUEST_PATH).toString());
-        String swagger = messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_STRING).toString();
-        if (swagger != null) {
+        // The swagger parsed when the API was dispatched is used, instead of parsing it again for each request
+        OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
+        if (openAPI == null) {
+            String swagger = messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_STRING).toString();
             OpenAPIParser openAPIParser = new OpenAPIParser();
             SwaggerParseResult swaggerParseResult =
                     openAPIParser.readContents(swagger, new ArrayList<>(), new ParseOptions());
-            OpenAPI openAPI = swaggerParseResult.getOpenAPI();
+            openAPI = swaggerParseResult.getOpenAPI();
+        }
+        if (openAPI != null) {
             validatePath(openAPI);
         }
         //extract transport headers
@@ -21,15 +21,19 @@ package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.analytics;
 import org.apache.synapse.MessageContext;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.analytics.Constants;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.AsyncAnalyticsDataProvider;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
+import java.util.Map;
+
 /**
  * Data provider for the response events of server sent events.
  */
 public class SseResponseEventDataProvider extends AsyncAnalyticsDataProvider {
 
     private int responseCode;
+    private int eventCount = 1;
     private MessageContext messageContext;
 
     public SseResponseEventDataProvider(MessageContext messageContext) {
@@ -57,7 +61,21 @@ public class SseResponseEventDataProvider extends AsyncAnalyticsDataProvider {
         return operation;
     }
 
+    @Override
+    public Map<String, Object> getProperties() {
+        Map<String, Object> properties = super.getProperties();
+        properties.put(Constants.EVENT_COUNT, eventCount);
+        return properties;
+    }
+
     public void setResponseCode(int responseCode) {
         this.responseCode = responseCode;
     }
+
+    /**
+     * @param eventCount number of server sent events represented by the published analytics event
+     */
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
 }
@@ -20,7 +20,6 @@ package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.interceptors;
 
 import org.apache.axiom.util.UIDGenerator;
 import org.apache.axis2.context.MessageContext;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.SynapseConstants;
@@ -32,17 +31,17 @@ import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.analytics.SseResponseEventDataProvider;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.throttling.ThrottleInfo;
+import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseEventCounter;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_ANALYTICS_INFO;
+import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_EVENT_COUNTER;
 import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_THROTTLE_DTO;
 import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUtils.isThrottled;
 
@@ -52,9 +51,7 @@ import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUti
 public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
 
     private static final Log log = LogFactory.getLog(SseResponseStreamInterceptor.class);
-    private static final String SSE_STREAM_DELIMITER = "\n\n";
     private static final int DEFAULT_NO_OF_THROTTLE_PUBLISHER_EXECUTORS = 100;
-    private String charset = StandardCharsets.UTF_8.name();
     private ExecutorService throttlePublisherService;
     private int noOfExecutorThreads = DEFAULT_NO_OF_THROTTLE_PUBLISHER_EXECUTORS;
 
@@ -70,7 +67,7 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
 
     @Override
     public boolean targetResponse(ByteBuffer buffer, MessageContext axis2Ctx) {
-        int eventCount = getEventCount(buffer);
+        int eventCount = getEventCount(buffer, axis2Ctx);
         if (log.isDebugEnabled()) {
             log.debug("No. of events =" + eventCount);
         }
@@ -85,10 +82,14 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
         this.noOfExecutorThreads = executorThreads;
     }
 
-    private int getEventCount(ByteBuffer stream) {
-        Charset charsetValue = Charset.forName(this.charset);
-        String text = charsetValue.decode(stream).toString();
-        return StringUtils.countMatches(text, SSE_STREAM_DELIMITER);
+    private int getEventCount(ByteBuffer stream, MessageContext axis2Ctx) {
+        // The counter keeps the scanning state of the stream, as an event delimiter may be split across chunks
+        SseEventCounter eventCounter = (SseEventCounter) axis2Ctx.getProperty(SSE_EVENT_COUNTER);
+        if (eventCounter == null) {
+            eventCounter = new SseEventCounter();
+            axis2Ctx.setProperty(SSE_EVENT_COUNTER, eventCounter);
+        }
+        return eventCounter.count(stream);
     }
 
     private boolean handleThrottlingAndAnalytics(int eventCount, MessageContext axi2Ctx) {
@@ -126,6 +127,10 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
 
     private void publishAnalyticsData(int eventCount, MessageContext axi2Ctx) throws AnalyticsException {
 
+        if (eventCount <= 0) {
+            // A chunk without a completed event has nothing to be published
+            return;
+        }
         Object responseEventProvider = axi2Ctx.getProperty(SSE_ANALYTICS_INFO);
         if (responseEventProvider == null) {
             log.error("SSE Analytics event provider is null.");
@@ -133,13 +138,20 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
         }
         SseResponseEventDataProvider provider = (SseResponseEventDataProvider) responseEventProvider;
         provider.setResponseCode((int) axi2Ctx.getProperty(SynapseConstants.HTTP_SC));
+        // A single event is published for all the events of the chunk, carrying the number of events
+        provider.setEventCount(eventCount);
         GenericRequestDataCollector dataCollector = new GenericRequestDataCollector(provider);
-        for (int count = 0; count < eventCount; count++) {
-            dataCollector.collectData();
-        }
+        dataCollector.collectData();
     }
 
+    /**
+     * Event streams are always UTF-8 encoded, and their events are counted without decoding them. Hence the
+     * configured charset is ignored, and this is retained only to keep existing interceptor configurations valid.
+     *
+     * @param charset charset of the stream
+     */
+    @Deprecated
+    @SuppressWarnings("unused")
     public void setCharset(String charset) {
-        this.charset = charset;
     }
 }
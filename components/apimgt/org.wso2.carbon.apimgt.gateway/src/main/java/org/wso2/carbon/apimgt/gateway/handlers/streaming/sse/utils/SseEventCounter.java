@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Counts the events of a server sent event stream as its chunks are read from the backend. The chunks are scanned
+ * byte by byte without being decoded, which is safe as line terminators cannot occur inside a multi byte UTF-8
+ * sequence. The scanning state is kept between chunks, hence an event delimiter split across two chunks is counted
+ * once, in the chunk that completes it. An instance belongs to a single stream and is not thread safe.
+ */
+public class SseEventCounter {
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    // Whether the last byte seen was a CR, in which case a following LF belongs to the same line terminator
+    private boolean pendingCR;
+    // Whether the current line has any content
+    private boolean lineHasContent;
+    // Whether a non blank line has been seen since the last event was dispatched
+    private boolean eventHasContent;
+
+    /**
+     * Counts the events completed by the given chunk of the stream. A blank line terminates an event as per the
+     * event stream format, where lines may be terminated by a CRLF, a LF or a CR. Consecutive blank lines do not
+     * terminate empty events. The position of the buffer is not changed.
+     *
+     * @param chunk chunk of the stream
+     * @return number of events completed by the chunk
+     */
+    public int count(ByteBuffer chunk) {
+
+        int eventCount = 0;
+        for (int i = chunk.position(); i < chunk.limit(); i++) {
+            byte b = chunk.get(i);
+            if (b == LF) {
+                if (pendingCR) {
+                    pendingCR = false;
+                } else if (endLine()) {
+                    eventCount++;
+                }
+            } else if (b == CR) {
+                pendingCR = true;
+                if (endLine()) {
+                    eventCount++;
+                }
+            } else {
+                pendingCR = false;
+                lineHasContent = true;
+            }
+        }
+        return eventCount;
+    }
+
+    private boolean endLine() {
+
+        if (lineHasContent) {
+            lineHasContent = false;
+            eventHasContent = true;
+            return false;
+        }
+        if (eventHasContent) {
+            eventHasContent = false;
+            return true;
+        }
+        return false;
+    }
+}
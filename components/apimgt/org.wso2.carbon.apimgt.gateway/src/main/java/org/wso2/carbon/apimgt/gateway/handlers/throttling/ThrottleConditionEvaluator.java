@@ -20,27 +20,20 @@
 
 package org.wso2.carbon.apimgt.gateway.handlers.throttling;
 
-import org.apache.axis2.context.MessageContext;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
-import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
 import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
-import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
-import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
-import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
-import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * This class is used by {@code ThrottleHandler} to determine Applicability of Throttling Conditions.
@@ -51,9 +44,18 @@ import java.util.regex.Pattern;
  * Mozilla. Decision Engine keeps a track of which attributes are present in the request and which keys have been
  * throttled out. In order to see if those keys are applicable for the request, GW too should run some checks by
  * going through the attributes used for those conditions. What this class does is performing those checks.
+ * <p>
+ * Conditions are compiled to {@link ThrottleConditionPlan}s the first time they are seen, so that regular
+ * expressions and IP ranges are not parsed again for each request. Plans are weakly keyed by the identity of the
+ * condition DTOs, hence they are released together with the deployed policy.
  */
 public class ThrottleConditionEvaluator {
 
+    private final Cache<ConditionGroupDTO, ThrottleConditionPlan.ConditionGroupPlan> conditionGroupPlans =
+            CacheBuilder.newBuilder().weakKeys().build();
+    private final Cache<ConditionDto, ThrottleConditionPlan.ConditionPipelinePlan> conditionPipelinePlans =
+            CacheBuilder.newBuilder().weakKeys().build();
+
     private ThrottleConditionEvaluator() {
 
     }
@@ -82,11 +84,13 @@ public class ThrottleConditionEvaluator {
 
         ArrayList<ConditionGroupDTO> matchingConditions = new ArrayList<>(inputConditionGroups.length);
         ConditionGroupDTO defaultGroup = null;
+        ThrottleConditionPlan.RequestAttributes request = new ThrottleConditionPlan.RequestAttributes(
+                ((Axis2MessageContext) synapseContext).getAxis2MessageContext(), authenticationContext);
 
         for (ConditionGroupDTO conditionGroup : inputConditionGroups) {
             if (APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId())) {
                 defaultGroup = conditionGroup;
-            } else if (isConditionGroupApplicable(synapseContext, authenticationContext, conditionGroup)) {
+            } else if (getConditionGroupPlan(conditionGroup).isApplicable(request)) {
                 matchingConditions.add(conditionGroup);
             }
         }
@@ -99,251 +103,68 @@ public class ThrottleConditionEvaluator {
         return matchingConditions;
     }
 
-    private boolean isConditionGroupApplicable(org.apache.synapse.MessageContext synapseContext,
-                                               AuthenticationContext authenticationContext,
-                                               ConditionGroupDTO conditionGroup) {
-
-        ConditionDTO[] conditions = conditionGroup.getConditions();
-
-        boolean evaluationState = true;
-
-        if (conditions.length == 0) {
-            evaluationState = false;
-        }
-
-        // When multiple conditions have been specified, all the conditions should occur.
-        for (ConditionDTO condition : conditions) {
-            evaluationState = evaluationState & isConditionApplicable(synapseContext, authenticationContext, condition);
-
-            // If one of the conditions are false, rest will evaluate to false. So no need to check the rest.
-            if (!evaluationState) {
-                return false;
-            }
-        }
-        return evaluationState;
-    }
-
-    private boolean isConditionApplicable(org.apache.synapse.MessageContext synapseContext,
-                                          AuthenticationContext authenticationContext,
-                                          ConditionDTO condition) {
-
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synapseContext)
-                .getAxis2MessageContext();
-
-        boolean state = false;
-        switch (condition.getConditionType()) {
-            case PolicyConstants.IP_RANGE_TYPE: {
-                state = isWithinIP(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.IP_SPECIFIC_TYPE: {
-                state = isMatchingIP(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.QUERY_PARAMETER_TYPE: {
-                state = isQueryParamPresent(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.JWT_CLAIMS_TYPE: {
-                state = isJWTClaimPresent(authenticationContext, condition);
-                break;
-            }
-            case PolicyConstants.HEADER_TYPE: {
-                state = isHeaderPresent(axis2MessageContext, condition);
-                break;
-            }
-        }
-
-        if (condition.isInverted()) {
-            state = !state;
-        }
-
-        return state;
-    }
-
-    private boolean isHeaderPresent(MessageContext messageContext, ConditionDTO condition) {
-
-        Map<String, String> transportHeaderMap = (Map<String, String>) messageContext
-                .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-        if (transportHeaderMap != null) {
-            String value = transportHeaderMap.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
-            Matcher matcher = pattern.matcher(value);
-            return matcher.find();
-        }
-        return false;
-    }
-
-    private boolean isHeaderPresent(MessageContext messageContext, ConditionDto.HeaderConditions condition) {
+    /**
+     * Compiles the evaluation plans of the given condition groups ahead of the first request using them.
+     *
+     * @param conditionGroups Condition Groups attached with a resource.
+     */
+    public void compileConditionGroups(ConditionGroupDTO[] conditionGroups) {
 
-        Map<String, String> transportHeaderMap = (Map<String, String>) messageContext
-                .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-        boolean status = true;
-        for (Map.Entry<String, String> headerEntry : condition.getValues().entrySet()) {
-            if (transportHeaderMap != null) {
-                String value = transportHeaderMap.get(headerEntry.getKey());
-                if (StringUtils.isEmpty(value)) {
-                    status = false;
-                    break;
-                } else {
-                    Pattern pattern = Pattern.compile(headerEntry.getValue());
-                    Matcher matcher = pattern.matcher(value);
-                    status = status && matcher.find();
+        if (conditionGroups != null) {
+            for (ConditionGroupDTO conditionGroup : conditionGroups) {
+                if (conditionGroup != null
+                        && !APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId())) {
+                    getConditionGroupPlan(conditionGroup);
                 }
             }
         }
-
-        if (condition.isInvert()) {
-            return !status;
-        } else {
-            return status;
-        }
-    }
-
-    private boolean isJWTClaimPresent(AuthenticationContext authenticationContext, ConditionDTO condition) {
-
-        Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-        if (assertions != null) {
-            String value = assertions.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            } else {
-                Pattern pattern = Pattern.compile(condition.getConditionValue());
-                Matcher matcher = pattern.matcher(value);
-                return matcher.find();
-            }
-        }
-        return false;
-    }
-
-    private boolean isJWTClaimPresent(AuthenticationContext authenticationContext, ConditionDto.JWTClaimConditions
-            condition) {
-                
-        if (authenticationContext.getCallerToken() == null) {
-            return false;
-        }
-
-        Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-        boolean status = true;
-
-        for (Map.Entry<String, String> jwtClaim : condition.getValues().entrySet()) {
-            String value = assertions.get(jwtClaim.getKey());
-            if (value == null) {
-                status = false;
-                break;
-            } else {
-                Pattern pattern = Pattern.compile(jwtClaim.getValue());
-                Matcher matcher = pattern.matcher(value);
-                status = status && matcher.find();
-            }
-        }
-        if (condition.isInvert()) {
-            return !status;
-        } else {
-            return status;
-        }
     }
 
-    private boolean isQueryParamPresent(MessageContext messageContext, ConditionDto.QueryParamConditions condition) {
-
-        Map<String, String> queryParamMap = GatewayUtils.getQueryParams(messageContext);
-        boolean status = true;
-
-        for (Map.Entry<String, String> queryParam : condition.getValues().entrySet()) {
-            if (queryParamMap == null || queryParamMap.get(queryParam.getKey()) == null) {
-                status = false;
-                break;
-            } else {
-                Pattern pattern = Pattern.compile(queryParam.getValue());
-                Matcher matcher = pattern.matcher(queryParamMap.get(queryParam.getKey()));
-                status = status && matcher.find();
-            }
-        }
-        if (condition.isInvert()) {
-            return !status;
-        } else {
-            return status;
-        }
-    }
-
-    private boolean isQueryParamPresent(MessageContext messageContext, ConditionDTO condition) {
-
-        Map<String, String> queryParamMap = GatewayUtils.getQueryParams(messageContext);
+    /**
+     * Compiles the evaluation plans of the given conditions ahead of the first request using them.
+     *
+     * @param conditions Conditions of a throttled resource.
+     */
+    public void compileConditions(List<ConditionDto> conditions) {
 
-        if (queryParamMap != null) {
-            String value = queryParamMap.get(condition.getConditionName());
-            if (value == null) {
-                return false;
+        if (conditions != null) {
+            for (ConditionDto condition : conditions) {
+                if (condition != null) {
+                    getConditionPipelinePlan(condition);
+                }
             }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
-            Matcher matcher = pattern.matcher(value);
-            return matcher.find();
-        }
-        return false;
-    }
-
-    private boolean isMatchingIP(MessageContext messageContext, ConditionDTO condition) {
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        return currentIpString.equals(condition.getConditionValue());
-    }
-
-    private boolean isWithinIP(MessageContext messageContext, ConditionDTO condition) {
-        // For an IP Range Condition, starting IP is set as a the name, ending IP as the value.
-        BigInteger startIp = APIUtil.ipToBigInteger(condition.getConditionName());
-        BigInteger endIp = APIUtil.ipToBigInteger(condition.getConditionValue());
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        if (!currentIpString.isEmpty()) {
-            BigInteger currentIp = APIUtil.ipToBigInteger(currentIpString);
-
-            return startIp.compareTo(currentIp) <= 0 && endIp.compareTo(currentIp) >= 0;
         }
-        return false;
     }
 
-    private boolean isWithinIP(MessageContext messageContext, ConditionDto.IPCondition ipCondition) {
+    private ThrottleConditionPlan.ConditionGroupPlan getConditionGroupPlan(ConditionGroupDTO conditionGroup) {
 
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        boolean status;
-        if (StringUtils.isNotEmpty(currentIpString)) {
-            BigInteger currentIp = APIUtil.ipToBigInteger(currentIpString);
-            status = ipCondition.getStartingIp().compareTo(currentIp) <= 0
-                    && ipCondition.getEndingIp().compareTo(currentIp) >= 0;
-        } else {
-            return false;
-        }
-        if (ipCondition.isInvert()) {
-            return !status;
-        } else {
-            return status;
+        ThrottleConditionPlan.ConditionGroupPlan plan = conditionGroupPlans.getIfPresent(conditionGroup);
+        if (plan == null) {
+            plan = ThrottleConditionPlan.ConditionGroupPlan.compile(conditionGroup);
+            conditionGroupPlans.put(conditionGroup, plan);
         }
+        return plan;
     }
 
-    private boolean isMatchingIP(MessageContext messageContext, ConditionDto.IPCondition ipCondition) {
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        BigInteger longValueOfIp = APIUtil.ipToBigInteger(currentIpString);
+    private ThrottleConditionPlan.ConditionPipelinePlan getConditionPipelinePlan(ConditionDto condition) {
 
-        if (ipCondition.isInvert()) {
-            return !longValueOfIp.equals(ipCondition.getSpecificIp());
+        ThrottleConditionPlan.ConditionPipelinePlan plan = conditionPipelinePlans.getIfPresent(condition);
+        if (plan == null) {
+            plan = ThrottleConditionPlan.ConditionPipelinePlan.compile(condition);
+            conditionPipelinePlans.put(condition, plan);
         }
-        return longValueOfIp.equals(ipCondition.getSpecificIp());
+        return plan;
     }
 
     public String getThrottledInCondition(org.apache.synapse.MessageContext synCtx, AuthenticationContext authContext,
                                           Map<String, List<ConditionDto>> conditionDtoMap) {
 
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synCtx)
-                .getAxis2MessageContext();
+        ThrottleConditionPlan.RequestAttributes request = new ThrottleConditionPlan.RequestAttributes(
+                ((Axis2MessageContext) synCtx).getAxis2MessageContext(), authContext);
         String condition = null;
         for (Map.Entry<String, List<ConditionDto>> conditionList : conditionDtoMap.entrySet()) {
             if (!"default".equals(conditionList.getKey())) {
-                boolean pipeLineStatus = isThrottledWithinCondition(axis2MessageContext, authContext, conditionList
-                        .getValue());
+                boolean pipeLineStatus = isThrottledWithinCondition(request, conditionList.getValue());
                 if (pipeLineStatus) {
                     condition = conditionList.getKey();
                     break;
@@ -354,8 +175,7 @@ public class ThrottleConditionEvaluator {
             if (conditionDtoMap.containsKey("default")) {
                 List<ConditionDto> conditionDtoList = conditionDtoMap.get("default");
                 if (conditionDtoList != null && !conditionDtoList.isEmpty()) {
-                    boolean pipeLineStatus = isThrottledWithinCondition(axis2MessageContext, authContext,
-                            conditionDtoList);
+                    boolean pipeLineStatus = isThrottledWithinCondition(request, conditionDtoList);
                     if (!pipeLineStatus) {
                         condition = "default";
                     }
@@ -367,40 +187,13 @@ public class ThrottleConditionEvaluator {
         return condition;
     }
 
-    private boolean isThrottledWithinCondition(MessageContext axis2MessageContext, AuthenticationContext authContext,
+    private boolean isThrottledWithinCondition(ThrottleConditionPlan.RequestAttributes request,
                                                List<ConditionDto> conditionDtoList) {
 
         ThrottleProperties throttleProperties = ServiceReferenceHolder.getInstance().getThrottleProperties();
         boolean status = true;
         for (ConditionDto condition : conditionDtoList) {
-            status = true;
-            if (condition.getIpCondition() != null) {
-                if (!isMatchingIP(axis2MessageContext, condition.getIpCondition())) {
-                    status = false;
-                }
-            } else if (condition.getIpRangeCondition() != null) {
-                if (!isWithinIP(axis2MessageContext, condition.getIpRangeCondition())) {
-                    status = false;
-                }
-            }
-            if (condition.getHeaderConditions() != null && throttleProperties.isEnableHeaderConditions() &&
-                    !condition.getHeaderConditions().getValues().isEmpty()) {
-                if (!isHeaderPresent(axis2MessageContext, condition.getHeaderConditions())) {
-                    status = false;
-                }
-            }
-            if (condition.getJwtClaimConditions() != null && throttleProperties.isEnableJwtConditions() &&
-                    !condition.getJwtClaimConditions().getValues().isEmpty()) {
-                if (!isJWTClaimPresent(authContext, condition.getJwtClaimConditions())) {
-                    status = false;
-                }
-            }
-            if (condition.getQueryParameterConditions() != null && throttleProperties.isEnableQueryParamConditions() &&
-                    !condition.getQueryParameterConditions().getValues().isEmpty()) {
-                if (!isQueryParamPresent(axis2MessageContext, condition.getQueryParameterConditions())) {
-                    status = false;
-                }
-            }
+            status = getConditionPipelinePlan(condition).isApplicable(request, throttleProperties);
             if (status) {
                 break;
             }
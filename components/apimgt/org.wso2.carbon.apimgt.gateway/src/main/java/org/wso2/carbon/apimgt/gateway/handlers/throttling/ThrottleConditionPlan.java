@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.axis2.context.MessageContext;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable evaluation plans of the throttling conditions used by {@link ThrottleConditionEvaluator}. A plan is
+ * compiled once per deployed condition, holding the precompiled regular expressions and the numeric IP ranges of
+ * the condition, so that evaluating a request does not parse the condition values again. The request attributes
+ * the conditions are evaluated against are extracted at most once per request through {@link RequestAttributes}.
+ */
+final class ThrottleConditionPlan {
+
+    private static final Log log = LogFactory.getLog(ThrottleConditionPlan.class);
+
+    private ThrottleConditionPlan() {
+
+    }
+
+    /**
+     * Compiles a condition value to a pattern. An invalid regular expression never matches.
+     */
+    private static Pattern compilePattern(String regex) {
+
+        if (regex == null) {
+            return null;
+        }
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            log.error("Invalid regular expression in throttling condition: " + regex, e);
+            return null;
+        }
+    }
+
+    private static boolean find(Pattern pattern, String value) {
+
+        return pattern != null && pattern.matcher(value).find();
+    }
+
+    /**
+     * Compiled form of a {@link ConditionGroupDTO} attached to an advanced throttling policy of a resource.
+     */
+    static final class ConditionGroupPlan {
+
+        private final Condition[] conditions;
+
+        private ConditionGroupPlan(Condition[] conditions) {
+
+            this.conditions = conditions;
+        }
+
+        static ConditionGroupPlan compile(ConditionGroupDTO conditionGroup) {
+
+            ConditionDTO[] conditionDTOs = conditionGroup.getConditions();
+            if (conditionDTOs == null) {
+                return new ConditionGroupPlan(new Condition[0]);
+            }
+            Condition[] conditions = new Condition[conditionDTOs.length];
+            for (int i = 0; i < conditionDTOs.length; i++) {
+                conditions[i] = new Condition(conditionDTOs[i]);
+            }
+            return new ConditionGroupPlan(conditions);
+        }
+
+        /**
+         * When multiple conditions have been specified, all the conditions should occur. A group without conditions
+         * is never applicable.
+         */
+        boolean isApplicable(RequestAttributes request) {
+
+            if (conditions.length == 0) {
+                return false;
+            }
+            for (Condition condition : conditions) {
+                if (!condition.isApplicable(request)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Compiled form of a single {@link ConditionDTO}.
+     */
+    private static final class Condition {
+
+        private final String conditionType;
+        private final String conditionName;
+        private final String conditionValue;
+        private final boolean inverted;
+        private final Pattern pattern;
+        private final BigInteger startingIp;
+        private final BigInteger endingIp;
+
+        private Condition(ConditionDTO condition) {
+
+            this.conditionType = condition.getConditionType();
+            this.conditionName = condition.getConditionName();
+            this.conditionValue = condition.getConditionValue();
+            this.inverted = condition.isInverted();
+            if (PolicyConstants.IP_RANGE_TYPE.equals(conditionType)) {
+                // For an IP Range Condition, starting IP is set as a the name, ending IP as the value.
+                this.startingIp = APIUtil.ipToBigInteger(conditionName);
+                this.endingIp = APIUtil.ipToBigInteger(conditionValue);
+                this.pattern = null;
+            } else if (PolicyConstants.QUERY_PARAMETER_TYPE.equals(conditionType)
+                    || PolicyConstants.JWT_CLAIMS_TYPE.equals(conditionType)
+                    || PolicyConstants.HEADER_TYPE.equals(conditionType)) {
+                this.pattern = compilePattern(conditionValue);
+                this.startingIp = null;
+                this.endingIp = null;
+            } else {
+                this.pattern = null;
+                this.startingIp = null;
+                this.endingIp = null;
+            }
+        }
+
+        private boolean isApplicable(RequestAttributes request) {
+
+            boolean state = false;
+            if (conditionType != null) {
+                switch (conditionType) {
+                    case PolicyConstants.IP_RANGE_TYPE: {
+                        String currentIp = request.getIp();
+                        if (StringUtils.isNotEmpty(currentIp)) {
+                            BigInteger currentIpValue = request.getIpValue();
+                            state = startingIp.compareTo(currentIpValue) <= 0
+                                    && endingIp.compareTo(currentIpValue) >= 0;
+                        }
+                        break;
+                    }
+                    case PolicyConstants.IP_SPECIFIC_TYPE: {
+                        String currentIp = request.getIp();
+                        state = currentIp != null && currentIp.equals(conditionValue);
+                        break;
+                    }
+                    case PolicyConstants.QUERY_PARAMETER_TYPE: {
+                        state = matches(request.getQueryParams());
+                        break;
+                    }
+                    case PolicyConstants.JWT_CLAIMS_TYPE: {
+                        state = matches(request.getJWTClaims());
+                        break;
+                    }
+                    case PolicyConstants.HEADER_TYPE: {
+                        state = matches(request.getTransportHeaders());
+                        break;
+                    }
+                    default:
+                        break;
+                }
+            }
+            return inverted != state;
+        }
+
+        private boolean matches(Map<String, String> attributes) {
+
+            if (attributes == null) {
+                return false;
+            }
+            String value = attributes.get(conditionName);
+            return value != null && find(pattern, value);
+        }
+    }
+
+    /**
+     * Compiled form of a {@link ConditionDto} pipeline received with a throttle event of a resource.
+     */
+    static final class ConditionPipelinePlan {
+
+        private final boolean hasSpecificIp;
+        private final boolean hasIpRange;
+        private final BigInteger specificIp;
+        private final BigInteger startingIp;
+        private final BigInteger endingIp;
+        private final boolean ipInverted;
+        private final AttributeConditions headerConditions;
+        private final AttributeConditions jwtClaimConditions;
+        private final AttributeConditions queryParamConditions;
+
+        private ConditionPipelinePlan(ConditionDto condition) {
+
+            ConditionDto.IPCondition ipCondition = condition.getIpCondition();
+            ConditionDto.IPCondition ipRangeCondition = condition.getIpRangeCondition();
+            this.hasSpecificIp = ipCondition != null;
+            this.hasIpRange = ipCondition == null && ipRangeCondition != null;
+            this.specificIp = hasSpecificIp ? ipCondition.getSpecificIp() : null;
+            this.startingIp = hasIpRange ? ipRangeCondition.getStartingIp() : null;
+            this.endingIp = hasIpRange ? ipRangeCondition.getEndingIp() : null;
+            this.ipInverted = hasSpecificIp ? ipCondition.isInvert() : hasIpRange && ipRangeCondition.isInvert();
+            this.headerConditions = condition.getHeaderConditions() != null ?
+                    AttributeConditions.compile(condition.getHeaderConditions().getValues(),
+                            condition.getHeaderConditions().isInvert()) : null;
+            this.jwtClaimConditions = condition.getJwtClaimConditions() != null ?
+                    AttributeConditions.compile(condition.getJwtClaimConditions().getValues(),
+                            condition.getJwtClaimConditions().isInvert()) : null;
+            this.queryParamConditions = condition.getQueryParameterConditions() != null ?
+                    AttributeConditions.compile(condition.getQueryParameterConditions().getValues(),
+                            condition.getQueryParameterConditions().isInvert()) : null;
+        }
+
+        static ConditionPipelinePlan compile(ConditionDto condition) {
+
+            return new ConditionPipelinePlan(condition);
+        }
+
+        boolean isApplicable(RequestAttributes request, ThrottleProperties throttleProperties) {
+
+            if (hasSpecificIp) {
+                if (ipInverted == request.getIpValue().equals(specificIp)) {
+                    return false;
+                }
+            } else if (hasIpRange) {
+                if (StringUtils.isEmpty(request.getIp())) {
+                    return false;
+                }
+                BigInteger currentIp = request.getIpValue();
+                boolean withinRange = startingIp.compareTo(currentIp) <= 0 && endingIp.compareTo(currentIp) >= 0;
+                if (ipInverted == withinRange) {
+                    return false;
+                }
+            }
+            if (headerConditions != null && throttleProperties.isEnableHeaderConditions()) {
+                Map<String, String> transportHeaders = request.getTransportHeaders();
+                // When the request does not have transport headers, the header values are not checked
+                boolean headersMatched = transportHeaders == null ? !headerConditions.inverted
+                        : headerConditions.isApplicable(transportHeaders, true);
+                if (!headersMatched) {
+                    return false;
+                }
+            }
+            if (jwtClaimConditions != null && throttleProperties.isEnableJwtConditions()) {
+                if (request.getCallerToken() == null
+                        || !jwtClaimConditions.isApplicable(request.getJWTClaims(), false)) {
+                    return false;
+                }
+            }
+            if (queryParamConditions != null && throttleProperties.isEnableQueryParamConditions()) {
+                if (!queryParamConditions.isApplicable(request.getQueryParams(), false)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Name and value pattern pairs of header, JWT claim or query parameter conditions of a {@link ConditionDto}.
+     */
+    private static final class AttributeConditions {
+
+        private final String[] names;
+        private final Pattern[] patterns;
+        private final boolean inverted;
+
+        private AttributeConditions(String[] names, Pattern[] patterns, boolean inverted) {
+
+            this.names = names;
+            this.patterns = patterns;
+            this.inverted = inverted;
+        }
+
+        private static AttributeConditions compile(Map<String, String> values, boolean inverted) {
+
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            String[] names = new String[values.size()];
+            Pattern[] patterns = new Pattern[values.size()];
+            int i = 0;
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                names[i] = entry.getKey();
+                patterns[i] = compilePattern(entry.getValue());
+                i++;
+            }
+            return new AttributeConditions(names, patterns, inverted);
+        }
+
+        /**
+         * All the attributes should be present and match their patterns.
+         *
+         * @param attributes    attributes of the request
+         * @param emptyIsAbsent whether an empty attribute value is considered as not present
+         */
+        private boolean isApplicable(Map<String, String> attributes, boolean emptyIsAbsent) {
+
+            boolean status = attributes != null;
+            for (int i = 0; status && i < names.length; i++) {
+                String value = attributes.get(names[i]);
+                if (value == null || (emptyIsAbsent && value.isEmpty())) {
+                    status = false;
+                } else {
+                    status = find(patterns[i], value);
+                }
+            }
+            return inverted != status;
+        }
+    }
+
+    /**
+     * Attributes of the current request that the throttling conditions are evaluated against. Each attribute is
+     * extracted from the message context at most once, on first use.
+     */
+    static final class RequestAttributes {
+
+        private final MessageContext messageContext;
+        private final AuthenticationContext authenticationContext;
+        private Map<String, String> transportHeaders;
+        private boolean transportHeadersResolved;
+        private Map<String, String> queryParams;
+        private boolean queryParamsResolved;
+        private Map<String, String> jwtClaims;
+        private boolean jwtClaimsResolved;
+        private String ip;
+        private boolean ipResolved;
+        private BigInteger ipValue;
+
+        RequestAttributes(MessageContext messageContext, AuthenticationContext authenticationContext) {
+
+            this.messageContext = messageContext;
+            this.authenticationContext = authenticationContext;
+        }
+
+        Map<String, String> getTransportHeaders() {
+
+            if (!transportHeadersResolved) {
+                transportHeaders = (Map<String, String>) messageContext.getProperty(MessageContext.TRANSPORT_HEADERS);
+                transportHeadersResolved = true;
+            }
+            return transportHeaders;
+        }
+
+        Map<String, String> getQueryParams() {
+
+            if (!queryParamsResolved) {
+                queryParams = GatewayUtils.getQueryParams(messageContext);
+                queryParamsResolved = true;
+            }
+            return queryParams;
+        }
+
+        String getCallerToken() {
+
+            return authenticationContext != null ? authenticationContext.getCallerToken() : null;
+        }
+
+        Map<String, String> getJWTClaims() {
+
+            if (!jwtClaimsResolved) {
+                jwtClaims = JWTUtil.getJWTClaims(getCallerToken());
+                jwtClaimsResolved = true;
+            }
+            return jwtClaims;
+        }
+
+        String getIp() {
+
+            if (!ipResolved) {
+                ip = GatewayUtils.getIp(messageContext);
+                ipResolved = true;
+            }
+            return ip;
+        }
+
+        BigInteger getIpValue() {
+
+            if (ipValue == null) {
+                ipValue = APIUtil.ipToBigInteger(getIp());
+            }
+            return ipValue;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.dto.GraphQLOperationDTO;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.Authentication.Authenticator;
+import org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling.FrameQuotaLease;
 import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
 import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
 import org.wso2.carbon.apimgt.impl.jwt.SignedJWTInfo;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Message context to hold information of an intercepted single inbound connection.
@@ -66,6 +68,7 @@ public class InboundMessageContext {
     //Graphql Subscription specific connection context information
     private GraphQLSchemaDTO graphQLSchemaDTO;
     private Map<String, GraphQLOperationDTO> graphQLMsgIdToVerbInfo = new HashMap<>();
+    private Map<String, FrameQuotaLease> frameQuotaLeases = new ConcurrentHashMap<>(); //leases per resource key
 
     public void addVerbInfoForGraphQLMsgId(String msgId, GraphQLOperationDTO graphQLOperationDTO) {
         this.graphQLMsgIdToVerbInfo.put(msgId, graphQLOperationDTO);
@@ -262,4 +265,8 @@ public class InboundMessageContext {
     public Authenticator getAuthenticator () {
         return this.authenticator;
     }
+
+    public Map<String, FrameQuotaLease> getFrameQuotaLeases() {
+        return frameQuotaLeases;
+    }
 }
@@ -17,6 +17,8 @@
  */
 package org.wso2.carbon.apimgt.gateway.inbound;
 
+import org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling.FrameQuotaLeaseManager;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -46,7 +48,10 @@ public class InboundMessageContextDataHolder {
     }
 
     public void removeInboundMessageContextForConnection(String connectionId) {
-        inboundMessageContextMap.remove(connectionId);
+        InboundMessageContext inboundMessageContext = inboundMessageContextMap.remove(connectionId);
+        if (inboundMessageContext != null && !inboundMessageContext.getFrameQuotaLeases().isEmpty()) {
+            FrameQuotaLeaseManager.getInstance().releaseLeases(inboundMessageContext);
+        }
     }
 }
 
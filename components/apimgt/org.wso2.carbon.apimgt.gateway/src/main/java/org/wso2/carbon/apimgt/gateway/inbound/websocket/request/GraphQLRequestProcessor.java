@@ -36,6 +36,7 @@ import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalysisResult;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryValidator;
 import org.wso2.carbon.apimgt.gateway.dto.GraphQLOperationDTO;
@@ -49,6 +50,7 @@ import org.wso2.carbon.apimgt.gateway.inbound.InboundMessageContext;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.GraphQLProcessorResponseDTO;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.InboundProcessorResponseDTO;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.utils.InboundWebsocketProcessorUtil;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
 
@@ -120,11 +122,11 @@ public class GraphQLRequestProcessor extends RequestProcessor {
                                             .validateScopes(inboundMessageContext, subscriptionOperation, operationId);
                                 }
                                 if (!responseDTO.isError()) {
-                                    QueryAnalyzer queryAnalyzer = new QueryAnalyzer(
-                                            inboundMessageContext.getGraphQLSchemaDTO().getGraphQLSchema());
+                                    QueryAnalyzer queryAnalyzer = getQueryAnalyzer(inboundMessageContext);
                                     // analyze query depth and complexity
                                     responseDTO = validateQueryDepthAndComplexity(queryAnalyzer,
-                                            inboundMessageContext, graphQLSubscriptionPayload, operationId);
+                                            inboundMessageContext, graphQLSubscriptionPayload, document,
+                                            operationId);
                                     if (!responseDTO.isError()) {
                                         //throttle for matching resource
                                         responseDTO = InboundWebsocketProcessorUtil
@@ -250,71 +252,108 @@ public class GraphQLRequestProcessor extends RequestProcessor {
     }
 
     /**
-     * Validate query depth and complexity of graphql subscription payload.
+     * Get the query analyzer of the API. The analyzer held for the deployed API is used so that the cached analysis
+     * results are shared across connections.
      *
-     * @param queryAnalyzer         Query complexity and depth analyzer for subscription operations
      * @param inboundMessageContext InboundMessageContext
-     * @param payload               GraphQL payload
-     * @param operationId           Graphql message id
-     * @return GraphQLProcessorResponseDTO
+     * @return QueryAnalyzer
      */
-    private GraphQLProcessorResponseDTO validateQueryDepthAndComplexity(QueryAnalyzer queryAnalyzer,
-                                                                        InboundMessageContext inboundMessageContext,
-                                                                        String payload, String operationId) {
+    private QueryAnalyzer getQueryAnalyzer(InboundMessageContext inboundMessageContext) {
 
-        GraphQLProcessorResponseDTO responseDTO = validateQueryDepth(queryAnalyzer, inboundMessageContext,
-                payload, operationId);
-        if (!responseDTO.isError()) {
-            return validateQueryComplexity(queryAnalyzer, inboundMessageContext, payload, operationId);
+        GraphQLSchema schema = inboundMessageContext.getGraphQLSchemaDTO().getGraphQLSchema();
+        QueryAnalyzer queryAnalyzer = null;
+        if (inboundMessageContext.getElectedAPI() != null) {
+            queryAnalyzer = DataHolder.getInstance()
+                    .getGraphQLQueryAnalyzerForAPI(inboundMessageContext.getElectedAPI().getUuid());
         }
-        return responseDTO;
+        if (queryAnalyzer == null || queryAnalyzer.getSchema() != schema) {
+            queryAnalyzer = new QueryAnalyzer(schema);
+        }
+        return queryAnalyzer;
     }
 
     /**
-     * Validate query complexity of graphql subscription payload.
+     * Validate query depth and complexity of graphql subscription payload. Depth and complexity are calculated
+     * together in a single analysis of the parsed payload.
      *
      * @param queryAnalyzer         Query complexity and depth analyzer for subscription operations
      * @param inboundMessageContext InboundMessageContext
      * @param payload               GraphQL payload
+     * @param document              Parsed GraphQL payload
      * @param operationId           Graphql message id
      * @return GraphQLProcessorResponseDTO
      */
-    private GraphQLProcessorResponseDTO validateQueryComplexity(QueryAnalyzer queryAnalyzer,
-                                                                InboundMessageContext inboundMessageContext,
-                                                                String payload, String operationId) {
+    private GraphQLProcessorResponseDTO validateQueryDepthAndComplexity(QueryAnalyzer queryAnalyzer,
+                                                                        InboundMessageContext inboundMessageContext,
+                                                                        String payload, Document document,
+                                                                        String operationId) {
 
-        GraphQLProcessorResponseDTO responseDTO = new GraphQLProcessorResponseDTO();
-        responseDTO.setId(operationId);
+        int maxQueryDepth = inboundMessageContext.getInfoDTO().getGraphQLMaxDepth();
+        int maxQueryComplexity = inboundMessageContext.getInfoDTO().getGraphQLMaxComplexity();
+        GraphQLProcessorResponseDTO responseDTO;
+        String accessControlInfo;
         try {
             //get access control policy
-            String accessControlInfo = getGraphQLAccessControlInfo(inboundMessageContext.getGraphQLSchemaDTO()
+            accessControlInfo = getGraphQLAccessControlInfo(inboundMessageContext.getGraphQLSchemaDTO()
                     .getGraphQLSchema());
-            QueryAnalyzerResponseDTO queryAnalyzerResponseDTO =
-                    queryAnalyzer.analyseQueryMutationComplexity(payload,
-                            inboundMessageContext.getInfoDTO().getGraphQLMaxComplexity(), accessControlInfo);
-            if (!queryAnalyzerResponseDTO.isSuccess() && !queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
-                List<String> errorList = queryAnalyzerResponseDTO.getErrorList();
-                log.error("Query complexity validation failed for: " + payload + " errors: " + errorList.toString());
+        } catch (APIManagementException e) {
+            // query depth does not depend on the access control policy, hence it is validated first
+            responseDTO = validateQueryDepth(inboundMessageContext,
+                    queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload, document), payload, operationId);
+            if (!responseDTO.isError()) {
+                log.error("Error while validating query complexity for: " + payload, e);
                 responseDTO.setError(true);
-                responseDTO.setErrorCode(WebSocketApiConstants.FrameErrorConstants.GRAPHQL_QUERY_TOO_COMPLEX);
-                responseDTO.setErrorMessage(WebSocketApiConstants.FrameErrorConstants.GRAPHQL_QUERY_TOO_COMPLEX_MESSAGE
-                        + " : " + queryAnalyzerResponseDTO.getErrorList().toString());
-                WebSocketThrottleResponseDTO throttleResponseDTO = new WebSocketThrottleResponseDTO(true, "Throttled "
-                        + "due to subscription-level query complexity constraint.", inboundMessageContext.getApiContext()
-                        , inboundMessageContext.getInfoDTO().getSubscriber());
-                responseDTO.setInboundProcessorResponseError(throttleResponseDTO);
-                return responseDTO;
+                responseDTO.setErrorMessage(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY + " not found in schema");
+                responseDTO.setErrorCode(WebSocketApiConstants.FrameErrorConstants.INTERNAL_SERVER_ERROR);
+            }
+            return responseDTO;
+        }
+        try {
+            QueryAnalysisResult analysisResult = queryAnalyzer.analyseQuery(payload, document, accessControlInfo);
+            responseDTO = validateQueryDepth(inboundMessageContext,
+                    queryAnalyzer.validateQueryDepth(maxQueryDepth, analysisResult), payload, operationId);
+            if (!responseDTO.isError()) {
+                responseDTO = validateQueryComplexity(inboundMessageContext,
+                        queryAnalyzer.validateQueryComplexity(maxQueryComplexity, analysisResult), payload,
+                        operationId);
             }
         } catch (ParseException e) {
             log.error("Error while validating query complexity for: " + payload, e);
+            responseDTO = new GraphQLProcessorResponseDTO();
+            responseDTO.setId(operationId);
             responseDTO.setError(true);
             responseDTO.setErrorMessage(e.getMessage());
             responseDTO.setErrorCode(WebSocketApiConstants.FrameErrorConstants.INTERNAL_SERVER_ERROR);
-        } catch (APIManagementException e) {
-            log.error("Error while validating query complexity for: " + payload, e);
+        }
+        return responseDTO;
+    }
+
+    /**
+     * Validate query complexity of graphql subscription payload.
+     *
+     * @param inboundMessageContext    InboundMessageContext
+     * @param queryAnalyzerResponseDTO Query complexity analysis response
+     * @param payload                  GraphQL payload
+     * @param operationId              Graphql message id
+     * @return GraphQLProcessorResponseDTO
+     */
+    private GraphQLProcessorResponseDTO validateQueryComplexity(InboundMessageContext inboundMessageContext,
+                                                                QueryAnalyzerResponseDTO queryAnalyzerResponseDTO,
+                                                                String payload, String operationId) {
+
+        GraphQLProcessorResponseDTO responseDTO = new GraphQLProcessorResponseDTO();
+        responseDTO.setId(operationId);
+        if (!queryAnalyzerResponseDTO.isSuccess() && !queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
+            List<String> errorList = queryAnalyzerResponseDTO.getErrorList();
+            log.error("Query complexity validation failed for: " + payload + " errors: " + errorList.toString());
             responseDTO.setError(true);
-            responseDTO.setErrorMessage(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY + " not found in schema");
-            responseDTO.setErrorCode(WebSocketApiConstants.FrameErrorConstants.INTERNAL_SERVER_ERROR);
+            responseDTO.setErrorCode(WebSocketApiConstants.FrameErrorConstants.GRAPHQL_QUERY_TOO_COMPLEX);
+            responseDTO.setErrorMessage(WebSocketApiConstants.FrameErrorConstants.GRAPHQL_QUERY_TOO_COMPLEX_MESSAGE
+                    + " : " + queryAnalyzerResponseDTO.getErrorList().toString());
+            WebSocketThrottleResponseDTO throttleResponseDTO = new WebSocketThrottleResponseDTO(true, "Throttled "
+                    + "due to subscription-level query complexity constraint.", inboundMessageContext.getApiContext()
+                    , inboundMessageContext.getInfoDTO().getSubscriber());
+            responseDTO.setInboundProcessorResponseError(throttleResponseDTO);
         }
         return responseDTO;
     }
@@ -322,21 +361,18 @@ public class GraphQLRequestProcessor extends RequestProcessor {
     /**
      * Validate query depth of graphql subscription payload.
      *
-     * @param queryAnalyzer         Query complexity and depth analyzer for subscription operations
-     * @param inboundMessageContext InboundMessageContext
-     * @param payload               GraphQL payload
-     * @param operationId           GraphQL message Id
+     * @param inboundMessageContext    InboundMessageContext
+     * @param queryAnalyzerResponseDTO Query depth analysis response
+     * @param payload                  GraphQL payload
+     * @param operationId              GraphQL message Id
      * @return GraphQLProcessorResponseDTO
      */
-    private GraphQLProcessorResponseDTO validateQueryDepth(QueryAnalyzer queryAnalyzer,
-                                                           InboundMessageContext inboundMessageContext,
+    private GraphQLProcessorResponseDTO validateQueryDepth(InboundMessageContext inboundMessageContext,
+                                                           QueryAnalyzerResponseDTO queryAnalyzerResponseDTO,
                                                            String payload, String operationId) {
 
         GraphQLProcessorResponseDTO responseDTO = new GraphQLProcessorResponseDTO();
         responseDTO.setId(operationId);
-        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO =
-                queryAnalyzer.analyseQueryDepth(inboundMessageContext.getInfoDTO().
-                        getGraphQLMaxDepth(), payload);
         if (!queryAnalyzerResponseDTO.isSuccess() && !queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
             List<String> errorList = queryAnalyzerResponseDTO.getErrorList();
             log.error("Query depth validation failed for: " + payload + " errors: " + errorList.toString());
@@ -348,7 +384,6 @@ public class GraphQLRequestProcessor extends RequestProcessor {
                     + "to subscription-level query depth constraint.", inboundMessageContext.getApiContext()
                     , inboundMessageContext.getInfoDTO().getSubscriber());
             responseDTO.setInboundProcessorResponseError(throttleResponseDTO);
-            return responseDTO;
         }
         return responseDTO;
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling;
+
+import org.wso2.carbon.databridge.commons.Event;
+
+/**
+ * Block of frame and byte quota leased by a WebSocket connection for the frames to a resource. While the lease has
+ * quota left and has not expired, frames are admitted by counting them locally, without checking the throttle state
+ * of the throttle keys. The admitted frames are accumulated as the unpublished usage of the lease, which is drained
+ * periodically into an aggregated throttle event.
+ * <p>
+ * A lease does not reserve quota at the traffic manager. It bounds the frames admitted without checking the
+ * throttle state, so the usage of a connection can exceed a policy by at most one lease before it is throttled. As
+ * the traffic manager counts the events of request and event count policies instead of their frames, only the
+ * frames throttled by bandwidth or unlimited policies are leasable.
+ */
+public class FrameQuotaLease {
+
+    private final WebSocketThrottleKeys throttleKeys;
+    private final boolean leasable;
+    private int remainingFrames;
+    private long remainingBytes;
+    private long expiryTime;
+    private int unpublishedFrames;
+    private long unpublishedBytes;
+
+    /**
+     * @param throttleKeys throttle keys of the frames
+     * @param leasable     whether the frames can be admitted against leased quota, or have to be throttled one by
+     *                     one as the policies of the keys count events
+     */
+    public FrameQuotaLease(WebSocketThrottleKeys throttleKeys, boolean leasable) {
+
+        this.throttleKeys = throttleKeys;
+        this.leasable = leasable;
+    }
+
+    /**
+     * Admits a frame against the quota left in the lease.
+     *
+     * @param frameSize   size of the frame
+     * @param currentTime current time in milliseconds
+     * @return true if the frame is admitted, false if the lease has to be renewed to admit it
+     */
+    public synchronized boolean tryAcquire(int frameSize, long currentTime) {
+
+        if (remainingFrames <= 0 || remainingBytes < frameSize || currentTime >= expiryTime) {
+            return false;
+        }
+        remainingFrames--;
+        remainingBytes -= frameSize;
+        unpublishedFrames++;
+        unpublishedBytes += frameSize;
+        return true;
+    }
+
+    /**
+     * Renews the lease once the throttle state of the keys has been checked, and admits the frame which required
+     * the renewal. A frame larger than the leased bytes is admitted, leaving no bytes for the following frames.
+     *
+     * @param frameCount number of frames leased
+     * @param byteCount  number of bytes leased
+     * @param expiryTime time in milliseconds at which the lease expires
+     * @param frameSize  size of the frame
+     */
+    public synchronized void renew(int frameCount, long byteCount, long expiryTime, int frameSize) {
+
+        remainingFrames = frameCount - 1;
+        remainingBytes = byteCount - frameSize;
+        this.expiryTime = expiryTime;
+        unpublishedFrames++;
+        unpublishedBytes += frameSize;
+    }
+
+    /**
+     * Drains the usage accumulated since the previous drain into an aggregated throttle event.
+     *
+     * @param messageId id of the event
+     * @return throttle event, or null if no frames have been admitted since the previous drain
+     */
+    public Event drainUsage(String messageId) {
+
+        int frames;
+        long bytes;
+        synchronized (this) {
+            if (unpublishedFrames == 0) {
+                return null;
+            }
+            frames = unpublishedFrames;
+            bytes = unpublishedBytes;
+            unpublishedFrames = 0;
+            unpublishedBytes = 0;
+        }
+        return throttleKeys.createEvent(messageId, throttleKeys.createEventProperties(bytes, frames));
+    }
+
+    /**
+     * @return true if the frames can be admitted against leased quota, false if each frame has to be throttled and
+     * published on its own
+     */
+    public boolean isLeasable() {
+
+        return leasable;
+    }
+
+    public WebSocketThrottleKeys getThrottleKeys() {
+
+        return throttleKeys;
+    }
+}
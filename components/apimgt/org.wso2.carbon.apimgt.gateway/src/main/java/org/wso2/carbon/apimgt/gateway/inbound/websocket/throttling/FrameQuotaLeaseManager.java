@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling;
+
+import org.apache.axiom.util.UIDGenerator;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.gateway.inbound.InboundMessageContext;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleDataPublisher;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
+import org.wso2.carbon.apimgt.keymgt.model.entity.APIPolicyConditionGroup;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ApiPolicy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Policy;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages the frame quota leased by WebSocket and GraphQL subscription connections. The leases of a connection are
+ * cached on its {@link InboundMessageContext} per resource level throttle key, and the usage of all the active leases
+ * is published to the traffic manager periodically, as one aggregated throttle event per lease.
+ * <p>
+ * The traffic manager counts the events of request and event count policies, so leasing is limited to the frames
+ * of which every policy is a bandwidth or unlimited policy. The frames of other connections are throttled and
+ * published one by one.
+ */
+public class FrameQuotaLeaseManager {
+
+    private static final Log log = LogFactory.getLog(FrameQuotaLeaseManager.class);
+    private static final String API_LEVEL_LEASE_KEY = "";
+    private static final FrameQuotaLeaseManager instance =
+            new FrameQuotaLeaseManager(getFrameQuotaLeaseConfiguration());
+
+    private final ThrottleProperties.WebSocketFrameQuotaLease leaseConfiguration;
+    private final Set<FrameQuotaLease> activeLeases = ConcurrentHashMap.newKeySet();
+
+    FrameQuotaLeaseManager(ThrottleProperties.WebSocketFrameQuotaLease leaseConfiguration) {
+
+        this.leaseConfiguration = leaseConfiguration;
+        if (leaseConfiguration.isEnabled()) {
+            long publishInterval = leaseConfiguration.getUsagePublishInterval();
+            ScheduledExecutorService usagePublisherExecutor = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "WebSocketFrameUsagePublisher");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            usagePublisherExecutor.scheduleWithFixedDelay(this::publishUsage, publishInterval, publishInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static FrameQuotaLeaseManager getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * @return true if the frames of WebSocket connections are throttled against leased quota
+     */
+    public boolean isEnabled() {
+
+        return leaseConfiguration.isEnabled();
+    }
+
+    /**
+     * Returns the lease of the connection for the frames to the given operation, creating it on the first frame.
+     *
+     * @param verbInfoDTO           VerbInfoDTO of the invoked operation, or null for websocket API throttling
+     * @param inboundMessageContext InboundMessageContext of the connection
+     * @return lease of the connection
+     */
+    public FrameQuotaLease getLease(VerbInfoDTO verbInfoDTO, InboundMessageContext inboundMessageContext) {
+
+        String leaseKey = verbInfoDTO == null || verbInfoDTO.getRequestKey() == null ? API_LEVEL_LEASE_KEY
+                : verbInfoDTO.getRequestKey();
+        Map<String, FrameQuotaLease> leases = inboundMessageContext.getFrameQuotaLeases();
+        FrameQuotaLease lease = leases.get(leaseKey);
+        if (lease == null) {
+            WebSocketThrottleKeys throttleKeys = new WebSocketThrottleKeys(verbInfoDTO, inboundMessageContext);
+            lease = new FrameQuotaLease(throttleKeys, isLeasable(throttleKeys));
+            FrameQuotaLease existingLease = leases.putIfAbsent(leaseKey, lease);
+            if (existingLease != null) {
+                return existingLease;
+            }
+            if (lease.isLeasable()) {
+                activeLeases.add(lease);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Frames of " + throttleKeys.getResourceLevelThrottleKey() + " are throttled one by one "
+                        + "as not all of their policies are bandwidth policies");
+            }
+        }
+        return lease;
+    }
+
+    /**
+     * Checks whether all the policies applied to the frames are bandwidth or unlimited policies, of which the
+     * traffic manager sums the message size of the aggregated events.
+     *
+     * @param throttleKeys throttle keys and tiers of the frames
+     * @return true if the frames can be admitted against leased quota
+     */
+    boolean isLeasable(WebSocketThrottleKeys throttleKeys) {
+
+        String applicationTier = throttleKeys.getApplicationLevelTier();
+        if (!isUnlimited(applicationTier)) {
+            String appTenant = throttleKeys.getAppTenant();
+            SubscriptionDataStore appStore = getStore(appTenant);
+            if (appStore == null || !isBandwidthPolicy(
+                    appStore.getApplicationPolicyByName(applicationTier, getTenantId(appTenant)))) {
+                return false;
+            }
+        }
+        String subscriptionTier = throttleKeys.getSubscriptionLevelTier();
+        String apiTier = throttleKeys.getApiLevelTier();
+        String resourceTier = throttleKeys.getResourceLevelTier();
+        if (isUnlimited(subscriptionTier) && isUnlimited(apiTier) && isUnlimited(resourceTier)) {
+            return true;
+        }
+        String apiTenant = throttleKeys.getApiTenant();
+        SubscriptionDataStore apiStore = getStore(apiTenant);
+        if (apiStore == null) {
+            return false;
+        }
+        int apiTenantId = getTenantId(apiTenant);
+        return (isUnlimited(subscriptionTier)
+                || isBandwidthPolicy(apiStore.getSubscriptionPolicyByName(subscriptionTier, apiTenantId)))
+                && (isUnlimited(apiTier) || isBandwidthPolicy(apiStore.getApiPolicyByName(apiTier, apiTenantId)))
+                && (isUnlimited(resourceTier)
+                || isBandwidthPolicy(apiStore.getApiPolicyByName(resourceTier, apiTenantId)));
+    }
+
+    SubscriptionDataStore getStore(String tenantDomain) {
+
+        return tenantDomain == null ? null
+                : SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain);
+    }
+
+    int getTenantId(String tenantDomain) {
+
+        return APIUtil.getTenantIdFromTenantDomain(tenantDomain);
+    }
+
+    private static boolean isUnlimited(String tier) {
+
+        return StringUtils.isEmpty(tier) || APIConstants.UNLIMITED_TIER.equalsIgnoreCase(tier);
+    }
+
+    private static boolean isBandwidthPolicy(Policy policy) {
+
+        if (policy == null || !PolicyConstants.BANDWIDTH_TYPE.equals(policy.getQuotaType())) {
+            return false;
+        }
+        if (policy instanceof ApiPolicy) {
+            for (APIPolicyConditionGroup conditionGroup : ((ApiPolicy) policy).getConditionGroups()) {
+                if (conditionGroup.getQuotaType() != null
+                        && !PolicyConstants.BANDWIDTH_TYPE.equals(conditionGroup.getQuotaType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Admits a frame against the quota left in the lease.
+     *
+     * @param lease     lease of the connection
+     * @param frameSize size of the frame
+     * @return true if the frame is admitted, false if the throttle state has to be checked to renew the lease
+     */
+    public boolean tryAcquire(FrameQuotaLease lease, int frameSize) {
+
+        return lease.tryAcquire(frameSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Renews the lease with the configured quota after the throttle state of its keys has been checked, admitting
+     * the frame which required the renewal.
+     *
+     * @param lease     lease of the connection
+     * @param frameSize size of the frame
+     */
+    public void renew(FrameQuotaLease lease, int frameSize) {
+
+        lease.renew(leaseConfiguration.getFrameCount(), leaseConfiguration.getByteCount(),
+                System.currentTimeMillis() + leaseConfiguration.getDuration(), frameSize);
+    }
+
+    /**
+     * Releases the leases of a closed connection, publishing their unpublished usage.
+     *
+     * @param inboundMessageContext InboundMessageContext of the connection
+     */
+    public void releaseLeases(InboundMessageContext inboundMessageContext) {
+
+        Map<String, FrameQuotaLease> leases = inboundMessageContext.getFrameQuotaLeases();
+        if (leases.isEmpty()) {
+            return;
+        }
+        for (FrameQuotaLease lease : leases.values()) {
+            activeLeases.remove(lease);
+            publishUsage(lease);
+        }
+        leases.clear();
+    }
+
+    /**
+     * Publishes the usage accumulated by the active leases since the previous run.
+     */
+    void publishUsage() {
+
+        try {
+            for (FrameQuotaLease lease : activeLeases) {
+                publishUsage(lease);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while publishing the usage of WebSocket frame quota leases", e);
+        }
+    }
+
+    int getActiveLeaseCount() {
+
+        return activeLeases.size();
+    }
+
+    private void publishUsage(FrameQuotaLease lease) {
+
+        Event event = lease.drainUsage(UIDGenerator.generateURNString());
+        if (event != null) {
+            publish(event);
+        }
+    }
+
+    void publish(Event event) {
+
+        ThrottleDataPublisher throttleDataPublisher = ServiceReferenceHolder.getInstance().getThrottleDataPublisher();
+        if (throttleDataPublisher == null || throttleDataPublisher.getDataPublisher() == null) {
+            log.error("Cannot publish events to traffic manager because ThrottleDataPublisher "
+                    + "has not been initialised");
+            return;
+        }
+        throttleDataPublisher.getDataPublisher().tryPublish(event);
+    }
+
+    private static ThrottleProperties.WebSocketFrameQuotaLease getFrameQuotaLeaseConfiguration() {
+
+        ThrottleProperties throttleProperties = ServiceReferenceHolder.getInstance().getThrottleProperties();
+        if (throttleProperties == null || throttleProperties.getWebSocketFrameQuotaLease() == null) {
+            return new ThrottleProperties.WebSocketFrameQuotaLease();
+        }
+        return throttleProperties.getWebSocketFrameQuotaLease();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONObject;
+import org.wso2.carbon.apimgt.gateway.handlers.Utils;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
+import org.wso2.carbon.apimgt.gateway.inbound.InboundMessageContext;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+import org.wso2.carbon.databridge.commons.Event;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Throttle keys, tiers and request attributes of the frames of a WebSocket connection to a resource, which are
+ * published in the throttle events of the frames.
+ */
+public class WebSocketThrottleKeys {
+
+    private static final String THROTTLE_STREAM_ID = "org.wso2.throttle.request.stream:1.0.0";
+
+    private final String applicationLevelThrottleKey;
+    private final String applicationLevelTier;
+    private final String apiLevelThrottleKey;
+    private final String apiLevelTier;
+    private final String subscriptionLevelThrottleKey;
+    private final String subscriptionLevelTier;
+    private final String resourceLevelThrottleKey;
+    private final String resourceLevelTier;
+    private final String authorizedUser;
+    private final String apiContext;
+    private final String apiVersion;
+    private final String appTenant;
+    private final String apiTenant;
+    private final String appId;
+    private final String apiName;
+    private final String remoteIP;
+
+    /**
+     * @param verbInfoDTO           VerbInfoDTO of the invoked operation, or null for websocket API throttling
+     * @param inboundMessageContext InboundMessageContext of the connection
+     */
+    public WebSocketThrottleKeys(VerbInfoDTO verbInfoDTO, InboundMessageContext inboundMessageContext) {
+
+        APIKeyValidationInfoDTO infoDTO = inboundMessageContext.getInfoDTO();
+        applicationLevelTier = infoDTO.getApplicationTier();
+        apiLevelTier = infoDTO.getApiTier() == null && verbInfoDTO == null ? APIConstants.UNLIMITED_TIER
+                : infoDTO.getApiTier();
+        subscriptionLevelTier = infoDTO.getTier();
+        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(infoDTO.getSubscriberTenantDomain())) {
+            authorizedUser = infoDTO.getSubscriber() + "@" + infoDTO.getSubscriberTenantDomain();
+        } else {
+            authorizedUser = infoDTO.getSubscriber();
+        }
+        apiName = infoDTO.getApiName();
+        apiContext = inboundMessageContext.getApiContext();
+        apiVersion = inboundMessageContext.getVersion();
+        appTenant = infoDTO.getSubscriberTenantDomain();
+        apiTenant = inboundMessageContext.getTenantDomain();
+        appId = infoDTO.getApplicationId();
+        applicationLevelThrottleKey = appId + ":" + authorizedUser;
+        apiLevelThrottleKey = apiContext + ":" + apiVersion;
+        //If API level throttle policy is present then it will apply and no resource level policy will apply for it
+        if (StringUtils.isNotEmpty(apiLevelTier) && verbInfoDTO == null) {
+            resourceLevelThrottleKey = apiLevelThrottleKey;
+            resourceLevelTier = apiLevelTier;
+        } else {
+            resourceLevelThrottleKey = verbInfoDTO.getRequestKey();
+            resourceLevelTier = verbInfoDTO.getThrottling();
+        }
+        subscriptionLevelThrottleKey = appId + ":" + apiContext + ":" + apiVersion;
+        String userIP = inboundMessageContext.getUserIP();
+        if (userIP.indexOf(":") > 0) {
+            userIP = userIP.substring(1, userIP.indexOf(":"));
+        }
+        remoteIP = userIP;
+    }
+
+    /**
+     * Creates the properties of a throttle event of the frames, carrying the remote IP of the connection and the
+     * given message size.
+     *
+     * @param messageSize size of the frames represented by the event
+     * @return properties of the event
+     */
+    public JSONObject createEventProperties(long messageSize) {
+
+        JSONObject properties = new JSONObject();
+        Utils.setRemoteIp(properties, remoteIP);
+        properties.put(APIThrottleConstants.MESSAGE_SIZE, messageSize);
+        return properties;
+    }
+
+    /**
+     * Creates the properties of an aggregated throttle event of the frames, which additionally carries the number of
+     * frames represented by the event.
+     *
+     * @param messageSize  total size of the frames represented by the event
+     * @param messageCount number of frames represented by the event
+     * @return properties of the event
+     */
+    public JSONObject createEventProperties(long messageSize, int messageCount) {
+
+        JSONObject properties = createEventProperties(messageSize);
+        properties.put(APIThrottleConstants.MESSAGE_COUNT, messageCount);
+        return properties;
+    }
+
+    /**
+     * Creates a throttle event of the frames to be published to the traffic manager.
+     *
+     * @param messageId  id of the event
+     * @param properties properties of the event
+     * @return throttle event
+     */
+    public Event createEvent(String messageId, JSONObject properties) {
+
+        Object[] objects =
+                new Object[]{messageId, applicationLevelThrottleKey, applicationLevelTier, apiLevelThrottleKey,
+                        apiLevelTier, subscriptionLevelThrottleKey, subscriptionLevelTier, resourceLevelThrottleKey,
+                        resourceLevelTier, authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId,
+                        apiName, properties.toString()};
+        return new Event(THROTTLE_STREAM_ID, System.currentTimeMillis(), null, null, objects);
+    }
+
+    public String getApplicationLevelTier() {
+        return applicationLevelTier;
+    }
+
+    public String getApiLevelTier() {
+        return apiLevelTier;
+    }
+
+    public String getSubscriptionLevelTier() {
+        return subscriptionLevelTier;
+    }
+
+    public String getResourceLevelTier() {
+        return resourceLevelTier;
+    }
+
+    public String getAppTenant() {
+        return appTenant;
+    }
+
+    public String getApiTenant() {
+        return apiTenant;
+    }
+
+    public String getApplicationLevelThrottleKey() {
+        return applicationLevelThrottleKey;
+    }
+
+    public String getSubscriptionLevelThrottleKey() {
+        return subscriptionLevelThrottleKey;
+    }
+
+    public String getResourceLevelThrottleKey() {
+        return resourceLevelThrottleKey;
+    }
+
+    public String getAuthorizedUser() {
+        return authorizedUser;
+    }
+
+    public String getRemoteIP() {
+        return remoteIP;
+    }
+}
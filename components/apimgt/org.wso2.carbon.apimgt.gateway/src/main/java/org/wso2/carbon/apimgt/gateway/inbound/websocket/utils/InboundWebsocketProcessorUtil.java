@@ -37,10 +37,12 @@ import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.security.jwt.JWTValidator;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.websocket.WebSocketApiConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.websocket.WebSocketApiException;
-import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
 import org.wso2.carbon.apimgt.gateway.inbound.InboundMessageContext;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.GraphQLProcessorResponseDTO;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.InboundProcessorResponseDTO;
+import org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling.FrameQuotaLease;
+import org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling.FrameQuotaLeaseManager;
+import org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling.WebSocketThrottleKeys;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.utils.APIMgtGoogleAnalyticsUtils;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
@@ -202,78 +204,102 @@ public class InboundWebsocketProcessorUtil {
                                                          InboundMessageContext inboundMessageContext,
                                                          InboundProcessorResponseDTO responseDTO) {
 
-        APIKeyValidationInfoDTO infoDTO = inboundMessageContext.getInfoDTO();
-        String applicationLevelTier = infoDTO.getApplicationTier();
-        String apiLevelTier = infoDTO.getApiTier() == null && verbInfoDTO == null ? APIConstants.UNLIMITED_TIER
-                : infoDTO.getApiTier();
-        String subscriptionLevelTier = infoDTO.getTier();
-        String resourceLevelTier;
-        String authorizedUser;
-        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(infoDTO.getSubscriberTenantDomain())) {
-            authorizedUser = infoDTO.getSubscriber() + "@" + infoDTO.getSubscriberTenantDomain();
-        } else {
-            authorizedUser = infoDTO.getSubscriber();
-        }
-        String apiName = infoDTO.getApiName();
-        String apiVersion = inboundMessageContext.getVersion();
-        String appTenant = infoDTO.getSubscriberTenantDomain();
-        String apiTenant = inboundMessageContext.getTenantDomain();
-        String appId = infoDTO.getApplicationId();
-        String applicationLevelThrottleKey = appId + ":" + authorizedUser;
-        String apiLevelThrottleKey = inboundMessageContext.getApiContext() + ":" + apiVersion;
-        String resourceLevelThrottleKey;
-        //If API level throttle policy is present then it will apply and no resource level policy will apply for it
-        if (StringUtils.isNotEmpty(apiLevelTier) && verbInfoDTO == null) {
-            resourceLevelThrottleKey = apiLevelThrottleKey;
-            resourceLevelTier = apiLevelTier;
-        } else {
-            resourceLevelThrottleKey = verbInfoDTO.getRequestKey();
-            resourceLevelTier = verbInfoDTO.getThrottling();
+        if (FrameQuotaLeaseManager.getInstance().isEnabled()) {
+            return doThrottleWithLease(msgSize, verbInfoDTO, inboundMessageContext, responseDTO);
         }
-        String subscriptionLevelThrottleKey = appId + ":" + inboundMessageContext.getApiContext() + ":" + apiVersion;
+        return doThrottlePerFrame(msgSize, new WebSocketThrottleKeys(verbInfoDTO, inboundMessageContext),
+                inboundMessageContext, responseDTO);
+    }
+
+    /**
+     * Checks if the frame is throttled and publishes a throttle event for it.
+     *
+     * @param msgSize               Websocket msg size
+     * @param throttleKeys          throttle keys of the frame
+     * @param inboundMessageContext InboundMessageContext
+     * @param responseDTO           InboundProcessorResponseDTO
+     * @return InboundProcessorResponseDTO carrying the error if throttled
+     */
+    private static InboundProcessorResponseDTO doThrottlePerFrame(int msgSize, WebSocketThrottleKeys throttleKeys,
+                                                                  InboundMessageContext inboundMessageContext,
+                                                                  InboundProcessorResponseDTO responseDTO) {
+
         String messageId = UIDGenerator.generateURNString();
-        String remoteIP = inboundMessageContext.getUserIP();
         if (log.isDebugEnabled()) {
-            log.debug("Remote IP address : " + remoteIP);
+            log.debug("Remote IP address : " + inboundMessageContext.getUserIP());
         }
-        if (remoteIP.indexOf(":") > 0) {
-            remoteIP = remoteIP.substring(1, remoteIP.indexOf(":"));
+        JSONObject jsonObMap = throttleKeys.createEventProperties(msgSize);
+        checkThrottleStatus(throttleKeys, inboundMessageContext, responseDTO);
+        org.wso2.carbon.databridge.commons.Event event = throttleKeys.createEvent(messageId, jsonObMap);
+        if (ServiceReferenceHolder.getInstance().getThrottleDataPublisher() == null) {
+            log.error("Cannot publish events to traffic manager because ThrottleDataPublisher "
+                    + "has not been initialised");
         }
-        JSONObject jsonObMap = new JSONObject();
-        Utils.setRemoteIp(jsonObMap, remoteIP);
-        jsonObMap.put(APIThrottleConstants.MESSAGE_SIZE, msgSize);
+        ServiceReferenceHolder.getInstance().getThrottleDataPublisher().getDataPublisher().tryPublish(event);
+        return responseDTO;
+    }
+
+    /**
+     * Checks if the frame is throttled against the quota leased by the connection. The throttle state of the keys
+     * is only checked when the lease has to be renewed, and the admitted frames are published by the
+     * {@link FrameQuotaLeaseManager} in periodic aggregated events. Frames of which not all the policies are
+     * bandwidth policies are throttled one by one, as the traffic manager counts their events.
+     *
+     * @param msgSize               Websocket msg size
+     * @param verbInfoDTO           VerbInfoDTO for invoking operation. Pass null for websocket API throttling.
+     * @param inboundMessageContext InboundMessageContext
+     * @param responseDTO           InboundProcessorResponseDTO
+     * @return InboundProcessorResponseDTO carrying the error if throttled
+     */
+    private static InboundProcessorResponseDTO doThrottleWithLease(int msgSize, VerbInfoDTO verbInfoDTO,
+                                                                   InboundMessageContext inboundMessageContext,
+                                                                   InboundProcessorResponseDTO responseDTO) {
+
+        FrameQuotaLeaseManager leaseManager = FrameQuotaLeaseManager.getInstance();
+        FrameQuotaLease lease = leaseManager.getLease(verbInfoDTO, inboundMessageContext);
+        if (!lease.isLeasable()) {
+            return doThrottlePerFrame(msgSize, lease.getThrottleKeys(), inboundMessageContext, responseDTO);
+        }
+        if (leaseManager.tryAcquire(lease, msgSize)) {
+            return responseDTO;
+        }
+        if (!checkThrottleStatus(lease.getThrottleKeys(), inboundMessageContext, responseDTO)) {
+            leaseManager.renew(lease, msgSize);
+        }
+        return responseDTO;
+    }
+
+    /**
+     * Checks the throttle state of the keys, setting the throttled out error to the response if any of them is
+     * throttled.
+     *
+     * @return true if throttled
+     */
+    private static boolean checkThrottleStatus(WebSocketThrottleKeys throttleKeys,
+                                               InboundMessageContext inboundMessageContext,
+                                               InboundProcessorResponseDTO responseDTO) {
+
         try {
             PrivilegedCarbonContext.startTenantFlow();
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(
                     inboundMessageContext.getTenantDomain(), true);
-            WebSocketThrottleResponseDTO throttleResponseDTO = WebsocketUtil.getThrottleStatus(resourceLevelThrottleKey,
-                                                                                               subscriptionLevelThrottleKey,
-                                                                                               applicationLevelThrottleKey);
+            WebSocketThrottleResponseDTO throttleResponseDTO = WebsocketUtil.getThrottleStatus(
+                    throttleKeys.getResourceLevelThrottleKey(), throttleKeys.getSubscriptionLevelThrottleKey(),
+                    throttleKeys.getApplicationLevelThrottleKey());
             if (throttleResponseDTO != null) {
                 responseDTO.setError(true);
                 responseDTO.setErrorCode(WebSocketApiConstants.FrameErrorConstants.THROTTLED_OUT_ERROR);
                 responseDTO.setErrorMessage(WebSocketApiConstants.FrameErrorConstants.THROTTLED_OUT_ERROR_MESSAGE);
 
-                throttleResponseDTO.setUser(authorizedUser);
+                throttleResponseDTO.setUser(throttleKeys.getAuthorizedUser());
                 throttleResponseDTO.setApiContext(inboundMessageContext.getApiContext());
                 responseDTO.setInboundProcessorResponseError(throttleResponseDTO);
+                return true;
             }
+            return false;
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
-        Object[] objects =
-                new Object[]{messageId, applicationLevelThrottleKey, applicationLevelTier, apiLevelThrottleKey,
-                        apiLevelTier, subscriptionLevelThrottleKey, subscriptionLevelTier, resourceLevelThrottleKey,
-                        resourceLevelTier, authorizedUser, inboundMessageContext.getApiContext(), apiVersion,
-                        appTenant, apiTenant, appId, apiName, jsonObMap.toString()};
-        org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(
-                "org.wso2.throttle.request.stream:1.0.0", System.currentTimeMillis(), null, null, objects);
-        if (ServiceReferenceHolder.getInstance().getThrottleDataPublisher() == null) {
-            log.error("Cannot publish events to traffic manager because ThrottleDataPublisher "
-                    + "has not been initialised");
-        }
-        ServiceReferenceHolder.getInstance().getThrottleDataPublisher().getDataPublisher().tryPublish(event);
-        return responseDTO;
     }
 
     /**
@@ -42,6 +42,7 @@ import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.AbstractAPIMgtGatewayJ
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.AWSBedrockGuardrailProviderServiceImpl;
 import org.wso2.carbon.apimgt.gateway.AzureOpenAIEmbeddingProviderServiceImpl;
+import org.wso2.carbon.apimgt.gateway.BatchedRedisDistributedCountManager;
 import org.wso2.carbon.apimgt.gateway.HybridThrottleProcessor;
 import org.wso2.carbon.apimgt.gateway.MistralEmbeddingProviderServiceImpl;
 import org.wso2.carbon.apimgt.gateway.OpenAIEmbeddingProviderServiceImpl;
@@ -51,6 +52,8 @@ import org.wso2.carbon.apimgt.gateway.inbound.websocket.WebSocketProcessor;
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTMapCleaner;
 import org.wso2.carbon.apimgt.gateway.listeners.GatewayStartupListener;
 import org.wso2.carbon.apimgt.gateway.listeners.ServerStartupListener;
+import org.wso2.carbon.apimgt.gateway.webhooks.WebhookDeliveryEngine;
+import org.wso2.carbon.apimgt.gateway.webhooks.WebhookDeliveryStatusPublisher;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.api.LLMProviderService;
@@ -96,6 +99,7 @@ public class APIHandlerServiceComponent {
 
     private APIKeyValidatorClientPool clientPool;
     private ServiceRegistration registration;
+    private BatchedRedisDistributedCountManager batchedRedisDistributedCountManager;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -143,8 +147,17 @@ public class APIHandlerServiceComponent {
                 ServiceReferenceHolder.getInstance().getAPIManagerConfiguration().getRedisConfig();
         if (redisConfig.isRedisEnabled()) {
             ServiceReferenceHolder.getInstance().setRedisPool(getJedisPool(redisConfig));
-            RedisBaseDistributedCountManager redisBaseDistributedCountManager =
-                    new RedisBaseDistributedCountManager(ServiceReferenceHolder.getInstance().getRedisPool());
+            RedisBaseDistributedCountManager redisBaseDistributedCountManager;
+            if (redisConfig.isCounterBatchingEnabled()) {
+                batchedRedisDistributedCountManager = new BatchedRedisDistributedCountManager(
+                        ServiceReferenceHolder.getInstance().getRedisPool(), redisConfig.getKeyLockRetrievalTimeout(),
+                        redisConfig.getCounterSyncInterval(), redisConfig.getCounterMaxUnsyncedDelta());
+                batchedRedisDistributedCountManager.start();
+                redisBaseDistributedCountManager = batchedRedisDistributedCountManager;
+            } else {
+                redisBaseDistributedCountManager =
+                        new RedisBaseDistributedCountManager(ServiceReferenceHolder.getInstance().getRedisPool());
+            }
             context.getBundleContext().registerService(DistributedCounterManager.class,
                     redisBaseDistributedCountManager, null);
             ServiceReferenceHolder.getInstance().setRedisPool(getJedisPool(redisConfig));
@@ -223,6 +236,7 @@ public class APIHandlerServiceComponent {
                                 + embeddingProviderType);
                 }
                 embeddingProviderService.init(embeddingProviderConfigurationDTO);
+                ServiceReferenceHolder.getInstance().setEmbeddingProviderService(embeddingProviderService);
                 context.getBundleContext().registerService(
                         EmbeddingProviderService.class.getName(),
                         embeddingProviderService,
@@ -265,6 +279,11 @@ public class APIHandlerServiceComponent {
             log.debug("Unregistering ThrottleDataService...");
             registration.unregister();
         }
+        if (batchedRedisDistributedCountManager != null) {
+            batchedRedisDistributedCountManager.stop();
+        }
+        WebhookDeliveryEngine.shutdownInstance();
+        WebhookDeliveryStatusPublisher.shutdownInstance();
         if (ServiceReferenceHolder.getInstance().getRedisPool() != null &&
                 !ServiceReferenceHolder.getInstance().getRedisPool().isClosed()) {
             ServiceReferenceHolder.getInstance().getRedisPool().destroy();
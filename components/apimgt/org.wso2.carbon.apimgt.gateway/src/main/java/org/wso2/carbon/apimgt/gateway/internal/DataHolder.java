@@ -18,8 +18,10 @@
 
 package org.wso2.carbon.apimgt.gateway.internal;
 
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -27,6 +29,7 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
 import org.wso2.carbon.apimgt.api.model.LLMProviderInfo;
+import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
 import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
@@ -38,17 +41,22 @@ import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class DataHolder {
     private static final Log log  = LogFactory.getLog(DataHolder.class);
     private static final DataHolder Instance = new DataHolder();
-    private Map<String, List<String>> apiToCertificatesMap = new HashMap();
+    // Updated by the deployment workers of different APIs in parallel
+    private Map<String, List<String>> apiToCertificatesMap = new ConcurrentHashMap<>();
     private Map<String, String> googleAnalyticsConfigMap = new HashMap<>();
-    private Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new HashMap<>();
-    private Map<String, List<String>> apiToKeyManagersMap = new HashMap<>();
-    private Map<String,Map<String, API>> tenantAPIMap  = new HashMap<>();
-    private Map<String, Boolean> tenantDeployStatus = new HashMap<>();
+    private final Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new ConcurrentHashMap<>();
+    private final Map<String, QueryAnalyzer> apiToGraphQLQueryAnalyzerMap = new ConcurrentHashMap<>();
+    private final Map<String, Map.Entry<OpenAPI, OpenApiInteractionValidator>> apiToOpenAPIValidatorMap =
+            new ConcurrentHashMap<>();
+    private final Map<String, List<String>> apiToKeyManagersMap = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, API>> tenantAPIMap = new ConcurrentHashMap<>();
+    private volatile Map<String, Boolean> tenantDeployStatus = new ConcurrentHashMap<>();
     private Map<String, LLMProviderInfo> llmProviderMap = new HashMap<>();
     private final Map<String, Cache<String, Long>> apiSuspendedEndpoints = new ConcurrentHashMap<>();
 
@@ -126,7 +134,7 @@ public class DataHolder {
 
     public void setApiToCertificatesMap(Map<String, List<String>> apiToCertificatesMap) {
 
-        this.apiToCertificatesMap = apiToCertificatesMap;
+        this.apiToCertificatesMap = new ConcurrentHashMap<>(apiToCertificatesMap);
     }
 
     public static DataHolder getInstance() {
@@ -172,6 +180,64 @@ public class DataHolder {
     public void addApiToGraphQLSchemaDTO(String apiId, GraphQLSchemaDTO graphQLSchemaDTO) {
 
         apiToGraphQLSchemaDTOMap.put(apiId, graphQLSchemaDTO);
+        apiToGraphQLQueryAnalyzerMap.remove(apiId);
+    }
+
+    public void removeApiFromGraphQLSchemaDTO(String apiId) {
+
+        apiToGraphQLSchemaDTOMap.remove(apiId);
+        apiToGraphQLQueryAnalyzerMap.remove(apiId);
+    }
+
+    /**
+     * Returns the query analyzer of the deployed GraphQL API. The analyzer is shared by the requests of the API, so
+     * that the analysis results it caches are reused across connections.
+     *
+     * @param apiId UUID of the API
+     * @return query analyzer of the API, or null if the API does not have a GraphQL schema deployed
+     */
+    public QueryAnalyzer getGraphQLQueryAnalyzerForAPI(String apiId) {
+
+        GraphQLSchemaDTO graphQLSchemaDTO = apiToGraphQLSchemaDTOMap.get(apiId);
+        if (graphQLSchemaDTO == null) {
+            return null;
+        }
+        QueryAnalyzer queryAnalyzer = apiToGraphQLQueryAnalyzerMap.get(apiId);
+        if (queryAnalyzer == null || queryAnalyzer.getSchema() != graphQLSchemaDTO.getGraphQLSchema()) {
+            queryAnalyzer = new QueryAnalyzer(graphQLSchemaDTO.getGraphQLSchema());
+            apiToGraphQLQueryAnalyzerMap.put(apiId, queryAnalyzer);
+        }
+        return queryAnalyzer;
+    }
+
+    /**
+     * Returns the OpenAPI interaction validator of the deployed API, building it on first use. The validator is
+     * shared by the requests of the API, so that the schemas of the definition are resolved only once per deployed
+     * revision.
+     *
+     * @param apiId            UUID of the API
+     * @param openAPI          OpenAPI definition of the deployed revision of the API
+     * @param validatorFactory factory building the validator of an OpenAPI definition
+     * @return validator of the OpenAPI definition
+     */
+    public OpenApiInteractionValidator getOpenAPIValidatorForAPI(String apiId, OpenAPI openAPI,
+                                                                 Function<OpenAPI, OpenApiInteractionValidator>
+                                                                         validatorFactory) {
+
+        Map.Entry<OpenAPI, OpenApiInteractionValidator> validator = apiToOpenAPIValidatorMap.get(apiId);
+        if (validator == null || validator.getKey() != openAPI) {
+            // The definition is parsed again when a revision is deployed, hence a validator built for another
+            // definition object belongs to a revision that is no longer deployed
+            validator = apiToOpenAPIValidatorMap.compute(apiId, (k, existing) ->
+                    existing != null && existing.getKey() == openAPI ? existing
+                            : new AbstractMap.SimpleImmutableEntry<>(openAPI, validatorFactory.apply(openAPI)));
+        }
+        return validator.getValue();
+    }
+
+    public void removeOpenAPIValidatorOfAPI(String apiId) {
+
+        apiToOpenAPIValidatorMap.remove(apiId);
     }
 
     public boolean isAllApisDeployed() {
@@ -188,7 +254,11 @@ public class DataHolder {
 
     public void addKeyManagerToAPIMapping(String uuid, List<String> keyManagers) {
 
-        apiToKeyManagersMap.put(uuid, keyManagers);
+        if (keyManagers == null) {
+            apiToKeyManagersMap.remove(uuid);
+        } else {
+            apiToKeyManagersMap.put(uuid, keyManagers);
+        }
     }
     public void removeKeyManagerToAPIMapping(String uuid) {
 
@@ -217,12 +287,8 @@ public class DataHolder {
         if (index != -1) {
             defaultContext = context.substring(0, index);
         }
-        Map<String, API> apiMap;
-        if (tenantAPIMap.containsKey(api.getOrganization())) {
-            apiMap = tenantAPIMap.get(api.getOrganization());
-        } else {
-            apiMap = new HashMap<>();
-        }
+        Map<String, API> apiMap = tenantAPIMap.computeIfAbsent(api.getOrganization(),
+                organization -> new ConcurrentHashMap<>());
         API oldAPI = apiMap.get(api.getContext());
         if (oldAPI != null) {
             apiMap.remove(api.getContext());
@@ -234,7 +300,6 @@ public class DataHolder {
         if (api.isDefaultVersion()) {
             apiMap.put(defaultContext, api);
         }
-        tenantAPIMap.put(api.getOrganization(), apiMap);
     }
 
     public void markAPIAsDeployed(GatewayAPIDTO gatewayAPIDTO) {
@@ -298,8 +363,8 @@ public class DataHolder {
     }
 
     public void markApisAsUnDeployedInTenant(String tenantDomain) {
-        if (tenantAPIMap.containsKey(tenantDomain)) {
-            Map<String, API> apiMap = tenantAPIMap.get(tenantDomain);
+        Map<String, API> apiMap = tenantAPIMap.get(tenantDomain);
+        if (apiMap != null) {
             apiMap.values().forEach(api -> api.setDeployed(false));
         }
     }
@@ -307,7 +372,8 @@ public class DataHolder {
     private void initializeTenantDeploymentStatusMap() {
         try {
             Set<String> tenants = GatewayUtils.getTenantsToBeDeployed();
-            tenantDeployStatus = tenants.stream().collect(Collectors.toMap(str -> str, str -> false));
+            tenantDeployStatus = tenants.stream().collect(Collectors.toMap(str -> str, str -> false, (a, b) -> a,
+                    ConcurrentHashMap::new));
         } catch (APIManagementException e) {
             log.error("Error while initializing tenant deployment status map", e);
         }
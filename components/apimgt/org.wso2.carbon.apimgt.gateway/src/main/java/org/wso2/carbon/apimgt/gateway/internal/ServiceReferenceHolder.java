@@ -29,6 +29,7 @@ import org.wso2.carbon.apimgt.gateway.utils.redis.RedisCacheUtils;
 import org.wso2.carbon.apimgt.impl.APIManagerAnalyticsConfiguration;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.api.EmbeddingProviderService;
 import org.wso2.carbon.apimgt.api.LLMProviderService;
 import org.wso2.carbon.apimgt.impl.caching.CacheInvalidationService;
 import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
@@ -89,6 +90,7 @@ public class ServiceReferenceHolder {
     private ThrottleDataPublisher throttleDataPublisher;
     private Map<String,AbstractAPIMgtGatewayJWTGenerator> apiMgtGatewayJWTGenerators  = new HashMap<>();
     private Map<String, LLMProviderService> llmProviderServiceMap = new HashMap();
+    private EmbeddingProviderService embeddingProviderService;
     private TracingTracer tracer;
     private TelemetryTracer telemetryTracer;
     private CacheInvalidationService cacheInvalidationService;
@@ -484,6 +486,16 @@ public class ServiceReferenceHolder {
         return llmProviderServiceMap.get(type);
     }
 
+    public void setEmbeddingProviderService(EmbeddingProviderService embeddingProviderService) {
+
+        this.embeddingProviderService = embeddingProviderService;
+    }
+
+    public EmbeddingProviderService getEmbeddingProviderService() {
+
+        return embeddingProviderService;
+    }
+
     public void setWebsocketProcessor(WebSocketProcessor websocketprocessor) {
         this.websocketprocessor = websocketprocessor;
     }
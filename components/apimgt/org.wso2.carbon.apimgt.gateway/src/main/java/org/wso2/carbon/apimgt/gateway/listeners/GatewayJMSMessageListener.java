@@ -54,10 +54,11 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.stratos.common.exception.TenantMgtException;
 import org.wso2.carbon.user.api.UserStoreException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageListener;
@@ -67,6 +68,7 @@ import javax.jms.Topic;
 public class GatewayJMSMessageListener implements MessageListener, JMSConnectionEventListener {
 
     private static final Log log = LogFactory.getLog(GatewayJMSMessageListener.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private boolean debugEnabled = log.isDebugEnabled();
     private boolean refreshOnReconnect = false;
     private InMemoryAPIDeployer inMemoryApiDeployer = new InMemoryAPIDeployer();
@@ -74,7 +76,8 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             .getAPIManagerConfiguration().getEventHubConfigurationDto();
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
             .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
-    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "DeploymentThread"));
+    private GatewayNotificationPipeline notificationPipeline = new GatewayNotificationPipeline(
+            gatewayArtifactSynchronizerProperties.getEventDeploymentConcurrency());
 
     public GatewayJMSMessageListener() {
     }
@@ -86,137 +89,144 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
     public void onMessage(Message message) {
 
         try {
-            if (eventHubConfigurationDto.hasEventWaitingTime()) {
-                long timeLeft = message.getJMSTimestamp() + eventHubConfigurationDto.getEventWaitingTime()
-                        - System.currentTimeMillis();
-                if (log.isDebugEnabled()) {
-                    log.debug("Event Hub waiting time: " + timeLeft);
-                }
-                if (timeLeft > 0) {
-                    Thread.sleep(timeLeft);
-                }
-            }
             if (message != null) {
                 if (log.isDebugEnabled()) {
                     log.debug("Event received in JMS Event Receiver - " + message);
                 }
                 Topic jmsDestination = (Topic) message.getJMSDestination();
                 if (message instanceof TextMessage) {
+                    String topicName = jmsDestination.getTopicName();
                     String textMessage = ((TextMessage) message).getText();
-                    JsonNode payloadData = new ObjectMapper().readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
-                            path(APIConstants.EVENT_PAYLOAD_DATA);
-
-                    if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(jmsDestination.getTopicName())) {
-                        if (payloadData.get(APIConstants.EVENT_TYPE).asText() != null) {
-                            /*
-                             * This message contains notification
-                             * eventType - type of the event
-                             * timestamp - system time of the event published
-                             * event - event data
-                             */
-                            if (debugEnabled) {
-                                log.debug("Event received from the topic of " + jmsDestination.getTopicName());
-                            }
-                            handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
-                        }
-                    } else if (APIConstants.TopicNames.TOPIC_ASYNC_WEBHOOKS_DATA.equalsIgnoreCase
-                            (jmsDestination.getTopicName())) {
-                        String mode = payloadData.get(APIConstants.Webhooks.MODE).asText();
-                        if (APIConstants.Webhooks.SUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
-                            handleAsyncWebhooksSubscriptionMessage(payloadData);
-                        } else if (APIConstants.Webhooks.UNSUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
-                            handleAsyncWebhooksUnSubscriptionMessage(payloadData);
-                        }
+                    if (eventHubConfigurationDto.hasEventWaitingTime()) {
+                        // The consumer is not blocked while the event waits, so that the events received meanwhile
+                        // are acknowledged and queued in the order they are received
+                        notificationPipeline.dispatch(message.getJMSTimestamp()
+                                + eventHubConfigurationDto.getEventWaitingTime(),
+                                () -> processMessage(topicName, textMessage));
+                    } else {
+                        processMessage(topicName, textMessage);
                     }
-
                 } else {
                     log.warn("Event dropped due to unsupported message type " + message.getClass());
                 }
             } else {
                 log.warn("Dropping the empty/null event received through jms receiver");
             }
-        } catch (JMSException | JsonProcessingException e) {
+        } catch (JMSException e) {
             log.error("JMSException occurred when processing the received message ", e);
-        } catch (InterruptedException e) {
-            log.error("Error occurred while waiting to retrieve artifacts from event hub", e);
         }
     }
 
-    private void handleNotificationMessage(String eventType, long timestamp, String encodedEvent) {
-
-        byte[] eventDecoded = Base64.decodeBase64(encodedEvent);
-        String eventJson = new String(eventDecoded);
+    private void processMessage(String topicName, String textMessage) {
 
-        if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
-                || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-            executor.submit(new Runnable() {
-                @Override
-                public void run() {
-
-                    DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(new String(eventDecoded),
-                            DeployAPIInGatewayEvent.class);
-                    String tenantDomain = gatewayEvent.getTenantDomain();
-                    if (!TenantUtils.isTenantAvailable(tenantDomain)){
-                        return;
-                    }
-                    boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                    if (!tenantLoaded) {
-                        String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
-                        synchronized (syncKey.intern()) {
-                            tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                            if (!tenantLoaded) {
-                                APIUtil.loadTenantConfigBlockingMode(tenantDomain);
-                            }
-                        }
+        try {
+            JsonNode payloadData = OBJECT_MAPPER.readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
+                    path(APIConstants.EVENT_PAYLOAD_DATA);
+
+            if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(topicName)) {
+                if (payloadData.get(APIConstants.EVENT_TYPE).asText() != null) {
+                    /*
+                     * This message contains notification
+                     * eventType - type of the event
+                     * timestamp - system time of the event published
+                     * event - event data
+                     */
+                    if (debugEnabled) {
+                        log.debug("Event received from the topic of " + topicName);
                     }
+                    handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
+                            payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong(),
+                            payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                }
+            } else if (APIConstants.TopicNames.TOPIC_ASYNC_WEBHOOKS_DATA.equalsIgnoreCase(topicName)) {
+                String mode = payloadData.get(APIConstants.Webhooks.MODE).asText();
+                if (APIConstants.Webhooks.SUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
+                    handleAsyncWebhooksSubscriptionMessage(payloadData);
+                } else if (APIConstants.Webhooks.UNSUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
+                    handleAsyncWebhooksUnSubscriptionMessage(payloadData);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("JsonProcessingException occurred when processing the received message ", e);
+        }
+    }
 
-                    if (tenantLoaded) {
-                        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
-                        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-                        if (!systemConfiguredGatewayLabels.isEmpty()) {
-                            ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
-                            if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.deployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
-                                            "in the Gateway");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                            }
-                            if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.unDeployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in undeploying artifacts");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                                DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
-                                        gatewayEvent.getTenantDomain());
-                            }
-                        }
+    private void handleDeploymentEvent(String eventType, DeployAPIInGatewayEvent gatewayEvent) {
+
+        String tenantDomain = gatewayEvent.getTenantDomain();
+        if (!TenantUtils.isTenantAvailable(tenantDomain)){
+            return;
+        }
+        boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+        if (!tenantLoaded) {
+            String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
+            synchronized (syncKey.intern()) {
+                tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+                if (!tenantLoaded) {
+                    APIUtil.loadTenantConfigBlockingMode(tenantDomain);
+                }
+            }
+        }
 
-                        if (debugEnabled) {
-                            log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
-                                    gatewayEvent.getUuid() + " is successfully deployed/undeployed");
+        if (tenantLoaded) {
+            Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
+            systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+            if (!systemConfiguredGatewayLabels.isEmpty()) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
+                if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
+                    boolean tenantFlowStarted = false;
+                    try {
+                        startTenantFlow(tenantDomain);
+                        tenantFlowStarted = true;
+                        inMemoryApiDeployer.deployAPI(gatewayEvent);
+                    } catch (ArtifactSynchronizerException e) {
+                        log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
+                                "in the Gateway");
+                    } finally {
+                        if (tenantFlowStarted) {
+                            endTenantFlow();
+                        }
+                    }
+                }
+                if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
+                    boolean tenantFlowStarted = false;
+                    try {
+                        startTenantFlow(tenantDomain);
+                        tenantFlowStarted = true;
+                        inMemoryApiDeployer.unDeployAPI(gatewayEvent);
+                    } catch (ArtifactSynchronizerException e) {
+                        log.error("Error in undeploying artifacts");
+                    } finally {
+                        if (tenantFlowStarted) {
+                            endTenantFlow();
                         }
                     }
+                    DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
+                            gatewayEvent.getTenantDomain());
                 }
-            });
+            }
+
+            if (debugEnabled) {
+                log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
+                        gatewayEvent.getUuid() + " is successfully deployed/undeployed");
+            }
+        }
+    }
+
+    private void handleNotificationMessage(String eventType, long timestamp, String encodedEvent) {
+
+        byte[] eventDecoded = Base64.decodeBase64(encodedEvent);
+        String eventJson = new String(eventDecoded);
+
+        if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
+                || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
+            DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(eventJson, DeployAPIInGatewayEvent.class);
+            List<String> gatewayLabels = gatewayEvent.getGatewayLabels() != null
+                    ? new ArrayList<>(gatewayEvent.getGatewayLabels()) : new ArrayList<>();
+            Collections.sort(gatewayLabels);
+            // A later event of the API for the same gateway labels supersedes the one waiting to be processed
+            notificationPipeline.submitDeployment(gatewayEvent.getUuid(), gatewayLabels.toString(), timestamp,
+                    () -> handleDeploymentEvent(eventType, gatewayEvent));
         }
         if (EventType.APPLICATION_CREATE.toString().equals(eventType)
                 || EventType.APPLICATION_UPDATE.toString().equals(eventType)) {
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pipeline processing the notifications received by the gateway from the event hub, off the JMS consumer thread.
+ * <p>
+ * Notifications to be processed only after the event waiting time are held by a dispatcher thread until they are
+ * due, in the order they are received. API deployment events are queued per API and processed by a pool of workers,
+ * so that the events of an API are processed in order while the events of different APIs are processed in parallel.
+ * An event queued for an API supersedes the event waiting for the same API and gateway labels, as deploying or
+ * undeploying the API as of the latest event makes the former one redundant.
+ * <p>
+ * The number of notifications waiting in the pipeline and the lag from publishing a deployment event to the end of
+ * its processing are reported as metrics. As the artifacts of a tenant are applied to its Synapse configuration one
+ * at a time, the workers only overlap the retrieval and preparation of the artifacts of the same tenant.
+ */
+public class GatewayNotificationPipeline {
+
+    private static final Log log = LogFactory.getLog(GatewayNotificationPipeline.class);
+
+    private final BlockingQueue<DelayedNotification> delayedNotifications = new LinkedBlockingQueue<>();
+    private final Map<String, DeploymentQueue> deploymentQueues = new HashMap<>();
+    private final AtomicInteger pendingDeploymentCount = new AtomicInteger();
+    private final ExecutorService deploymentExecutor;
+    private volatile Thread dispatcherThread;
+
+    /**
+     * @param deploymentConcurrency number of workers processing API deployment events
+     */
+    public GatewayNotificationPipeline(int deploymentConcurrency) {
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        deploymentExecutor = Executors.newFixedThreadPool(Math.max(1, deploymentConcurrency), r -> {
+            Thread thread = new Thread(r, "DeploymentThread-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Processes a notification once it is due. Notifications are processed in the order they are dispatched, hence
+     * are expected to be dispatched in the order of their due times.
+     *
+     * @param dueTime      time in milliseconds after which the notification should be processed
+     * @param notification processing of the notification
+     */
+    public void dispatch(long dueTime, Runnable notification) {
+
+        startDispatcher();
+        delayedNotifications.add(new DelayedNotification(dueTime, notification));
+        updateQueueDepth();
+    }
+
+    /**
+     * Queues an API deployment event to be processed after the events queued before it for the same API, replacing
+     * the event waiting for the same API and gateway labels if any.
+     *
+     * @param apiId         UUID of the API
+     * @param gatewayLabels gateway labels of the event
+     * @param timestamp     time in milliseconds the event was published
+     * @param deployment    processing of the event
+     */
+    public void submitDeployment(String apiId, String gatewayLabels, long timestamp, Runnable deployment) {
+
+        DeploymentTask task = new DeploymentTask(timestamp, deployment);
+        boolean scheduleQueue;
+        DeploymentQueue queue;
+        synchronized (deploymentQueues) {
+            queue = deploymentQueues.get(apiId);
+            if (queue == null) {
+                queue = new DeploymentQueue(apiId);
+                deploymentQueues.put(apiId, queue);
+            }
+            // The superseded event is removed so that the latest one is processed after the events queued before it
+            if (queue.pendingTasks.remove(gatewayLabels) == null) {
+                pendingDeploymentCount.incrementAndGet();
+            } else if (log.isDebugEnabled()) {
+                log.debug("Deployment event of API " + apiId + " for gateway labels " + gatewayLabels
+                        + " is superseded by a later event");
+            }
+            queue.pendingTasks.put(gatewayLabels, task);
+            scheduleQueue = !queue.scheduled;
+            queue.scheduled = true;
+        }
+        updateQueueDepth();
+        if (scheduleQueue) {
+            DeploymentQueue scheduledQueue = queue;
+            deploymentExecutor.execute(() -> processDeployments(scheduledQueue));
+        }
+    }
+
+    /**
+     * @return number of notifications waiting to be dispatched and deployment events waiting to be processed
+     */
+    public int getPendingCount() {
+
+        return delayedNotifications.size() + pendingDeploymentCount.get();
+    }
+
+    private void processDeployments(DeploymentQueue queue) {
+
+        while (true) {
+            DeploymentTask task;
+            synchronized (deploymentQueues) {
+                Iterator<DeploymentTask> pendingTasks = queue.pendingTasks.values().iterator();
+                if (!pendingTasks.hasNext()) {
+                    queue.scheduled = false;
+                    deploymentQueues.remove(queue.apiId);
+                    return;
+                }
+                task = pendingTasks.next();
+                pendingTasks.remove();
+            }
+            pendingDeploymentCount.decrementAndGet();
+            updateQueueDepth();
+            try {
+                task.deployment.run();
+            } catch (RuntimeException e) {
+                log.error("Error while processing deployment event of API " + queue.apiId, e);
+            }
+            getHistogram("DeploymentLag").update(Math.max(0, System.currentTimeMillis() - task.timestamp));
+        }
+    }
+
+    private void startDispatcher() {
+
+        if (dispatcherThread == null) {
+            synchronized (this) {
+                if (dispatcherThread == null) {
+                    Thread thread = new Thread(this::dispatchNotifications, "GatewayNotificationDispatcher");
+                    thread.setDaemon(true);
+                    thread.start();
+                    dispatcherThread = thread;
+                }
+            }
+        }
+    }
+
+    private void dispatchNotifications() {
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                DelayedNotification notification = delayedNotifications.take();
+                long timeLeft = notification.dueTime - System.currentTimeMillis();
+                if (log.isDebugEnabled()) {
+                    log.debug("Event Hub waiting time: " + timeLeft);
+                }
+                if (timeLeft > 0) {
+                    Thread.sleep(timeLeft);
+                }
+                updateQueueDepth();
+                notification.notification.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Error while processing the notification received from the event hub", e);
+            }
+        }
+    }
+
+    private void updateQueueDepth() {
+
+        getHistogram("QueueDepth").update(getPendingCount());
+    }
+
+    protected Histogram getHistogram(String name) {
+
+        return MetricManager.histogram(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), name));
+    }
+
+    private static final class DelayedNotification {
+
+        private final long dueTime;
+        private final Runnable notification;
+
+        private DelayedNotification(long dueTime, Runnable notification) {
+
+            this.dueTime = dueTime;
+            this.notification = notification;
+        }
+    }
+
+    private static final class DeploymentTask {
+
+        private final long timestamp;
+        private final Runnable deployment;
+
+        private DeploymentTask(long timestamp, Runnable deployment) {
+
+            this.timestamp = timestamp;
+            this.deployment = deployment;
+        }
+    }
+
+    /**
+     * Deployment events of an API waiting to be processed, by their gateway labels. A queue is processed by a single
+     * worker at a time.
+     */
+    private static final class DeploymentQueue {
+
+        private final String apiId;
+        private final Map<String, DeploymentTask> pendingTasks = new LinkedHashMap<>();
+        private boolean scheduled;
+
+        private DeploymentQueue(String apiId) {
+
+            this.apiId = apiId;
+        }
+    }
+}
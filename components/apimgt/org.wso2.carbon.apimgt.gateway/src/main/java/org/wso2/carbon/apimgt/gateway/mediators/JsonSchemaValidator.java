@@ -29,16 +29,14 @@ import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerExcepti
 import org.wso2.carbon.apimgt.gateway.threatprotection.AnalyzerHolder;
 import org.wso2.carbon.apimgt.gateway.threatprotection.analyzer.APIMThreatAnalyzer;
 import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.JSONConfig;
+import org.wso2.carbon.apimgt.gateway.threatprotection.utils.RequestPayloadBuffer;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatExceptionHandler;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorConstants;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
 import javax.xml.stream.XMLStreamException;
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Map;
 
 /**
  * This mediator would protect the backend resources from the JSON threat vulnerabilities by validating the
@@ -59,7 +57,7 @@ public class JsonSchemaValidator extends AbstractMediator {
         if (logger.isDebugEnabled()) {
             logger.debug("JSON schema validation mediator is activated...");
         }
-        Map<String, InputStream> inputStreams = null;
+        RequestPayloadBuffer payload = null;
         org.apache.axis2.context.MessageContext axis2MC;
         String apiContext;
         String requestMethod;
@@ -85,13 +83,10 @@ public class JsonSchemaValidator extends AbstractMediator {
             APIMThreatAnalyzer apimThreatAnalyzer = AnalyzerHolder.getAnalyzer(contentType);
             apimThreatAnalyzer.configure(jsonConfig);
             try {
-                inputStreams = GatewayUtils.cloneRequestMessage(messageContext);
-                if (inputStreams != null) {
-                    InputStream inputStreamJson = inputStreams.get(ThreatProtectorConstants.JSON);
-                    BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStreamJson);
-                    apimThreatAnalyzer.analyze(bufferedInputStream, apiContext);
-                    isValid = true;
-                }
+                // The analyzer reads the payload as it arrives, and stops at the first limit exceeded
+                payload = RequestPayloadBuffer.create(messageContext);
+                apimThreatAnalyzer.analyze(payload.newInputStream(), apiContext);
+                isValid = true;
             } catch (APIMThreatAnalyzerException e) {
                 String message = "Request is failed due to a JSON schema validation failure: ";
                 logger.error(message, e);
@@ -111,7 +106,20 @@ public class JsonSchemaValidator extends AbstractMediator {
                 log.debug("JSON Schema Validator: " + APIMgtGatewayConstants.REQUEST_TYPE_FAIL_MSG);
             }
         }
-        GatewayUtils.setOriginalInputStream(inputStreams, axis2MC);
+        if (payload != null) {
+            try {
+                if (isValid) {
+                    payload.setOriginalInputStream(axis2MC);
+                } else {
+                    payload.discard();
+                }
+            } catch (IOException e) {
+                String message = "Error occurred while building the request: ";
+                logger.error(message, e);
+                isValid = GatewayUtils.handleThreat(messageContext, ThreatProtectorConstants.HTTP_SC_CODE,
+                        message + e.getMessage());
+            }
+        }
         if (isValid) {
             try {
                 RelayUtils.buildMessage(axis2MC);
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+import com.jayway.jsonpath.PathNotFoundException;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.apache.synapse.ManagedLifecycle;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.SynapseEnvironment;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.core.axis2.Axis2Sender;
+import org.apache.synapse.mediators.AbstractMediator;
+import org.apache.synapse.transport.nhttp.NhttpConstants;
+import org.apache.synapse.transport.passthru.PassThroughConstants;
+import org.apache.synapse.transport.passthru.util.RelayUtils;
+import org.wso2.carbon.apimgt.api.APIConstants;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.EmbeddingProviderService;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.mediators.semanticcache.CachedResponse;
+import org.wso2.carbon.apimgt.gateway.mediators.semanticcache.SemanticResponseCache;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.core.MediaType;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Semantic response cache for AI APIs. In the request flow, the prompt is embedded with the configured
+ * {@link EmbeddingProviderService} and if a response of a similar enough prompt of the same resource and model is
+ * cached, it is returned to the client without calling the LLM. Otherwise, the response of the LLM is cached in the
+ * response flow by the mediator engaged with the OUT direction.
+ * <p>
+ * Cached responses are only returned for requests with the same generation parameters, such as the temperature and
+ * tools, and by default only to the same consumer, identified by the application, subscriber, key type and end user.
+ * Requests without an authentication context are not cached unless sharing responses across consumers is enabled.
+ * <p>
+ * The similarity threshold, time to live and size limits are properties of the mediator, so that each API can
+ * configure its own. Streaming requests are not cached, and errors while using the cache let the request through.
+ */
+public class SemanticResponseCacheMediator extends AbstractMediator implements ManagedLifecycle {
+
+    private static final Log log = LogFactory.getLog(SemanticResponseCacheMediator.class);
+    private static final String STREAM_JSON_PATH = "$.stream";
+    private static final String PARTITION_SEPARATOR = " ";
+
+    private String direction = APIConstants.AIAPIConstants.TRAFFIC_FLOW_DIRECTION_IN;
+    private double similarityThreshold = 0.95;
+    private long timeToLive = 3600;
+    private int maxEntries = 1000;
+    private long maxMemorySize = 64L * 1024 * 1024;
+    private String promptJsonPath = "$.messages";
+    private String partitionJsonPath = "$.model";
+    private String generationParameterJsonPaths = "$.temperature,$.top_p,$.top_k,$.max_tokens,$.n,$.stop,$.seed,"
+            + "$.presence_penalty,$.frequency_penalty,$.logit_bias,$.tools,$.tool_choice,$.functions,"
+            + "$.function_call,$.response_format";
+    private boolean shareAcrossConsumers = false;
+    private SemanticResponseCache cache;
+
+    /**
+     * Initializes the response cache of the request flow mediator.
+     *
+     * @param synapseEnvironment The Synapse environment instance.
+     */
+    @Override
+    public void init(SynapseEnvironment synapseEnvironment) {
+
+        if (APIConstants.AIAPIConstants.TRAFFIC_FLOW_DIRECTION_IN.equals(direction)) {
+            cache = new SemanticResponseCache(similarityThreshold,
+                    timeToLive * APIConstants.AIAPIConstants.MILLISECONDS_IN_SECOND, maxEntries, maxMemorySize);
+        }
+    }
+
+    /**
+     * Releases the cached responses.
+     */
+    @Override
+    public void destroy() {
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns a cached response for the request, or caches the response of the LLM, depending on the direction.
+     *
+     * @param messageContext the Synapse {@link MessageContext} containing the API request/response
+     * @return {@code false} if the request was served from the cache, {@code true} otherwise
+     */
+    @Override
+    public boolean mediate(MessageContext messageContext) {
+
+        try {
+            if (APIConstants.AIAPIConstants.TRAFFIC_FLOW_DIRECTION_IN.equals(direction)) {
+                return processRequest(messageContext);
+            } else if (APIConstants.AIAPIConstants.TRAFFIC_FLOW_DIRECTION_OUT.equals(direction)) {
+                processResponse(messageContext);
+            }
+        } catch (APIManagementException | IOException | XMLStreamException | JsonPathException e) {
+            log.error("Error while using the semantic response cache. The request is not served from the cache.", e);
+        }
+        return true;
+    }
+
+    private boolean processRequest(MessageContext messageContext)
+            throws APIManagementException, IOException, XMLStreamException {
+
+        EmbeddingProviderService embeddingProviderService =
+                ServiceReferenceHolder.getInstance().getEmbeddingProviderService();
+        if (embeddingProviderService == null || cache == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Semantic response cache is not available as no embedding provider is configured.");
+            }
+            return true;
+        }
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        String payload = getJsonPayload(axis2MessageContext);
+        if (payload == null) {
+            return true;
+        }
+        DocumentContext document = JsonPath.parse(payload);
+        if (Boolean.TRUE.equals(read(document, STREAM_JSON_PATH))) {
+            return true;
+        }
+        String consumer = "";
+        if (!shareAcrossConsumers) {
+            consumer = getConsumer(messageContext);
+            if (consumer == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Semantic response cache is skipped as the consumer of the request is not known.");
+                }
+                return true;
+            }
+        }
+        String prompt = readAsString(document, promptJsonPath, payload);
+        StringBuilder partition = new StringBuilder()
+                .append(axis2MessageContext.getProperty(PassThroughConstants.HTTP_METHOD)).append(PARTITION_SEPARATOR)
+                .append(messageContext.getProperty(APIMgtGatewayConstants.API_ELECTED_RESOURCE))
+                .append(PARTITION_SEPARATOR).append(readAsString(document, partitionJsonPath, ""));
+        if (generationParameterJsonPaths != null) {
+            for (String jsonPath : generationParameterJsonPaths.split(",")) {
+                if (!jsonPath.trim().isEmpty()) {
+                    partition.append(PARTITION_SEPARATOR).append(readAsString(document, jsonPath.trim(), ""));
+                }
+            }
+        }
+        partition.append(PARTITION_SEPARATOR).append(consumer);
+        float[] vector = SemanticResponseCache.toUnitVector(embeddingProviderService.getEmbedding(prompt));
+
+        CachedResponse cachedResponse = cache.get(partition.toString(), vector);
+        if (cachedResponse != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Semantic response cache hit for " + partition);
+            }
+            sendCachedResponse(messageContext, cachedResponse);
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Semantic response cache miss for " + partition);
+        }
+        messageContext.setProperty(APIConstants.AIAPIConstants.SEMANTIC_CACHE_LOOKUP,
+                new CacheLookup(cache, partition.toString(), vector));
+        return true;
+    }
+
+    /**
+     * Returns the consumer of the request made of the application, subscriber, key type and end user, or null if the
+     * request is not authenticated.
+     */
+    private static String getConsumer(MessageContext messageContext) {
+
+        AuthenticationContext authContext = APISecurityUtils.getAuthenticationContext(messageContext);
+        if (authContext == null || !authContext.isAuthenticated()) {
+            return null;
+        }
+        return authContext.getApplicationId() + PARTITION_SEPARATOR + authContext.getSubscriber()
+                + PARTITION_SEPARATOR + authContext.getKeyType() + PARTITION_SEPARATOR + authContext.getUsername();
+    }
+
+    private void processResponse(MessageContext messageContext) throws IOException, XMLStreamException {
+
+        Object lookup = messageContext.getProperty(APIConstants.AIAPIConstants.SEMANTIC_CACHE_LOOKUP);
+        if (!(lookup instanceof CacheLookup)) {
+            return;
+        }
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        Object statusCode = axis2MessageContext.getProperty(NhttpConstants.HTTP_SC);
+        if (!String.valueOf(HttpStatus.SC_OK).equals(String.valueOf(statusCode))) {
+            return;
+        }
+        String payload = getJsonPayload(axis2MessageContext);
+        if (payload == null) {
+            return;
+        }
+        CacheLookup cacheLookup = (CacheLookup) lookup;
+        cacheLookup.cache.put(cacheLookup.partition, cacheLookup.vector, payload,
+                (String) axis2MessageContext.getProperty(APIMgtGatewayConstants.REST_CONTENT_TYPE));
+    }
+
+    private void sendCachedResponse(MessageContext messageContext, CachedResponse cachedResponse)
+            throws AxisFault {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        String contentType = cachedResponse.getContentType() != null ? cachedResponse.getContentType()
+                : MediaType.APPLICATION_JSON;
+        JsonUtil.removeJsonPayload(axis2MessageContext);
+        JsonUtil.getNewJsonPayload(axis2MessageContext, cachedResponse.getPayload(), true, true);
+        axis2MessageContext.setProperty(Constants.Configuration.MESSAGE_TYPE, contentType);
+        axis2MessageContext.setProperty(Constants.Configuration.CONTENT_TYPE, contentType);
+        axis2MessageContext.removeProperty(NhttpConstants.NO_ENTITY_BODY);
+        // Request headers must not be sent back to the client with the cached response
+        axis2MessageContext.setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS,
+                new HashMap<String, String>());
+        axis2MessageContext.setProperty(NhttpConstants.HTTP_SC, HttpStatus.SC_OK);
+        messageContext.setResponse(true);
+        messageContext.setProperty(SynapseConstants.RESPONSE, "true");
+        messageContext.setTo(null);
+        Axis2Sender.sendBack(messageContext);
+    }
+
+    private String getJsonPayload(org.apache.axis2.context.MessageContext axis2MessageContext)
+            throws IOException, XMLStreamException {
+
+        String contentType = (String) axis2MessageContext.getProperty(APIMgtGatewayConstants.REST_CONTENT_TYPE);
+        if (contentType == null || !contentType.toLowerCase().contains(MediaType.APPLICATION_JSON)) {
+            return null;
+        }
+        RelayUtils.buildMessage(axis2MessageContext);
+        if (!JsonUtil.hasAJsonPayload(axis2MessageContext)) {
+            return null;
+        }
+        return JsonUtil.jsonPayloadToString(axis2MessageContext);
+    }
+
+    private static Object read(DocumentContext document, String jsonPath) {
+
+        try {
+            return document.read(jsonPath);
+        } catch (PathNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static String readAsString(DocumentContext document, String jsonPath, String defaultValue) {
+
+        Object value = read(document, jsonPath);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Map || value instanceof List) {
+            return JsonPath.parse(value).jsonString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Indicates whether this mediator is content-aware.
+     *
+     * @return true as the request and response payloads are read.
+     */
+    @Override
+    public boolean isContentAware() {
+
+        return true;
+    }
+
+    public String getDirection() {
+
+        return direction;
+    }
+
+    /**
+     * Sets the direction of traffic flow.
+     *
+     * @param direction IN to look up the cache for requests, OUT to cache the responses
+     */
+    public void setDirection(String direction) {
+
+        this.direction = direction;
+    }
+
+    public double getSimilarityThreshold() {
+
+        return similarityThreshold;
+    }
+
+    /**
+     * Sets the minimum cosine similarity of the prompts for a cached response to be returned.
+     *
+     * @param similarityThreshold similarity threshold between 0 and 1
+     */
+    public void setSimilarityThreshold(double similarityThreshold) {
+
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    public long getTimeToLive() {
+
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time a response is kept in the cache.
+     *
+     * @param timeToLive time to live in seconds
+     */
+    public void setTimeToLive(long timeToLive) {
+
+        this.timeToLive = timeToLive;
+    }
+
+    public int getMaxEntries() {
+
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of cached responses.
+     *
+     * @param maxEntries maximum number of cached responses
+     */
+    public void setMaxEntries(int maxEntries) {
+
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxMemorySize() {
+
+        return maxMemorySize;
+    }
+
+    /**
+     * Sets the maximum approximate memory taken by the cached responses.
+     *
+     * @param maxMemorySize maximum memory in bytes
+     */
+    public void setMaxMemorySize(long maxMemorySize) {
+
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    public String getPromptJsonPath() {
+
+        return promptJsonPath;
+    }
+
+    /**
+     * Sets the JSON path of the request payload holding the prompt to embed. The whole payload is embedded if the
+     * path is not found.
+     *
+     * @param promptJsonPath JSON path of the prompt
+     */
+    public void setPromptJsonPath(String promptJsonPath) {
+
+        this.promptJsonPath = promptJsonPath;
+    }
+
+    public String getPartitionJsonPath() {
+
+        return partitionJsonPath;
+    }
+
+    /**
+     * Sets the JSON path of the request payload holding a value that must match exactly for a cached response to
+     * be returned, such as the model.
+     *
+     * @param partitionJsonPath JSON path of the partition value
+     */
+    public void setPartitionJsonPath(String partitionJsonPath) {
+
+        this.partitionJsonPath = partitionJsonPath;
+    }
+
+    public String getGenerationParameterJsonPaths() {
+
+        return generationParameterJsonPaths;
+    }
+
+    /**
+     * Sets the comma separated JSON paths of the request payload holding generation parameters, such as the
+     * temperature and tools, that must match exactly for a cached response to be returned.
+     *
+     * @param generationParameterJsonPaths comma separated JSON paths of the generation parameters
+     */
+    public void setGenerationParameterJsonPaths(String generationParameterJsonPaths) {
+
+        this.generationParameterJsonPaths = generationParameterJsonPaths;
+    }
+
+    public boolean isShareAcrossConsumers() {
+
+        return shareAcrossConsumers;
+    }
+
+    /**
+     * Sets whether cached responses are returned to any consumer of the API instead of only to the application,
+     * subscriber and end user that received them. Only enable this when responses do not depend on the consumer.
+     *
+     * @param shareAcrossConsumers true to share cached responses across consumers
+     */
+    public void setShareAcrossConsumers(boolean shareAcrossConsumers) {
+
+        this.shareAcrossConsumers = shareAcrossConsumers;
+    }
+
+    /**
+     * Request state kept in the message context for the response flow to cache the response.
+     */
+    private static final class CacheLookup {
+
+        private final SemanticResponseCache cache;
+        private final String partition;
+        private final float[] vector;
+
+        private CacheLookup(SemanticResponseCache cache, String partition, float[] vector) {
+
+            this.cache = cache;
+            this.partition = partition;
+            this.vector = vector;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache of the compiled XML schemas the request payloads of APIs are validated against, keyed by the URL of the
+ * XSD. A schema is fetched and compiled once, instead of for every request, and the documents it imports or
+ * includes are fetched once per compilation by a local resolver.
+ * <p>
+ * Once the refresh interval of a schema has elapsed, the XSD is fetched again in the background while requests keep
+ * being validated against the cached schema, and the schema is compiled again only if the content of the XSD has
+ * changed. Schemas are compiled again, along with the documents they import, after the expiry time, on the request
+ * thread. The least recently used schemas are evicted to keep the cache within its maximum size.
+ * <p>
+ * Validators are not thread safe, hence each thread validating against a schema reuses a validator of its own.
+ */
+public class XMLSchemaCache {
+
+    private static final Log log = LogFactory.getLog(XMLSchemaCache.class);
+    private static final String SHA_256 = "SHA-256";
+    private static final int DEFAULT_MAX_SCHEMAS = 100;
+    private static final long DEFAULT_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+    private static final long DEFAULT_EXPIRY_TIME = TimeUnit.MINUTES.toMillis(30);
+    private static final XMLSchemaCache instance = new XMLSchemaCache(DEFAULT_MAX_SCHEMAS, DEFAULT_REFRESH_INTERVAL,
+            DEFAULT_EXPIRY_TIME);
+
+    private final long refreshIntervalNanos;
+    private final long expiryNanos;
+    private final Map<String, CachedSchema> schemas;
+    private final Map<String, FutureTask<CachedSchema>> inFlightLoads = new ConcurrentHashMap<>();
+    private volatile ExecutorService refreshExecutor;
+
+    /**
+     * @param maxSchemas            maximum number of schemas cached
+     * @param refreshIntervalMillis time in milliseconds after which a schema is refreshed in the background
+     * @param expiryMillis          time in milliseconds after which a schema is compiled again
+     */
+    XMLSchemaCache(final int maxSchemas, long refreshIntervalMillis, long expiryMillis) {
+
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+        this.expiryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(refreshIntervalMillis, expiryMillis));
+        this.schemas = new LinkedHashMap<String, CachedSchema>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSchema> eldest) {
+
+                return size() > maxSchemas;
+            }
+        };
+    }
+
+    public static XMLSchemaCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Validates an XML document against the XSD at the given URL.
+     *
+     * @param xsdURL URL of the XSD
+     * @param source XML document to be validated
+     * @throws SAXException if the document is not valid or the XSD can not be compiled
+     * @throws IOException  if the document or the XSD can not be read
+     */
+    public void validate(String xsdURL, Source source) throws SAXException, IOException {
+
+        Validator validator = getCachedSchema(xsdURL).validators.get();
+        validator.reset();
+        validator.validate(source);
+    }
+
+    /**
+     * Returns the compiled schema of the XSD at the given URL.
+     *
+     * @param xsdURL URL of the XSD
+     * @return compiled schema
+     * @throws SAXException if the XSD can not be compiled
+     * @throws IOException  if the XSD can not be read
+     */
+    public Schema getSchema(String xsdURL) throws SAXException, IOException {
+
+        return getCachedSchema(xsdURL).schema;
+    }
+
+    /**
+     * Removes all the cached schemas.
+     */
+    public void clear() {
+
+        synchronized (schemas) {
+            schemas.clear();
+        }
+    }
+
+    private CachedSchema getCachedSchema(String xsdURL) throws SAXException, IOException {
+
+        CachedSchema cachedSchema;
+        synchronized (schemas) {
+            cachedSchema = schemas.get(xsdURL);
+        }
+        if (cachedSchema != null) {
+            long now = System.nanoTime();
+            if (now - cachedSchema.compiledTime <= expiryNanos) {
+                if (now - cachedSchema.fetchedTime > refreshIntervalNanos
+                        && cachedSchema.refreshing.compareAndSet(false, true)) {
+                    refresh(xsdURL, cachedSchema);
+                }
+                return cachedSchema;
+            }
+        }
+        // The schema is compiled again once it expires, so that the documents it imports are fetched again
+        return load(xsdURL, null);
+    }
+
+    private void refresh(final String xsdURL, final CachedSchema cachedSchema) {
+
+        getRefreshExecutor().execute(() -> {
+            try {
+                load(xsdURL, cachedSchema);
+            } catch (SAXException | IOException e) {
+                // The schema is not refreshed again, and is fetched on the request thread once it expires
+                log.warn("Error while refreshing the XML schema " + xsdURL + ". The cached schema is used until it"
+                        + " expires.", e);
+            }
+        });
+    }
+
+    /**
+     * Fetches the XSD and compiles it unless its content is the same as that of the given schema. Concurrent loads
+     * of the same XSD are done only once.
+     */
+    private CachedSchema load(final String xsdURL, final CachedSchema previous) throws SAXException, IOException {
+
+        FutureTask<CachedSchema> load = new FutureTask<>(() -> fetchAndCompile(xsdURL, previous));
+        FutureTask<CachedSchema> inFlightLoad = inFlightLoads.putIfAbsent(xsdURL, load);
+        if (inFlightLoad == null) {
+            try {
+                load.run();
+            } finally {
+                inFlightLoads.remove(xsdURL, load);
+            }
+            inFlightLoad = load;
+        }
+        try {
+            return inFlightLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading the XML schema " + xsdURL, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SAXException) {
+                throw (SAXException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Error while loading the XML schema " + xsdURL, cause);
+        }
+    }
+
+    private CachedSchema fetchAndCompile(String xsdURL, CachedSchema previous) throws SAXException, IOException {
+
+        byte[] content = fetch(xsdURL);
+        byte[] hash = getDigest().digest(content);
+        CachedSchema cachedSchema;
+        if (previous != null && Arrays.equals(previous.hash, hash)) {
+            cachedSchema = new CachedSchema(previous, System.nanoTime());
+        } else {
+            long startTime = System.nanoTime();
+            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schemaFactory.setResourceResolver(new LocalResourceResolver());
+            Schema schema = schemaFactory.newSchema(new StreamSource(new ByteArrayInputStream(content), xsdURL));
+            cachedSchema = new CachedSchema(schema, hash, System.nanoTime());
+            if (log.isDebugEnabled()) {
+                log.debug("Compiled the XML schema " + xsdURL + " in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+            }
+        }
+        synchronized (schemas) {
+            schemas.put(xsdURL, cachedSchema);
+        }
+        return cachedSchema;
+    }
+
+    private static byte[] fetch(String url) throws IOException {
+
+        try (InputStream inputStream = new URL(url).openStream()) {
+            return IOUtils.toByteArray(inputStream);
+        }
+    }
+
+    private static MessageDigest getDigest() throws IOException {
+
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Error while creating the digest of the XML schema", e);
+        }
+    }
+
+    private ExecutorService getRefreshExecutor() {
+
+        if (refreshExecutor == null) {
+            synchronized (this) {
+                if (refreshExecutor == null) {
+                    refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "XMLSchemaRefresher");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return refreshExecutor;
+    }
+
+    /**
+     * Compiled schema of an XSD, along with the hash of the content of the XSD and the validators of the threads
+     * validating against it.
+     */
+    private static final class CachedSchema {
+
+        private final Schema schema;
+        private final byte[] hash;
+        private final long compiledTime;
+        private final long fetchedTime;
+        private final ThreadLocal<Validator> validators;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedSchema(Schema schema, byte[] hash, long compiledTime) {
+
+            this.schema = schema;
+            this.hash = hash;
+            this.compiledTime = compiledTime;
+            this.fetchedTime = compiledTime;
+            this.validators = ThreadLocal.withInitial(schema::newValidator);
+        }
+
+        private CachedSchema(CachedSchema unchanged, long fetchedTime) {
+
+            this.schema = unchanged.schema;
+            this.hash = unchanged.hash;
+            this.compiledTime = unchanged.compiledTime;
+            this.fetchedTime = fetchedTime;
+            this.validators = unchanged.validators;
+        }
+    }
+
+    /**
+     * Resolves the documents imported or included by an XSD while it is compiled, fetching each of them only once.
+     */
+    private static final class LocalResourceResolver implements LSResourceResolver {
+
+        private final Map<String, byte[]> documents = new HashMap<>();
+
+        @Override
+        public LSInput resolveResource(String type, String namespaceURI, String publicId, String systemId,
+                                       String baseURI) {
+
+            if (systemId == null) {
+                return null;
+            }
+            String location;
+            try {
+                location = baseURI != null ? new URI(baseURI).resolve(systemId).toString() : systemId;
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                location = systemId;
+            }
+            byte[] document = documents.get(location);
+            if (document == null) {
+                try {
+                    document = fetch(location);
+                } catch (IOException e) {
+                    // The document is left to be resolved and reported by the schema factory
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error while fetching the XML schema " + location, e);
+                    }
+                    return null;
+                }
+                documents.put(location, document);
+            }
+            return new ResolvedInput(publicId, location, baseURI, document);
+        }
+    }
+
+    /**
+     * Document resolved by the {@link LocalResourceResolver}.
+     */
+    private static final class ResolvedInput implements LSInput {
+
+        private String publicId;
+        private String systemId;
+        private String baseURI;
+        private final byte[] document;
+
+        private ResolvedInput(String publicId, String systemId, String baseURI, byte[] document) {
+
+            this.publicId = publicId;
+            this.systemId = systemId;
+            this.baseURI = baseURI;
+            this.document = document;
+        }
+
+        @Override
+        public Reader getCharacterStream() {
+
+            return null;
+        }
+
+        @Override
+        public void setCharacterStream(Reader characterStream) {
+
+        }
+
+        @Override
+        public InputStream getByteStream() {
+
+            return new ByteArrayInputStream(document);
+        }
+
+        @Override
+        public void setByteStream(InputStream byteStream) {
+
+        }
+
+        @Override
+        public String getStringData() {
+
+            return null;
+        }
+
+        @Override
+        public void setStringData(String stringData) {
+
+        }
+
+        @Override
+        public String getSystemId() {
+
+            return systemId;
+        }
+
+        @Override
+        public void setSystemId(String systemId) {
+
+            this.systemId = systemId;
+        }
+
+        @Override
+        public String getPublicId() {
+
+            return publicId;
+        }
+
+        @Override
+        public void setPublicId(String publicId) {
+
+            this.publicId = publicId;
+        }
+
+        @Override
+        public String getBaseURI() {
+
+            return baseURI;
+        }
+
+        @Override
+        public void setBaseURI(String baseURI) {
+
+            this.baseURI = baseURI;
+        }
+
+        @Override
+        public String getEncoding() {
+
+            return null;
+        }
+
+        @Override
+        public void setEncoding(String encoding) {
+
+        }
+
+        @Override
+        public boolean getCertifiedText() {
+
+            return false;
+        }
+
+        @Override
+        public void setCertifiedText(boolean certifiedText) {
+
+        }
+    }
+}
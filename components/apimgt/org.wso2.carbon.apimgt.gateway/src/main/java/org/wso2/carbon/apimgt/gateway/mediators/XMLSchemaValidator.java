@@ -29,24 +29,18 @@ import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerExcepti
 import org.wso2.carbon.apimgt.gateway.threatprotection.AnalyzerHolder;
 import org.wso2.carbon.apimgt.gateway.threatprotection.analyzer.APIMThreatAnalyzer;
 import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.XMLConfig;
+import org.wso2.carbon.apimgt.gateway.threatprotection.utils.RequestPayloadBuffer;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatExceptionHandler;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorConstants;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
-import java.util.Map;
 
 /**
  * This mediator would protect the backend resources from the XML threat vulnerabilities by validating the
@@ -66,9 +60,7 @@ public class XMLSchemaValidator extends AbstractMediator {
         if (logger.isDebugEnabled()) {
             logger.debug("XML validation mediator is activated...");
         }
-        InputStream inputStreamSchema;
-        InputStream inputStreamXml;
-        Map<String, InputStream> inputStreams = null;
+        RequestPayloadBuffer payload = null;
         Boolean xmlValidationStatus;
         Boolean schemaValidationStatus;
         APIMThreatAnalyzer apimThreatAnalyzer = null;
@@ -90,27 +82,23 @@ public class XMLSchemaValidator extends AbstractMediator {
                 (ThreatProtectorConstants.APPLICATION_XML.equals(contentType) ||
                         ThreatProtectorConstants.TEXT_XML.equals(contentType))) {
             try {
-                inputStreams = GatewayUtils.cloneRequestMessage(messageContext);
-                if (inputStreams != null) {
-                    Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XML_VALIDATION);
-                    if (messageProperty != null) {
-                        xmlValidationStatus = Boolean.valueOf(messageProperty.toString());
-                        if (xmlValidationStatus.equals(true)) {
-                            XMLConfig xmlConfig = configureSchemaProperties(messageContext);
-                            apimThreatAnalyzer = AnalyzerHolder.getAnalyzer(contentType);
-                            apimThreatAnalyzer.configure(xmlConfig);
-                            inputStreamXml = inputStreams.get(ThreatProtectorConstants.XML);
-                            apimThreatAnalyzer.analyze(inputStreamXml, apiContext);
-                        }
+                // The payload is read as it is analyzed and validated, and is buffered only once for both
+                payload = RequestPayloadBuffer.create(messageContext);
+                Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XML_VALIDATION);
+                if (messageProperty != null) {
+                    xmlValidationStatus = Boolean.valueOf(messageProperty.toString());
+                    if (xmlValidationStatus.equals(true)) {
+                        XMLConfig xmlConfig = configureSchemaProperties(messageContext);
+                        apimThreatAnalyzer = AnalyzerHolder.getAnalyzer(contentType);
+                        apimThreatAnalyzer.configure(xmlConfig);
+                        apimThreatAnalyzer.analyze(payload.newInputStream(), apiContext);
                     }
-                    messageProperty = messageContext.getProperty(APIMgtGatewayConstants.SCHEMA_VALIDATION);
-                    if (messageProperty != null) {
-                        schemaValidationStatus = Boolean.valueOf(messageProperty.toString());
-                        if (schemaValidationStatus.equals(true)) {
-                            inputStreamSchema = inputStreams.get(ThreatProtectorConstants.SCHEMA);
-                            BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStreamSchema);
-                            validateSchema(messageContext, bufferedInputStream);
-                        }
+                }
+                messageProperty = messageContext.getProperty(APIMgtGatewayConstants.SCHEMA_VALIDATION);
+                if (messageProperty != null) {
+                    schemaValidationStatus = Boolean.valueOf(messageProperty.toString());
+                    if (schemaValidationStatus.equals(true)) {
+                        validateSchema(messageContext, payload.newInputStream());
                     }
                 }
             } catch (APIMThreatAnalyzerException e) {
@@ -130,7 +118,19 @@ public class XMLSchemaValidator extends AbstractMediator {
                 log.debug("XML Schema Validator: " + APIMgtGatewayConstants.REQUEST_TYPE_FAIL_MSG);
             }
         }
-        GatewayUtils.setOriginalInputStream(inputStreams, axis2MC);
+        if (payload != null) {
+            try {
+                if (validRequest) {
+                    payload.setOriginalInputStream(axis2MC);
+                } else {
+                    payload.discard();
+                }
+            } catch (IOException e) {
+                validRequest = false;
+                logger.error(APIMgtGatewayConstants.BAD_REQUEST, e);
+                GatewayUtils.handleThreat(messageContext, ThreatProtectorConstants.HTTP_SC_CODE, e.getMessage());
+            }
+        }
         if (validRequest) {
             try {
                 RelayUtils.buildMessage(axis2MC);
@@ -258,14 +258,12 @@ public class XMLSchemaValidator extends AbstractMediator {
      *
      * @param messageContext      This message context contains the request message properties of the relevant
      *                            API which was enabled the XML_Validator message mediation in flow.
-     * @param bufferedInputStream Buffered input stream to be validated.
+     * @param inputStream         Input stream to be validated.
      * @throws APIMThreatAnalyzerException Exception might be occurred while parsing the xml payload.
      */
-    private boolean validateSchema(MessageContext messageContext, BufferedInputStream bufferedInputStream)
+    private boolean validateSchema(MessageContext messageContext, InputStream inputStream)
             throws APIMThreatAnalyzerException {
         String xsdURL;
-        Schema schema;
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         try {
             Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XSD_URL);
             if (messageProperty == null) {
@@ -275,11 +273,8 @@ public class XMLSchemaValidator extends AbstractMediator {
                     return true;
                 } else {
                     xsdURL = String.valueOf(messageProperty);
-                    URL schemaFile = new URL(xsdURL);
-                    schema = schemaFactory.newSchema(schemaFile);
-                    Source xmlFile = new StreamSource(bufferedInputStream);
-                    Validator validator = schema.newValidator();
-                    validator.validate(xmlFile);
+                    Source xmlFile = new StreamSource(inputStream);
+                    XMLSchemaCache.getInstance().validate(xsdURL, xmlFile);
                 }
             }
         } catch (SAXException | IOException e) {
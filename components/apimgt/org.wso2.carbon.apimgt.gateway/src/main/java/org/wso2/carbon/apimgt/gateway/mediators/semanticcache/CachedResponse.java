@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators.semanticcache;
+
+/**
+ * LLM response held in the {@link SemanticResponseCache}.
+ */
+public class CachedResponse {
+
+    /**
+     * Approximate memory taken by an entry apart from its vector and strings, including its index links.
+     */
+    private static final long ENTRY_OVERHEAD = 512;
+
+    private final String partition;
+    private final String payload;
+    private final String contentType;
+    private final long expiryTime;
+    private final long size;
+    private volatile long lastAccessTime;
+    private HnswVectorIndex.Node<CachedResponse> node;
+
+    CachedResponse(String partition, float[] vector, String payload, String contentType, long createdTime,
+                   long expiryTime) {
+
+        this.partition = partition;
+        this.payload = payload;
+        this.contentType = contentType;
+        this.expiryTime = expiryTime;
+        this.lastAccessTime = createdTime;
+        this.size = ENTRY_OVERHEAD + (long) vector.length * Float.BYTES
+                + 2L * (payload.length() + partition.length() + (contentType != null ? contentType.length() : 0));
+    }
+
+    /**
+     * @return cached response payload
+     */
+    public String getPayload() {
+
+        return payload;
+    }
+
+    /**
+     * @return content type of the cached response payload
+     */
+    public String getContentType() {
+
+        return contentType;
+    }
+
+    String getPartition() {
+
+        return partition;
+    }
+
+    long getSize() {
+
+        return size;
+    }
+
+    boolean isExpired(long now) {
+
+        return now >= expiryTime;
+    }
+
+    long getLastAccessTime() {
+
+        return lastAccessTime;
+    }
+
+    void setLastAccessTime(long lastAccessTime) {
+
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    HnswVectorIndex.Node<CachedResponse> getNode() {
+
+        return node;
+    }
+
+    void setNode(HnswVectorIndex.Node<CachedResponse> node) {
+
+        this.node = node;
+    }
+}
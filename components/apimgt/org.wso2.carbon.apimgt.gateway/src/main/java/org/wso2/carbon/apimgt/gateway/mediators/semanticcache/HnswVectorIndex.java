@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators.semanticcache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * In memory approximate nearest neighbour index over unit length float vectors, based on Hierarchical Navigable
+ * Small World graphs. Similarity is the dot product of the vectors, which is the cosine similarity as the vectors
+ * are expected to be normalized.
+ * <p>
+ * Removed nodes are only marked as deleted so that they can still be used to navigate the graph, and the graph is
+ * rebuilt from the remaining nodes once more than half of the nodes are deleted. This class is not thread safe and
+ * callers are expected to guard it.
+ *
+ * @param <T> type of the value held by each vector
+ */
+final class HnswVectorIndex<T> {
+
+    static final int DEFAULT_MAX_CONNECTIONS = 16;
+    static final int DEFAULT_EF_CONSTRUCTION = 100;
+    static final int DEFAULT_EF_SEARCH = 50;
+    private static final int MAX_LEVEL = 16;
+    private static final int MIN_DELETED_NODES_TO_REBUILD = 16;
+
+    private static final Comparator<Candidate<?>> MOST_SIMILAR_FIRST =
+            (a, b) -> Float.compare(b.similarity, a.similarity);
+    private static final Comparator<Candidate<?>> LEAST_SIMILAR_FIRST =
+            (a, b) -> Float.compare(a.similarity, b.similarity);
+
+    private final int dimension;
+    private final int maxConnections;
+    private final int maxConnectionsLayer0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random;
+    private final List<Node<T>> nodes = new ArrayList<>();
+    private Node<T> entryPoint;
+    private int deletedCount;
+
+    HnswVectorIndex(int dimension) {
+
+        this(dimension, DEFAULT_MAX_CONNECTIONS, DEFAULT_EF_CONSTRUCTION, DEFAULT_EF_SEARCH, new Random());
+    }
+
+    HnswVectorIndex(int dimension, int maxConnections, int efConstruction, int efSearch, Random random) {
+
+        this.dimension = dimension;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsLayer0 = maxConnections * 2;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1 / Math.log(maxConnections);
+        this.random = random;
+    }
+
+    /**
+     * Adds a vector to the index.
+     *
+     * @param vector unit length vector of the index dimension
+     * @param value  value held by the vector
+     * @return node of the vector, which can be used to remove it
+     */
+    Node<T> add(float[] vector, T value) {
+
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Expected a vector of dimension " + dimension + " but found "
+                    + vector.length);
+        }
+        Node<T> node = new Node<>(vector, value, randomLevel());
+        insert(node);
+        return node;
+    }
+
+    /**
+     * Removes a node from the index.
+     *
+     * @param node node returned when the vector was added
+     */
+    void remove(Node<T> node) {
+
+        if (node.deleted) {
+            return;
+        }
+        node.deleted = true;
+        deletedCount++;
+        if (deletedCount == nodes.size()) {
+            nodes.clear();
+            entryPoint = null;
+            deletedCount = 0;
+        } else if (deletedCount >= MIN_DELETED_NODES_TO_REBUILD && deletedCount * 2 > nodes.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Searches the vectors most similar to the given vector.
+     *
+     * @param query unit length vector of the index dimension
+     * @param count maximum number of matches to return
+     * @return matches ordered from the most similar to the least similar
+     */
+    List<Match<T>> search(float[] query, int count) {
+
+        if (entryPoint == null || query.length != dimension) {
+            return Collections.emptyList();
+        }
+        Node<T> current = entryPoint;
+        for (int layer = entryPoint.level; layer > 0; layer--) {
+            current = greedySearch(query, current, layer);
+        }
+        PriorityQueue<Candidate<T>> found = searchLayer(query, current, 0, Math.max(efSearch, count));
+        List<Candidate<T>> candidates = new ArrayList<>(found);
+        candidates.sort(MOST_SIMILAR_FIRST);
+        List<Match<T>> matches = new ArrayList<>(Math.min(count, candidates.size()));
+        for (Candidate<T> candidate : candidates) {
+            if (!candidate.node.deleted) {
+                matches.add(new Match<>(candidate.node.value, candidate.similarity));
+                if (matches.size() == count) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return number of vectors in the index
+     */
+    int size() {
+
+        return nodes.size() - deletedCount;
+    }
+
+    int getDimension() {
+
+        return dimension;
+    }
+
+    private void insert(Node<T> node) {
+
+        node.id = nodes.size();
+        node.links = new int[node.level + 1][];
+        node.linkCounts = new int[node.level + 1];
+        for (int layer = 0; layer <= node.level; layer++) {
+            node.links[layer] = new int[(layer == 0 ? maxConnectionsLayer0 : maxConnections) + 1];
+        }
+        nodes.add(node);
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+        Node<T> current = entryPoint;
+        for (int layer = entryPoint.level; layer > node.level; layer--) {
+            current = greedySearch(node.vector, current, layer);
+        }
+        for (int layer = Math.min(node.level, entryPoint.level); layer >= 0; layer--) {
+            List<Candidate<T>> neighbours = new ArrayList<>(searchLayer(node.vector, current, layer,
+                    efConstruction));
+            neighbours.sort(MOST_SIMILAR_FIRST);
+            int connections = Math.min(neighbours.size(), maxConnections);
+            for (int i = 0; i < connections; i++) {
+                Candidate<T> neighbour = neighbours.get(i);
+                connect(node, neighbour.node, layer);
+                connect(neighbour.node, node, layer);
+            }
+            current = neighbours.get(0).node;
+        }
+        if (node.level > entryPoint.level) {
+            entryPoint = node;
+        }
+    }
+
+    private Node<T> greedySearch(float[] query, Node<T> start, int layer) {
+
+        Node<T> current = start;
+        float currentSimilarity = similarity(query, current.vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] links = current.links[layer];
+            for (int i = 0, count = current.linkCounts[layer]; i < count; i++) {
+                Node<T> neighbour = nodes.get(links[i]);
+                float neighbourSimilarity = similarity(query, neighbour.vector);
+                if (neighbourSimilarity > currentSimilarity) {
+                    current = neighbour;
+                    currentSimilarity = neighbourSimilarity;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best first search of a single layer, returning up to ef nodes with the least similar one at the head.
+     */
+    private PriorityQueue<Candidate<T>> searchLayer(float[] query, Node<T> start, int layer, int ef) {
+
+        BitSet visited = new BitSet(nodes.size());
+        visited.set(start.id);
+        Candidate<T> first = new Candidate<>(start, similarity(query, start.vector));
+        PriorityQueue<Candidate<T>> candidates = new PriorityQueue<>(MOST_SIMILAR_FIRST);
+        PriorityQueue<Candidate<T>> results = new PriorityQueue<>(LEAST_SIMILAR_FIRST);
+        candidates.add(first);
+        results.add(first);
+        while (!candidates.isEmpty()) {
+            Candidate<T> candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity < results.peek().similarity) {
+                break;
+            }
+            int[] links = candidate.node.links[layer];
+            for (int i = 0, count = candidate.node.linkCounts[layer]; i < count; i++) {
+                int neighbourId = links[i];
+                if (visited.get(neighbourId)) {
+                    continue;
+                }
+                visited.set(neighbourId);
+                Node<T> neighbour = nodes.get(neighbourId);
+                float neighbourSimilarity = similarity(query, neighbour.vector);
+                if (results.size() < ef || neighbourSimilarity > results.peek().similarity) {
+                    Candidate<T> next = new Candidate<>(neighbour, neighbourSimilarity);
+                    candidates.add(next);
+                    results.add(next);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Adds a directed link, keeping only the most similar neighbours once the node has too many links.
+     */
+    private void connect(Node<T> from, Node<T> to, int layer) {
+
+        int[] links = from.links[layer];
+        int count = from.linkCounts[layer];
+        links[count++] = to.id;
+        int limit = links.length - 1;
+        if (count > limit) {
+            int leastSimilar = 0;
+            float leastSimilarity = Float.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                float linkSimilarity = similarity(from.vector, nodes.get(links[i]).vector);
+                if (linkSimilarity < leastSimilarity) {
+                    leastSimilarity = linkSimilarity;
+                    leastSimilar = i;
+                }
+            }
+            links[leastSimilar] = links[--count];
+        }
+        from.linkCounts[layer] = count;
+    }
+
+    private void rebuild() {
+
+        List<Node<T>> liveNodes = new ArrayList<>(nodes.size() - deletedCount);
+        for (Node<T> node : nodes) {
+            if (!node.deleted) {
+                liveNodes.add(node);
+            }
+        }
+        nodes.clear();
+        entryPoint = null;
+        deletedCount = 0;
+        for (Node<T> node : liveNodes) {
+            insert(node);
+        }
+    }
+
+    private int randomLevel() {
+
+        double level = -Math.log(1 - random.nextDouble()) * levelMultiplier;
+        return (int) Math.min(level, MAX_LEVEL);
+    }
+
+    private static float similarity(float[] a, float[] b) {
+
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Vector stored in the index.
+     */
+    static final class Node<T> {
+
+        private final float[] vector;
+        private final T value;
+        private final int level;
+        private int id;
+        private int[][] links;
+        private int[] linkCounts;
+        private boolean deleted;
+
+        private Node(float[] vector, T value, int level) {
+
+            this.vector = vector;
+            this.value = value;
+            this.level = level;
+        }
+
+        T getValue() {
+
+            return value;
+        }
+    }
+
+    /**
+     * Result of a search.
+     */
+    static final class Match<T> {
+
+        private final T value;
+        private final float similarity;
+
+        private Match(T value, float similarity) {
+
+            this.value = value;
+            this.similarity = similarity;
+        }
+
+        T getValue() {
+
+            return value;
+        }
+
+        float getSimilarity() {
+
+            return similarity;
+        }
+    }
+
+    private static final class Candidate<T> {
+
+        private final Node<T> node;
+        private final float similarity;
+
+        private Candidate(Node<T> node, float similarity) {
+
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
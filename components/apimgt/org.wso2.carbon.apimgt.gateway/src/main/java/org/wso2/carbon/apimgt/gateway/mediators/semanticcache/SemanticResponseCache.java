@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators.semanticcache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cache of LLM responses looked up by the similarity of the embedding of the prompt. Responses are grouped into
+ * partitions (e.g. resource and model) and a lookup only matches responses of the same partition whose cosine
+ * similarity to the prompt is at least the configured threshold.
+ * <p>
+ * Entries expire after the configured time to live. Once the number of entries or the approximate memory taken by
+ * them goes above the configured limits, the least recently used entries are evicted until the cache is back under
+ * 90% of the limits.
+ */
+public class SemanticResponseCache {
+
+    private static final int SEARCH_CANDIDATES = 4;
+    private static final int EVICTION_LOW_WATER_MARK_PERCENTAGE = 90;
+    private static final long MAX_EXPIRY_CHECK_INTERVAL = 1000L;
+
+    private final double similarityThreshold;
+    private final long timeToLive;
+    private final int maxEntries;
+    private final long maxMemorySize;
+    private final Map<String, HnswVectorIndex<CachedResponse>> indexes = new HashMap<>();
+    private final Set<CachedResponse> entries = new HashSet<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long memorySize;
+    private long nextExpiryCheckTime;
+
+    /**
+     * @param similarityThreshold minimum cosine similarity for a cached response to be returned
+     * @param timeToLive          time in milliseconds a response is kept in the cache
+     * @param maxEntries          maximum number of cached responses
+     * @param maxMemorySize       maximum approximate memory in bytes taken by the cached responses
+     */
+    public SemanticResponseCache(double similarityThreshold, long timeToLive, int maxEntries, long maxMemorySize) {
+
+        this.similarityThreshold = similarityThreshold;
+        this.timeToLive = timeToLive;
+        this.maxEntries = maxEntries;
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    /**
+     * Returns the cached response most similar to the given prompt embedding.
+     *
+     * @param partition partition of the request
+     * @param vector    unit length embedding of the prompt
+     * @return cached response, or null if no response is similar enough
+     */
+    public CachedResponse get(String partition, float[] vector) {
+
+        return get(partition, vector, System.currentTimeMillis());
+    }
+
+    CachedResponse get(String partition, float[] vector, long now) {
+
+        lock.readLock().lock();
+        try {
+            HnswVectorIndex<CachedResponse> index = indexes.get(partition);
+            if (index == null) {
+                return null;
+            }
+            for (HnswVectorIndex.Match<CachedResponse> match : index.search(vector, SEARCH_CANDIDATES)) {
+                if (match.getSimilarity() < similarityThreshold) {
+                    break;
+                }
+                CachedResponse response = match.getValue();
+                if (!response.isExpired(now)) {
+                    response.setLastAccessTime(now);
+                    return response;
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a response to the cache, replacing a cached response of an equivalent prompt if there is one.
+     *
+     * @param partition   partition of the request
+     * @param vector      unit length embedding of the prompt
+     * @param payload     response payload
+     * @param contentType content type of the response payload
+     */
+    public void put(String partition, float[] vector, String payload, String contentType) {
+
+        put(partition, vector, payload, contentType, System.currentTimeMillis());
+    }
+
+    void put(String partition, float[] vector, String payload, String contentType, long now) {
+
+        CachedResponse response = new CachedResponse(partition, vector, payload, contentType, now, now + timeToLive);
+        if (response.getSize() > maxMemorySize) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (now >= nextExpiryCheckTime) {
+                removeExpired(now);
+                nextExpiryCheckTime = now + Math.min(timeToLive, MAX_EXPIRY_CHECK_INTERVAL);
+            }
+            HnswVectorIndex<CachedResponse> index = indexes.get(partition);
+            if (index != null && index.getDimension() != vector.length) {
+                // The embedding model has changed, responses of the previous model can no longer be matched
+                removePartition(partition);
+                index = null;
+            }
+            if (index == null) {
+                index = new HnswVectorIndex<>(vector.length);
+                indexes.put(partition, index);
+            } else {
+                List<HnswVectorIndex.Match<CachedResponse>> matches = index.search(vector, 1);
+                if (!matches.isEmpty() && matches.get(0).getSimilarity() >= similarityThreshold) {
+                    remove(matches.get(0).getValue());
+                    index = indexes.computeIfAbsent(partition, k -> new HnswVectorIndex<>(vector.length));
+                }
+            }
+            response.setNode(index.add(vector, response));
+            entries.add(response);
+            memorySize += response.getSize();
+            if (entries.size() > maxEntries || memorySize > maxMemorySize) {
+                evictLeastRecentlyUsed();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public void clear() {
+
+        lock.writeLock().lock();
+        try {
+            indexes.clear();
+            entries.clear();
+            memorySize = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of cached responses
+     */
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return approximate memory in bytes taken by the cached responses
+     */
+    public long getMemorySize() {
+
+        lock.readLock().lock();
+        try {
+            return memorySize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Converts an embedding into a unit length float vector, so that the dot product of two vectors is their
+     * cosine similarity.
+     *
+     * @param embedding embedding returned by the embedding provider
+     * @return normalized vector
+     */
+    public static float[] toUnitVector(double[] embedding) {
+
+        double norm = 0;
+        for (double value : embedding) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        float[] vector = new float[embedding.length];
+        if (norm == 0) {
+            return vector;
+        }
+        for (int i = 0; i < embedding.length; i++) {
+            vector[i] = (float) (embedding[i] / norm);
+        }
+        return vector;
+    }
+
+    private void removeExpired(long now) {
+
+        List<CachedResponse> expired = new ArrayList<>();
+        for (CachedResponse response : entries) {
+            if (response.isExpired(now)) {
+                expired.add(response);
+            }
+        }
+        for (CachedResponse response : expired) {
+            remove(response);
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+
+        long entryLimit = (long) maxEntries * EVICTION_LOW_WATER_MARK_PERCENTAGE / 100;
+        long memoryLimit = maxMemorySize / 100 * EVICTION_LOW_WATER_MARK_PERCENTAGE;
+        List<CachedResponse> leastRecentlyUsed = new ArrayList<>(entries);
+        leastRecentlyUsed.sort(Comparator.comparingLong(CachedResponse::getLastAccessTime));
+        Iterator<CachedResponse> iterator = leastRecentlyUsed.iterator();
+        while (iterator.hasNext() && (entries.size() > entryLimit || memorySize > memoryLimit)) {
+            remove(iterator.next());
+        }
+    }
+
+    private void removePartition(String partition) {
+
+        List<CachedResponse> removed = new ArrayList<>();
+        for (CachedResponse response : entries) {
+            if (partition.equals(response.getPartition())) {
+                removed.add(response);
+            }
+        }
+        for (CachedResponse response : removed) {
+            remove(response);
+        }
+    }
+
+    private void remove(CachedResponse response) {
+
+        if (!entries.remove(response)) {
+            return;
+        }
+        memorySize -= response.getSize();
+        HnswVectorIndex<CachedResponse> index = indexes.get(response.getPartition());
+        if (index != null) {
+            index.remove(response.getNode());
+            if (index.size() == 0) {
+                indexes.remove(response.getPartition());
+            }
+        }
+    }
+}
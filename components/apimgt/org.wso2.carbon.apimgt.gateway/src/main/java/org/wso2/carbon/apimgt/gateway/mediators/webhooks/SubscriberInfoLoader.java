@@ -32,20 +32,14 @@ import org.wso2.carbon.apimgt.gateway.handlers.analytics.Constants;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
-import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.utils.WebhooksUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.WebhooksDTO;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
-import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
-import org.wso2.carbon.apimgt.keymgt.model.entity.Application;
-import org.wso2.carbon.apimgt.keymgt.model.entity.GroupId;
-import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * This mediator would load the subscriber's information from the subscribers list according to the index of the list.
@@ -100,7 +94,8 @@ public class SubscriberInfoLoader extends AbstractMediator {
 
     private boolean handleThrottle(WebhooksDTO subscriber, MessageContext messageContext) {
         AuthenticationContext authContext = new AuthenticationContext();
-        populateAuthContext(subscriber.getTenantDomain(), Integer.parseInt(subscriber.getAppID()), authContext);
+        WebhooksUtils.populateAuthContext(subscriber.getTenantDomain(), Integer.parseInt(subscriber.getAppID()),
+                authContext);
         messageContext.setProperty(APISecurityUtils.API_AUTH_CONTEXT, authContext);
         if (subscriber.isThrottled()) {
             if (APIUtil.isAnalyticsEnabled()) {
@@ -118,7 +113,7 @@ public class SubscriberInfoLoader extends AbstractMediator {
             }
             return false;
         }
-        if (doThrottle(subscriber, messageContext, authContext)) {
+        if (WebhooksUtils.doThrottle(subscriber, messageContext, authContext)) {
             messageContext.setProperty(APIConstants.Webhooks.SUBSCRIBER_CALLBACK_PROPERTY,
                     subscriber.getCallbackURL());
             String errorMessage = "Message throttled out";
@@ -160,53 +155,4 @@ public class SubscriberInfoLoader extends AbstractMediator {
         return true;
     }
 
-    private boolean doThrottle(WebhooksDTO subscriber, MessageContext messageContext, AuthenticationContext authContext) {
-        String applicationLevelTier = subscriber.getApplicationTier();
-        String apiLevelTier = subscriber.getApiTier();
-        String subscriptionLevelTier = subscriber.getTier();
-        String resourceLevelTier = apiLevelTier;
-        String apiVersion = subscriber.getApiVersion();
-        String apiContext = subscriber.getApiContext();
-        String appTenant = subscriber.getTenantDomain();
-        String apiTenant = subscriber.getTenantDomain();
-        String appId = subscriber.getAppID();
-        String authorizedUser;
-        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(subscriber.getTenantDomain())) {
-            authorizedUser = subscriber.getSubscriberName() + "@" + subscriber.getTenantDomain();
-        } else {
-            authorizedUser = subscriber.getSubscriberName();
-        }
-        String applicationLevelThrottleKey = appId + ":" + authorizedUser;
-        String apiLevelThrottleKey = apiContext + ":" + apiVersion;
-        String resourceLevelThrottleKey = apiLevelThrottleKey;
-        String subscriptionLevelThrottleKey = appId + ":" + apiContext + ":" + apiVersion;
-        boolean isThrottled = WebhooksUtils.isThrottled(resourceLevelThrottleKey, subscriptionLevelThrottleKey,
-                applicationLevelThrottleKey);
-        if (isThrottled) {
-            subscriber.setThrottled(true);
-            return true;
-        }
-        ServiceReferenceHolder.getInstance().getThrottleDataPublisher().
-                publishNonThrottledEvent(applicationLevelThrottleKey,
-                        applicationLevelTier, apiLevelThrottleKey, apiLevelTier,
-                        subscriptionLevelThrottleKey, subscriptionLevelTier,
-                        resourceLevelThrottleKey, resourceLevelTier,
-                        authorizedUser, apiContext,
-                        apiVersion, appTenant, apiTenant,
-                        appId,
-                        messageContext, authContext);
-        return false;
-    }
-
-    private void populateAuthContext(String tenantDomain, int appId, AuthenticationContext authContext) {
-        Application app = SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain).
-                getApplicationById(appId);
-        authContext.setApplicationUUID(app.getUUID());
-        authContext.setApplicationName(app.getName());
-        authContext.setSubscriber(app.getSubName());
-        authContext.setKeyType(app.getTokenType());
-        authContext.setApplicationGroupIds(app.getGroupIds().stream().map(GroupId::getGroupId)
-                .collect(Collectors.toSet()));
-    }
-
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.mediators.webhooks;
+
+import org.apache.http.protocol.HTTP;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.mediators.AbstractMediator;
+import org.apache.synapse.rest.RESTConstants;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.analytics.Constants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
+import org.wso2.carbon.apimgt.gateway.utils.WebhooksUtils;
+import org.wso2.carbon.apimgt.gateway.webhooks.WebhookDeliveryEngine;
+import org.wso2.carbon.apimgt.gateway.webhooks.WebhookEvent;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.WebhooksDTO;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This mediator would hand over the event received by a WebSub API to the {@link WebhookDeliveryEngine}, to be
+ * delivered to each subscriber loaded by the {@link SubscribersLoader}. Unlike cloning the message per subscriber,
+ * the payload of the event is shared by all the deliveries. Deliveries throttled out are skipped. The delivery
+ * statuses are persisted by the {@link WebhookDeliveryEngine}, hence a delivery sequence using this mediator does not
+ * need the {@link DeliveryStatusUpdater}, which keeps persisting the status of each cloned message as it is delivered.
+ * <p>
+ * When analytics is enabled, an analytics event is published for each delivery once its outcome is known, and for
+ * each delivery throttled out, as done when cloning the message per subscriber. These events are published with a
+ * message context holding a copy of the properties of the received message and the details of the subscriber.
+ */
+public class SubscribersDeliveryMediator extends AbstractMediator {
+
+    @Override
+    public boolean mediate(MessageContext messageContext) {
+
+        List<WebhooksDTO> subscribers = (List<WebhooksDTO>) messageContext.
+                getProperty(APIConstants.Webhooks.SUBSCRIBERS_LIST_PROPERTY);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return true;
+        }
+        String payload = (String) messageContext.getProperty(APIConstants.Webhooks.PAYLOAD_PROPERTY);
+        if (payload == null) {
+            log.warn("Dropping the event received without a payload");
+            return true;
+        }
+        String topicName = (String) messageContext.getProperty(APIConstants.Webhooks.SUBSCRIBER_TOPIC_PROPERTY);
+        String linkHeader = messageContext.getProperty(RESTConstants.REST_URL_PREFIX).toString()
+                + messageContext.getProperty(RESTConstants.REST_API_CONTEXT).toString()
+                + APIMgtGatewayConstants.SUBSCRIBER_LINK_HEADER_HUB + topicName
+                + APIMgtGatewayConstants.SUBSCRIBER_LINK_HEADER_SELF;
+        WebhookEvent event = new WebhookEvent(payload.getBytes(StandardCharsets.UTF_8), getContentType(messageContext),
+                linkHeader);
+        WebhookDeliveryEngine deliveryEngine = WebhookDeliveryEngine.getInstance();
+        boolean analyticsEnabled = APIUtil.isAnalyticsEnabled();
+        int throttledCount = 0;
+        for (WebhooksDTO subscriber : subscribers) {
+            if (subscriber == null) {
+                continue;
+            }
+            AuthenticationContext authContext = new AuthenticationContext();
+            WebhooksUtils.populateAuthContext(subscriber.getTenantDomain(), Integer.parseInt(subscriber.getAppID()),
+                    authContext);
+            if (isThrottled(subscriber, messageContext, authContext)) {
+                throttledCount++;
+                if (analyticsEnabled) {
+                    publishThrottledEvent(createAnalyticsContext(messageContext, subscriber, authContext));
+                }
+                continue;
+            }
+            if (analyticsEnabled) {
+                MessageContext analyticsContext = createAnalyticsContext(messageContext, subscriber, authContext);
+                deliveryEngine.submit(event, subscriber, (deliveredSubscriber, statusCode, delivered) ->
+                        publishDeliveryEvent(analyticsContext, statusCode));
+            } else {
+                deliveryEngine.submit(event, subscriber);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Event of topic " + topicName + " is queued for " + (subscribers.size() - throttledCount)
+                    + " subscribers and throttled out for " + throttledCount + " subscribers");
+        }
+        return true;
+    }
+
+    private boolean isThrottled(WebhooksDTO subscriber, MessageContext messageContext,
+                                AuthenticationContext authContext) {
+
+        if (subscriber.isThrottled()) {
+            return true;
+        }
+        return WebhooksUtils.doThrottle(subscriber, messageContext, authContext);
+    }
+
+    /**
+     * Creates a message context holding a copy of the properties of the received message, along with the details of
+     * a subscriber, to publish the analytics event of the delivery to the subscriber.
+     */
+    private MessageContext createAnalyticsContext(MessageContext messageContext, WebhooksDTO subscriber,
+                                                  AuthenticationContext authContext) {
+
+        MessageContext analyticsContext = messageContext.getEnvironment().createMessageContext();
+        for (Object key : messageContext.getPropertyKeySet()) {
+            analyticsContext.setProperty((String) key, messageContext.getProperty((String) key));
+        }
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        org.apache.axis2.context.MessageContext analyticsAxis2MessageContext =
+                ((Axis2MessageContext) analyticsContext).getAxis2MessageContext();
+        for (Map.Entry<String, Object> property : axis2MessageContext.getProperties().entrySet()) {
+            analyticsAxis2MessageContext.setProperty(property.getKey(), property.getValue());
+        }
+        analyticsContext.setProperty(APISecurityUtils.API_AUTH_CONTEXT, authContext);
+        analyticsContext.setProperty(APIConstants.Webhooks.SUBSCRIBER_CALLBACK_PROPERTY, subscriber.getCallbackURL());
+        analyticsContext.setProperty(APIConstants.Webhooks.SUBSCRIBER_APPLICATION_ID_PROPERTY, subscriber.getAppID());
+        return analyticsContext;
+    }
+
+    private void publishThrottledEvent(MessageContext analyticsContext) {
+
+        analyticsContext.setProperty(SynapseConstants.ERROR_CODE,
+                APIThrottleConstants.EVENTS_COUNT_THROTTLE_OUT_ERROR_CODE);
+        analyticsContext.setProperty(SynapseConstants.ERROR_MESSAGE, "Message throttled out");
+        analyticsContext.setProperty(SynapseConstants.ERROR_DETAIL, "You have exceeded your quota");
+        publishDeliveryEvent(analyticsContext, APIThrottleConstants.SC_TOO_MANY_REQUESTS);
+    }
+
+    private void publishDeliveryEvent(MessageContext analyticsContext, int statusCode) {
+
+        analyticsContext.setProperty(Constants.BACKEND_RESPONSE_CODE, String.valueOf(statusCode));
+        ((Axis2MessageContext) analyticsContext).getAxis2MessageContext()
+                .setProperty(APIMgtGatewayConstants.HTTP_SC, statusCode);
+        WebhooksUtils.publishAnalyticsData(analyticsContext);
+    }
+
+    private String getContentType(MessageContext messageContext) {
+
+        Map<?, ?> headers = (Map<?, ?>) ((Axis2MessageContext) messageContext).getAxis2MessageContext()
+                .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
+        return headers != null ? (String) headers.get(HTTP.CONTENT_TYPE) : null;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.threatprotection.utils;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.transport.passthru.PassThroughConstants;
+import org.apache.synapse.transport.passthru.Pipe;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Payload of a request read by the threat protection mediators. The payload is read from the pass-through pipe only
+ * as far as it is consumed by the analyzers, and is buffered once: each stream of the payload reads the part buffered
+ * so far followed by the rest of the pipe. A payload violating a limit is hence rejected as soon as the violation is
+ * read, and the same buffer is handed over to the message builder once the payload is accepted.
+ */
+public class RequestPayloadBuffer {
+
+    private static final int DEFAULT_READ_BUFFER_SIZE = 1024;
+
+    private final InputStream source;
+    private final boolean fromPipe;
+    private final int readBufferSize;
+    private PayloadOutputStream buffer = new PayloadOutputStream();
+    private boolean sourceConsumed;
+
+    /**
+     * @param source         stream of the payload
+     * @param fromPipe       whether the payload is read from the pass-through pipe, and has to be handed over to the
+     *                       message builder
+     * @param readBufferSize size of the chunks the rest of the payload is read in
+     */
+    public RequestPayloadBuffer(InputStream source, boolean fromPipe, int readBufferSize) {
+
+        this.source = source;
+        this.fromPipe = fromPipe;
+        this.readBufferSize = readBufferSize > 0 ? readBufferSize : DEFAULT_READ_BUFFER_SIZE;
+    }
+
+    /**
+     * Creates the payload buffer of the request of the given message context. If the message has already been built,
+     * the payload is read from the built message instead of the pass-through pipe.
+     *
+     * @param messageContext message context of the request
+     * @return payload buffer of the request
+     * @throws IOException if the pass-through pipe can not be read
+     */
+    public static RequestPayloadBuffer create(MessageContext messageContext) throws IOException {
+
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext)
+                .getAxis2MessageContext();
+        int requestBufferSize = DEFAULT_READ_BUFFER_SIZE;
+        Object bufferSize = messageContext.getProperty(ThreatProtectorConstants.REQUEST_BUFFER_SIZE);
+        if (bufferSize != null) {
+            requestBufferSize = Integer.parseInt(bufferSize.toString());
+        }
+        Pipe pipe = (Pipe) axis2MC.getProperty(PassThroughConstants.PASS_THROUGH_PIPE);
+        if (pipe != null) {
+            BufferedInputStream pipeInputStream = new BufferedInputStream(pipe.getInputStream());
+            pipeInputStream.mark(1);
+            if (pipeInputStream.read() != -1) {
+                pipeInputStream.reset();
+                return new RequestPayloadBuffer(pipeInputStream, true, requestBufferSize);
+            }
+        }
+        Object contentType = axis2MC.getProperty(ThreatProtectorConstants.CONTENT_TYPE);
+        if (contentType == null) {
+            contentType = axis2MC.getProperty(ThreatProtectorConstants.SOAP_CONTENT_TYPE);
+        }
+        InputStream builtPayload = null;
+        if (ThreatProtectorConstants.APPLICATION_JSON.equals(String.valueOf(contentType))) {
+            builtPayload = JsonUtil.getJsonPayload(axis2MC);
+        } else if (axis2MC.getEnvelope() != null && axis2MC.getEnvelope().getBody() != null) {
+            OMElement payload = axis2MC.getEnvelope().getBody().getFirstElement();
+            if (payload != null) {
+                builtPayload = new ByteArrayInputStream(payload.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (builtPayload == null) {
+            builtPayload = new ByteArrayInputStream(new byte[0]);
+        }
+        return new RequestPayloadBuffer(builtPayload, false, requestBufferSize);
+    }
+
+    /**
+     * Returns a new stream of the payload, which reads the part of the payload buffered so far followed by the rest
+     * of the payload. Closing the stream does not close the payload.
+     *
+     * @return stream of the payload
+     */
+    public InputStream newInputStream() {
+
+        return new PayloadInputStream();
+    }
+
+    /**
+     * Reads the rest of the payload into the buffer.
+     *
+     * @throws IOException if the payload can not be read
+     */
+    public void readFully() throws IOException {
+
+        byte[] chunk = new byte[readBufferSize];
+        while (!sourceConsumed) {
+            readChunk(chunk, 0, chunk.length);
+        }
+    }
+
+    /**
+     * Reads and discards the rest of a rejected payload without buffering it, and releases the buffer.
+     *
+     * @throws IOException if the payload can not be read
+     */
+    public void discard() throws IOException {
+
+        buffer = new PayloadOutputStream();
+        byte[] chunk = new byte[readBufferSize];
+        while (!sourceConsumed) {
+            if (source.read(chunk) == -1) {
+                sourceConsumed = true;
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of the payload and sets the buffered payload as the stream the message is built from, unless
+     * the payload was read from an already built message.
+     *
+     * @param axis2MC axis2 message context of the request
+     * @throws IOException if the payload can not be read
+     */
+    public void setOriginalInputStream(org.apache.axis2.context.MessageContext axis2MC) throws IOException {
+
+        if (!fromPipe) {
+            return;
+        }
+        readFully();
+        axis2MC.setProperty(PassThroughConstants.BUFFERED_INPUT_STREAM,
+                new BufferedInputStream(buffer.toInputStream()));
+    }
+
+    /**
+     * @return number of bytes of the payload buffered so far
+     */
+    public int getBufferedLength() {
+
+        return buffer.size();
+    }
+
+    private int readChunk(byte[] chunk, int offset, int length) throws IOException {
+
+        int read = source.read(chunk, offset, length);
+        if (read == -1) {
+            sourceConsumed = true;
+        } else {
+            buffer.write(chunk, offset, read);
+        }
+        return read;
+    }
+
+    /**
+     * Stream of the payload, reading the buffered payload before reading further from the source.
+     */
+    private final class PayloadInputStream extends InputStream {
+
+        private int position;
+
+        @Override
+        public int read() throws IOException {
+
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+
+            if (length == 0) {
+                return 0;
+            }
+            int buffered = buffer.size() - position;
+            if (buffered > 0) {
+                int read = Math.min(buffered, length);
+                buffer.copyTo(position, bytes, offset, read);
+                position += read;
+                return read;
+            }
+            if (sourceConsumed) {
+                return -1;
+            }
+            int read = readChunk(bytes, offset, length);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+
+            // The payload is read further by the other streams and the message builder
+        }
+    }
+
+    /**
+     * Buffer of the payload, whose content is read without being copied.
+     */
+    private static final class PayloadOutputStream extends ByteArrayOutputStream {
+
+        private void copyTo(int position, byte[] bytes, int offset, int length) {
+
+            System.arraycopy(buf, position, bytes, offset, length);
+        }
+
+        private InputStream toInputStream() {
+
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.ThrottleConditionEvaluator;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
@@ -90,6 +91,7 @@ public class ThrottleDataHolder {
             conditionDtoMap.put(key, conditionMap);
         }
         if (!conditionMap.containsKey(conditionKey)) {
+            ThrottleConditionEvaluator.getInstance().compileConditions(conditionValue);
             conditionMap.put(conditionKey, conditionValue);
         }
     }
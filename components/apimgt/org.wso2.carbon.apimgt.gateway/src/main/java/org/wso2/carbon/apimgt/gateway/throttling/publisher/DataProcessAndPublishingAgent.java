@@ -10,16 +10,18 @@ import org.apache.commons.validator.routines.InetAddressValidator;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
-import org.json.simple.JSONObject;
 import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.databridge.agent.DataPublisher;
 
 import java.io.IOException;
@@ -28,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import javax.xml.stream.XMLStreamException;
 
 import static org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants.*;
@@ -66,6 +69,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
     Map<String, String> headersMap;
     Map<String, Object> customPropertyMap;
     private AuthenticationContext authenticationContext;
+    private ThrottlePropertyFilter propertyFilter = ThrottlePropertyFilter.ALL;
+    private final ThrottleEventPropertiesWriter propertiesWriter = new ThrottleEventPropertiesWriter();
 
     private long messageSizeInBytes = 0L;
 
@@ -103,6 +108,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
         this.completionTokens = 0L;
         this.messageSizeInBytes = 0L;
         this.customPropertyMap = Collections.emptyMap();
+        this.propertyFilter = ThrottlePropertyFilter.ALL;
     }
 
     /**
@@ -150,16 +156,27 @@ public class DataProcessAndPublishingAgent implements Runnable {
         //in axis2MessageContext is modified.
         org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
                 .getAxis2MessageContext();
+        ThrottleProperties throttleProperties = getThrottleProperties();
+        if (throttleProperties.isPublishReferencedPropertiesOnly()) {
+            this.propertyFilter = getPropertyFilter(apiTenant, this.resourceLevelTier);
+        } else {
+            this.propertyFilter = ThrottlePropertyFilter.ALL;
+        }
         Map<String, String> transportHeaderMap = (Map<String, String>) axis2MessageContext
                 .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-        if (transportHeaderMap != null) {
+        // headers are only published when header conditions are enabled
+        if (transportHeaderMap != null && throttleProperties.isEnableHeaderConditions()
+                && propertyFilter.isAnyHeaderReferenced()) {
             // convert all transport headers to lower case in order to make the header condition based throttling
             // case-insensitive
             Map<String, String> lowerCaseTransportHeaderMap = new HashMap<>();
             for (Map.Entry<String, String> entry : transportHeaderMap.entrySet()) {
-                lowerCaseTransportHeaderMap.put(entry.getKey().toLowerCase(), String.valueOf(entry.getValue()));
+                String headerName = entry.getKey().toLowerCase();
+                if (propertyFilter.isHeaderReferenced(headerName)) {
+                    lowerCaseTransportHeaderMap.put(headerName, String.valueOf(entry.getValue()));
+                }
             }
-            this.headersMap = new HashMap<>(lowerCaseTransportHeaderMap);
+            this.headersMap = lowerCaseTransportHeaderMap;
         }
 
         if (messageContext.getProperty(APIThrottleConstants.CUSTOM_PROPERTY) != null) {
@@ -224,57 +241,20 @@ public class DataProcessAndPublishingAgent implements Runnable {
     }
 
     public void run() {
-        JSONObject jsonObMap = new JSONObject();
+        // properties are written in the reverse order of their precedence, since the writer keeps the first value
+        // written for a key
+        ThrottleEventPropertiesWriter properties = propertiesWriter.reset();
         org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
                 .getAxis2MessageContext();
 
-        if (ipAddress != null && ipAddress.length() > 0) {
-            if (ipAddress.contains(":") && ipAddress.split(":").length == 2) {
-                log.warn("Client port will be ignored and only the IP address (IPV4) will concern from " + ipAddress);
-                ipAddress = ipAddress.split(":")[0];
-            }
-            InetAddressValidator validator = InetAddressValidator.getInstance();
-            if (validator.isValidInet4Address(ipAddress)) {
-                jsonObMap.put(APIThrottleConstants.IP, APIUtil.ipToLong(ipAddress));
-                jsonObMap.put(APIThrottleConstants.IPv6, 0);
-            } else if (validator.isValidInet6Address(ipAddress)) {
-                jsonObMap.put(APIThrottleConstants.IPv6, APIUtil.ipToBigInteger(ipAddress));
-                jsonObMap.put(APIThrottleConstants.IP, 0);
-            } else {
-                log.error("Error while parsing host IP " + ipAddress);
-                jsonObMap.put(APIThrottleConstants.IPv6, 0);
-                jsonObMap.put(APIThrottleConstants.IP, 0);
-            }
-        }
-
-        //HeaderMap will only be set if the Header Publishing has been enabled.
-        if (getThrottleProperties().isEnableHeaderConditions()) {
-            if (this.headersMap != null) {
-                jsonObMap.putAll(this.headersMap);
-            }
-        }
-        //adding any custom property if available to stream's property map
-        if (this.customPropertyMap != null) {
-            jsonObMap.putAll(this.customPropertyMap);
+        if (completionTokens != null) {
+            properties.put(APIThrottleConstants.COMPLETION_TOKENS, completionTokens);
         }
-
-        //Setting query parameters
-        if (getThrottleProperties().isEnableQueryParamConditions()) {
-            Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
-            if (queryParams != null) {
-                jsonObMap.putAll(queryParams);
-            }
-
+        if (promptTokens != null) {
+            properties.put(APIThrottleConstants.PROMPT_TOKENS, promptTokens);
         }
-
-        //Publish jwt claims
-        if (getThrottleProperties().isEnableJwtConditions()) {
-            if (authenticationContext.getCallerToken() != null) {
-                Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-                if (assertions != null) {
-                    jsonObMap.putAll(assertions);
-                }
-            }
+        if (totalTokens != null) {
+            properties.put(APIThrottleConstants.TOTAL_TOKENS, totalTokens);
         }
 
         //this parameter will be used to capture message size and pass it to calculation logic
@@ -290,27 +270,67 @@ public class DataProcessAndPublishingAgent implements Runnable {
             if (log.isDebugEnabled()) {
                 log.debug("Message size: " + messageSizeInBytes + "B");
             }
-            jsonObMap.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
-            if (!StringUtils.isEmpty(authenticationContext.getApplicationName())) {
-                jsonObMap.put(APIThrottleConstants.APPLICATION_NAME, authenticationContext.getApplicationName());
-            }
             if (!StringUtils.isEmpty(authenticationContext.getProductName()) && !StringUtils
                     .isEmpty(authenticationContext.getProductProvider())) {
-                jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE);
+                properties.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE);
             } else {
-                jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_SUBSCRIPTION_TYPE);
+                properties.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_SUBSCRIPTION_TYPE);
+            }
+            if (!StringUtils.isEmpty(authenticationContext.getApplicationName())) {
+                properties.put(APIThrottleConstants.APPLICATION_NAME, authenticationContext.getApplicationName());
+            }
+            properties.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
+        }
+
+        //Publish jwt claims
+        if (getThrottleProperties().isEnableJwtConditions() && isAnyReferenced(propertyFilter.getJwtClaims())) {
+            if (authenticationContext.getCallerToken() != null) {
+                Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
+                if (assertions != null) {
+                    properties.putAll(assertions, propertyFilter.getJwtClaims());
+                }
+            }
+        }
+
+        //Setting query parameters
+        if (getThrottleProperties().isEnableQueryParamConditions()
+                && isAnyReferenced(propertyFilter.getQueryParams())) {
+            Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
+            if (queryParams != null) {
+                properties.putAll(queryParams, propertyFilter.getQueryParams());
             }
 
         }
 
-        if (totalTokens != null) {
-            jsonObMap.put(APIThrottleConstants.TOTAL_TOKENS, totalTokens);
+        //adding any custom property if available to stream's property map
+        if (this.customPropertyMap != null) {
+            properties.putAll(this.customPropertyMap);
         }
-        if (promptTokens != null) {
-            jsonObMap.put(APIThrottleConstants.PROMPT_TOKENS, promptTokens);
+
+        //HeaderMap will only be set if the Header Publishing has been enabled.
+        if (getThrottleProperties().isEnableHeaderConditions()) {
+            if (this.headersMap != null) {
+                properties.putAll(this.headersMap);
+            }
         }
-        if (completionTokens != null) {
-            jsonObMap.put(APIThrottleConstants.COMPLETION_TOKENS, completionTokens);
+
+        if (ipAddress != null && ipAddress.length() > 0) {
+            if (ipAddress.contains(":") && ipAddress.split(":").length == 2) {
+                log.warn("Client port will be ignored and only the IP address (IPV4) will concern from " + ipAddress);
+                ipAddress = ipAddress.split(":")[0];
+            }
+            InetAddressValidator validator = InetAddressValidator.getInstance();
+            if (validator.isValidInet4Address(ipAddress)) {
+                properties.put(APIThrottleConstants.IP, APIUtil.ipToLong(ipAddress));
+                properties.put(APIThrottleConstants.IPv6, 0);
+            } else if (validator.isValidInet6Address(ipAddress)) {
+                properties.put(APIThrottleConstants.IPv6, APIUtil.ipToBigInteger(ipAddress));
+                properties.put(APIThrottleConstants.IP, 0);
+            } else {
+                log.error("Error while parsing host IP " + ipAddress);
+                properties.put(APIThrottleConstants.IPv6, 0);
+                properties.put(APIThrottleConstants.IP, 0);
+            }
         }
 
         Object[] objects = new Object[]{messageContext.getMessageID(),
@@ -319,12 +339,17 @@ public class DataProcessAndPublishingAgent implements Runnable {
                                         this.subscriptionLevelThrottleKey, this.subscriptionLevelTier,
                                         this.resourceLevelThrottleKey, this.resourceLevelTier,
                                         this.authorizedUser, this.apiContext, this.apiVersion,
-                                        this.appTenant, this.apiTenant, this.appId, this.apiName, jsonObMap.toString()};
+                                        this.appTenant, this.apiTenant, this.appId, this.apiName,
+                                        properties.toJSONString()};
         org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(streamID,
                                                                                                       System.currentTimeMillis(), null, null, objects);
         dataPublisher.tryPublish(event);
     }
 
+    private static boolean isAnyReferenced(Set<String> names) {
+        return names == null || !names.isEmpty();
+    }
+
     protected void buildMessage(org.apache.axis2.context.MessageContext axis2MessageContext) throws IOException,
             XMLStreamException {
         RelayUtils.buildMessage(axis2MessageContext);
@@ -336,4 +361,26 @@ public class DataProcessAndPublishingAgent implements Runnable {
     protected DataPublisher getDataPublisher() {
         return ThrottleDataPublisher.getDataPublisher();
     }
+
+    /**
+     * Returns the filter of the request properties referenced by the conditions of the given API level policy. All
+     * the properties are published when custom throttle policies are deployed, as their queries may refer to any of
+     * them.
+     *
+     * @param tenantDomain tenant domain of the API
+     * @param policyName   name of the API level policy applied to the request
+     * @return property filter of the policy
+     */
+    protected ThrottlePropertyFilter getPropertyFilter(String tenantDomain, String policyName) {
+        if (policyName == null || tenantDomain == null
+                || ThrottleDataHolder.getInstance().isKeyTemplatesPresent()) {
+            return ThrottlePropertyFilter.ALL;
+        }
+        SubscriptionDataStore store = SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain);
+        if (store == null) {
+            return ThrottlePropertyFilter.ALL;
+        }
+        return ThrottlePropertyFilter.getFilter(store.getApiPolicyByName(policyName,
+                APIUtil.getTenantIdFromTenantDomain(tenantDomain)));
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONValue;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the properties map of a throttle event as a JSON object. The writer is meant to be reused by a pooled
+ * {@link DataProcessAndPublishingAgent}, so that publishing an event does not build an intermediate map per request.
+ * <p>
+ * The first value written for a key is kept and later values of the same key are ignored. Properties therefore have
+ * to be written in the reverse order of their precedence. Values are encoded as {@link JSONValue} does.
+ */
+public final class ThrottleEventPropertiesWriter {
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    private final StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+    private final Set<String> keys = new HashSet<>();
+
+    public ThrottleEventPropertiesWriter() {
+
+        reset();
+    }
+
+    /**
+     * Clears the properties written so far.
+     *
+     * @return this writer
+     */
+    public ThrottleEventPropertiesWriter reset() {
+
+        builder.setLength(0);
+        builder.append('{');
+        keys.clear();
+        return this;
+    }
+
+    /**
+     * Writes the given property unless a value was already written for the key.
+     *
+     * @param key   property name
+     * @param value property value
+     */
+    public void put(String key, Object value) {
+
+        if (key == null || !keys.add(key)) {
+            return;
+        }
+        if (builder.length() > 1) {
+            builder.append(',');
+        }
+        appendString(key);
+        builder.append(':');
+        if (value instanceof String) {
+            appendString((String) value);
+        } else if (value instanceof Long || value instanceof Integer) {
+            builder.append(value);
+        } else {
+            builder.append(JSONValue.toJSONString(value));
+        }
+    }
+
+    /**
+     * Writes the given property unless a value was already written for the key.
+     *
+     * @param key   property name
+     * @param value property value
+     */
+    public void put(String key, long value) {
+
+        if (key == null || !keys.add(key)) {
+            return;
+        }
+        if (builder.length() > 1) {
+            builder.append(',');
+        }
+        appendString(key);
+        builder.append(':').append(value);
+    }
+
+    /**
+     * Writes all the given properties.
+     *
+     * @param properties properties to write
+     */
+    public void putAll(Map<String, ?> properties) {
+
+        for (Map.Entry<String, ?> entry : properties.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Writes the given properties whose names are in the given set.
+     *
+     * @param properties properties to write
+     * @param names      names of the properties to write, or null to write all the properties
+     */
+    public void putAll(Map<String, ?> properties, Set<String> names) {
+
+        if (names == null) {
+            putAll(properties);
+            return;
+        }
+        for (String name : names) {
+            Object value = properties.get(name);
+            if (value != null || properties.containsKey(name)) {
+                put(name, value);
+            }
+        }
+    }
+
+    /**
+     * @return true if no property was written
+     */
+    public boolean isEmpty() {
+
+        return keys.isEmpty();
+    }
+
+    /**
+     * @return JSON object of the properties written so far
+     */
+    public String toJSONString() {
+
+        int length = builder.length();
+        String json = builder.append('}').toString();
+        builder.setLength(length);
+        return json;
+    }
+
+    /**
+     * Appends the given string quoted and escaped the same way as {@link JSONValue#escape(String)}, without creating
+     * an intermediate string.
+     */
+    private void appendString(String value) {
+
+        builder.append('"');
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (!isEscaped(ch)) {
+                continue;
+            }
+            builder.append(value, start, i);
+            start = i + 1;
+            switch (ch) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '/':
+                    builder.append("\\/");
+                    break;
+                default:
+                    builder.append("\\u");
+                    String hex = Integer.toHexString(ch).toUpperCase(Locale.ENGLISH);
+                    for (int j = hex.length(); j < 4; j++) {
+                        builder.append('0');
+                    }
+                    builder.append(hex);
+            }
+        }
+        builder.append(value, start, length).append('"');
+    }
+
+    private static boolean isEscaped(char ch) {
+
+        return ch == '"' || ch == '\\' || ch == '/' || ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F')
+                || (ch >= '\u2000' && ch <= '\u20FF');
+    }
+}
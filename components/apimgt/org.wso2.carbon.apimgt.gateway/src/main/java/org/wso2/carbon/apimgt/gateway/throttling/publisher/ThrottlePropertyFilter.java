@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.keymgt.model.entity.APIPolicyConditionGroup;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ApiPolicy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Condition;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set of request properties referenced by the conditions of an API level throttle policy. The throttle event of a
+ * request only needs to carry the headers, query parameters and JWT claims the traffic manager evaluates for the
+ * policy applied to the request. Header names are kept in lower case as the published headers are.
+ * <p>
+ * Filters are cached per policy and rebuilt when the policy held by the subscription data store changes.
+ */
+public final class ThrottlePropertyFilter {
+
+    /**
+     * Filter accepting all the request properties.
+     */
+    public static final ThrottlePropertyFilter ALL = new ThrottlePropertyFilter(null, null, null, null);
+
+    private static final Map<String, ThrottlePropertyFilter> filters = new ConcurrentHashMap<>();
+
+    private final ApiPolicy policy;
+    private final Set<String> headers;
+    private final Set<String> queryParams;
+    private final Set<String> jwtClaims;
+
+    private ThrottlePropertyFilter(ApiPolicy policy, Set<String> headers, Set<String> queryParams,
+                                   Set<String> jwtClaims) {
+
+        this.policy = policy;
+        this.headers = headers;
+        this.queryParams = queryParams;
+        this.jwtClaims = jwtClaims;
+    }
+
+    /**
+     * Returns the filter of the given API level policy.
+     *
+     * @param policy API level policy applied to the request
+     * @return filter accepting the properties referenced by the conditions of the policy
+     */
+    public static ThrottlePropertyFilter getFilter(ApiPolicy policy) {
+
+        if (policy == null) {
+            return ALL;
+        }
+        ThrottlePropertyFilter filter = filters.get(policy.getCacheKey());
+        if (filter == null || filter.policy != policy) {
+            filter = compile(policy);
+            filters.put(policy.getCacheKey(), filter);
+        }
+        return filter;
+    }
+
+    static ThrottlePropertyFilter compile(ApiPolicy policy) {
+
+        Set<String> headers = new HashSet<>();
+        Set<String> queryParams = new HashSet<>();
+        Set<String> jwtClaims = new HashSet<>();
+        if (policy.getConditionGroups() != null) {
+            for (APIPolicyConditionGroup conditionGroup : policy.getConditionGroups()) {
+                if (conditionGroup.getCondition() == null) {
+                    continue;
+                }
+                for (Condition condition : conditionGroup.getCondition()) {
+                    if (condition.getName() == null) {
+                        continue;
+                    }
+                    if (PolicyConstants.HEADER_TYPE.equals(condition.getConditionType())) {
+                        headers.add(condition.getName().toLowerCase(Locale.ENGLISH));
+                    } else if (PolicyConstants.QUERY_PARAMETER_TYPE.equals(condition.getConditionType())) {
+                        queryParams.add(condition.getName());
+                    } else if (PolicyConstants.JWT_CLAIMS_TYPE.equals(condition.getConditionType())) {
+                        jwtClaims.add(condition.getName());
+                    }
+                }
+            }
+        }
+        return new ThrottlePropertyFilter(policy, toSet(headers), toSet(queryParams), toSet(jwtClaims));
+    }
+
+    private static Set<String> toSet(Set<String> names) {
+
+        return names.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @return true if all the request properties are accepted
+     */
+    public boolean isAll() {
+
+        return headers == null;
+    }
+
+    /**
+     * @param name lower case header name
+     * @return true if the header is referenced
+     */
+    public boolean isHeaderReferenced(String name) {
+
+        return headers == null || headers.contains(name);
+    }
+
+    /**
+     * @return true if any header is referenced
+     */
+    public boolean isAnyHeaderReferenced() {
+
+        return headers == null || !headers.isEmpty();
+    }
+
+    /**
+     * @return referenced query parameters, or null if all the query parameters are referenced
+     */
+    public Set<String> getQueryParams() {
+
+        return queryParams;
+    }
+
+    /**
+     * @return referenced JWT claims, or null if all the claims are referenced
+     */
+    public Set<String> getJwtClaims() {
+
+        return jwtClaims;
+    }
+}
@@ -40,6 +40,7 @@ import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.exception.DataNotFoundException;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.webhook.WebhooksAnalyticsDataProvider;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
@@ -49,6 +50,9 @@ import org.wso2.carbon.apimgt.impl.dto.WebhooksDTO;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
 import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Application;
+import org.wso2.carbon.apimgt.keymgt.model.entity.GroupId;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.IOException;
 import java.net.URI;
@@ -56,6 +60,8 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Collectors;
+
 /*
 This is the util class for webhooks related operations
  */
@@ -192,6 +198,72 @@ public class WebhooksUtils {
         return (isApiLevelThrottled || isApplicationLevelThrottled || isSubscriptionLevelThrottled);
     }
 
+    /**
+     * Checks whether delivering an event to a subscriber is throttled out, and publishes the delivery to the
+     * traffic manager if not.
+     *
+     * @param subscriber     the subscriber the event is delivered to.
+     * @param messageContext the message context of the event.
+     * @param authContext    the authentication context of the subscriber.
+     * @return true if the delivery is throttled out.
+     */
+    public static boolean doThrottle(WebhooksDTO subscriber, MessageContext messageContext,
+                                     AuthenticationContext authContext) {
+        String applicationLevelTier = subscriber.getApplicationTier();
+        String apiLevelTier = subscriber.getApiTier();
+        String subscriptionLevelTier = subscriber.getTier();
+        String resourceLevelTier = apiLevelTier;
+        String apiVersion = subscriber.getApiVersion();
+        String apiContext = subscriber.getApiContext();
+        String appTenant = subscriber.getTenantDomain();
+        String apiTenant = subscriber.getTenantDomain();
+        String appId = subscriber.getAppID();
+        String authorizedUser;
+        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(subscriber.getTenantDomain())) {
+            authorizedUser = subscriber.getSubscriberName() + "@" + subscriber.getTenantDomain();
+        } else {
+            authorizedUser = subscriber.getSubscriberName();
+        }
+        String applicationLevelThrottleKey = appId + ":" + authorizedUser;
+        String apiLevelThrottleKey = apiContext + ":" + apiVersion;
+        String resourceLevelThrottleKey = apiLevelThrottleKey;
+        String subscriptionLevelThrottleKey = appId + ":" + apiContext + ":" + apiVersion;
+        boolean isThrottled = isThrottled(resourceLevelThrottleKey, subscriptionLevelThrottleKey,
+                applicationLevelThrottleKey);
+        if (isThrottled) {
+            subscriber.setThrottled(true);
+            return true;
+        }
+        ServiceReferenceHolder.getInstance().getThrottleDataPublisher().
+                publishNonThrottledEvent(applicationLevelThrottleKey,
+                        applicationLevelTier, apiLevelThrottleKey, apiLevelTier,
+                        subscriptionLevelThrottleKey, subscriptionLevelTier,
+                        resourceLevelThrottleKey, resourceLevelTier,
+                        authorizedUser, apiContext,
+                        apiVersion, appTenant, apiTenant,
+                        appId,
+                        messageContext, authContext);
+        return false;
+    }
+
+    /**
+     * Populates the authentication context of a subscriber with the details of its application.
+     *
+     * @param tenantDomain the tenant domain of the application.
+     * @param appId        the id of the application.
+     * @param authContext  the authentication context to populate.
+     */
+    public static void populateAuthContext(String tenantDomain, int appId, AuthenticationContext authContext) {
+        Application app = SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain).
+                getApplicationById(appId);
+        authContext.setApplicationUUID(app.getUUID());
+        authContext.setApplicationName(app.getName());
+        authContext.setSubscriber(app.getSubName());
+        authContext.setKeyType(app.getTokenType());
+        authContext.setApplicationGroupIds(app.getGroupIds().stream().map(GroupId::getGroupId)
+                .collect(Collectors.toSet()));
+    }
+
     public static void handleThrottleOutMessage(MessageContext messageContext) {
         String errorMessage = "Message throttled out";
         String errorDescription = "You have exceeded your quota";
@@ -0,0 +1,574 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.webhooks;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.impl.nio.DefaultHttpClientIODispatch;
+import org.apache.http.impl.nio.pool.BasicNIOConnFactory;
+import org.apache.http.impl.nio.pool.BasicNIOConnPool;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.protocol.BasicAsyncRequestProducer;
+import org.apache.http.nio.protocol.BasicAsyncResponseConsumer;
+import org.apache.http.nio.protocol.HttpAsyncRequestExecutor;
+import org.apache.http.nio.protocol.HttpAsyncRequester;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.nio.reactor.IOSession;
+import org.apache.http.nio.reactor.ssl.SSLSetupHandler;
+import org.apache.http.protocol.HttpCoreContext;
+import org.apache.http.protocol.HttpProcessorBuilder;
+import org.apache.http.protocol.RequestConnControl;
+import org.apache.http.protocol.RequestContent;
+import org.apache.http.protocol.RequestTargetHost;
+import org.apache.http.ssl.SSLContexts;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dto.WebhooksDTO;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Delivers the events received by WebSub APIs to their subscribers, without cloning the message per subscriber.
+ * <p>
+ * Each subscriber has a bounded queue of events, delivered one at a time in the order they were received, so that a
+ * slow or unavailable callback only delays its own events. Events are sent with a non-blocking HTTP client, so no
+ * thread is held while waiting for a callback to respond, and the outcomes are handled by a pool of workers. A
+ * delivery failing with an I/O error or a 429 or 5XX response is retried with an exponential backoff. Events that do
+ * not fit in the queue of a subscriber are dropped and reported as failed deliveries.
+ */
+public class WebhookDeliveryEngine {
+
+    private static final Log log = LogFactory.getLog(WebhookDeliveryEngine.class);
+    private static final String SIGNATURE_HEADER = "X-Hub-Signature";
+    private static final String LINK_HEADER = "Link";
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_WORKER_COUNT = 20;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final long DEFAULT_INITIAL_BACKOFF = 1000;
+    private static final long DEFAULT_MAX_BACKOFF = 64000;
+    private static volatile WebhookDeliveryEngine instance;
+
+    private final DeliveryTransport transport;
+    private final DeliveryStatusListener statusListener;
+    private final int queueCapacity;
+    private final int maxRetries;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final Map<String, SubscriberQueue> subscriberQueues = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+
+    /**
+     * Sends an event to the callback URL of a subscriber without waiting for the response.
+     */
+    public interface DeliveryTransport {
+
+        /**
+         * @param callbackURL callback URL of the subscriber
+         * @param payload     payload of the event
+         * @param headers     headers of the request
+         * @param callback    notified once the response is received or the request fails
+         */
+        void deliver(String callbackURL, byte[] payload, Map<String, String> headers, DeliveryCallback callback);
+
+        /**
+         * Releases the connections of the transport.
+         */
+        default void shutdown() {
+
+        }
+    }
+
+    /**
+     * Notified of the outcome of a request sent by a {@link DeliveryTransport}.
+     */
+    public interface DeliveryCallback {
+
+        /**
+         * @param statusCode HTTP status code of the response
+         */
+        void completed(int statusCode);
+
+        /**
+         * @param e the error which failed the request. {@link IOException}s are retried.
+         */
+        void failed(Exception e);
+    }
+
+    /**
+     * Notified of the outcome of the delivery of an event to a subscriber.
+     */
+    public interface DeliveryStatusListener {
+
+        /**
+         * @param subscriber subscriber the event was delivered to
+         * @param statusCode HTTP status code of the last attempt, or -1 if no response was received
+         * @param delivered  whether the event was delivered
+         */
+        void onDeliveryCompleted(WebhooksDTO subscriber, int statusCode, boolean delivered);
+    }
+
+    public WebhookDeliveryEngine(DeliveryTransport transport, DeliveryStatusListener statusListener,
+                                 int queueCapacity, int workerCount, int maxRetries, long initialBackoff,
+                                 long maxBackoff) {
+
+        this.transport = transport;
+        this.statusListener = statusListener;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.initialBackoff = Math.max(0, initialBackoff);
+        this.maxBackoff = Math.max(this.initialBackoff, maxBackoff);
+        AtomicInteger workerNumber = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), r -> {
+            Thread thread = new Thread(r, "WebhookDeliveryWorker-" + workerNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "WebhookDeliveryRetryScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static WebhookDeliveryEngine getInstance() {
+
+        if (instance == null) {
+            synchronized (WebhookDeliveryEngine.class) {
+                if (instance == null) {
+                    APIManagerConfiguration configuration =
+                            ServiceReferenceHolder.getInstance().getAPIManagerConfiguration();
+                    WebhookDeliveryStatusPublisher statusPublisher = WebhookDeliveryStatusPublisher.getInstance();
+                    DeliveryTransport transport;
+                    try {
+                        transport = new AsyncHttpDeliveryTransport();
+                    } catch (IOReactorException e) {
+                        throw new IllegalStateException("Error while starting the webhooks delivery client", e);
+                    }
+                    instance = new WebhookDeliveryEngine(transport,
+                            (subscriber, statusCode, delivered) -> statusPublisher.publish(subscriber.getApiUUID(),
+                                    subscriber.getAppID(), subscriber.getTenantDomain(),
+                                    subscriber.getCallbackURL(), subscriber.getTopicName(), delivered ? 1 : 2),
+                            (int) getConfiguredValue(configuration, APIConstants.Webhooks.DELIVERY_QUEUE_CAPACITY,
+                                    DEFAULT_QUEUE_CAPACITY),
+                            (int) getConfiguredValue(configuration, APIConstants.Webhooks.DELIVERY_WORKER_COUNT,
+                                    DEFAULT_WORKER_COUNT),
+                            (int) getConfiguredValue(configuration, APIConstants.Webhooks.DELIVERY_MAX_RETRIES,
+                                    DEFAULT_MAX_RETRIES),
+                            getConfiguredValue(configuration, APIConstants.Webhooks.DELIVERY_INITIAL_BACKOFF,
+                                    DEFAULT_INITIAL_BACKOFF),
+                            getConfiguredValue(configuration, APIConstants.Webhooks.DELIVERY_MAX_BACKOFF,
+                                    DEFAULT_MAX_BACKOFF));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the engine if it has been started, releasing the connections of its HTTP client. Events waiting to be
+     * delivered are dropped.
+     */
+    public static void shutdownInstance() {
+
+        WebhookDeliveryEngine engine = instance;
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    /**
+     * Queues an event to be delivered to a subscriber.
+     *
+     * @param event      event to deliver
+     * @param subscriber subscriber to deliver the event to
+     * @return false if the queue of the subscriber is full and the event is dropped
+     */
+    public boolean submit(WebhookEvent event, WebhooksDTO subscriber) {
+
+        return submit(event, subscriber, null);
+    }
+
+    /**
+     * Queues an event to be delivered to a subscriber, notifying the given listener of the outcome of the delivery in
+     * addition to the status listener of the engine.
+     *
+     * @param event            event to deliver
+     * @param subscriber       subscriber to deliver the event to
+     * @param deliveryListener listener of the outcome of this delivery, or null
+     * @return false if the queue of the subscriber is full and the event is dropped
+     */
+    public boolean submit(WebhookEvent event, WebhooksDTO subscriber, DeliveryStatusListener deliveryListener) {
+
+        String subscriberKey = subscriber.getAppID() + '\n' + subscriber.getCallbackURL() + '\n'
+                + subscriber.getTopicName();
+        Delivery delivery = new Delivery(event, subscriber, deliveryListener);
+        while (true) {
+            SubscriberQueue queue = subscriberQueues.computeIfAbsent(subscriberKey, SubscriberQueue::new);
+            synchronized (queue) {
+                if (queue.removed) {
+                    // The queue was emptied and removed meanwhile
+                    continue;
+                }
+                if (queue.pendingDeliveries.size() >= queueCapacity) {
+                    log.warn("Dropping an event of topic " + subscriber.getTopicName() + " as "
+                            + queueCapacity + " events are waiting to be delivered to " + subscriber.getCallbackURL());
+                    notifyStatus(delivery, -1, false);
+                    return false;
+                }
+                queue.pendingDeliveries.add(delivery);
+                if (queue.active) {
+                    return true;
+                }
+                queue.active = true;
+            }
+            execute(() -> deliverNext(queue));
+            return true;
+        }
+    }
+
+    /**
+     * Stops delivering events and releases the connections of the transport.
+     */
+    public void shutdown() {
+
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        transport.shutdown();
+    }
+
+    /**
+     * @return number of events waiting to be delivered
+     */
+    public int getPendingCount() {
+
+        int pendingCount = 0;
+        for (SubscriberQueue queue : subscriberQueues.values()) {
+            synchronized (queue) {
+                pendingCount += queue.pendingDeliveries.size();
+            }
+        }
+        return pendingCount;
+    }
+
+    private void deliverNext(SubscriberQueue queue) {
+
+        Delivery delivery;
+        synchronized (queue) {
+            delivery = queue.pendingDeliveries.peek();
+            if (delivery == null) {
+                queue.active = false;
+                queue.removed = true;
+                subscriberQueues.remove(queue.subscriberKey, queue);
+                return;
+            }
+        }
+        attempt(queue, delivery);
+    }
+
+    /**
+     * Sends the event at the head of the queue of a subscriber. The outcome is handled by a worker once the
+     * response is received.
+     */
+    private void attempt(SubscriberQueue queue, Delivery delivery) {
+
+        WebhooksDTO subscriber = delivery.subscriber;
+        try {
+            transport.deliver(subscriber.getCallbackURL(), delivery.event.getPayload(),
+                    getHeaders(delivery.event, subscriber), new DeliveryCallback() {
+                        @Override
+                        public void completed(int statusCode) {
+
+                            execute(() -> onAttemptCompleted(queue, delivery, statusCode, null));
+                        }
+
+                        @Override
+                        public void failed(Exception e) {
+
+                            execute(() -> onAttemptCompleted(queue, delivery, -1, e));
+                        }
+                    });
+        } catch (RuntimeException e) {
+            onAttemptCompleted(queue, delivery, -1, e);
+        }
+    }
+
+    /**
+     * Retries the delivery with a backoff if it failed with a retryable error, otherwise completes it and delivers
+     * the next event of the subscriber.
+     */
+    private void onAttemptCompleted(SubscriberQueue queue, Delivery delivery, int statusCode, Exception error) {
+
+        WebhooksDTO subscriber = delivery.subscriber;
+        boolean retryable;
+        if (error != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while delivering an event to " + subscriber.getCallbackURL(), error);
+            }
+            retryable = error instanceof IOException;
+        } else {
+            retryable = statusCode == 429 || statusCode >= 500;
+        }
+        boolean delivered = statusCode >= 200 && statusCode < 300;
+        if (!delivered && retryable && delivery.attempts < maxRetries) {
+            long backoff = Math.min(maxBackoff, initialBackoff << Math.min(delivery.attempts, 30));
+            delivery.attempts++;
+            try {
+                retryScheduler.schedule(() -> execute(() -> attempt(queue, delivery)), backoff,
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.warn("Webhooks delivery engine is stopped. Event of topic " + subscriber.getTopicName()
+                        + " is not retried for " + subscriber.getCallbackURL());
+            }
+            return;
+        }
+        if (!delivered) {
+            log.warn("Failed to deliver an event of topic " + subscriber.getTopicName() + " to "
+                    + subscriber.getCallbackURL() + " after " + (delivery.attempts + 1) + " attempts");
+        }
+        notifyStatus(delivery, statusCode, delivered);
+        synchronized (queue) {
+            queue.pendingDeliveries.poll();
+        }
+        deliverNext(queue);
+    }
+
+    private void execute(Runnable task) {
+
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Webhooks delivery engine is stopped. Pending events are not delivered.");
+        }
+    }
+
+    private Map<String, String> getHeaders(WebhookEvent event, WebhooksDTO subscriber) {
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (event.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, event.getContentType());
+        }
+        if (event.getLinkHeader() != null) {
+            headers.put(LINK_HEADER, event.getLinkHeader());
+        }
+        if (StringUtils.isNotEmpty(subscriber.getSecret())) {
+            headers.put(SIGNATURE_HEADER, event.getSignature(subscriber.getSecret()));
+        }
+        return headers;
+    }
+
+    private void notifyStatus(Delivery delivery, int statusCode, boolean delivered) {
+
+        WebhooksDTO subscriber = delivery.subscriber;
+        try {
+            statusListener.onDeliveryCompleted(subscriber, statusCode, delivered);
+            if (delivery.listener != null) {
+                delivery.listener.onDeliveryCompleted(subscriber, statusCode, delivered);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while recording the delivery status of " + subscriber.getCallbackURL(), e);
+        }
+    }
+
+    static long getConfiguredValue(APIManagerConfiguration configuration, String key, long defaultValue) {
+
+        String value = configuration != null ? configuration.getFirstProperty(key) : null;
+        if (StringUtils.isNotEmpty(value)) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value " + value + " configured for " + key + ". Using " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static final class Delivery {
+
+        private final WebhookEvent event;
+        private final WebhooksDTO subscriber;
+        private final DeliveryStatusListener listener;
+        private int attempts;
+
+        private Delivery(WebhookEvent event, WebhooksDTO subscriber, DeliveryStatusListener listener) {
+
+            this.event = event;
+            this.subscriber = subscriber;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Events waiting to be delivered to a subscriber. A queue is processed by a single worker at a time.
+     */
+    private static final class SubscriberQueue {
+
+        private final String subscriberKey;
+        private final Queue<Delivery> pendingDeliveries = new ArrayDeque<>();
+        private boolean active;
+        private boolean removed;
+
+        private SubscriberQueue(String subscriberKey) {
+
+            this.subscriberKey = subscriberKey;
+        }
+    }
+
+    /**
+     * Sends events with a non-blocking HTTP client sharing the payload of an event among its requests. The responses
+     * are read by the threads of the I/O reactor, so the number of callbacks waiting to respond does not hold any
+     * worker. Server certificates are verified against the trust store of the gateway, including their host names.
+     */
+    private static final class AsyncHttpDeliveryTransport implements DeliveryTransport {
+
+        private static final int CONNECT_TIMEOUT = 10000;
+        private static final int SOCKET_TIMEOUT = 60000;
+        private static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+        private static final int MAX_CONNECTIONS = 200;
+        private static final long SHUTDOWN_GRACE_PERIOD = 5000;
+
+        private final DefaultConnectingIOReactor ioReactor;
+        private final BasicNIOConnPool connectionPool;
+        private final HttpAsyncRequester requester;
+
+        private AsyncHttpDeliveryTransport() throws IOReactorException {
+
+            ioReactor = new DefaultConnectingIOReactor(IOReactorConfig.custom()
+                    .setConnectTimeout(CONNECT_TIMEOUT)
+                    .setSoTimeout(SOCKET_TIMEOUT)
+                    .build());
+            connectionPool = new BasicNIOConnPool(ioReactor, new BasicNIOConnFactory(SSLContexts.createSystemDefault(),
+                    new HostnameVerifyingSSLSetupHandler(), ConnectionConfig.DEFAULT), CONNECT_TIMEOUT);
+            connectionPool.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+            connectionPool.setMaxTotal(MAX_CONNECTIONS);
+            requester = new HttpAsyncRequester(HttpProcessorBuilder.create()
+                    .add(new RequestContent())
+                    .add(new RequestTargetHost())
+                    .add(new RequestConnControl())
+                    .build());
+            DefaultHttpClientIODispatch ioEventDispatch =
+                    new DefaultHttpClientIODispatch(new HttpAsyncRequestExecutor(), ConnectionConfig.DEFAULT);
+            Thread ioReactorThread = new Thread(() -> {
+                try {
+                    ioReactor.execute(ioEventDispatch);
+                } catch (IOException e) {
+                    log.error("Webhooks delivery client is stopped due to an I/O error", e);
+                }
+            }, "WebhookDeliveryIOReactor");
+            ioReactorThread.setDaemon(true);
+            ioReactorThread.start();
+        }
+
+        @Override
+        public void deliver(String callbackURL, byte[] payload, Map<String, String> headers,
+                            DeliveryCallback callback) {
+
+            HttpHost target;
+            BasicHttpEntityEnclosingRequest request;
+            try {
+                URL url = new URL(callbackURL);
+                target = new HttpHost(url.getHost(), url.getPort() != -1 ? url.getPort() : url.getDefaultPort(),
+                        url.getProtocol());
+                request = new BasicHttpEntityEnclosingRequest(APIConstants.HTTP_POST,
+                        StringUtils.isEmpty(url.getFile()) ? "/" : url.getFile());
+            } catch (IOException e) {
+                callback.failed(e);
+                return;
+            }
+            request.setEntity(new NByteArrayEntity(payload));
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                request.setHeader(header.getKey(), header.getValue());
+            }
+            requester.execute(new BasicAsyncRequestProducer(target, request), new BasicAsyncResponseConsumer(),
+                    connectionPool, HttpCoreContext.create(), new FutureCallback<HttpResponse>() {
+                        @Override
+                        public void completed(HttpResponse response) {
+
+                            callback.completed(response.getStatusLine().getStatusCode());
+                        }
+
+                        @Override
+                        public void failed(Exception e) {
+
+                            callback.failed(e);
+                        }
+
+                        @Override
+                        public void cancelled() {
+
+                            callback.failed(new IOException("Delivery to " + callbackURL + " is cancelled"));
+                        }
+                    });
+        }
+
+        @Override
+        public void shutdown() {
+
+            try {
+                ioReactor.shutdown(SHUTDOWN_GRACE_PERIOD);
+            } catch (IOException e) {
+                log.error("Error while stopping the webhooks delivery client", e);
+            }
+        }
+    }
+
+    /**
+     * Verifies that the certificate of a callback matches its host name, which the SSL sessions of the non-blocking
+     * client do not do by themselves.
+     */
+    private static final class HostnameVerifyingSSLSetupHandler implements SSLSetupHandler {
+
+        @Override
+        public void initalize(SSLEngine sslEngine) {
+
+            SSLParameters sslParameters = sslEngine.getSSLParameters();
+            sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+            sslEngine.setSSLParameters(sslParameters);
+        }
+
+        @Override
+        public void verify(IOSession ioSession, SSLSession sslSession) {
+
+        }
+    }
+}
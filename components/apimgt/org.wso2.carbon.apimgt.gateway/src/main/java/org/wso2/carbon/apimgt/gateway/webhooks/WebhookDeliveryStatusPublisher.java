@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.webhooks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.utils.WebhooksUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the delivery status of the webhooks subscriptions off the mediation thread.
+ * <p>
+ * The statuses are sent by a number of senders, each with a bounded queue. The statuses of a subscription are always
+ * sent by the same sender, so that they are persisted in the order they are recorded. A status that does not fit in
+ * the queue of its sender, as the control plane is slow or unreachable, is dropped and logged.
+ * <p>
+ * When batching is enabled, the statuses are sent in batches. The statuses recorded for a subscription while a batch
+ * is collected are coalesced, as only the latest one is stored. A batch is sent once the flush interval has elapsed
+ * since its first status was recorded, or as soon as it reaches the batch size. Batching is disabled by default, as
+ * a control plane of an earlier version only accepts a single status per event, and has to be enabled only once all
+ * the control plane nodes accept batches.
+ */
+public class WebhookDeliveryStatusPublisher {
+
+    private static final Log log = LogFactory.getLog(WebhookDeliveryStatusPublisher.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int DELIVERY_DATA_PERSIST_RETRIES = 15;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL = 1000;
+    private static final int DEFAULT_SENDER_COUNT = 4;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final long SHUTDOWN_TIMEOUT = 30000;
+    private static volatile WebhookDeliveryStatusPublisher instance;
+
+    private final boolean batchingEnabled;
+    private final int batchSize;
+    private final long flushInterval;
+    private final Map<String, ObjectNode> pendingStatuses = new LinkedHashMap<>();
+    private final ThreadPoolExecutor[] senders;
+    private final ScheduledThreadPoolExecutor flushScheduler;
+    private boolean flushScheduled;
+    private volatile boolean stopped;
+
+    /**
+     * @param batchingEnabled whether statuses are sent in batches, or one by one as they are recorded
+     * @param batchSize       maximum number of statuses sent in a batch
+     * @param flushInterval   time in milliseconds statuses are collected for before being sent
+     * @param senderCount     number of threads sending the statuses
+     * @param queueCapacity   maximum number of statuses, or batches if batching is enabled, waiting for each sender
+     */
+    public WebhookDeliveryStatusPublisher(boolean batchingEnabled, int batchSize, long flushInterval, int senderCount,
+                                          int queueCapacity) {
+
+        this.batchingEnabled = batchingEnabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = Math.max(0, flushInterval);
+        this.senders = new ThreadPoolExecutor[Math.max(1, senderCount)];
+        for (int i = 0; i < senders.length; i++) {
+            String threadName = "WebhookDeliveryStatusPublisher-" + i;
+            senders[i] = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            senders[i].allowCoreThreadTimeOut(true);
+        }
+        this.flushScheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "WebhookDeliveryStatusFlusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static WebhookDeliveryStatusPublisher getInstance() {
+
+        if (instance == null) {
+            synchronized (WebhookDeliveryStatusPublisher.class) {
+                if (instance == null) {
+                    APIManagerConfiguration configuration =
+                            ServiceReferenceHolder.getInstance().getAPIManagerConfiguration();
+                    String batchingEnabled = configuration != null ? configuration.getFirstProperty(
+                            APIConstants.Webhooks.DELIVERY_STATUS_BATCHING_ENABLED) : null;
+                    instance = new WebhookDeliveryStatusPublisher(Boolean.parseBoolean(batchingEnabled),
+                            (int) WebhookDeliveryEngine.getConfiguredValue(configuration,
+                                    APIConstants.Webhooks.DELIVERY_STATUS_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                            WebhookDeliveryEngine.getConfiguredValue(configuration,
+                                    APIConstants.Webhooks.DELIVERY_STATUS_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL),
+                            (int) WebhookDeliveryEngine.getConfiguredValue(configuration,
+                                    APIConstants.Webhooks.DELIVERY_STATUS_SENDER_COUNT, DEFAULT_SENDER_COUNT),
+                            (int) WebhookDeliveryEngine.getConfiguredValue(configuration,
+                                    APIConstants.Webhooks.DELIVERY_STATUS_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the publisher if it has been started, sending the statuses waiting to be published.
+     */
+    public static void shutdownInstance() {
+
+        WebhookDeliveryStatusPublisher publisher = instance;
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    /**
+     * Records the delivery status of a subscription to be persisted, with the next batch if batching is enabled.
+     *
+     * @param apiUUID       UUID of the API
+     * @param applicationID ID of the application of the subscriber
+     * @param tenantDomain  tenant domain of the API
+     * @param callback      callback URL of the subscriber
+     * @param topicName     topic of the subscription
+     * @param status        1 if the event was delivered to the callback URL, 2 otherwise
+     */
+    public void publish(String apiUUID, String applicationID, String tenantDomain, String callback,
+                        String topicName, int status) {
+
+        ObjectNode node = OBJECT_MAPPER.createObjectNode();
+        node.put(APIConstants.Webhooks.API_UUID, apiUUID);
+        node.put(APIConstants.Webhooks.APP_ID, applicationID);
+        node.put(APIConstants.Webhooks.TENANT_DOMAIN, tenantDomain);
+        node.put(APIConstants.Webhooks.CALLBACK, callback);
+        node.put(APIConstants.Webhooks.TOPIC, topicName);
+        node.put(APIConstants.Webhooks.STATUS, status);
+        if (stopped) {
+            log.warn("Webhooks delivery status publisher is stopped. Delivery status is not persisted: " + node);
+            return;
+        }
+        String subscriptionKey = apiUUID + '\n' + applicationID + '\n' + tenantDomain + '\n' + callback
+                + '\n' + topicName;
+        if (!batchingEnabled) {
+            execute(subscriptionKey, () -> send(node), node);
+            return;
+        }
+        synchronized (pendingStatuses) {
+            pendingStatuses.remove(subscriptionKey);
+            pendingStatuses.put(subscriptionKey, node);
+            if (pendingStatuses.size() >= batchSize) {
+                submitPendingStatuses();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                try {
+                    flushScheduler.schedule(this::submitPendingStatuses, flushInterval, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // Stopped meanwhile, the pending statuses are sent by the shutdown
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the statuses waiting to be persisted on the calling thread, in batches of at most the batch size.
+     */
+    public void flush() {
+
+        List<ObjectNode> statuses;
+        synchronized (pendingStatuses) {
+            statuses = new ArrayList<>(pendingStatuses.values());
+            pendingStatuses.clear();
+            flushScheduled = false;
+        }
+        for (int from = 0; from < statuses.size(); from += batchSize) {
+            ArrayNode batch = OBJECT_MAPPER.createArrayNode();
+            batch.addAll(statuses.subList(from, Math.min(from + batchSize, statuses.size())));
+            if (!send(batch)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends the statuses waiting to be persisted and stops the publisher. Statuses recorded afterwards are not
+     * persisted.
+     */
+    public void shutdown() {
+
+        stopped = true;
+        flushScheduler.shutdownNow();
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT;
+        for (ThreadPoolExecutor sender : senders) {
+            sender.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor sender : senders) {
+                if (!sender.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()),
+                        TimeUnit.MILLISECONDS)) {
+                    log.warn("Timed out while persisting the pending webhooks delivery statuses");
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Hands over the statuses waiting to be persisted to their senders, in batches of at most the batch size.
+     */
+    private void submitPendingStatuses() {
+
+        List<List<ObjectNode>> statusesOfSenders = new ArrayList<>(senders.length);
+        for (int i = 0; i < senders.length; i++) {
+            statusesOfSenders.add(new ArrayList<>());
+        }
+        synchronized (pendingStatuses) {
+            for (Map.Entry<String, ObjectNode> status : pendingStatuses.entrySet()) {
+                statusesOfSenders.get(getSenderIndex(status.getKey())).add(status.getValue());
+            }
+            pendingStatuses.clear();
+            flushScheduled = false;
+        }
+        for (int i = 0; i < senders.length; i++) {
+            List<ObjectNode> statuses = statusesOfSenders.get(i);
+            for (int from = 0; from < statuses.size(); from += batchSize) {
+                ArrayNode batch = OBJECT_MAPPER.createArrayNode();
+                batch.addAll(statuses.subList(from, Math.min(from + batchSize, statuses.size())));
+                execute(i, () -> send(batch), batch);
+            }
+        }
+    }
+
+    private void execute(String subscriptionKey, Runnable task, JsonNode deliveryStatuses) {
+
+        execute(getSenderIndex(subscriptionKey), task, deliveryStatuses);
+    }
+
+    private void execute(int senderIndex, Runnable task, JsonNode deliveryStatuses) {
+
+        try {
+            senders[senderIndex].execute(task);
+        } catch (RejectedExecutionException e) {
+            if (stopped) {
+                log.warn("Webhooks delivery status publisher is stopped. Delivery status is not persisted: "
+                        + deliveryStatuses);
+            } else {
+                log.warn("Dropping webhooks delivery statuses as " + senders[senderIndex].getQueue().size()
+                        + " are waiting to be persisted: " + deliveryStatuses);
+            }
+        }
+    }
+
+    private int getSenderIndex(String subscriptionKey) {
+
+        return (subscriptionKey.hashCode() & Integer.MAX_VALUE) % senders.length;
+    }
+
+    /**
+     * @return false if interrupted, in which case the remaining statuses are not sent
+     */
+    private boolean send(JsonNode deliveryStatuses) {
+
+        try {
+            send(deliveryStatuses.toString());
+            return true;
+        } catch (IOException e) {
+            log.error("Error while persisting webhooks delivery statuses " + deliveryStatuses, e);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while persisting webhooks delivery statuses", e);
+            return false;
+        } catch (RuntimeException e) {
+            // Keeps the sender thread for the statuses that follow
+            log.error("Unexpected error while persisting webhooks delivery statuses " + deliveryStatuses, e);
+            return true;
+        }
+    }
+
+    protected void send(String deliveryStatuses) throws IOException, InterruptedException {
+
+        WebhooksUtils.persistData(deliveryStatuses, DELIVERY_DATA_PERSIST_RETRIES,
+                APIConstants.Webhooks.DELIVERY_EVENT_TYPE);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.webhooks;
+
+import org.apache.commons.codec.binary.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Event received by a WebSub API, delivered to all the subscribers of its topic. The payload is held once and shared
+ * by all the deliveries of the event, which must not modify it.
+ */
+public final class WebhookEvent {
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA1";
+    private static final String SIGNATURE_PREFIX = "sha1=";
+
+    private final byte[] payload;
+    private final String contentType;
+    private final String linkHeader;
+    private final Map<String, String> signatures = new ConcurrentHashMap<>();
+
+    /**
+     * @param payload     payload of the event
+     * @param contentType content type of the payload
+     * @param linkHeader  value of the link header advertising the hub and the topic of the event
+     */
+    public WebhookEvent(byte[] payload, String contentType, String linkHeader) {
+
+        this.payload = payload;
+        this.contentType = contentType;
+        this.linkHeader = linkHeader;
+    }
+
+    public byte[] getPayload() {
+
+        return payload;
+    }
+
+    public String getContentType() {
+
+        return contentType;
+    }
+
+    public String getLinkHeader() {
+
+        return linkHeader;
+    }
+
+    /**
+     * Returns the signature of the payload for the X-Hub-Signature header, computed once per secret.
+     *
+     * @param secret secret of the subscriber
+     * @return signature of the payload
+     */
+    public String getSignature(String secret) {
+
+        return signatures.computeIfAbsent(secret, this::sign);
+    }
+
+    private String sign(String secret) {
+
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM));
+            return SIGNATURE_PREFIX + Hex.encodeHexString(mac.doFinal(payload));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Error while signing the payload of the event", e);
+        }
+    }
+}
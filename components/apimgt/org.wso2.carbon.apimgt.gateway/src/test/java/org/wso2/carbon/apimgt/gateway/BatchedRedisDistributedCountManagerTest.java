@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Timer;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.concurrent.TimeUnit;
+
+public class BatchedRedisDistributedCountManagerTest {
+
+    private static final String KEY = "admin:DefaultApplication";
+
+    private JedisPool jedisPool;
+    private Jedis jedis;
+    private Pipeline pipeline;
+    private Histogram histogram;
+    private BatchedRedisDistributedCountManager countManager;
+
+    @Before
+    public void init() {
+
+        jedisPool = Mockito.mock(JedisPool.class);
+        jedis = Mockito.mock(Jedis.class);
+        pipeline = Mockito.mock(Pipeline.class);
+        histogram = Mockito.mock(Histogram.class);
+        Timer timer = Mockito.mock(Timer.class);
+        Mockito.when(jedisPool.getResource()).thenReturn(jedis);
+        Mockito.when(jedis.pipelined()).thenReturn(pipeline);
+        countManager = new BatchedRedisDistributedCountManager(jedisPool, 50, 60000, 5) {
+            @Override
+            protected Timer getTimer(String name) {
+
+                return timer;
+            }
+
+            @Override
+            protected Histogram getHistogram(String name) {
+
+                return histogram;
+            }
+        };
+    }
+
+    @Test
+    public void testIncrementsAreAggregatedLocally() {
+
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(10L);
+        Assert.assertEquals(10, countManager.addAndGetCounter(KEY, 1));
+        Assert.assertEquals(11, countManager.addAndGetCounter(KEY, 1));
+        Assert.assertEquals(12, countManager.asyncAddCounter(KEY, 1));
+        Assert.assertEquals(12, countManager.asyncGetAndAddCounter(KEY, 1));
+        Assert.assertEquals(13, countManager.getCounter(KEY));
+        // only the first access of the key goes to Redis
+        Mockito.verify(jedis, Mockito.times(1)).incrBy(Mockito.anyString(), Mockito.anyLong());
+        Mockito.verify(jedis, Mockito.never()).multi();
+    }
+
+    @Test
+    public void testCounterIsSyncedWhenMaxUnsyncedDeltaIsReached() {
+
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(1L);
+        countManager.addAndGetCounter(KEY, 1);
+        Mockito.when(jedis.incrBy(KEY, 5L)).thenReturn(26L);
+        for (int i = 0; i < 4; i++) {
+            countManager.addAndGetCounter(KEY, 1);
+        }
+        Mockito.verify(jedis, Mockito.never()).incrBy(KEY, 5L);
+        // the fifth unsynced increment syncs the counter and picks up the increments of the other gateways
+        Assert.assertEquals(26, countManager.addAndGetCounter(KEY, 1));
+        Mockito.verify(jedis).incrBy(KEY, 5L);
+    }
+
+    @Test
+    public void testSyncCountersPipelinesPendingIncrements() {
+
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(1L);
+        countManager.addAndGetCounter(KEY, 1);
+        countManager.addAndGetCounter(KEY, 1);
+        countManager.addAndGetCounter(KEY, 1);
+        Response<Long> response = mockResponse(13L);
+        Mockito.when(pipeline.incrBy(KEY, 2L)).thenReturn(response);
+
+        countManager.syncCounters();
+        Mockito.verify(pipeline).incrBy(KEY, 2L);
+        Mockito.verify(pipeline).sync();
+        Mockito.verify(histogram).update(10L);
+        Mockito.verify(histogram).update(1);
+        Assert.assertEquals(13, countManager.getCounter(KEY));
+
+        // nothing is pending, so the next sync does not go to Redis
+        countManager.syncCounters();
+        Mockito.verify(jedis, Mockito.times(1)).pipelined();
+    }
+
+    @Test
+    public void testPendingIncrementsAreKeptOnSyncFailure() {
+
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(1L);
+        countManager.addAndGetCounter(KEY, 1);
+        countManager.addAndGetCounter(KEY, 1);
+        Mockito.when(pipeline.incrBy(KEY, 1L)).thenThrow(new JedisConnectionException("Connection refused"));
+
+        countManager.syncCounters();
+        Assert.assertEquals(2, countManager.getCounter(KEY));
+        Response<Long> response = mockResponse(2L);
+        Mockito.reset(pipeline);
+        Mockito.when(pipeline.incrBy(KEY, 1L)).thenReturn(response);
+        countManager.syncCounters();
+        Mockito.verify(pipeline).incrBy(KEY, 1L);
+    }
+
+    @Test
+    public void testResetDiscardsLocalIncrements() {
+
+        Transaction transaction = Mockito.mock(Transaction.class);
+        Mockito.when(jedis.multi()).thenReturn(transaction);
+        Response<String> currentValue = Mockito.mock(Response.class);
+        Mockito.when(currentValue.get()).thenReturn("3");
+        Mockito.when(transaction.get(KEY)).thenReturn(currentValue);
+        Response<Long> incrementedValue = mockResponse(0L);
+        Mockito.when(transaction.incrBy(KEY, 0L)).thenReturn(incrementedValue);
+        Response<Long> expiryResponse = mockResponse(1L);
+        Mockito.when(transaction.pexpireAt(Mockito.eq(KEY), Mockito.anyLong())).thenReturn(expiryResponse);
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(3L);
+        countManager.addAndGetCounter(KEY, 1);
+        countManager.addAndGetCounter(KEY, 1);
+
+        Assert.assertEquals(4, countManager.asyncGetAlterAndSetExpiryOfCounter(KEY, 0,
+                System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1)));
+        Assert.assertEquals(0, countManager.getLocalCounterCount());
+        countManager.syncCounters();
+        Mockito.verify(jedis, Mockito.never()).pipelined();
+    }
+
+    @Test
+    public void testIncrementsDuringResetAreKeptForTheNewWindow() {
+
+        Transaction transaction = Mockito.mock(Transaction.class);
+        Mockito.when(jedis.multi()).thenReturn(transaction);
+        Response<String> currentValue = Mockito.mock(Response.class);
+        Mockito.when(currentValue.get()).thenReturn("3");
+        Mockito.when(transaction.get(KEY)).thenReturn(currentValue);
+        Response<Long> incrementedValue = mockResponse(0L);
+        Mockito.when(transaction.incrBy(KEY, 0L)).thenReturn(incrementedValue);
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(3L);
+        countManager.addAndGetCounter(KEY, 1);
+        countManager.addAndGetCounter(KEY, 1);
+        // an increment of another request arrives while the counter is reset in Redis
+        Mockito.when(transaction.exec()).thenAnswer(invocation -> {
+            countManager.addAndGetCounter(KEY, 1);
+            return null;
+        });
+
+        Assert.assertEquals(4, countManager.asyncGetAndAlterCounter(KEY, 0));
+        // the increment is not synced while resetting, and is synced to the new window afterwards
+        Mockito.verify(jedis, Mockito.times(1)).incrBy(KEY, 1L);
+        Assert.assertEquals(1, countManager.getLocalCounterCount());
+        Mockito.when(jedis.incrBy(KEY, 1L)).thenReturn(1L);
+        Assert.assertEquals(1, countManager.addAndGetCounter(KEY, 0));
+        Mockito.verify(jedis, Mockito.times(2)).incrBy(KEY, 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Response<Long> mockResponse(long value) {
+
+        Response<Long> response = Mockito.mock(Response.class);
+        Mockito.when(response.get()).thenReturn(value);
+        return response;
+    }
+}
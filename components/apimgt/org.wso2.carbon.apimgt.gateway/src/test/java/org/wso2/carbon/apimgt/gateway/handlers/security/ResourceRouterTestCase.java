@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.LinkedHashSet;
+
+/**
+ * Test class for ResourceRouter
+ */
+public class ResourceRouterTestCase {
+
+    @Test
+    public void testExactResourceMatch() {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>());
+        VerbInfoDTO getMenu = addResource(apiInfoDTO, "/menu", "GET");
+        VerbInfoDTO postOrder = addResource(apiInfoDTO, "/order", "POST");
+        ResourceRouter router = ResourceRouter.compile(apiInfoDTO);
+
+        Assert.assertEquals(2, router.getResourceCount());
+        Assert.assertArrayEquals(new VerbInfoDTO[]{getMenu}, router.getMatchingVerbs("GET", "/menu"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{postOrder}, router.getMatchingVerbs("POST", " /order "));
+        Assert.assertEquals(0, router.getMatchingVerbs("POST", "/menu").length);
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", "/menu/items").length);
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", "/").length);
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", "menu").length);
+    }
+
+    @Test
+    public void testResourceMatchIgnoresCase() {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>());
+        VerbInfoDTO verb = addResource(apiInfoDTO, "/Pizza/Menu", "GET");
+        ResourceRouter router = ResourceRouter.compile(apiInfoDTO);
+
+        Assert.assertArrayEquals(new VerbInfoDTO[]{verb}, router.getMatchingVerbs("GET", "/pizza/MENU"));
+        Assert.assertEquals(0, router.getMatchingVerbs("get", "/pizza/menu").length);
+    }
+
+    @Test
+    public void testTrailingSlashInUrlPattern() {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>());
+        VerbInfoDTO withSlash = addResource(apiInfoDTO, "/menu/", "GET");
+        VerbInfoDTO root = addResource(apiInfoDTO, "/", "GET");
+        ResourceRouter router = ResourceRouter.compile(apiInfoDTO);
+
+        Assert.assertArrayEquals(new VerbInfoDTO[]{withSlash}, router.getMatchingVerbs("GET", "/menu/"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{withSlash}, router.getMatchingVerbs("GET", "/menu"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{root}, router.getMatchingVerbs("GET", "/"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{root}, router.getMatchingVerbs("GET", ""));
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", "/menu//").length);
+    }
+
+    @Test
+    public void testPathParameterAndWildcardResources() {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>());
+        VerbInfoDTO getPet = addResource(apiInfoDTO, "/pets/{petId}", "GET");
+        VerbInfoDTO deletePet = addResource(apiInfoDTO, "/pets/{id}", "DELETE");
+        VerbInfoDTO findPets = addResource(apiInfoDTO, "/pets/findByStatus", "GET");
+        VerbInfoDTO anyPath = addResource(apiInfoDTO, "/*", "GET");
+        ResourceRouter router = ResourceRouter.compile(apiInfoDTO);
+
+        Assert.assertArrayEquals(new VerbInfoDTO[]{getPet}, router.getMatchingVerbs("GET", "/pets/{petId}"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{deletePet}, router.getMatchingVerbs("DELETE", "/pets/{petId}"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{findPets}, router.getMatchingVerbs("GET", "/pets/findByStatus"));
+        Assert.assertArrayEquals(new VerbInfoDTO[]{anyPath}, router.getMatchingVerbs("GET", "/*"));
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", "/pets/*").length);
+    }
+
+    @Test
+    public void testEmptyApi() {
+
+        ResourceRouter router = ResourceRouter.compile(new APIInfoDTO());
+
+        Assert.assertEquals(0, router.getResourceCount());
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", "/menu").length);
+        Assert.assertEquals(0, router.getMatchingVerbs(null, "/menu").length);
+        Assert.assertEquals(0, router.getMatchingVerbs("GET", null).length);
+    }
+
+    @Test
+    public void testCompiledFromApiInfo() {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>());
+        addResource(apiInfoDTO, "/menu", "GET");
+        ResourceRouter router = ResourceRouter.compile(apiInfoDTO);
+
+        Assert.assertTrue(router.isCompiledFrom(apiInfoDTO));
+        Assert.assertFalse(router.isCompiledFrom(new APIInfoDTO()));
+        Assert.assertFalse(router.isCompiledFrom(null));
+    }
+
+    private VerbInfoDTO addResource(APIInfoDTO apiInfoDTO, String urlPattern, String httpVerb) {
+
+        ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+        resourceInfoDTO.setUrlPattern(urlPattern);
+        resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>());
+        VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+        verbInfoDTO.setHttpVerb(httpVerb);
+        resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
+        apiInfoDTO.getResources().add(resourceInfoDTO);
+        return verbInfoDTO;
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.wso2.carbon.apimgt.gateway.handlers.security;
 
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.ParseOptions;
@@ -39,11 +40,14 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -290,6 +294,41 @@ public class TestSchemaValidator {
         assertBadRequest();
     }
 
+    @Test
+    public void testValidatorIsSharedByRequestsOfDeployedRevision() throws IOException, XMLStreamException {
+        String apiUUID = "2b8f6c4e-1d3a-4f5b-9c7e-6a0d8e2f4b13";
+        setMockedRequest("POST", "/pet", "/pet", "<jsonObject>" +
+                "<id>INVALID-INT</id><name>Doggie</name>" +
+                "<photoUrls>https://mydog_1.jpg</photoUrls>" +
+                "<status>available</status>" +
+                "</jsonObject>");
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.API_UUID_PROPERTY)).thenReturn(apiUUID);
+        assertBadRequest();
+
+        OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
+        AtomicInteger builtValidators = new AtomicInteger();
+        Function<OpenAPI, OpenApiInteractionValidator> validatorFactory = definition -> {
+            builtValidators.incrementAndGet();
+            return SchemaValidator.createOpenAPIValidator(definition);
+        };
+        DataHolder dataHolder = DataHolder.getInstance();
+        OpenApiInteractionValidator validator =
+                dataHolder.getOpenAPIValidatorForAPI(apiUUID, openAPI, validatorFactory);
+        Assert.assertEquals("Validator built by the handler is not reused", 0, builtValidators.get());
+
+        OpenAPI redeployedOpenAPI = new OpenAPIParser().readContents(
+                (String) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_STRING), null,
+                new ParseOptions()).getOpenAPI();
+        Assert.assertNotSame(validator,
+                dataHolder.getOpenAPIValidatorForAPI(apiUUID, redeployedOpenAPI, validatorFactory));
+        Assert.assertEquals(1, builtValidators.get());
+
+        dataHolder.removeOpenAPIValidatorOfAPI(apiUUID);
+        dataHolder.getOpenAPIValidatorForAPI(apiUUID, redeployedOpenAPI, validatorFactory);
+        Assert.assertEquals(2, builtValidators.get());
+        dataHolder.removeOpenAPIValidatorOfAPI(apiUUID);
+    }
+
     private void assertValidRequest() {
         Assert.assertTrue(schemaValidator.handleRequest(messageContext));
         Mockito.verify(messageContext, Mockito.times(0))
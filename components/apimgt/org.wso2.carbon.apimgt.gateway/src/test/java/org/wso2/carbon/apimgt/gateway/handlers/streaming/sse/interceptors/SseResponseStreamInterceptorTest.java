@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.interceptors;
+
+import org.apache.axis2.context.MessageContext;
+import org.apache.synapse.SynapseConstants;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDataCollector;
+import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.analytics.SseResponseEventDataProvider;
+import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.throttling.ThrottleInfo;
+import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUtils;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_ANALYTICS_INFO;
+import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_THROTTLE_DTO;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({APIUtil.class, SseUtils.class, SseResponseStreamInterceptor.class})
+public class SseResponseStreamInterceptorTest {
+
+    private SseResponseEventDataProvider eventDataProvider;
+    private GenericRequestDataCollector dataCollector;
+    private MessageContext axis2Ctx;
+
+    @Before
+    public void init() throws Exception {
+
+        PowerMockito.mockStatic(APIUtil.class);
+        PowerMockito.when(APIUtil.isAnalyticsEnabled()).thenReturn(true);
+        PowerMockito.mockStatic(SseUtils.class);
+        PowerMockito.when(SseUtils.isThrottled(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(false);
+        dataCollector = Mockito.mock(GenericRequestDataCollector.class);
+        PowerMockito.whenNew(GenericRequestDataCollector.class).withAnyArguments().thenReturn(dataCollector);
+        eventDataProvider = Mockito.mock(SseResponseEventDataProvider.class);
+        axis2Ctx = new MessageContext();
+        axis2Ctx.setProperty(SSE_THROTTLE_DTO, Mockito.mock(ThrottleInfo.class));
+        axis2Ctx.setProperty(SSE_ANALYTICS_INFO, eventDataProvider);
+        axis2Ctx.setProperty(SynapseConstants.HTTP_SC, 200);
+    }
+
+    @Test
+    public void testChunkWithoutCompletedEventIsNotPublished() throws Exception {
+
+        SseResponseStreamInterceptor interceptor = new SseResponseStreamInterceptor();
+        Assert.assertTrue(interceptor.targetResponse(toBuffer("data: partial"), axis2Ctx));
+        Mockito.verify(eventDataProvider, Mockito.never()).setEventCount(Mockito.anyInt());
+        Mockito.verify(dataCollector, Mockito.never()).collectData();
+
+        Assert.assertTrue(interceptor.targetResponse(toBuffer(" event\n\n"), axis2Ctx));
+        Mockito.verify(eventDataProvider).setEventCount(1);
+        Mockito.verify(dataCollector).collectData();
+    }
+
+    private static ByteBuffer toBuffer(String chunk) {
+
+        return ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class SseEventCounterTest {
+
+    @Test
+    public void testEventsOfChunk() {
+
+        SseEventCounter eventCounter = new SseEventCounter();
+        ByteBuffer chunk = toBuffer("data: first\n\nevent: update\ndata: second\n\ndata: third");
+        Assert.assertEquals(2, eventCounter.count(chunk));
+        Assert.assertEquals("Position of the chunk should not change", 0, chunk.position());
+        Assert.assertEquals(1, eventCounter.count(toBuffer("\n\n")));
+    }
+
+    @Test
+    public void testDelimiterSplitAcrossChunks() {
+
+        SseEventCounter eventCounter = new SseEventCounter();
+        Assert.assertEquals(0, eventCounter.count(toBuffer("data: first\n")));
+        Assert.assertEquals(1, eventCounter.count(toBuffer("\ndata: second\r")));
+        Assert.assertEquals(0, eventCounter.count(toBuffer("\n")));
+        Assert.assertEquals(1, eventCounter.count(toBuffer("\r\n")));
+    }
+
+    @Test
+    public void testLineTerminators() {
+
+        SseEventCounter eventCounter = new SseEventCounter();
+        Assert.assertEquals(3, eventCounter.count(toBuffer("data: a\r\n\r\ndata: b\r\rdata: c\n\r\n")));
+    }
+
+    @Test
+    public void testBlankLinesWithoutEvents() {
+
+        SseEventCounter eventCounter = new SseEventCounter();
+        Assert.assertEquals(0, eventCounter.count(toBuffer("\n\n\r\n")));
+        Assert.assertEquals(1, eventCounter.count(toBuffer(": keep-alive\n\n\n\n")));
+    }
+
+    @Test
+    public void testMultiByteCharacters() {
+
+        SseEventCounter eventCounter = new SseEventCounter();
+        byte[] bytes = "data: \u0dc3\u0dd2 \u4e2d\u6587\n\n".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(0, eventCounter.count(ByteBuffer.wrap(bytes, 0, 10)));
+        Assert.assertEquals(1, eventCounter.count(ByteBuffer.wrap(bytes, 10, bytes.length - 10)));
+    }
+
+    private static ByteBuffer toBuffer(String text) {
+
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -231,6 +231,61 @@ public class ThrottleConditionEvaluatorTest {
         Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "QueryParameterTypeConditionGroup");
     }
 
+    @Test
+    public void testApplicabilityOfQueryParameterTypeConditionForSubsequentRequests() {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("QueryParameterTypeConditionGroup");
+        ConditionDTO matchingCondition = new ConditionDTO();
+        matchingCondition.setConditionType("QueryParameterType");
+        matchingCondition.setConditionName("city");
+        matchingCondition.setConditionValue("^colombo$");
+
+        ConditionDTO[] conditionDTOS = {matchingCondition};
+        conditionGroupDTO.setConditions(conditionDTOS);
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO};
+        throttleConditionEvaluator.compileConditionGroups(conditionGroupDTOS);
+
+        // The compiled condition is evaluated against the attributes of each request
+        MessageContext messageContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty("REST_URL_POSTFIX",
+                "/temperature?city=colombo");
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions
+                (messageContext, new AuthenticationContext(), conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "QueryParameterTypeConditionGroup");
+
+        messageContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty("REST_URL_POSTFIX",
+                "/temperature?city=kandy");
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions
+                (messageContext, new AuthenticationContext(), conditionGroupDTOS);
+        Assert.assertNull(matchingConditionGroups.get(0));
+    }
+
+    @Test
+    public void testApplicabilityOfHeaderConditionWithInvalidPattern() {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("HeaderConditionGroup");
+        ConditionDTO invalidCondition = new ConditionDTO();
+        invalidCondition.setConditionType("Header");
+        invalidCondition.setConditionName("host");
+        invalidCondition.setConditionValue("org.wso2.(com");
+
+        ConditionDTO[] conditionDTOS = {invalidCondition};
+        conditionGroupDTO.setConditions(conditionDTOS);
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO};
+
+        MessageContext messageContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        Map map = new TreeMap();
+        map.put("host", "org.wso2.(com");
+        ((Axis2MessageContext) messageContext).getAxis2MessageContext()
+                .setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS, map);
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions
+                (messageContext, new AuthenticationContext(), conditionGroupDTOS);
+        Assert.assertNull(matchingConditionGroups.get(0));
+    }
+
     @Test
     public void testApplicabilityOfNonMatchingQueryParameterTypeCondition() {
 
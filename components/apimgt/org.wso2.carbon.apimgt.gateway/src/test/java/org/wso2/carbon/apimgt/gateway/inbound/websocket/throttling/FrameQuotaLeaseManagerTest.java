@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.inbound.websocket.throttling;
+
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
+import org.wso2.carbon.apimgt.gateway.inbound.InboundMessageContext;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
+import org.wso2.carbon.databridge.commons.Event;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FrameQuotaLeaseManagerTest {
+
+    private final List<Event> publishedEvents = new ArrayList<>();
+    private final SubscriptionDataStore store = Mockito.mock(SubscriptionDataStore.class);
+    private FrameQuotaLeaseManager leaseManager;
+    private InboundMessageContext inboundMessageContext;
+
+    @Before
+    public void init() {
+
+        ThrottleProperties.WebSocketFrameQuotaLease leaseConfiguration =
+                new ThrottleProperties.WebSocketFrameQuotaLease();
+        leaseConfiguration.setEnabled(true);
+        leaseConfiguration.setFrameCount(3);
+        leaseConfiguration.setByteCount(100);
+        leaseConfiguration.setDuration(3600000);
+        leaseConfiguration.setUsagePublishInterval(3600000);
+        leaseManager = new FrameQuotaLeaseManager(leaseConfiguration) {
+            @Override
+            void publish(Event event) {
+                publishedEvents.add(event);
+            }
+
+            @Override
+            SubscriptionDataStore getStore(String tenantDomain) {
+                return store;
+            }
+
+            @Override
+            int getTenantId(String tenantDomain) {
+                return MultitenantConstants.SUPER_TENANT_ID;
+            }
+        };
+
+        APIKeyValidationInfoDTO infoDTO = new APIKeyValidationInfoDTO();
+        infoDTO.setApplicationTier(APIConstants.UNLIMITED_TIER);
+        infoDTO.setTier(APIConstants.UNLIMITED_TIER);
+        infoDTO.setSubscriberTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        infoDTO.setSubscriber("admin");
+        infoDTO.setApiName("ChatAPI");
+        infoDTO.setApplicationId("12");
+        inboundMessageContext = new InboundMessageContext();
+        inboundMessageContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        inboundMessageContext.setApiContext("/chat");
+        inboundMessageContext.setVersion("1.0.0");
+        inboundMessageContext.setUserIP("198.162.10.2");
+        inboundMessageContext.setInfoDTO(infoDTO);
+    }
+
+    @Test
+    public void testFramesAdmittedWithinLease() {
+
+        FrameQuotaLease lease = leaseManager.getLease(null, inboundMessageContext);
+        Assert.assertFalse("A new lease should be renewed", leaseManager.tryAcquire(lease, 10));
+        leaseManager.renew(lease, 10);
+        Assert.assertTrue(leaseManager.tryAcquire(lease, 20));
+        Assert.assertTrue(leaseManager.tryAcquire(lease, 30));
+        Assert.assertFalse("Leased frames should be exhausted", leaseManager.tryAcquire(lease, 10));
+
+        leaseManager.publishUsage();
+        Assert.assertEquals(1, publishedEvents.size());
+        Object[] payload = publishedEvents.get(0).getPayloadData();
+        Assert.assertEquals("12:admin@carbon.super", payload[1]);
+        Assert.assertEquals("/chat:1.0.0", payload[3]);
+        Assert.assertEquals("/chat:1.0.0", payload[7]);
+        JSONObject properties = new JSONObject((String) payload[16]);
+        Assert.assertEquals(3, properties.getInt(APIThrottleConstants.MESSAGE_COUNT));
+        Assert.assertEquals(60, properties.getLong(APIThrottleConstants.MESSAGE_SIZE));
+
+        leaseManager.publishUsage();
+        Assert.assertEquals("Drained usage should not be published again", 1, publishedEvents.size());
+    }
+
+    @Test
+    public void testLeasedBytesExhausted() {
+
+        FrameQuotaLease lease = leaseManager.getLease(null, inboundMessageContext);
+        leaseManager.renew(lease, 60);
+        Assert.assertFalse(leaseManager.tryAcquire(lease, 50));
+        Assert.assertTrue(leaseManager.tryAcquire(lease, 40));
+
+        leaseManager.renew(lease, 500);
+        Assert.assertFalse("Frames larger than the lease should renew it", leaseManager.tryAcquire(lease, 1));
+    }
+
+    @Test
+    public void testLeasesReleasedWithConnection() {
+
+        VerbInfoDTO subscription = new VerbInfoDTO();
+        subscription.setRequestKey("/chat/1.0.0/messages");
+        subscription.setThrottling(APIConstants.UNLIMITED_TIER);
+        VerbInfoDTO otherSubscription = new VerbInfoDTO();
+        otherSubscription.setRequestKey("/chat/1.0.0/users");
+        otherSubscription.setThrottling(APIConstants.UNLIMITED_TIER);
+
+        FrameQuotaLease lease = leaseManager.getLease(subscription, inboundMessageContext);
+        Assert.assertSame(lease, leaseManager.getLease(subscription, inboundMessageContext));
+        FrameQuotaLease otherLease = leaseManager.getLease(otherSubscription, inboundMessageContext);
+        Assert.assertNotSame(lease, otherLease);
+        Assert.assertEquals(2, leaseManager.getActiveLeaseCount());
+
+        leaseManager.renew(lease, 10);
+        leaseManager.releaseLeases(inboundMessageContext);
+        Assert.assertEquals(0, leaseManager.getActiveLeaseCount());
+        Assert.assertTrue(inboundMessageContext.getFrameQuotaLeases().isEmpty());
+        Assert.assertEquals("Only the lease with usage should be published", 1, publishedEvents.size());
+        Assert.assertEquals("/chat/1.0.0/messages", publishedEvents.get(0).getPayloadData()[7]);
+    }
+
+    @Test
+    public void testOnlyBandwidthPoliciesLeasable() {
+
+        inboundMessageContext.getInfoDTO().setTier("Gold");
+        SubscriptionPolicy policy = new SubscriptionPolicy();
+        policy.setQuotaType(PolicyConstants.REQUEST_COUNT_TYPE);
+        Mockito.when(store.getSubscriptionPolicyByName("Gold", MultitenantConstants.SUPER_TENANT_ID))
+                .thenReturn(policy);
+        FrameQuotaLease lease = leaseManager.getLease(null, inboundMessageContext);
+        Assert.assertFalse("Request count policies count events, not frames", lease.isLeasable());
+        Assert.assertEquals(0, leaseManager.getActiveLeaseCount());
+
+        inboundMessageContext.getFrameQuotaLeases().clear();
+        policy.setQuotaType(PolicyConstants.BANDWIDTH_TYPE);
+        Assert.assertTrue(leaseManager.getLease(null, inboundMessageContext).isLeasable());
+        Assert.assertEquals(1, leaseManager.getActiveLeaseCount());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+import org.wso2.carbon.metrics.manager.Histogram;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases of the ordering, coalescing and parallelism of {@link GatewayNotificationPipeline}.
+ */
+public class GatewayNotificationPipelineTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private GatewayNotificationPipeline pipeline;
+
+    @Before
+    public void setup() {
+
+        pipeline = createPipeline(2);
+    }
+
+    @Test
+    public void testDelayedNotificationsAreDispatchedInOrder() throws InterruptedException {
+
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            pipeline.dispatch(now + 50, () -> {
+                processed.add(index);
+                done.countDown();
+            });
+        }
+        Assert.assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList(0, 1, 2), processed);
+    }
+
+    @Test
+    public void testDeploymentsOfAnAPIAreCoalesced() throws InterruptedException {
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        pipeline.submitDeployment("api1", "[default]", 0, () -> {
+            blocked.countDown();
+            awaitQuietly(release);
+            processed.add("first");
+            done.countDown();
+        });
+        Assert.assertTrue(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        pipeline.submitDeployment("api1", "[default]", 0, () -> processed.add("superseded"));
+        pipeline.submitDeployment("api1", "[external]", 0, () -> {
+            processed.add("external");
+            done.countDown();
+        });
+        pipeline.submitDeployment("api1", "[default]", 0, () -> {
+            processed.add("latest");
+            done.countDown();
+        });
+        Assert.assertEquals(2, pipeline.getPendingCount());
+        release.countDown();
+        Assert.assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList("first", "external", "latest"), processed);
+    }
+
+    @Test
+    public void testDeploymentsOfDifferentAPIsAreProcessedInParallel() throws InterruptedException {
+
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable deployment = () -> {
+            bothStarted.countDown();
+            // Completes only if the deployment of the other API has started meanwhile
+            if (awaitQuietly(bothStarted)) {
+                done.countDown();
+            }
+        };
+        pipeline.submitDeployment("api1", "[default]", 0, deployment);
+        pipeline.submitDeployment("api2", "[default]", 0, deployment);
+        Assert.assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrentDeploymentsOfDifferentAPIsUpdateDataHolder() throws InterruptedException {
+
+        int apiCount = 200;
+        String tenantDomain = "concurrent.deployment.com";
+        DataHolder dataHolder = DataHolder.getInstance();
+        pipeline = createPipeline(8);
+        CountDownLatch done = new CountDownLatch(apiCount);
+        try {
+            for (int i = 0; i < apiCount; i++) {
+                String apiId = "concurrent-api-" + i;
+                String context = "/t/" + tenantDomain + "/api" + i + "/1.0.0";
+                pipeline.submitDeployment(apiId, "[default]", 0, () -> {
+                    // Updates the data holder the same way the deployer does once the artifacts are deployed
+                    GatewayAPIDTO gatewayAPIDTO = new GatewayAPIDTO();
+                    gatewayAPIDTO.setApiId(apiId);
+                    gatewayAPIDTO.setApiContext(context);
+                    gatewayAPIDTO.setTenantDomain(tenantDomain);
+                    gatewayAPIDTO.setRevision("1");
+                    dataHolder.addApiToAliasList(apiId, Collections.singletonList(apiId + "-alias"));
+                    dataHolder.addKeyManagerToAPIMapping(apiId, Collections.singletonList("Resident Key Manager"));
+                    dataHolder.addAPIMetaData(createAPI(apiId, context, tenantDomain));
+                    dataHolder.markAPIAsDeployed(gatewayAPIDTO);
+                    done.countDown();
+                });
+            }
+            Assert.assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            Map<String, API> apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
+            Assert.assertEquals(apiCount * 2, apiMap.size());
+            for (int i = 0; i < apiCount; i++) {
+                String apiId = "concurrent-api-" + i;
+                API api = apiMap.get("/t/" + tenantDomain + "/api" + i + "/1.0.0");
+                Assert.assertTrue(api.isDeployed());
+                Assert.assertEquals("1", api.getRevisionId());
+                Assert.assertSame(api, apiMap.get("/t/" + tenantDomain + "/api" + i));
+                Assert.assertEquals(Collections.singletonList(apiId + "-alias"),
+                        dataHolder.getCertificateAliasListForAPI(apiId));
+                Assert.assertEquals(Collections.singletonList("Resident Key Manager"),
+                        dataHolder.getKeyManagersFromUUID(apiId));
+            }
+        } finally {
+            dataHolder.getTenantAPIMap().remove(tenantDomain);
+            for (int i = 0; i < apiCount; i++) {
+                dataHolder.getApiToCertificatesMap().remove("concurrent-api-" + i);
+                dataHolder.removeKeyManagerToAPIMapping("concurrent-api-" + i);
+            }
+        }
+    }
+
+    @Test
+    public void testFailedDeploymentDoesNotBlockLaterEvents() throws InterruptedException {
+
+        pipeline = createPipeline(0);
+        CountDownLatch done = new CountDownLatch(1);
+        pipeline.submitDeployment("api1", "[default]", 0, () -> {
+            throw new IllegalStateException("Deployment failed");
+        });
+        pipeline.submitDeployment("api1", "[external]", 0, done::countDown);
+        Assert.assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static GatewayNotificationPipeline createPipeline(int deploymentConcurrency) {
+
+        Histogram histogram = Mockito.mock(Histogram.class);
+        return new GatewayNotificationPipeline(deploymentConcurrency) {
+            @Override
+            protected Histogram getHistogram(String name) {
+
+                return histogram;
+            }
+        };
+    }
+
+    private static API createAPI(String apiId, String context, String tenantDomain) {
+
+        API api = new API();
+        api.setUuid(apiId);
+        api.setApiName(apiId);
+        api.setApiVersion("1.0.0");
+        api.setContext(context);
+        api.setOrganization(tenantDomain);
+        api.setDefaultVersion(true);
+        return api;
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+
+        try {
+            return latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
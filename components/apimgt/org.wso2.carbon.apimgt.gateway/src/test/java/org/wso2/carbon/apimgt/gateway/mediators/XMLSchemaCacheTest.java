@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.SAXException;
+
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is the test case for {@link XMLSchemaCache}
+ */
+public class XMLSchemaCacheTest {
+
+    private static final String SCHEMA_START = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">";
+    private static final String SCHEMA_END = "</xs:schema>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File orderSchema;
+    private String orderSchemaURL;
+
+    @Before
+    public void init() throws IOException {
+
+        File itemSchema = temporaryFolder.newFile("item.xsd");
+        FileUtils.writeStringToFile(itemSchema, SCHEMA_START
+                + "<xs:element name=\"item\" type=\"xs:string\"/>" + SCHEMA_END, StandardCharsets.UTF_8);
+        orderSchema = temporaryFolder.newFile("order.xsd");
+        writeOrderSchema("xs:int");
+        orderSchemaURL = orderSchema.toURI().toString();
+    }
+
+    @Test
+    public void testValidateAgainstIncludedSchema() throws Exception {
+
+        XMLSchemaCache schemaCache = new XMLSchemaCache(10, 60000, 60000);
+        schemaCache.validate(orderSchemaURL, new StreamSource(new StringReader(
+                "<order><id>1</id><item>book</item></order>")));
+        schemaCache.validate(orderSchemaURL, new StreamSource(new StringReader(
+                "<order><id>2</id><item>pen</item></order>")));
+        try {
+            schemaCache.validate(orderSchemaURL, new StreamSource(new StringReader(
+                    "<order><id>three</id><item>pen</item></order>")));
+            Assert.fail("Invalid payload is not rejected");
+        } catch (SAXException e) {
+            // expected
+        }
+        // The validator of the thread can be reused after a failed validation
+        schemaCache.validate(orderSchemaURL, new StreamSource(new StringReader(
+                "<order><id>4</id><item>pen</item></order>")));
+    }
+
+    @Test
+    public void testSchemaIsCompiledOnce() throws Exception {
+
+        XMLSchemaCache schemaCache = new XMLSchemaCache(10, 60000, 60000);
+        Schema schema = schemaCache.getSchema(orderSchemaURL);
+        writeOrderSchema("xs:string");
+        Assert.assertSame(schema, schemaCache.getSchema(orderSchemaURL));
+    }
+
+    @Test
+    public void testChangedSchemaIsRefreshedInBackground() throws Exception {
+
+        XMLSchemaCache schemaCache = new XMLSchemaCache(10, 0, 60000);
+        Schema schema = schemaCache.getSchema(orderSchemaURL);
+        writeOrderSchema("xs:string");
+        // The cached schema is served while it is refreshed
+        Assert.assertSame(schema, schemaCache.getSchema(orderSchemaURL));
+        Schema refreshedSchema = schema;
+        for (int i = 0; i < 100 && refreshedSchema == schema; i++) {
+            Thread.sleep(50);
+            refreshedSchema = schemaCache.getSchema(orderSchemaURL);
+        }
+        Assert.assertNotSame(schema, refreshedSchema);
+        schemaCache.validate(orderSchemaURL, new StreamSource(new StringReader(
+                "<order><id>three</id><item>pen</item></order>")));
+    }
+
+    @Test
+    public void testUnchangedSchemaIsNotCompiledAgain() throws Exception {
+
+        XMLSchemaCache schemaCache = new XMLSchemaCache(10, 0, 60000);
+        Schema schema = schemaCache.getSchema(orderSchemaURL);
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(20);
+            Assert.assertSame(schema, schemaCache.getSchema(orderSchemaURL));
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSchemaIsEvicted() throws Exception {
+
+        File otherSchema = temporaryFolder.newFile("other.xsd");
+        FileUtils.writeStringToFile(otherSchema, SCHEMA_START
+                + "<xs:element name=\"other\" type=\"xs:string\"/>" + SCHEMA_END, StandardCharsets.UTF_8);
+        XMLSchemaCache schemaCache = new XMLSchemaCache(1, 60000, 60000);
+        Schema schema = schemaCache.getSchema(orderSchemaURL);
+        schemaCache.getSchema(otherSchema.toURI().toString());
+        Assert.assertNotSame(schema, schemaCache.getSchema(orderSchemaURL));
+    }
+
+    private void writeOrderSchema(String idType) throws IOException {
+
+        FileUtils.writeStringToFile(orderSchema, SCHEMA_START + "<xs:include schemaLocation=\"item.xsd\"/>"
+                + "<xs:element name=\"order\"><xs:complexType><xs:sequence>"
+                + "<xs:element name=\"id\" type=\"" + idType + "\"/><xs:element ref=\"item\"/>"
+                + "</xs:sequence></xs:complexType></xs:element>" + SCHEMA_END, StandardCharsets.UTF_8);
+    }
+}
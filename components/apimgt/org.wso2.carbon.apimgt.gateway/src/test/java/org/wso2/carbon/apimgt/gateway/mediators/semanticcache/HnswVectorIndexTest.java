@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators.semanticcache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class HnswVectorIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    public void testSearchFindsNearestNeighbours() {
+
+        Random random = new Random(7);
+        HnswVectorIndex<Integer> index = new HnswVectorIndex<>(DIMENSION, 16, 100, 50, random);
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            float[] vector = randomUnitVector(random);
+            vectors.add(vector);
+            index.add(vector, i);
+        }
+        Assert.assertEquals(2000, index.size());
+
+        int found = 0;
+        for (int i = 0; i < 100; i++) {
+            float[] query = randomUnitVector(random);
+            int nearest = bruteForceNearest(vectors, query);
+            List<HnswVectorIndex.Match<Integer>> matches = index.search(query, 1);
+            if (!matches.isEmpty() && matches.get(0).getValue() == nearest) {
+                found++;
+            }
+        }
+        Assert.assertTrue("Recall too low: " + found, found >= 90);
+    }
+
+    @Test
+    public void testExactVectorIsReturnedFirst() {
+
+        Random random = new Random(11);
+        HnswVectorIndex<Integer> index = new HnswVectorIndex<>(DIMENSION, 16, 100, 50, random);
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            float[] vector = randomUnitVector(random);
+            vectors.add(vector);
+            index.add(vector, i);
+        }
+        List<HnswVectorIndex.Match<Integer>> matches = index.search(vectors.get(123), 3);
+        Assert.assertEquals(3, matches.size());
+        Assert.assertEquals(123, (int) matches.get(0).getValue());
+        Assert.assertEquals(1f, matches.get(0).getSimilarity(), 1e-5);
+        Assert.assertTrue(matches.get(1).getSimilarity() <= matches.get(0).getSimilarity());
+    }
+
+    @Test
+    public void testRemovedVectorsAreNotReturned() {
+
+        Random random = new Random(13);
+        HnswVectorIndex<Integer> index = new HnswVectorIndex<>(DIMENSION, 16, 100, 50, random);
+        List<HnswVectorIndex.Node<Integer>> nodes = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            float[] vector = randomUnitVector(random);
+            vectors.add(vector);
+            nodes.add(index.add(vector, i));
+        }
+        // Removing more than half of the vectors rebuilds the graph from the remaining ones
+        for (int i = 0; i < 150; i++) {
+            index.remove(nodes.get(i));
+        }
+        Assert.assertEquals(50, index.size());
+        for (int i = 0; i < 200; i++) {
+            List<HnswVectorIndex.Match<Integer>> matches = index.search(vectors.get(i), 1);
+            Assert.assertEquals(1, matches.size());
+            if (i >= 150) {
+                Assert.assertEquals(i, (int) matches.get(0).getValue());
+            } else {
+                Assert.assertTrue(matches.get(0).getValue() >= 150);
+            }
+        }
+        for (int i = 150; i < 200; i++) {
+            index.remove(nodes.get(i));
+        }
+        Assert.assertEquals(0, index.size());
+        Assert.assertTrue(index.search(vectors.get(0), 1).isEmpty());
+    }
+
+    static float[] randomUnitVector(Random random) {
+
+        double[] values = new double[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            values[i] = random.nextGaussian();
+        }
+        return SemanticResponseCache.toUnitVector(values);
+    }
+
+    private static int bruteForceNearest(List<float[]> vectors, float[] query) {
+
+        int nearest = -1;
+        float best = -Float.MAX_VALUE;
+        for (int i = 0; i < vectors.size(); i++) {
+            float similarity = 0;
+            for (int j = 0; j < DIMENSION; j++) {
+                similarity += vectors.get(i)[j] * query[j];
+            }
+            if (similarity > best) {
+                best = similarity;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators.semanticcache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class SemanticResponseCacheTest {
+
+    private static final String PARTITION = "POST /chat/completions gpt-4o";
+    private static final String CONTENT_TYPE = "application/json";
+
+    @Test
+    public void testSimilarPromptIsServedFromCache() {
+
+        SemanticResponseCache cache = new SemanticResponseCache(0.95, 60000, 100, 1024 * 1024);
+        float[] prompt = SemanticResponseCache.toUnitVector(new double[]{1, 0.2, 0.1, 0});
+        float[] similarPrompt = SemanticResponseCache.toUnitVector(new double[]{1, 0.21, 0.1, 0.01});
+        float[] differentPrompt = SemanticResponseCache.toUnitVector(new double[]{0, 1, 0, 0.3});
+
+        cache.put(PARTITION, prompt, "{\"answer\":1}", CONTENT_TYPE, 1000);
+        CachedResponse response = cache.get(PARTITION, similarPrompt, 1001);
+        Assert.assertNotNull(response);
+        Assert.assertEquals("{\"answer\":1}", response.getPayload());
+        Assert.assertEquals(CONTENT_TYPE, response.getContentType());
+        Assert.assertNull(cache.get(PARTITION, differentPrompt, 1001));
+        Assert.assertNull(cache.get("POST /chat/completions gpt-4o-mini", prompt, 1001));
+    }
+
+    @Test
+    public void testEquivalentPromptReplacesCachedResponse() {
+
+        SemanticResponseCache cache = new SemanticResponseCache(0.95, 60000, 100, 1024 * 1024);
+        float[] prompt = SemanticResponseCache.toUnitVector(new double[]{1, 0.2, 0.1, 0});
+
+        cache.put(PARTITION, prompt, "{\"answer\":1}", CONTENT_TYPE, 1000);
+        cache.put(PARTITION, prompt, "{\"answer\":2}", CONTENT_TYPE, 1001);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals("{\"answer\":2}", cache.get(PARTITION, prompt, 1002).getPayload());
+    }
+
+    @Test
+    public void testExpiredResponseIsNotServed() {
+
+        SemanticResponseCache cache = new SemanticResponseCache(0.95, 100, 100, 1024 * 1024);
+        float[] prompt = SemanticResponseCache.toUnitVector(new double[]{1, 0.2, 0.1, 0});
+        float[] otherPrompt = SemanticResponseCache.toUnitVector(new double[]{0, 1, 0, 0.3});
+
+        cache.put(PARTITION, prompt, "{\"answer\":1}", CONTENT_TYPE, 1000);
+        Assert.assertNotNull(cache.get(PARTITION, prompt, 1099));
+        Assert.assertNull(cache.get(PARTITION, prompt, 1100));
+        // Expired responses are removed when the next response is cached
+        cache.put(PARTITION, otherPrompt, "{\"answer\":2}", CONTENT_TYPE, 1200);
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponsesAreEvicted() {
+
+        SemanticResponseCache cache = new SemanticResponseCache(0.99, 60000, 10, 1024 * 1024);
+        Random random = new Random(3);
+        float[][] prompts = new float[11][];
+        for (int i = 0; i < 10; i++) {
+            prompts[i] = HnswVectorIndexTest.randomUnitVector(random);
+            cache.put(PARTITION, prompts[i], "{\"answer\":" + i + "}", CONTENT_TYPE, 1000 + i);
+        }
+        Assert.assertEquals(10, cache.size());
+        // Use the first response so that it is the most recently used one
+        Assert.assertNotNull(cache.get(PARTITION, prompts[0], 2000));
+
+        prompts[10] = HnswVectorIndexTest.randomUnitVector(random);
+        cache.put(PARTITION, prompts[10], "{\"answer\":10}", CONTENT_TYPE, 2001);
+        Assert.assertEquals(9, cache.size());
+        Assert.assertNotNull(cache.get(PARTITION, prompts[0], 2002));
+        Assert.assertNotNull(cache.get(PARTITION, prompts[10], 2002));
+        Assert.assertNull(cache.get(PARTITION, prompts[1], 2002));
+        Assert.assertNull(cache.get(PARTITION, prompts[2], 2002));
+    }
+
+    @Test
+    public void testMemoryLimitIsEnforced() {
+
+        SemanticResponseCache cache = new SemanticResponseCache(0.99, 60000, 1000, 20 * 1024);
+        Random random = new Random(5);
+        char[] chars = new char[2000];
+        Arrays.fill(chars, 'a');
+        String payload = new String(chars);
+        for (int i = 0; i < 20; i++) {
+            cache.put(PARTITION, HnswVectorIndexTest.randomUnitVector(random), payload, CONTENT_TYPE, 1000 + i);
+            Assert.assertTrue(cache.getMemorySize() <= 20 * 1024);
+        }
+        Assert.assertTrue(cache.size() < 20);
+
+        // A response larger than the memory limit is never cached
+        char[] largeChars = new char[20 * 1024];
+        Arrays.fill(largeChars, 'a');
+        cache.clear();
+        cache.put(PARTITION, HnswVectorIndexTest.randomUnitVector(random), new String(largeChars), CONTENT_TYPE,
+                2000);
+        Assert.assertEquals(0, cache.size());
+    }
+}
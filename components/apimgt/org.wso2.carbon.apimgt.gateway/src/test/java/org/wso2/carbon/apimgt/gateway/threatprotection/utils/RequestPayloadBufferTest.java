@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.threatprotection.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class RequestPayloadBufferTest {
+
+    private static final String PAYLOAD =
+            "{\"name\":\"PizzaShackAPI\",\"context\":\"pizzashack\",\"version\":\"1.0.0\"}";
+
+    @Test
+    public void testStreamsReadTheSamePayload() throws IOException {
+
+        CountingInputStream source = new CountingInputStream(PAYLOAD);
+        RequestPayloadBuffer payload = new RequestPayloadBuffer(source, true, 8);
+        Assert.assertEquals(PAYLOAD, IOUtils.toString(payload.newInputStream(), StandardCharsets.UTF_8));
+        Assert.assertEquals(PAYLOAD, IOUtils.toString(payload.newInputStream(), StandardCharsets.UTF_8));
+        Assert.assertEquals(PAYLOAD.length(), source.getReadCount());
+        Assert.assertEquals(PAYLOAD.length(), payload.getBufferedLength());
+    }
+
+    @Test
+    public void testPayloadIsReadOnlyAsFarAsConsumed() throws IOException {
+
+        CountingInputStream source = new CountingInputStream(PAYLOAD);
+        RequestPayloadBuffer payload = new RequestPayloadBuffer(source, true, 8);
+        InputStream inputStream = payload.newInputStream();
+        byte[] bytes = new byte[10];
+        Assert.assertEquals(10, inputStream.read(bytes));
+        Assert.assertEquals(10, source.getReadCount());
+        Assert.assertEquals(10, payload.getBufferedLength());
+
+        // A second stream replays the buffered part before reading further
+        InputStream secondInputStream = payload.newInputStream();
+        Assert.assertEquals(PAYLOAD.substring(0, 10), new String(bytes, StandardCharsets.UTF_8));
+        Assert.assertEquals(PAYLOAD, IOUtils.toString(secondInputStream, StandardCharsets.UTF_8));
+        Assert.assertEquals(PAYLOAD.substring(10), IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReadFully() throws IOException {
+
+        CountingInputStream source = new CountingInputStream(PAYLOAD);
+        RequestPayloadBuffer payload = new RequestPayloadBuffer(source, true, 8);
+        Assert.assertEquals('{', payload.newInputStream().read());
+        payload.readFully();
+        Assert.assertEquals(PAYLOAD.length(), payload.getBufferedLength());
+        Assert.assertEquals(PAYLOAD.length(), source.getReadCount());
+        Assert.assertEquals(PAYLOAD, IOUtils.toString(payload.newInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDiscard() throws IOException {
+
+        CountingInputStream source = new CountingInputStream(PAYLOAD);
+        RequestPayloadBuffer payload = new RequestPayloadBuffer(source, true, 8);
+        Assert.assertEquals(4, payload.newInputStream().read(new byte[4]));
+        payload.discard();
+        Assert.assertEquals(PAYLOAD.length(), source.getReadCount());
+        Assert.assertEquals(0, payload.getBufferedLength());
+    }
+
+    @Test
+    public void testClosingAStreamDoesNotClosePayload() throws IOException {
+
+        CountingInputStream source = new CountingInputStream(PAYLOAD);
+        RequestPayloadBuffer payload = new RequestPayloadBuffer(source, true, 8);
+        payload.newInputStream().close();
+        Assert.assertFalse(source.isClosed());
+        Assert.assertEquals(PAYLOAD, IOUtils.toString(payload.newInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static class CountingInputStream extends ByteArrayInputStream {
+
+        private int readCount;
+        private boolean closed;
+
+        CountingInputStream(String content) {
+
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public synchronized int read() {
+
+            int read = super.read();
+            if (read != -1) {
+                readCount++;
+            }
+            return read;
+        }
+
+        @Override
+        public synchronized int read(byte[] bytes, int offset, int length) {
+
+            int read = super.read(bytes, offset, length);
+            if (read > 0) {
+                readCount += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            closed = true;
+            super.close();
+        }
+
+        int getReadCount() {
+
+            return readCount;
+        }
+
+        boolean isClosed() {
+
+            return closed;
+        }
+    }
+}
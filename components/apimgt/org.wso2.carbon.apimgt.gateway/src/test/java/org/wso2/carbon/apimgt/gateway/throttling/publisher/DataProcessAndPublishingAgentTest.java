@@ -24,9 +24,14 @@ import org.apache.synapse.MessageContext;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.RESTConstants;
 import org.apache.synapse.transport.nhttp.NhttpConstants;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
@@ -34,10 +39,15 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
 import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+import org.wso2.carbon.apimgt.keymgt.model.entity.APIPolicyConditionGroup;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ApiPolicy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Condition;
 import org.wso2.carbon.databridge.agent.DataPublisher;
 import org.wso2.carbon.databridge.commons.Event;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 
@@ -448,4 +458,62 @@ public class DataProcessAndPublishingAgentTest {
         dataProcessAndPublishingAgent.run();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testPublishReferencedPropertiesOnly() throws Exception {
+        ThrottleProperties throttleProperties = new ThrottleProperties();
+        throttleProperties.setEnableHeaderConditions(true);
+        throttleProperties.setEnableQueryParamConditions(true);
+        throttleProperties.setPublishReferencedPropertiesOnly(true);
+        DataProcessAndPublishingAgentWrapper dataProcessAndPublishingAgent = new DataProcessAndPublishingAgentWrapper
+                (throttleProperties);
+        ApiPolicy apiPolicy = new ApiPolicy();
+        apiPolicy.setTierName(resourceLevelTier);
+        APIPolicyConditionGroup conditionGroup = new APIPolicyConditionGroup();
+        Set<Condition> conditions = new HashSet<>();
+        conditions.add(createCondition(PolicyConstants.HEADER_TYPE, "X-Tier"));
+        conditions.add(createCondition(PolicyConstants.QUERY_PARAMETER_TYPE, "a"));
+        conditionGroup.setCondition(conditions);
+        apiPolicy.getConditionGroups().add(conditionGroup);
+        dataProcessAndPublishingAgent.setPropertyFilter(ThrottlePropertyFilter.compile(apiPolicy));
+        AuthenticationContext authenticationContext = new AuthenticationContext();
+        MessageContext messageContext = Mockito.mock(Axis2MessageContext.class);
+        org.apache.axis2.context.MessageContext axis2MsgCntxt = Mockito.mock(org.apache.axis2.context.MessageContext
+                .class);
+        Mockito.when(((Axis2MessageContext) messageContext).getAxis2MessageContext()).thenReturn(axis2MsgCntxt);
+        Mockito.when(axis2MsgCntxt.getProperty(NhttpConstants.REST_URL_POSTFIX)).thenReturn("?a=1&b=2");
+        TreeMap headers = new TreeMap();
+        headers.put(APIMgtGatewayConstants.X_FORWARDED_FOR, "192.168.1.1");
+        headers.put("X-Tier", "gold");
+        headers.put("Accept", "application/json");
+        Mockito.when(axis2MsgCntxt.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS))
+                .thenReturn(headers);
+        API api = new API();
+        api.setUuid(UUID.randomUUID().toString());
+        api.setApiName(apiName);
+        api.setApiVersion(apiVersion);
+        api.setApiProvider("admin");
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.API_OBJECT)).thenReturn(api);
+        dataProcessAndPublishingAgent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
+                apiLevelThrottleKey, null, subscriptionLevelThrottleKey, subscriptionLevelTier,
+                resourceLevelThrottleKey, resourceLevelTier, authorizedUser, apiContext, apiVersion, appTenant,
+                apiTenant, appId, messageContext, authenticationContext);
+        dataProcessAndPublishingAgent.run();
+
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        Mockito.verify(dataProcessAndPublishingAgent.getMockDataPublisher()).tryPublish(eventCaptor.capture());
+        Object[] payload = eventCaptor.getValue().getPayloadData();
+        JSONObject properties = (JSONObject) new JSONParser().parse((String) payload[payload.length - 1]);
+        Assert.assertEquals("gold", properties.get("x-tier"));
+        Assert.assertEquals("1", properties.get("a"));
+        Assert.assertFalse(properties.containsKey("accept"));
+        Assert.assertFalse(properties.containsKey("b"));
+        Assert.assertEquals(3232235777L, properties.get(APIThrottleConstants.IP));
+    }
+
+    private static Condition createCondition(String conditionType, String name) {
+        Condition condition = new Condition();
+        condition.setConditionType(conditionType);
+        condition.setName(name);
+        return condition;
+    }
+}
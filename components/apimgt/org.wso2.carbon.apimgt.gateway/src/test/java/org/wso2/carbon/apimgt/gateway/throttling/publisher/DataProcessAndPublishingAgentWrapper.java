@@ -29,6 +29,8 @@ import javax.xml.stream.XMLStreamException;
 
 public class DataProcessAndPublishingAgentWrapper extends DataProcessAndPublishingAgent {
     private ThrottleProperties throttleProperties;
+    private ThrottlePropertyFilter propertyFilter;
+    private DataPublisher dataPublisher;
 
     public DataProcessAndPublishingAgentWrapper(ThrottleProperties throttleProperties) {
         this.throttleProperties = throttleProperties;
@@ -43,7 +45,21 @@ public class DataProcessAndPublishingAgentWrapper extends DataProcessAndPublishi
 
     @Override
     protected DataPublisher getDataPublisher() {
-        return Mockito.mock(DataPublisher.class);
+        dataPublisher = Mockito.mock(DataPublisher.class);
+        return dataPublisher;
+    }
+
+    public DataPublisher getMockDataPublisher() {
+        return dataPublisher;
+    }
+
+    public void setPropertyFilter(ThrottlePropertyFilter propertyFilter) {
+        this.propertyFilter = propertyFilter;
+    }
+
+    @Override
+    protected ThrottlePropertyFilter getPropertyFilter(String tenantDomain, String policyName) {
+        return propertyFilter != null ? propertyFilter : ThrottlePropertyFilter.ALL;
     }
 
     @Override
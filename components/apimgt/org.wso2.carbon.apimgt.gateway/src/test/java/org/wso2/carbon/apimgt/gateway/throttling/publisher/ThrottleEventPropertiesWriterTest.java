@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+public class ThrottleEventPropertiesWriterTest {
+
+    @Test
+    public void testPropertiesMatchJSONObject() throws Exception {
+
+        Map<String, Object> customProperties = new HashMap<>();
+        customProperties.put("region", "us-\"east\"\n");
+        customProperties.put("count", 3);
+        customProperties.put("ratio", 0.5);
+        customProperties.put("enabled", Boolean.TRUE);
+        customProperties.put("tags", Arrays.asList("a", "b"));
+        customProperties.put("empty", null);
+
+        JSONObject expected = new JSONObject();
+        expected.put("ip", 3232235777L);
+        expected.put("ipv6", BigInteger.valueOf(281470681743360L));
+        expected.putAll(customProperties);
+        expected.put("messageSize", 1024L);
+
+        ThrottleEventPropertiesWriter writer = new ThrottleEventPropertiesWriter();
+        writer.put("messageSize", 1024L);
+        writer.putAll(customProperties);
+        writer.put("ipv6", BigInteger.valueOf(281470681743360L));
+        writer.put("ip", 3232235777L);
+
+        JSONParser parser = new JSONParser();
+        Assert.assertEquals(parser.parse(expected.toJSONString()), parser.parse(writer.toJSONString()));
+    }
+
+    @Test
+    public void testStringsAreEscapedAsJSONValue() {
+
+        String value = "a\"b\\c/d\b\f\n\r\t\u0001\u007F\u2028\u00E9";
+        ThrottleEventPropertiesWriter writer = new ThrottleEventPropertiesWriter();
+        writer.put("key", value);
+        Assert.assertEquals("{\"key\":" + JSONValue.toJSONString(value) + "}", writer.toJSONString());
+    }
+
+    @Test
+    public void testFirstValueOfKeyIsKept() throws Exception {
+
+        ThrottleEventPropertiesWriter writer = new ThrottleEventPropertiesWriter();
+        writer.put("ip", 1L);
+        writer.put("ip", "10.0.0.1");
+        writer.putAll(Collections.singletonMap("ip", "10.0.0.2"));
+        Assert.assertEquals("{\"ip\":1}", writer.toJSONString());
+        // the writer can keep writing after the JSON is read
+        writer.put("user", "admin");
+        Assert.assertEquals("{\"ip\":1,\"user\":\"admin\"}", writer.toJSONString());
+    }
+
+    @Test
+    public void testPutAllWithNames() throws Exception {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put("sub", "admin");
+        claims.put("scope", "default");
+        claims.put("aud", "client");
+        ThrottleEventPropertiesWriter writer = new ThrottleEventPropertiesWriter();
+        writer.putAll(claims, new HashSet<>(Arrays.asList("sub", "iss")));
+        JSONObject properties = (JSONObject) new JSONParser().parse(writer.toJSONString());
+        Assert.assertEquals(1, properties.size());
+        Assert.assertEquals("admin", properties.get("sub"));
+
+        writer.reset();
+        Assert.assertTrue(writer.isEmpty());
+        writer.putAll(claims, null);
+        properties = (JSONObject) new JSONParser().parse(writer.toJSONString());
+        Assert.assertEquals(claims, properties);
+    }
+}
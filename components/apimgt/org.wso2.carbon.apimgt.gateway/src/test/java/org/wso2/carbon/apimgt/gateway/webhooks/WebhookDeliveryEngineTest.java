@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.webhooks;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.WebhooksDTO;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases of the delivery of webhook events by {@link WebhookDeliveryEngine}.
+ */
+public class WebhookDeliveryEngineTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testEventsAreDeliveredInOrderWithSharedPayload() throws InterruptedException {
+
+        List<String> deliveries = Collections.synchronizedList(new ArrayList<>());
+        List<byte[]> payloads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(4);
+        WebhookDeliveryEngine engine = new WebhookDeliveryEngine((callbackURL, payload, headers, callback) -> {
+            deliveries.add(callbackURL + " " + new String(payload, StandardCharsets.UTF_8));
+            payloads.add(payload);
+            callback.completed(200);
+        }, (subscriber, statusCode, delivered) -> completed.countDown(), 10, 4, 0, 0, 0);
+
+        WebhookEvent first = createEvent("first");
+        WebhookEvent second = createEvent("second");
+        WebhooksDTO subscriber1 = createSubscriber("1", "http://localhost/callback1", null);
+        WebhooksDTO subscriber2 = createSubscriber("2", "http://localhost/callback2", null);
+        engine.submit(first, subscriber1);
+        engine.submit(first, subscriber2);
+        engine.submit(second, subscriber1);
+        engine.submit(second, subscriber2);
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Assert.assertTrue(deliveries.indexOf("http://localhost/callback1 first")
+                < deliveries.indexOf("http://localhost/callback1 second"));
+        Assert.assertTrue(deliveries.indexOf("http://localhost/callback2 first")
+                < deliveries.indexOf("http://localhost/callback2 second"));
+        int sharedPayloads = 0;
+        for (byte[] payload : payloads) {
+            if (payload == first.getPayload()) {
+                sharedPayloads++;
+            }
+        }
+        Assert.assertEquals(2, sharedPayloads);
+    }
+
+    @Test
+    public void testFailedDeliveryIsRetried() throws InterruptedException {
+
+        AtomicInteger attempts = new AtomicInteger();
+        List<Boolean> statuses = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(1);
+        WebhookDeliveryEngine engine = new WebhookDeliveryEngine((callbackURL, payload, headers, callback) -> {
+            if (attempts.incrementAndGet() == 1) {
+                callback.failed(new IOException("Connection refused"));
+            } else {
+                callback.completed(attempts.get() == 2 ? 503 : 202);
+            }
+        }, (subscriber, statusCode, delivered) -> {
+            statuses.add(delivered);
+            completed.countDown();
+        }, 10, 1, 3, 1, 10);
+
+        engine.submit(createEvent("event"), createSubscriber("1", "http://localhost/callback", null));
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertEquals(Collections.singletonList(true), statuses);
+    }
+
+    @Test
+    public void testClientErrorIsNotRetried() throws InterruptedException {
+
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> statusCodes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(1);
+        WebhookDeliveryEngine engine = new WebhookDeliveryEngine((callbackURL, payload, headers, callback) -> {
+            attempts.incrementAndGet();
+            callback.completed(404);
+        }, (subscriber, statusCode, delivered) -> {
+            statusCodes.add(delivered ? statusCode : -statusCode);
+            completed.countDown();
+        }, 10, 1, 3, 1, 10);
+
+        engine.submit(createEvent("event"), createSubscriber("1", "http://localhost/callback", null));
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(1, attempts.get());
+        Assert.assertEquals(Collections.singletonList(-404), statusCodes);
+    }
+
+    @Test
+    public void testEventIsDroppedWhenQueueIsFull() throws InterruptedException {
+
+        CountDownLatch sent = new CountDownLatch(1);
+        List<WebhookDeliveryEngine.DeliveryCallback> pendingCallbacks =
+                Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> statuses = Collections.synchronizedList(new ArrayList<>());
+        WebhookDeliveryEngine engine = new WebhookDeliveryEngine((callbackURL, payload, headers, callback) -> {
+            pendingCallbacks.add(callback);
+            sent.countDown();
+        }, (subscriber, statusCode, delivered) -> statuses.add(delivered), 1, 1, 0, 0, 0);
+
+        WebhooksDTO subscriber = createSubscriber("1", "http://localhost/callback", null);
+        Assert.assertTrue(engine.submit(createEvent("first"), subscriber));
+        Assert.assertTrue(sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertFalse(engine.submit(createEvent("second"), subscriber));
+        Assert.assertEquals(Collections.singletonList(false), statuses);
+        pendingCallbacks.get(0).completed(200);
+    }
+
+    @Test
+    public void testDeliveryListenerIsNotified() throws InterruptedException {
+
+        List<Integer> statusCodes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(2);
+        WebhookDeliveryEngine engine = new WebhookDeliveryEngine(
+                (callbackURL, payload, headers, callback) -> callback.completed(202),
+                (subscriber, statusCode, delivered) -> completed.countDown(), 10, 1, 0, 0, 0);
+
+        engine.submit(createEvent("event"), createSubscriber("1", "http://localhost/callback", null),
+                (subscriber, statusCode, delivered) -> {
+                    statusCodes.add(statusCode);
+                    completed.countDown();
+                });
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(Collections.singletonList(202), statusCodes);
+    }
+
+    @Test
+    public void testSignatureHeader() throws InterruptedException {
+
+        List<Map<String, String>> requestHeaders = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(2);
+        WebhookDeliveryEngine engine = new WebhookDeliveryEngine((callbackURL, payload, headers, callback) -> {
+            requestHeaders.add(headers);
+            callback.completed(200);
+        }, (subscriber, statusCode, delivered) -> completed.countDown(), 10, 1, 0, 0, 0);
+
+        engine.submit(createEvent("{\"message\":\"hello\"}"), createSubscriber("1", "http://localhost/callback1",
+                "secret"));
+        engine.submit(createEvent("{\"message\":\"hello\"}"), createSubscriber("2", "http://localhost/callback2",
+                null));
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        boolean signed = false;
+        boolean unsigned = false;
+        for (Map<String, String> headers : requestHeaders) {
+            Assert.assertEquals("application/json", headers.get("Content-Type"));
+            String signature = headers.get("X-Hub-Signature");
+            if (signature == null) {
+                unsigned = true;
+            } else {
+                Assert.assertEquals("sha1=64d533455b16b072ef6af6b4525c3850872b769b", signature);
+                signed = true;
+            }
+        }
+        Assert.assertTrue(signed && unsigned);
+    }
+
+    private static WebhookEvent createEvent(String payload) {
+
+        return new WebhookEvent(payload.getBytes(StandardCharsets.UTF_8), "application/json",
+                "https://localhost:8243/webhooks/1.0.0; rel=\"hub\", topic; rel=\"self\" ");
+    }
+
+    private static WebhooksDTO createSubscriber(String appId, String callbackURL, String secret) {
+
+        WebhooksDTO subscriber = new WebhooksDTO();
+        subscriber.setApiUUID("c2f2ec4a-1f5c-4e6b-9f1a-3b2d4e5f6a7b");
+        subscriber.setAppID(appId);
+        subscriber.setCallbackURL(callbackURL);
+        subscriber.setTopicName("topic");
+        subscriber.setTenantDomain("carbon.super");
+        subscriber.setSecret(secret);
+        return subscriber;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.webhooks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases of the batching of webhooks delivery statuses by {@link WebhookDeliveryStatusPublisher}.
+ */
+public class WebhookDeliveryStatusPublisherTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testStatusesOfSubscriptionAreCoalesced() throws IOException {
+
+        List<String> batches = new ArrayList<>();
+        WebhookDeliveryStatusPublisher publisher = new WebhookDeliveryStatusPublisher(true, 10, 60000, 4, 100) {
+            @Override
+            protected void send(String deliveryStatuses) {
+
+                batches.add(deliveryStatuses);
+            }
+        };
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 2);
+        publisher.publish("api1", "2", "carbon.super", "http://localhost/callback2", "topic", 1);
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 1);
+        publisher.flush();
+
+        Assert.assertEquals(1, batches.size());
+        JsonNode statuses = new ObjectMapper().readTree(batches.get(0));
+        Assert.assertEquals(2, statuses.size());
+        Assert.assertEquals("2", statuses.get(0).get(APIConstants.Webhooks.APP_ID).asText());
+        Assert.assertEquals("1", statuses.get(1).get(APIConstants.Webhooks.APP_ID).asText());
+        Assert.assertEquals(1, statuses.get(1).get(APIConstants.Webhooks.STATUS).asInt());
+        Assert.assertEquals("http://localhost/callback1",
+                statuses.get(1).get(APIConstants.Webhooks.CALLBACK).asText());
+
+        publisher.flush();
+        Assert.assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testStatusesAreSentOneByOneWithoutBatching() throws IOException {
+
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        WebhookDeliveryStatusPublisher publisher = new WebhookDeliveryStatusPublisher(false, 10, 60000, 4, 100) {
+            @Override
+            protected void send(String deliveryStatuses) {
+
+                requests.add(deliveryStatuses);
+            }
+        };
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 2);
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 1);
+        publisher.shutdown();
+
+        Assert.assertEquals(2, requests.size());
+        JsonNode status = new ObjectMapper().readTree(requests.get(1));
+        Assert.assertTrue("A status should be sent as a single object", status.isObject());
+        Assert.assertEquals(1, status.get(APIConstants.Webhooks.STATUS).asInt());
+    }
+
+    @Test
+    public void testPendingStatusesAreSentOnShutdown() {
+
+        List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        WebhookDeliveryStatusPublisher publisher = new WebhookDeliveryStatusPublisher(true, 10, 3600000, 4, 100) {
+            @Override
+            protected void send(String deliveryStatuses) {
+
+                batches.add(deliveryStatuses);
+            }
+        };
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 1);
+        publisher.shutdown();
+
+        Assert.assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testStatusesAreDroppedWhileSenderIsSlow() throws InterruptedException {
+
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        WebhookDeliveryStatusPublisher publisher = new WebhookDeliveryStatusPublisher(false, 10, 60000, 1, 1) {
+            @Override
+            protected void send(String deliveryStatuses) throws InterruptedException {
+
+                sending.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                requests.add(deliveryStatuses);
+            }
+        };
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 1);
+        Assert.assertTrue(sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // Neither blocks while the first status is being sent, and the last one does not fit in the queue
+        publisher.publish("api1", "2", "carbon.super", "http://localhost/callback2", "topic", 1);
+        publisher.publish("api1", "3", "carbon.super", "http://localhost/callback3", "topic", 1);
+        release.countDown();
+        publisher.shutdown();
+
+        Assert.assertEquals(2, requests.size());
+        Assert.assertTrue(requests.get(1).contains("http://localhost/callback2"));
+    }
+
+    @Test
+    public void testFailedSendDoesNotStopLaterStatuses() throws InterruptedException {
+
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(3);
+        WebhookDeliveryStatusPublisher publisher = new WebhookDeliveryStatusPublisher(false, 10, 60000, 1, 100) {
+            @Override
+            protected void send(String deliveryStatuses) throws IOException {
+
+                done.countDown();
+                int attempt = attempts.incrementAndGet();
+                if (attempt == 1) {
+                    throw new IOException("Control plane is not reachable");
+                } else if (attempt == 2) {
+                    throw new IllegalStateException("Unexpected response");
+                }
+            }
+        };
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 2);
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 1);
+        publisher.publish("api1", "1", "carbon.super", "http://localhost/callback1", "topic", 1);
+        Assert.assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        publisher.shutdown();
+        Assert.assertEquals(3, attempts.get());
+    }
+}
@@ -467,6 +467,8 @@ public final class APIConstants {
     public static final String TOKEN_GENERATOR_IMPL = "JWTGeneratorImpl";
     public static final String ENABLE_JWT_GENERATION = "EnableJWTGeneration";
     public static final String Enable_JWKS_API = "EnableJWKSApi";
+    public static final String JWKS_REFRESH_INTERVAL = JWT_CONFIGS + ".JWKSRefreshInterval";
+    public static final String JWKS_MIN_REFRESH_INTERVAL = JWT_CONFIGS + ".JWKSMinRefreshInterval";
     public static final String CLAIMS_RETRIEVER_CLASS = "ClaimsRetrieverImplClass";
     public static final String USE_KID = "UseKidProperty";
     public static final String CONSUMER_DIALECT_URI = "ConsumerDialectURI";
@@ -1497,6 +1499,7 @@ public final class APIConstants {
     public static final String OPERATION_SECURITY_ENABLED = "Enabled";
     public static final String OPERATION_SECURITY_DISABLED = "Disabled";
     public static final String GRAPHQL_PAYLOAD = "GRAPHQL_PAYLOAD";
+    public static final String GRAPHQL_DOCUMENT = "GRAPHQL_DOCUMENT";
     public static final String GRAPHQL_SCHEMA = "GRAPHQL_SCHEMA";
     public static final String GRAPHQL_ACCESS_CONTROL_POLICY = "WSO2GraphQLAccessControlPolicy";
     public static final String QUERY_ANALYSIS_COMPLEXITY = "complexity";
@@ -1635,6 +1638,9 @@ public final class APIConstants {
     public static final String CONFIG_REDIS_MIN_GATEWAY_COUNT = "MinGatewayCount";
 
     public static final String CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT = "KeyLockRetrievalTimeout";
+    public static final String CONFIG_REDIS_COUNTER_BATCHING_ENABLED = "CounterBatchingEnabled";
+    public static final String CONFIG_REDIS_COUNTER_SYNC_INTERVAL = "CounterSyncInterval";
+    public static final String CONFIG_REDIS_COUNTER_MAX_UNSYNCED_DELTA = "CounterMaxUnsyncedDelta";
     public static final String HYBRID_THROTTLE_PROCESSOR_TYPE_START_TIME_BASED = "start_time_based";
 
     // Primary/Secondary Login configuration
@@ -2247,10 +2253,16 @@ public final class APIConstants {
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME = "KeepAliveTime";
         public static final String BLOCK_CONDITION_RETRIEVER_INIT_DELAY = "InitDelay";
         public static final String BLOCK_CONDITION_RETRIEVER_PERIOD = "Period";
+        public static final String WEBSOCKET_FRAME_QUOTA_LEASE = "WebSocketFrameQuotaLease";
+        public static final String WEBSOCKET_FRAME_QUOTA_LEASE_FRAME_COUNT = "FrameCount";
+        public static final String WEBSOCKET_FRAME_QUOTA_LEASE_BYTE_COUNT = "ByteCount";
+        public static final String WEBSOCKET_FRAME_QUOTA_LEASE_DURATION = "Duration";
+        public static final String WEBSOCKET_FRAME_QUOTA_LEASE_USAGE_PUBLISH_INTERVAL = "UsagePublishInterval";
         public static final String ENABLE_SUBSCRIPTION_SPIKE_ARREST = "EnableSubscriptionSpikeArrest";
         public static final String ENABLE_HEADER_CONDITIONS = "EnableHeaderConditions";
         public static final String ENABLE_JWT_CLAIM_CONDITIONS = "EnableJWTClaimConditions";
         public static final String ENABLE_QUERY_PARAM_CONDITIONS = "EnableQueryParamConditions";
+        public static final String PUBLISH_REFERENCED_PROPERTIES_ONLY = "PublishReferencedPropertiesOnly";
         public static final String SKIP_REDEPLOYING_POLICIES = "SkipRedeployingPolicies";
         public static final String ENABLED = "Enabled";
         public static final String IS_THROTTLED = "isThrottled";
@@ -2840,6 +2852,7 @@ public final class APIConstants {
 
         public static final String SERVICE_URL = "ServiceURL";
         public static final String INIT_DELAY = "InitDelay";
+        public static final String DATA_LOADING_PAGE_SIZE = "DataLoadingPageSize";
         public static final String INTROSPECTION_ENDPOINT = "introspection_endpoint";
         public static final String CLIENT_REGISTRATION_ENDPOINT = "client_registration_endpoint";
         public static final String KEY_MANAGER_OPERATIONS_DCR_ENDPOINT = "/keymanager-operations/dcr/register";
@@ -2962,6 +2975,9 @@ public final class APIConstants {
         public static final String TOPIC_NAME = "Topic";
         public static final String EXCLUDED_CACHES = "ExcludedCaches";
         public static final String ReceiverConnectionDetails = "ReceiverConnectionDetails";
+        public static final String BATCHING = "Batching";
+        public static final String BATCHING_WINDOW = "WindowMillis";
+        public static final String MAX_BATCH_SIZE = "MaxBatchSize";
     }
 
     // Supported Notifier Types
@@ -3059,6 +3075,12 @@ public final class APIConstants {
         public static final String GATEWAY_POLICY_SYNAPSE_ARTIFACTS = "/gateway-policy-artifacts";
         public static final String DATA_SOURCE_NAME = "DataSourceName";
         public static final String DATA_RETRIEVAL_MODE = "DataRetrievalMode";
+        public static final String DEPLOYMENT_CONCURRENCY = "DeploymentConcurrency";
+        public static final String EVENT_DEPLOYMENT_CONCURRENCY = "EventDeploymentConcurrency";
+        public static final String RENDERED_ARTIFACT_CACHE_SIZE =
+                SYNC_RUNTIME_ARTIFACTS_PUBLISHER_CONFIG + ".RenderedArtifactCacheSize";
+        public static final String RENDERED_ARTIFACT_CACHE_EXPIRY =
+                SYNC_RUNTIME_ARTIFACTS_PUBLISHER_CONFIG + ".RenderedArtifactCacheExpiry";
         public static final String GATEWAY_STARTUP_SYNC = "sync";
         public static final String GATEWAY_STARTUP_ASYNC = "async";
         public static final String API_ID = "apiId";
@@ -3131,6 +3153,16 @@ public final class APIConstants {
         public static final String IS_THROTTLED = "isThrottled";
         public static final String SUBSCRIPTION_EVENT_TYPE = "subscriptionEventType";
         public static final String DELIVERY_EVENT_TYPE = "diliveryStatusEventType";
+        public static final String DELIVERY_QUEUE_CAPACITY = "WebhooksDelivery.QueueCapacity";
+        public static final String DELIVERY_WORKER_COUNT = "WebhooksDelivery.WorkerCount";
+        public static final String DELIVERY_MAX_RETRIES = "WebhooksDelivery.MaxRetries";
+        public static final String DELIVERY_INITIAL_BACKOFF = "WebhooksDelivery.InitialBackoff";
+        public static final String DELIVERY_MAX_BACKOFF = "WebhooksDelivery.MaxBackoff";
+        public static final String DELIVERY_STATUS_BATCH_SIZE = "WebhooksDelivery.StatusBatchSize";
+        public static final String DELIVERY_STATUS_FLUSH_INTERVAL = "WebhooksDelivery.StatusFlushInterval";
+        public static final String DELIVERY_STATUS_BATCHING_ENABLED = "WebhooksDelivery.StatusBatchingEnabled";
+        public static final String DELIVERY_STATUS_SENDER_COUNT = "WebhooksDelivery.StatusSenderCount";
+        public static final String DELIVERY_STATUS_QUEUE_CAPACITY = "WebhooksDelivery.StatusQueueCapacity";
         public static final String GET_SUBSCRIPTIONS_URL = "/webhooks-subscriptions";
         public static final String HUB_TOPIC_QUERY_PARAM = "hub.topic";
         public static final String HUB_CALLBACK_QUERY_PARAM = "hub.callback";
@@ -4039,23 +4039,49 @@ APIConstants.AuditLogConstants.DELETED, this.username);
             if (searchAPIs != null) {
                 List<DevPortalAPIInfo> list = searchAPIs.getDevPortalAPIInfoList();
                 List<Object> apiList = new ArrayList<>();
+                List<String> apiIds = new ArrayList<>(list.size());
+                for (DevPortalAPIInfo devPortalAPIInfo : list) {
+                    apiIds.add(devPortalAPIInfo.getId());
+                }
+                // Details of the APIs of the page are retrieved at once, the ones missing are retrieved per API
+                Map<String, Float> ratings = Collections.emptyMap();
+                Map<String, String> gatewayVendors = Collections.emptyMap();
+                Map<String, APIInfo> apiInfos = Collections.emptyMap();
+                try {
+                    ratings = apiMgtDAO.getAverageRatings(apiIds);
+                    gatewayVendors = apiMgtDAO.getGatewayVendorsByAPIUUIDs(apiIds);
+                    apiInfos = apiMgtDAO.getAPIInfoByUUIDs(apiIds);
+                } catch (APIManagementException e) {
+                    log.warn("Retrieving details of the searched APIs from DB failed, hence retrieving them per API "
+                            + e);
+                }
+                Map<String, Tier> definedTiers = null;
                 for (DevPortalAPIInfo devPortalAPIInfo : list) {
                     API mappedAPI = APIMapper.INSTANCE.toApi(devPortalAPIInfo);
                     APIUtil.updateAvailableTiersByOrganization(devPortalAPIInfo, organizationID);
                     try {
-                        mappedAPI.setRating(APIUtil.getAverageRating(mappedAPI.getUuid()));
+                        Float rating = ratings.get(mappedAPI.getUuid());
+                        mappedAPI.setRating(rating != null ? rating : APIUtil.getAverageRating(mappedAPI.getUuid()));
                         Set<String> tierNameSet = devPortalAPIInfo.getAvailableTierNames();
                         String tiers = null;
                         if (tierNameSet != null) {
                             tiers = String.join("||", tierNameSet);
                         }
-                        Map<String, Tier> definedTiers = APIUtil.getTiers(tenantId);
+                        if (definedTiers == null) {
+                            definedTiers = APIUtil.getTiers(tenantId);
+                        }
                         Set<Tier> availableTiers =
                                 APIUtil.getAvailableTiers(definedTiers, tiers, mappedAPI.getId().getApiName());
                         mappedAPI.removeAllTiers();
                         mappedAPI.setAvailableTiers(availableTiers);
-                        populateGatewayVendor(mappedAPI);
-                        populateApiInfo(mappedAPI, false);
+                        populateGatewayVendor(mappedAPI, gatewayVendors);
+                        APIInfo apiInfo = apiInfos.get(mappedAPI.getUuid());
+                        if (apiInfo != null && !mappedAPI.isRevision()) {
+                            mappedAPI.setEgress(apiInfo.isEgress());
+                            mappedAPI.setSubtype(apiInfo.getApiSubtype());
+                        } else {
+                            populateApiInfo(mappedAPI, false);
+                        }
                         apiList.add(mappedAPI);
                     } catch (APIManagementException e) {
                         log.warn("Retrieving API details from DB failed for API: " + mappedAPI.getUuid() + " " + e);
@@ -462,6 +462,12 @@ public class APIManagerConfiguration {
                         new QName(APIConstants.CONFIG_REDIS_MIN_GATEWAY_COUNT));
                 OMElement keyLockRetrievalTimeout = element.getFirstChildWithName(
                         new QName(APIConstants.CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT));
+                OMElement counterBatchingEnabled = element.getFirstChildWithName(
+                        new QName(APIConstants.CONFIG_REDIS_COUNTER_BATCHING_ENABLED));
+                OMElement counterSyncInterval = element.getFirstChildWithName(
+                        new QName(APIConstants.CONFIG_REDIS_COUNTER_SYNC_INTERVAL));
+                OMElement counterMaxUnsyncedDelta = element.getFirstChildWithName(
+                        new QName(APIConstants.CONFIG_REDIS_COUNTER_MAX_UNSYNCED_DELTA));
                 redisConfig.setRedisEnabled(true);
                 redisConfig.setHost(redisHost.getText());
                 redisConfig.setPort(Integer.parseInt(redisPort.getText()));
@@ -477,6 +483,15 @@ public class APIManagerConfiguration {
                 if (keyLockRetrievalTimeout != null) {
                     redisConfig.setKeyLockRetrievalTimeout(Integer.parseInt(keyLockRetrievalTimeout.getText()));
                 }
+                if (counterBatchingEnabled != null) {
+                    redisConfig.setCounterBatchingEnabled(Boolean.parseBoolean(counterBatchingEnabled.getText()));
+                }
+                if (counterSyncInterval != null) {
+                    redisConfig.setCounterSyncInterval(Long.parseLong(counterSyncInterval.getText()));
+                }
+                if (counterMaxUnsyncedDelta != null) {
+                    redisConfig.setCounterMaxUnsyncedDelta(Long.parseLong(counterMaxUnsyncedDelta.getText()));
+                }
                 if (redisUser != null) {
                     redisConfig.setUser(redisUser.getText());
                 }
@@ -1158,6 +1173,26 @@ public class APIManagerConfiguration {
                 cacheInvalidationConfiguration.addExcludedCaches(((OMElement) excludedCaches.next()).getText());
             }
         }
+        OMElement batchingElement =
+                element.getFirstChildWithName(new QName(APIConstants.GlobalCacheInvalidation.BATCHING));
+        if (batchingElement != null) {
+            OMElement batchingEnabledElement =
+                    batchingElement.getFirstChildWithName(new QName(APIConstants.GlobalCacheInvalidation.ENABLED));
+            if (batchingEnabledElement != null) {
+                cacheInvalidationConfiguration.setBatchingEnabled(
+                        Boolean.parseBoolean(batchingEnabledElement.getText()));
+            }
+            OMElement batchingWindowElement = batchingElement
+                    .getFirstChildWithName(new QName(APIConstants.GlobalCacheInvalidation.BATCHING_WINDOW));
+            if (batchingWindowElement != null) {
+                cacheInvalidationConfiguration.setBatchingWindow(Long.parseLong(batchingWindowElement.getText()));
+            }
+            OMElement maxBatchSizeElement = batchingElement
+                    .getFirstChildWithName(new QName(APIConstants.GlobalCacheInvalidation.MAX_BATCH_SIZE));
+            if (maxBatchSizeElement != null) {
+                cacheInvalidationConfiguration.setMaxBatchSize(Integer.parseInt(maxBatchSizeElement.getText()));
+            }
+        }
         this.cacheInvalidationConfiguration = cacheInvalidationConfiguration;
     }
 
@@ -1439,6 +1474,14 @@ public class APIManagerConfiguration {
                 throttleProperties.setEnableQueryParamConditions(JavaUtils.isTrueExplicitly(enableQueryParamElement
                         .getText()));
             }
+            // Check whether only the request properties referenced by policy conditions should be published
+            OMElement publishReferencedPropertiesOnlyElement = throttleConfigurationElement
+                    .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                            .PUBLISH_REFERENCED_PROPERTIES_ONLY));
+            if (publishReferencedPropertiesOnlyElement != null) {
+                throttleProperties.setPublishReferencedPropertiesOnly(JavaUtils.isTrueExplicitly(
+                        publishReferencedPropertiesOnlyElement.getText()));
+            }
             // Check skip redeploy throttle policies
             OMElement skipRedeployingPoliciesElement = throttleConfigurationElement
                     .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
@@ -1895,6 +1938,42 @@ public class APIManagerConfiguration {
                 }
                 throttleProperties.setBlockCondition(blockConditionRetrieverConfiguration);
 
+                //Configuring the quota leased by WebSocket connections
+                OMElement webSocketFrameQuotaLeaseElement = throttleConfigurationElement.getFirstChildWithName(new
+                        QName(APIConstants.AdvancedThrottleConstants.WEBSOCKET_FRAME_QUOTA_LEASE));
+                ThrottleProperties.WebSocketFrameQuotaLease webSocketFrameQuotaLease =
+                        new ThrottleProperties.WebSocketFrameQuotaLease();
+                if (webSocketFrameQuotaLeaseElement != null) {
+                    OMElement leaseEnabledElement = webSocketFrameQuotaLeaseElement
+                            .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants.ENABLED));
+                    if (leaseEnabledElement != null) {
+                        webSocketFrameQuotaLease.setEnabled(JavaUtils.isTrueExplicitly(leaseEnabledElement.getText()));
+                    }
+                    OMElement leaseFrameCountElement = webSocketFrameQuotaLeaseElement.getFirstChildWithName(new
+                            QName(APIConstants.AdvancedThrottleConstants.WEBSOCKET_FRAME_QUOTA_LEASE_FRAME_COUNT));
+                    if (leaseFrameCountElement != null) {
+                        webSocketFrameQuotaLease.setFrameCount(Integer.parseInt(leaseFrameCountElement.getText()));
+                    }
+                    OMElement leaseByteCountElement = webSocketFrameQuotaLeaseElement.getFirstChildWithName(new
+                            QName(APIConstants.AdvancedThrottleConstants.WEBSOCKET_FRAME_QUOTA_LEASE_BYTE_COUNT));
+                    if (leaseByteCountElement != null) {
+                        webSocketFrameQuotaLease.setByteCount(Long.parseLong(leaseByteCountElement.getText()));
+                    }
+                    OMElement leaseDurationElement = webSocketFrameQuotaLeaseElement.getFirstChildWithName(new
+                            QName(APIConstants.AdvancedThrottleConstants.WEBSOCKET_FRAME_QUOTA_LEASE_DURATION));
+                    if (leaseDurationElement != null) {
+                        webSocketFrameQuotaLease.setDuration(Long.parseLong(leaseDurationElement.getText()));
+                    }
+                    OMElement usagePublishIntervalElement = webSocketFrameQuotaLeaseElement.getFirstChildWithName(
+                            new QName(APIConstants.AdvancedThrottleConstants
+                                    .WEBSOCKET_FRAME_QUOTA_LEASE_USAGE_PUBLISH_INTERVAL));
+                    if (usagePublishIntervalElement != null) {
+                        webSocketFrameQuotaLease.setUsagePublishInterval(Long.parseLong(usagePublishIntervalElement
+                                .getText()));
+                    }
+                }
+                throttleProperties.setWebSocketFrameQuotaLease(webSocketFrameQuotaLease);
+
         }
     }
 
@@ -2350,6 +2429,11 @@ public class APIManagerConfiguration {
             if (initDelay != null) {
                 eventHubConfigurationDto.setInitDelay(Integer.parseInt(initDelay.getText()));
             }
+            OMElement dataLoadingPageSize =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.DATA_LOADING_PAGE_SIZE));
+            if (dataLoadingPageSize != null) {
+                eventHubConfigurationDto.setDataLoadingPageSize(Integer.parseInt(dataLoadingPageSize.getText()));
+            }
             OMElement usernameElement = omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.USERNAME));
             if (usernameElement != null) {
                 eventHubConfigurationDto.setUsername(usernameElement.getText());
@@ -2542,6 +2626,24 @@ public class APIManagerConfiguration {
             log.debug("Gateway Startup mode is not set. Set to Sync Mode");
         }
 
+        OMElement deploymentConcurrencyElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_CONCURRENCY));
+        if (deploymentConcurrencyElement != null) {
+            int deploymentConcurrency = Integer.parseInt(deploymentConcurrencyElement.getText().trim());
+            gatewayArtifactSynchronizerProperties.setDeploymentConcurrency(deploymentConcurrency);
+        } else {
+            log.debug("Deployment concurrency is not set. APIs will be deployed sequentially");
+        }
+
+        OMElement eventDeploymentConcurrencyElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.EVENT_DEPLOYMENT_CONCURRENCY));
+        if (eventDeploymentConcurrencyElement != null) {
+            int eventDeploymentConcurrency = Integer.parseInt(eventDeploymentConcurrencyElement.getText().trim());
+            gatewayArtifactSynchronizerProperties.setEventDeploymentConcurrency(eventDeploymentConcurrency);
+        } else {
+            log.debug("Event deployment concurrency is not set. Using the default value");
+        }
+
         OMElement gatewayLabelElement = omElement
                 .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.GATEWAY_LABELS_CONFIG));
         if (gatewayLabelElement != null) {
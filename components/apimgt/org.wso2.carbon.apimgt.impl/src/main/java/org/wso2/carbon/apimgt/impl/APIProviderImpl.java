@@ -5774,12 +5774,9 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
                 List<PublisherAPIInfo> list = searchAPIs.getPublisherAPIInfoList();
                 List<API> apiList = new ArrayList<>(list.size());
                 for (PublisherAPIInfo publisherAPIInfo : list) {
-                    API mappedAPI = APIMapper.INSTANCE.toApi(publisherAPIInfo);
-                    populateApiInfo(mappedAPI);
-                    populateDefaultVersion(mappedAPI);
-                    populateGatewayVendor(mappedAPI);
-                    apiList.add(mappedAPI);
+                    apiList.add(APIMapper.INSTANCE.toApi(publisherAPIInfo));
                 }
+                populateListedAPIs(apiList);
                 result.setApis(apiList);
                 result.setApiCount(searchAPIs.getTotalAPIsCount());
             }
@@ -5816,6 +5813,36 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         }
     }
 
+    /**
+     * Populates the information, default version and gateway vendor of the APIs of a listing. The information and
+     * gateway vendors of all the APIs are retrieved at once, falling back to retrieving them per API for the ones
+     * missing.
+     *
+     * @param apis APIs of the listing
+     * @throws APIManagementException if failed to retrieve the details of the APIs
+     */
+    private void populateListedAPIs(List<API> apis) throws APIManagementException {
+
+        List<String> apiIds = new ArrayList<>(apis.size());
+        for (API api : apis) {
+            apiIds.add(api.getUuid());
+        }
+        Map<String, APIInfo> apiInfos = apiMgtDAO.getAPIInfoByUUIDs(apiIds);
+        Map<String, String> gatewayVendors = apiMgtDAO.getGatewayVendorsByAPIUUIDs(apiIds);
+        for (API api : apis) {
+            APIInfo apiInfo = apiInfos.get(api.getUuid());
+            if (apiInfo != null && !api.isRevision()) {
+                api.setEgress(apiInfo.isEgress());
+                api.setStatus(apiInfo.getStatus());
+                api.setSubtype(apiInfo.getApiSubtype());
+            } else {
+                populateApiInfo(api);
+            }
+            populateDefaultVersion(api);
+            populateGatewayVendor(api, gatewayVendors);
+        }
+    }
+
     private void populateApiInfo(API api) throws APIManagementException {
 
         String apiId = api.isRevision() ? api.getRevisionedApiId() : api.getUuid();
@@ -5892,14 +5919,11 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
             Set<Object> apiSet = new LinkedHashSet<>();
             if (searchAPIs != null) {
                 List<PublisherAPIInfo> list = searchAPIs.getPublisherAPIInfoList();
-                List<Object> apiList = new ArrayList<>();
+                List<API> apiList = new ArrayList<>(list.size());
                 for (PublisherAPIInfo publisherAPIInfo : list) {
-                    API mappedAPI = APIMapper.INSTANCE.toApi(publisherAPIInfo);
-                    populateApiInfo(mappedAPI);
-                    populateDefaultVersion(mappedAPI);
-                    populateGatewayVendor(mappedAPI);
-                    apiList.add(mappedAPI);
+                    apiList.add(APIMapper.INSTANCE.toApi(publisherAPIInfo));
                 }
+                populateListedAPIs(apiList);
                 apiSet.addAll(apiList);
                 result.put("apis", apiSet);
                 result.put("length", searchAPIs.getTotalAPIsCount());
@@ -190,6 +190,31 @@ public abstract class AbstractAPIManager implements APIManager {
             api.setGatewayType(APIUtil.getGatewayType(gatewayVendor));
         }
     }
+
+    /**
+     * Populates the gateway vendor of an API of a listing from the gateway vendors retrieved for all the APIs of the
+     * listing at once, falling back to retrieving it for the API alone if it is not among them.
+     *
+     * @param api            API of the listing
+     * @param gatewayVendors gateway vendors of the APIs of the listing by their UUIDs
+     * @throws APIManagementException if failed to retrieve the gateway vendor of the API
+     */
+    protected void populateGatewayVendor(API api, Map<String, String> gatewayVendors) throws APIManagementException {
+        String gatewayVendor = api.getGatewayVendor();
+        if (gatewayVendor == null || "null".equals(gatewayVendor)) {
+            if (!gatewayVendors.containsKey(api.getUuid())) {
+                populateGatewayVendor(api);
+                return;
+            }
+            gatewayVendor = gatewayVendors.get(api.getUuid());
+            if (gatewayVendor == null) {
+                gatewayVendor = APIConstants.WSO2_GATEWAY_ENVIRONMENT;
+            }
+        }
+        api.setGatewayVendor(APIUtil.handleGatewayVendorRetrieval(gatewayVendor));
+        api.setGatewayType(APIUtil.getGatewayType(gatewayVendor));
+    }
+
     protected void populateDefaultVersion(APIProduct apiProduct) throws APIManagementException {
         apiMgtDAO.setDefaultVersion(apiProduct);
     }
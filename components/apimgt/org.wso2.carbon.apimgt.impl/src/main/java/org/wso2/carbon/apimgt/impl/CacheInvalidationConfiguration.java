@@ -36,6 +36,9 @@ public class CacheInvalidationConfiguration {
     private String cacheInValidationTopic = "globalCacheInvalidation";
     private List<String> excludedCaches = new ArrayList<>();
     private Properties jmsConnectionParameters = new Properties();
+    private boolean batchingEnabled = false;
+    private long batchingWindow = 100;
+    private int maxBatchSize = 1000;
 
     public boolean isEnabled() {
 
@@ -135,4 +138,40 @@ public class CacheInvalidationConfiguration {
 
         this.stream = stream;
     }
+
+    public boolean isBatchingEnabled() {
+
+        return batchingEnabled;
+    }
+
+    public void setBatchingEnabled(boolean batchingEnabled) {
+
+        this.batchingEnabled = batchingEnabled;
+    }
+
+    /**
+     * @return time in milliseconds the invalidated keys of a cache are collected for, before being sent together
+     */
+    public long getBatchingWindow() {
+
+        return batchingWindow;
+    }
+
+    public void setBatchingWindow(long batchingWindow) {
+
+        this.batchingWindow = batchingWindow;
+    }
+
+    /**
+     * @return maximum number of keys sent in a single invalidation message
+     */
+    public int getMaxBatchSize() {
+
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+
+        this.maxBatchSize = maxBatchSize;
+    }
 }
@@ -3400,10 +3400,55 @@ public class ApiMgtDAO {
             APIMgtDBUtil.closeAllConnections(ps, null, rs);
         }
 
+        return roundAverageRating(avrRating);
+    }
+
+    /**
+     * Retrieves the average ratings of the given APIs, querying the ratings of up to
+     * {@link SQLConstants#API_UUID_CHUNK_SIZE} APIs at once.
+     *
+     * @param apiIds UUIDs of the APIs
+     * @return average rating of each API found in AM_API by its UUID, which is 0 if the API has not been rated
+     * @throws APIManagementException if failed to get the ratings
+     */
+    public Map<String, Float> getAverageRatings(List<String> apiIds) throws APIManagementException {
+
+        Map<String, Float> ratings = new HashMap<>();
+        for (List<String> apiIdChunk : getAPIUUIDChunks(apiIds)) {
+            String query = SQLConstants.GET_API_AVERAGE_RATINGS_BY_UUIDS_SQL.replaceAll(SQLConstants.API_UUID_REGEX,
+                    String.join(",", Collections.nCopies(apiIdChunk.size(), "?")));
+            try (Connection connection = APIMgtDBUtil.getConnection();
+                 PreparedStatement ps = connection.prepareStatement(query)) {
+                for (int i = 0; i < apiIdChunk.size(); i++) {
+                    ps.setString(i + 1, apiIdChunk.get(i));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        ratings.put(rs.getString("API_UUID"), roundAverageRating(rs.getFloat("RATING")));
+                    }
+                }
+            } catch (SQLException e) {
+                handleException("Failed to get average ratings of the APIs " + apiIdChunk, e);
+            }
+        }
+        return ratings;
+    }
+
+    private static float roundAverageRating(float avrRating) {
+
         BigDecimal decimal = new BigDecimal(avrRating);
         return Float.parseFloat(decimal.setScale(1, BigDecimal.ROUND_UP).toString());
     }
 
+    private static List<List<String>> getAPIUUIDChunks(List<String> apiIds) {
+
+        List<List<String>> apiIdChunks = new ArrayList<>();
+        for (int i = 0; i < apiIds.size(); i += SQLConstants.API_UUID_CHUNK_SIZE) {
+            apiIdChunks.add(apiIds.subList(i, Math.min(i + SQLConstants.API_UUID_CHUNK_SIZE, apiIds.size())));
+        }
+        return apiIdChunks;
+    }
+
     /**
      * Get details of the subscription block condition by condition value and tenant domain
      *
@@ -8577,6 +8622,37 @@ public class ApiMgtDAO {
         return gatewayVendor;
     }
 
+    /**
+     * Retrieve the gateway vendors of the given APIs, querying up to {@link SQLConstants#API_UUID_CHUNK_SIZE} APIs
+     * at once.
+     *
+     * @param apiIds UUIDs of the APIs
+     * @return gateway vendor of each API found in AM_API by its UUID
+     * @throws APIManagementException if failed to get the gateway vendors
+     */
+    public Map<String, String> getGatewayVendorsByAPIUUIDs(List<String> apiIds) throws APIManagementException {
+
+        Map<String, String> gatewayVendors = new HashMap<>();
+        for (List<String> apiIdChunk : getAPIUUIDChunks(apiIds)) {
+            String query = SQLConstants.GET_GATEWAY_VENDORS_BY_API_IDS.replaceAll(SQLConstants.API_UUID_REGEX,
+                    String.join(",", Collections.nCopies(apiIdChunk.size(), "?")));
+            try (Connection connection = APIMgtDBUtil.getConnection();
+                 PreparedStatement ps = connection.prepareStatement(query)) {
+                for (int i = 0; i < apiIdChunk.size(); i++) {
+                    ps.setString(i + 1, apiIdChunk.get(i));
+                }
+                try (ResultSet result = ps.executeQuery()) {
+                    while (result.next()) {
+                        gatewayVendors.put(result.getString("API_UUID"), result.getString("GATEWAY_VENDOR"));
+                    }
+                }
+            } catch (SQLException e) {
+                handleException("Error occurred while fetching gateway vendors of the APIs " + apiIdChunk, e);
+            }
+        }
+        return gatewayVendors;
+    }
+
     public String getUUIDFromIdentifier(Identifier apiIdentifier, String organization) throws APIManagementException {
         if (apiIdentifier instanceof APIProductIdentifier) {
             return getUUIDFromIdentifier((APIProductIdentifier) apiIdentifier, organization);
@@ -10228,37 +10304,8 @@ public class ApiMgtDAO {
                 }
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     if (resultSet.next()) {
-                        String contextTemplate = resultSet.getString("CONTEXT_TEMPLATE");
-                        String context = resultSet.getString("CONTEXT");
-                        String apiType = resultSet.getString("API_TYPE");
-                        String apiSubtype = resultSet.getString("API_SUBTYPE");
-                        if (StringUtils.isEmpty(apiSubtype))  {
-                            apiSubtype = APIConstants.API_SUBTYPE_DEFAULT;
-                        }
-                        String version = resultSet.getString("API_VERSION");
-                        if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)
-                                && APIConstants.API_PRODUCT_VERSION_1_0_0.equals(version)
-                                && StringUtils.isBlank(contextTemplate)) {
-                            context = context + "/" + APIConstants.API_PRODUCT_VERSION_1_0_0;
-                        }
-                        APIInfo.Builder apiInfoBuilder = new APIInfo.Builder();
-                        apiInfoBuilder = apiInfoBuilder.id(resultSet.getString("API_UUID"))
-                                .name(resultSet.getString("API_NAME"))
-                                .version(version)
-                                .provider(resultSet.getString("API_PROVIDER"))
-                                .context(context)
-                                .contextTemplate(contextTemplate)
-                                .status(resultSet.getString("STATUS"))
-                                .apiType(apiType)
-                                .apiSubtype(apiSubtype)
-                                .createdBy(resultSet.getString("CREATED_BY"))
-                                .createdTime(resultSet.getString("CREATED_TIME"))
-                                .updatedBy(resultSet.getString("UPDATED_BY"))
-                                .updatedTime(resultSet.getString("UPDATED_TIME"))
-                                .revisionsCreated(resultSet.getInt("REVISIONS_CREATED"))
-                                .organization(resultSet.getString("ORGANIZATION"))
-                                .isEgress(resultSet.getInt("IS_EGRESS"))
-                                .isRevision(apiRevision != null).organization(resultSet.getString("ORGANIZATION"));
+                        APIInfo.Builder apiInfoBuilder = getAPIInfoBuilder(resultSet)
+                                .isRevision(apiRevision != null);
                         if (apiRevision != null) {
                             apiInfoBuilder = apiInfoBuilder.apiTier(getAPILevelTier(connection,
                                     apiRevision.getApiUUID(), apiId));
@@ -10276,6 +10323,74 @@ public class ApiMgtDAO {
         return null;
     }
 
+    /**
+     * Retrieve basic information about the given APIs by their UUIDs querying only from AM_API, up to
+     * {@link SQLConstants#API_UUID_CHUNK_SIZE} APIs at once. Unlike {@link #getAPIInfoByUUID(String)}, revision UUIDs
+     * are not resolved to their APIs.
+     *
+     * @param apiIds UUIDs of the APIs
+     * @return basic information of each API found in AM_API by its UUID
+     * @throws APIManagementException error while getting the API information from AM_API
+     */
+    public Map<String, APIInfo> getAPIInfoByUUIDs(List<String> apiIds) throws APIManagementException {
+
+        Map<String, APIInfo> apiInfos = new HashMap<>();
+        for (List<String> apiIdChunk : getAPIUUIDChunks(apiIds)) {
+            String sql = SQLConstants.RETRIEVE_API_INFO_FROM_UUIDS.replaceAll(SQLConstants.API_UUID_REGEX,
+                    String.join(",", Collections.nCopies(apiIdChunk.size(), "?")));
+            try (Connection connection = APIMgtDBUtil.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < apiIdChunk.size(); i++) {
+                    preparedStatement.setString(i + 1, apiIdChunk.get(i));
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        APIInfo apiInfo = getAPIInfoBuilder(resultSet).isRevision(false)
+                                .apiTier(resultSet.getString("API_TIER")).build();
+                        apiInfos.put(apiInfo.getId(), apiInfo);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new APIManagementException("Error while retrieving information of the APIs " + apiIdChunk, e,
+                        ExceptionCodes.INTERNAL_ERROR);
+            }
+        }
+        return apiInfos;
+    }
+
+    private APIInfo.Builder getAPIInfoBuilder(ResultSet resultSet) throws SQLException {
+
+        String contextTemplate = resultSet.getString("CONTEXT_TEMPLATE");
+        String context = resultSet.getString("CONTEXT");
+        String apiType = resultSet.getString("API_TYPE");
+        String apiSubtype = resultSet.getString("API_SUBTYPE");
+        if (StringUtils.isEmpty(apiSubtype))  {
+            apiSubtype = APIConstants.API_SUBTYPE_DEFAULT;
+        }
+        String version = resultSet.getString("API_VERSION");
+        if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)
+                && APIConstants.API_PRODUCT_VERSION_1_0_0.equals(version)
+                && StringUtils.isBlank(contextTemplate)) {
+            context = context + "/" + APIConstants.API_PRODUCT_VERSION_1_0_0;
+        }
+        return new APIInfo.Builder().id(resultSet.getString("API_UUID"))
+                .name(resultSet.getString("API_NAME"))
+                .version(version)
+                .provider(resultSet.getString("API_PROVIDER"))
+                .context(context)
+                .contextTemplate(contextTemplate)
+                .status(resultSet.getString("STATUS"))
+                .apiType(apiType)
+                .apiSubtype(apiSubtype)
+                .createdBy(resultSet.getString("CREATED_BY"))
+                .createdTime(resultSet.getString("CREATED_TIME"))
+                .updatedBy(resultSet.getString("UPDATED_BY"))
+                .updatedTime(resultSet.getString("UPDATED_TIME"))
+                .revisionsCreated(resultSet.getInt("REVISIONS_CREATED"))
+                .organization(resultSet.getString("ORGANIZATION"))
+                .isEgress(resultSet.getInt("IS_EGRESS"));
+    }
+
     private APIRevision getRevisionByRevisionUUID(Connection connection, String revisionUUID) throws SQLException {
 
         try (PreparedStatement statement = connection
@@ -159,29 +159,61 @@ public class SubscriptionValidationDAO {
                 int appId = resultSet.getInt("APP_ID");
                 Application application = temp.get(appId);
                 if (application == null) {
-                    application = new Application();
-                    application.setId(appId);
-                    application.setUuid(resultSet.getString("APP_UUID"));
-                    application.setPolicy(resultSet.getString("TIER"));
-                    application.setSubName(resultSet.getString("SUB_NAME"));
-                    application.setName(resultSet.getString("APS_NAME"));
-                    application.setTokenType(resultSet.getString("TOKEN_TYPE"));
-                    application.setOrganization(resultSet.getString("ORGANIZATION"));
+                    application = createApplication(appId, resultSet);
                     temp.put(appId, application);
                 }
-                String attributeName = resultSet.getString("ATTRIBUTE_NAME");
-                String attributeValue = resultSet.getString("ATTRIBUTE_VALUE");
-                if (StringUtils.isNotEmpty(attributeName)) {
-                    application.addAttribute(attributeName, attributeValue);
-                }
-                //read from the application_group_mapping table and make it a set
-                String groupId = resultSet.getString("GROUP_ID");
-                if (StringUtils.isNotEmpty(groupId)) {
-                    application.addGroupId(groupId);
-                }
+                addApplicationAttributes(application, resultSet);
+
+                list.add(application);
+            }
+        }
+    }
 
+    /**
+     * Reads the applications of a result set ordered by application id into the given list, stopping once the
+     * given number of applications is read. An application spans several rows (one per attribute and group id),
+     * hence the page can not be bounded on the number of rows.
+     */
+    private void addToApplicationPage(List<Application> list, ResultSet resultSet, int limit) throws SQLException {
+
+        Application application = null;
+        while (resultSet.next()) {
+            int appId = resultSet.getInt("APP_ID");
+            if (application == null || application.getId() != appId) {
+                if (limit > 0 && list.size() == limit) {
+                    break;
+                }
+                application = createApplication(appId, resultSet);
                 list.add(application);
             }
+            addApplicationAttributes(application, resultSet);
+        }
+    }
+
+    private Application createApplication(int appId, ResultSet resultSet) throws SQLException {
+
+        Application application = new Application();
+        application.setId(appId);
+        application.setUuid(resultSet.getString("APP_UUID"));
+        application.setPolicy(resultSet.getString("TIER"));
+        application.setSubName(resultSet.getString("SUB_NAME"));
+        application.setName(resultSet.getString("APS_NAME"));
+        application.setTokenType(resultSet.getString("TOKEN_TYPE"));
+        application.setOrganization(resultSet.getString("ORGANIZATION"));
+        return application;
+    }
+
+    private void addApplicationAttributes(Application application, ResultSet resultSet) throws SQLException {
+
+        String attributeName = resultSet.getString("ATTRIBUTE_NAME");
+        String attributeValue = resultSet.getString("ATTRIBUTE_VALUE");
+        if (StringUtils.isNotEmpty(attributeName)) {
+            application.addAttribute(attributeName, attributeValue);
+        }
+        //read from the application_group_mapping table and make it a set
+        String groupId = resultSet.getString("GROUP_ID");
+        if (StringUtils.isNotEmpty(groupId)) {
+            application.addGroupId(groupId);
         }
     }
 
@@ -407,6 +439,8 @@ public class SubscriptionValidationDAO {
             sql = sql.concat("WHERE AM_API.ORGANIZATION = ?");
         }
         List<API> apiList = new ArrayList<>();
+        Map<String, List<API>> apisByRevision = new HashMap<>();
+        Map<Integer, List<API>> apiProductsById = new HashMap<>();
         try (Connection connection = APIMgtDBUtil.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 preparedStatement.setString(1, organization);
@@ -438,24 +472,22 @@ public class SubscriptionValidationDAO {
 
                         setDefaultVersionContext(apiType, api, version, publishedDefaultApiVersion, context, contextTemplate);
 
+                        api.setPolicy(null);
                         if (isExpand) {
                             String revision = resultSet.getString("REVISION_UUID");
-                            api.setPolicy(getAPILevelTier(connection, apiUuid, revision));
-                            if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)) {
-                                attachURlMappingDetailsOfApiProduct(connection, api, revision);
-                            } else {
-                                attachURLMappingDetails(connection, revision, api);
+                            addToExpandedAPIs(api, revision, apisByRevision, apiProductsById);
+                            if (!APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)) {
                                 api.setEnvironment(deploymentName);
                                 api.setRevision(revision);
                             }
-                        } else {
-                            api.setPolicy(null);
                         }
                         apiList.add(api);
                     }
                 }
             }
-
+            if (isExpand) {
+                attachExpandedDetails(connection, organization, apisByRevision, apiProductsById);
+            }
         } catch (SQLException e) {
             log.error("Error in loading APIs for organization : " + organization, e);
         }
@@ -492,6 +524,96 @@ public class SubscriptionValidationDAO {
         return subscriptions;
     }
 
+    /*
+     * This method can be used to retrieve a page of the Subscriptions in the database, ordered by subscription id
+     *
+     * @param after : subscription id after which the page starts
+     * @param limit : maximum number of subscriptions in the page, or 0 to retrieve all the remaining subscriptions
+     * @return {@link List<Subscription>}
+     * */
+    public List<Subscription> getAllSubscriptions(int after, int limit) throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        String sql = SubscriptionValidationSQLConstants.GET_ALL_SUBSCRIPTIONS_SQL
+                + SubscriptionValidationSQLConstants.SUBSCRIPTIONS_PAGE_CONDITION;
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, after);
+            if (limit > 0) {
+                ps.setMaxRows(limit);
+            }
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions after subscription id : " + after, e);
+        }
+        return subscriptions;
+    }
+
+    /*
+     * This method can be used to retrieve a page of the Subscriptions of a given organization, ordered by
+     * subscription id
+     *
+     * @param organization : organization Id
+     * @param after : subscription id after which the page starts
+     * @param limit : maximum number of subscriptions in the page, or 0 to retrieve all the remaining subscriptions
+     * @return {@link List<Subscription>}
+     * */
+    public List<Subscription> getAllSubscriptionsByOrganization(String organization, int after, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        String sql = SubscriptionValidationSQLConstants.GET_ORGANIZATION_SUBSCRIPTIONS_SQL
+                + SubscriptionValidationSQLConstants.SUBSCRIPTIONS_PAGE_CONDITION;
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, organization);
+            ps.setInt(2, after);
+            if (limit > 0) {
+                ps.setMaxRows(limit);
+            }
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions for the organization : " + organization,
+                    e);
+        }
+        return subscriptions;
+    }
+
+    /*
+     * This method can be used to retrieve a page of the Subscriptions of a given tenant, ordered by subscription id
+     *
+     * @param tenantDomain : tenant domain
+     * @param after : subscription id after which the page starts
+     * @param limit : maximum number of subscriptions in the page, or 0 to retrieve all the remaining subscriptions
+     * @return {@link List<Subscription>}
+     * */
+    public List<Subscription> getAllSubscriptions(String tenantDomain, int after, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        String sql = SubscriptionValidationSQLConstants.GET_TENANT_SUBSCRIPTIONS_SQL
+                + SubscriptionValidationSQLConstants.SUBSCRIPTIONS_PAGE_CONDITION;
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, ServiceReferenceHolder.getInstance().getRealmService().getTenantManager()
+                    .getTenantId(tenantDomain));
+            ps.setInt(2, after);
+            if (limit > 0) {
+                ps.setMaxRows(limit);
+            }
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException | UserStoreException e) {
+            throw new APIManagementException("Error in loading Subscriptions for tenant : " + tenantDomain, e);
+        }
+        return subscriptions;
+    }
+
     private void populateSubscriptionsList(List<Subscription> subscriptions, ResultSet resultSet) throws SQLException {
 
         if (resultSet != null && subscriptions != null) {
@@ -535,6 +657,58 @@ public class SubscriptionValidationDAO {
         return applications;
     }
 
+    /*
+     * This method can be used to retrieve a page of the Applications in the database, ordered by application id
+     *
+     * @param after : application id after which the page starts
+     * @param limit : maximum number of applications in the page, or 0 to retrieve all the remaining applications
+     * @return {@link List<Application>}
+     * */
+    public List<Application> getAllApplications(int after, int limit) throws APIManagementException {
+
+        List<Application> applications = new ArrayList<>();
+        String sql = SubscriptionValidationSQLConstants.GET_ALL_APPLICATIONS_SQL
+                + SubscriptionValidationSQLConstants.APPLICATIONS_PAGE_CONDITION;
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, after);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                addToApplicationPage(applications, resultSet, limit);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Applications after application id : " + after, e);
+        }
+        return applications;
+    }
+
+    /*
+     * This method can be used to retrieve a page of the Applications of a given organization, ordered by
+     * application id
+     *
+     * @param organization : organization Id
+     * @param after : application id after which the page starts
+     * @param limit : maximum number of applications in the page, or 0 to retrieve all the remaining applications
+     * @return {@link List<Application>}
+     * */
+    public List<Application> getAllApplications(String organization, int after, int limit)
+            throws APIManagementException {
+
+        List<Application> applications = new ArrayList<>();
+        String sql = SubscriptionValidationSQLConstants.GET_APPLICATIONS_BY_ORGANIZATION_SQL
+                + SubscriptionValidationSQLConstants.APPLICATIONS_PAGE_CONDITION;
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, organization);
+            ps.setInt(2, after);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                addToApplicationPage(applications, resultSet, limit);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Applications for organization : " + organization, e);
+        }
+        return applications;
+    }
+
     /*
      * @param subscriptionId : unique identifier of a subscription
      * @return {@link Subscription}
@@ -1118,6 +1292,8 @@ public class SubscriptionValidationDAO {
             sql = sql.concat("WHERE AM_API.ORGANIZATION = ?");
         }
         List<API> apiList = new ArrayList<>();
+        Map<String, List<API>> apisByRevision = new HashMap<>();
+        Map<Integer, List<API>> apiProductsById = new HashMap<>();
         try (Connection connection = APIMgtDBUtil.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 preparedStatement.setString(1, organization);
@@ -1159,21 +1335,18 @@ public class SubscriptionValidationDAO {
                         setDefaultVersionContext(apiType, api, version, publishedDefaultApiVersion, context,
                                 contextTemplate);
 
+                        api.setPolicy(null);
                         if (isExpand) {
-                            String revision = resultSet.getString("REVISION_UUID");
-                            api.setPolicy(getAPILevelTier(connection, apiUuid, revision));
-                            if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)) {
-                                attachURlMappingDetailsOfApiProduct(connection, api, revision);
-                            } else {
-                                attachURLMappingDetails(connection, revision, api);
-                            }
-                        } else {
-                            api.setPolicy(null);
+                            addToExpandedAPIs(api, resultSet.getString("REVISION_UUID"), apisByRevision,
+                                    apiProductsById);
                         }
                         apiList.add(api);
                     }
                 }
             }
+            if (isExpand) {
+                attachExpandedDetails(connection, organization, apisByRevision, apiProductsById);
+            }
         } catch (SQLException e) {
             log.error("Error in loading APIs for api : " + deployment, e);
         }
@@ -1208,32 +1381,13 @@ public class SubscriptionValidationDAO {
             preparedStatement.setInt(1, api.getApiId());
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String httpMethod = resultSet.getString("HTTP_METHOD");
-                    String authScheme = resultSet.getString("AUTH_SCHEME");
-                    String urlPattern = resultSet.getString("URL_PATTERN");
-                    String throttlingTier = resultSet.getString("THROTTLING_TIER");
-                    String scopeName = resultSet.getString("SCOPE_NAME");
-                    URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
-                    if (urlMapping == null) {
-                        urlMapping = new URLMapping();
-                        urlMapping.setAuthScheme(authScheme);
-                        urlMapping.setHttpMethod(httpMethod);
-                        urlMapping.setThrottlingPolicy(throttlingTier);
-                        urlMapping.setUrlPattern(urlPattern);
-                    }
-                    if (StringUtils.isNotEmpty(scopeName)) {
-                        urlMapping.addScope(scopeName);
-                    }
-                    api.addResource(urlMapping);
+                    addURLMapping(api, resultSet);
                 }
             }
         }
 
-        if (configs.containsKey(POLICY_ENABLED_FOR_ANALYTICS)) {
-            boolean isPolicyEnabled = Boolean.parseBoolean(configs.get(POLICY_ENABLED_FOR_ANALYTICS));
-            if (isPolicyEnabled) {
-                attachPolicies(connection, revisionId, api);
-            }
+        if (isPolicyEnabledForAnalytics()) {
+            attachPolicies(connection, revisionId, api);
         }
     }
 
@@ -1313,32 +1467,13 @@ public class SubscriptionValidationDAO {
             preparedStatement.setString(2, revisionId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String httpMethod = resultSet.getString("HTTP_METHOD");
-                    String authScheme = resultSet.getString("AUTH_SCHEME");
-                    String urlPattern = resultSet.getString("URL_PATTERN");
-                    String throttlingTier = resultSet.getString("THROTTLING_TIER");
-                    String scopeName = resultSet.getString("SCOPE_NAME");
-                    URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
-                    if (urlMapping == null) {
-                        urlMapping = new URLMapping();
-                        urlMapping.setAuthScheme(authScheme);
-                        urlMapping.setHttpMethod(httpMethod);
-                        urlMapping.setThrottlingPolicy(throttlingTier);
-                        urlMapping.setUrlPattern(urlPattern);
-                    }
-                    if (StringUtils.isNotEmpty(scopeName)) {
-                        urlMapping.addScope(scopeName);
-                    }
-                    api.addResource(urlMapping);
+                    addURLMapping(api, resultSet);
                 }
             }
         }
 
-        if (configs.containsKey(POLICY_ENABLED_FOR_ANALYTICS)) {
-            boolean isPolicyEnabled = Boolean.parseBoolean(configs.get(POLICY_ENABLED_FOR_ANALYTICS));
-            if (isPolicyEnabled) {
-                attachPolicies(connection, revisionId, api);
-            }
+        if (isPolicyEnabledForAnalytics()) {
+            attachPolicies(connection, revisionId, api);
         }
     }
 
@@ -1560,9 +1695,134 @@ public class SubscriptionValidationDAO {
         return null;
     }
 
+    private void addToExpandedAPIs(API api, String revisionUUID, Map<String, List<API>> apisByRevision,
+                                   Map<Integer, List<API>> apiProductsById) {
+
+        if (revisionUUID != null) {
+            apisByRevision.computeIfAbsent(revisionUUID, key -> new ArrayList<>()).add(api);
+        }
+        if (APIConstants.API_PRODUCT.equalsIgnoreCase(api.getApiType())) {
+            apiProductsById.computeIfAbsent(api.getApiId(), key -> new ArrayList<>()).add(api);
+        }
+    }
+
+    /**
+     * Attaches the API level tiers and the URL mappings to the deployed APIs being expanded. The details of all the
+     * APIs are loaded with a query each, and every row is attached to its APIs as it is read, instead of running
+     * the queries once per API.
+     *
+     * @param connection      connection to the database
+     * @param organization    organization of the APIs, or null if the APIs belong to all the organizations
+     * @param apisByRevision  APIs and API products being expanded, keyed by the UUID of their deployed revision
+     * @param apiProductsById API products being expanded, keyed by their ID
+     * @throws SQLException if the details of the APIs can not be loaded
+     */
+    private void attachExpandedDetails(Connection connection, String organization,
+                                       Map<String, List<API>> apisByRevision,
+                                       Map<Integer, List<API>> apiProductsById) throws SQLException {
+
+        String organizationCondition = StringUtils.isNotEmpty(organization) ? "AND AM_API.ORGANIZATION = ?" : "";
+        if (!apisByRevision.isEmpty()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_API_TIERS_OF_DEPLOYED_REVISIONS_SQL
+                            + organizationCondition)) {
+                if (StringUtils.isNotEmpty(organization)) {
+                    preparedStatement.setString(1, organization);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        List<API> apis = apisByRevision.get(resultSet.getString("REVISION_UUID"));
+                        if (apis != null) {
+                            String apiTier = resultSet.getString("API_TIER");
+                            for (API api : apis) {
+                                api.setPolicy(apiTier);
+                            }
+                        }
+                    }
+                }
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_URI_TEMPLATES_OF_DEPLOYED_REVISIONS_SQL
+                            + organizationCondition)) {
+                if (StringUtils.isNotEmpty(organization)) {
+                    preparedStatement.setString(1, organization);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        List<API> apis = apisByRevision.get(resultSet.getString("REVISION_UUID"));
+                        if (apis != null) {
+                            for (API api : apis) {
+                                // URL mappings of API products are those of the APIs they are made of
+                                if (!APIConstants.API_PRODUCT.equalsIgnoreCase(api.getApiType())) {
+                                    addURLMapping(api, resultSet);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (!apiProductsById.isEmpty()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_URI_TEMPLATES_OF_API_PRODUCTS_SQL
+                            + organizationCondition)) {
+                preparedStatement.setString(1, APIConstants.API_PRODUCT);
+                if (StringUtils.isNotEmpty(organization)) {
+                    preparedStatement.setString(2, organization);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        List<API> apiProducts = apiProductsById.get(resultSet.getInt("API_ID"));
+                        if (apiProducts != null) {
+                            for (API apiProduct : apiProducts) {
+                                addURLMapping(apiProduct, resultSet);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (isPolicyEnabledForAnalytics()) {
+            for (Map.Entry<String, List<API>> revisionAPIs : apisByRevision.entrySet()) {
+                for (API api : revisionAPIs.getValue()) {
+                    attachPolicies(connection, revisionAPIs.getKey(), api);
+                }
+            }
+        }
+    }
+
+    private static void addURLMapping(API api, ResultSet resultSet) throws SQLException {
+
+        String httpMethod = resultSet.getString("HTTP_METHOD");
+        String authScheme = resultSet.getString("AUTH_SCHEME");
+        String urlPattern = resultSet.getString("URL_PATTERN");
+        String throttlingTier = resultSet.getString("THROTTLING_TIER");
+        String scopeName = resultSet.getString("SCOPE_NAME");
+        URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
+        if (urlMapping == null) {
+            urlMapping = new URLMapping();
+            urlMapping.setAuthScheme(authScheme);
+            urlMapping.setHttpMethod(httpMethod);
+            urlMapping.setThrottlingPolicy(throttlingTier);
+            urlMapping.setUrlPattern(urlPattern);
+        }
+        if (StringUtils.isNotEmpty(scopeName)) {
+            urlMapping.addScope(scopeName);
+        }
+        api.addResource(urlMapping);
+    }
+
+    private static boolean isPolicyEnabledForAnalytics() {
+
+        return configs.containsKey(POLICY_ENABLED_FOR_ANALYTICS)
+                && Boolean.parseBoolean(configs.get(POLICY_ENABLED_FOR_ANALYTICS));
+    }
+
     public List<API> getAllApisByLabel(String gatewayLabel, Boolean expand) {
         String sql = SubscriptionValidationSQLConstants.GET_ALL_APIS_BY_ORGANIZATION_AND_DEPLOYMENT_SQL;
         List<API> apiList = new ArrayList<>();
+        Map<String, List<API>> apisByRevision = new HashMap<>();
+        Map<Integer, List<API>> apiProductsById = new HashMap<>();
         try (Connection connection = APIMgtDBUtil.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -1605,21 +1865,17 @@ public class SubscriptionValidationDAO {
                         setDefaultVersionContext(apiType, api, version, publishedDefaultApiVersion, context,
                                 contextTemplate);
 
+                        api.setPolicy(null);
                         if (expand) {
-                            api.setPolicy(getAPILevelTier(connection, apiUuid, revision));
-                            if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)) {
-                                attachURlMappingDetailsOfApiProduct(connection, api, revision);
-                            } else {
-                                attachURLMappingDetails(connection, revision, api);
-                            }
-                        } else {
-                            api.setPolicy(null);
+                            addToExpandedAPIs(api, revision, apisByRevision, apiProductsById);
                         }
                         apiList.add(api);
                     }
                 }
             }
-
+            if (expand) {
+                attachExpandedDetails(connection, null, apisByRevision, apiProductsById);
+            }
         } catch (SQLException e) {
             log.error("Error in loading APIs", e);
         }
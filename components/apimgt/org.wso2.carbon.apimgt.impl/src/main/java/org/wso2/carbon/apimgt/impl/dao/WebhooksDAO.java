@@ -347,6 +347,46 @@ public class WebhooksDAO {
         }
     }
 
+    /**
+     * Updates the delivery states of a batch of webhooks subscriptions in a single transaction.
+     *
+     * @param deliveryStatuses delivery states, each holding the API UUID, application ID, tenant domain, callback,
+     *                         topic and status of a subscription
+     * @throws APIManagementException if an error occurs while updating the delivery states
+     */
+    public void updateDeliveryStatuses(List<Properties> deliveryStatuses) throws APIManagementException {
+
+        if (deliveryStatuses.isEmpty()) {
+            return;
+        }
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement prepareStmt = conn
+                    .prepareStatement(SQLConstants.WebhooksSqlConstants.UPDATE_DELIVERY_STATE)) {
+                Timestamp updatedTimestamp = new Timestamp(System.currentTimeMillis());
+                for (Properties deliveryStatus : deliveryStatuses) {
+                    prepareStmt.setTimestamp(1, updatedTimestamp);
+                    prepareStmt.setInt(2, Integer.parseInt(deliveryStatus.getProperty(APIConstants.Webhooks.STATUS)));
+                    prepareStmt.setString(3, deliveryStatus.getProperty(APIConstants.Webhooks.API_UUID));
+                    prepareStmt.setString(4, deliveryStatus.getProperty(APIConstants.Webhooks.APP_ID));
+                    prepareStmt.setString(5, deliveryStatus.getProperty(APIConstants.Webhooks.TENANT_DOMAIN));
+                    prepareStmt.setString(6, deliveryStatus.getProperty(APIConstants.Webhooks.CALLBACK));
+                    prepareStmt.setString(7, deliveryStatus.getProperty(APIConstants.Webhooks.TOPIC));
+                    prepareStmt.addBatch();
+                }
+                prepareStmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                handleConnectionRollBack(conn);
+                throw new APIManagementException("Error while storing a batch of " + deliveryStatuses.size()
+                        + " webhooks delivery states", e);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while storing a batch of " + deliveryStatuses.size()
+                    + " webhooks delivery states", e);
+        }
+    }
+
     private void deleteSubscription(Connection conn, Properties properties) throws APIManagementException {
         try (PreparedStatement preparedStatement = conn
                 .prepareStatement(SQLConstants.WebhooksSqlConstants.DELETE_IF_EXISTS_SUBSCRIBER)) {
@@ -1010,6 +1010,18 @@ public class SQLConstants {
             " GROUP BY " +
             "   API_ID ";
 
+    public static final String GET_API_AVERAGE_RATINGS_BY_UUIDS_SQL =
+            " SELECT " +
+            "   API.API_UUID, " +
+            "   CASE WHEN COUNT(RATINGS.RATING) = 0 THEN 0 " +
+            "   ELSE CAST( SUM(RATINGS.RATING) AS DECIMAL)/COUNT(RATINGS.RATING) END AS RATING " +
+            " FROM " +
+            "   AM_API API LEFT JOIN AM_API_RATINGS RATINGS ON API.API_ID = RATINGS.API_ID " +
+            " WHERE " +
+            "   API.API_UUID IN (_API_UUIDS_) " +
+            " GROUP BY " +
+            "   API.API_UUID ";
+
     public static final String APP_APPLICATION_SQL =
             " INSERT INTO AM_APPLICATION (NAME, SUBSCRIBER_ID, APPLICATION_TIER, " +
             "   CALLBACK_URL, DESCRIPTION, APPLICATION_STATUS, GROUP_ID, CREATED_BY, CREATED_TIME, UPDATED_TIME, " +
@@ -1722,6 +1734,9 @@ public class SQLConstants {
 
     public static final String GET_GATEWAY_VENDOR_BY_API_ID = "SELECT GATEWAY_VENDOR FROM AM_API WHERE API_UUID = ?";
 
+    public static final String GET_GATEWAY_VENDORS_BY_API_IDS =
+            "SELECT API_UUID, GATEWAY_VENDOR FROM AM_API WHERE API_UUID IN (_API_UUIDS_)";
+
     public static final String FIX_NULL_THROTTLING_TIERS =
             "UPDATE AM_API_URL_MAPPING SET THROTTLING_TIER = 'Unlimited' WHERE " +
                      " THROTTLING_TIER IS NULL";
@@ -3202,6 +3217,10 @@ public class SQLConstants {
     public static final String RETRIEVE_API_INFO_FROM_UUID = "SELECT API_UUID, API_PROVIDER, API_NAME, API_VERSION, " +
             "CONTEXT, CONTEXT_TEMPLATE, API_TIER, API_TYPE, CREATED_BY, CREATED_TIME, UPDATED_BY, UPDATED_TIME, " +
             " ORGANIZATION, REVISIONS_CREATED, STATUS, IS_EGRESS, API_SUBTYPE FROM AM_API WHERE API_UUID = ?";
+    public static final String RETRIEVE_API_INFO_FROM_UUIDS = "SELECT API_UUID, API_PROVIDER, API_NAME, API_VERSION, " +
+            "CONTEXT, CONTEXT_TEMPLATE, API_TIER, API_TYPE, CREATED_BY, CREATED_TIME, UPDATED_BY, UPDATED_TIME, " +
+            " ORGANIZATION, REVISIONS_CREATED, STATUS, IS_EGRESS, API_SUBTYPE FROM AM_API WHERE API_UUID IN " +
+            "(_API_UUIDS_)";
     public static final String RETRIEVE_DEFAULT_VERSION = "SELECT DEFAULT_API_VERSION,PUBLISHED_DEFAULT_API_VERSION " +
             "FROM AM_API_DEFAULT_VERSION WHERE API_NAME = ? AND API_PROVIDER =?";
 
@@ -3292,6 +3311,7 @@ public class SQLConstants {
     public static final String API_ID_REGEX = "_API_IDS_";
     public static final String API_UUID_REGEX = "_API_UUIDS_";
     public static final int API_ID_CHUNK_SIZE = 25;
+    public static final int API_UUID_CHUNK_SIZE = 500;
 
     public static final String RETRIEVE_CORRELATION_CONFIGS = "SELECT AM_CORRELATION_CONFIGS.COMPONENT_NAME, " +
             "AM_CORRELATION_CONFIGS.ENABLED FROM AM_CORRELATION_CONFIGS";
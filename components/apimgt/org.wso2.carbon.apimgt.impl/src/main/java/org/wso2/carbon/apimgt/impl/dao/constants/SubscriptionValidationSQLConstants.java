@@ -27,17 +27,26 @@ public class SubscriptionValidationSQLConstants {
                     "   APP.APPLICATION_TIER AS TIER," +
                     "   APP.NAME AS APS_NAME," +
                     "   APP.TOKEN_TYPE AS TOKEN_TYPE," +
+                    "   APP.ORGANIZATION AS ORGANIZATION," +
                     "   SUB.USER_ID AS SUB_NAME," +
                     "   ATTRIBUTES.NAME AS ATTRIBUTE_NAME," +
-                    "   ATTRIBUTES.APP_ATTRIBUTE AS ATTRIBUTE_VALUE" +
+                    "   ATTRIBUTES.APP_ATTRIBUTE AS ATTRIBUTE_VALUE," +
+                    "   GROUP_MAP.GROUP_ID AS GROUP_ID" +
                     " FROM " +
                     "   AM_SUBSCRIBER SUB," +
                     "   AM_APPLICATION APP" +
                     "   LEFT OUTER JOIN AM_APPLICATION_ATTRIBUTES ATTRIBUTES  " +
                     "ON APP.APPLICATION_ID = ATTRIBUTES.APPLICATION_ID" +
+                    "   LEFT OUTER JOIN AM_APPLICATION_GROUP_MAPPING GROUP_MAP" +
+                    "  ON APP.APPLICATION_ID = GROUP_MAP.APPLICATION_ID" +
                     " WHERE " +
                     "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID ";
 
+    // Pages are keyed on the id of the last entry of the previous page, so that a page is read through the primary
+    // key index irrespective of how deep it is in the result
+    public static final String APPLICATIONS_PAGE_CONDITION =
+            " AND APP.APPLICATION_ID > ? ORDER BY APP.APPLICATION_ID";
+
     public static final String GET_TENANT_APPLICATIONS_SQL =
             " SELECT " +
                     "   APP.UUID AS APP_UUID," +
@@ -155,7 +164,12 @@ public class SubscriptionValidationSQLConstants {
                     " WHERE " +
                     "   SUBS.API_ID = API.API_ID AND " +
                     "   SUBS.APPLICATION_ID = APP.APPLICATION_ID AND " +
-                    "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND ";
+                    "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID ";
+
+    // Pages are keyed on the id of the last entry of the previous page
+    public static final String SUBSCRIPTIONS_PAGE_CONDITION =
+            " AND SUBS.SUBSCRIPTION_ID > ? ORDER BY SUBS.SUBSCRIPTION_ID";
+
     public static final String GET_SUBSCRIPTION_SQL =
             "SELECT " +
                     "   AM_SUBSCRIPTION.UUID AS SUBSCRIPTION_UUID," +
@@ -652,6 +666,29 @@ public class SubscriptionValidationSQLConstants {
             " JOIN AM_API_RESOURCE_SCOPE_MAPPING ON AM_API_URL_MAPPING.URL_MAPPING_ID=AM_API_RESOURCE_SCOPE_MAPPING" +
             ".URL_MAPPING_ID WHERE AM_API_URL_MAPPING.URL_MAPPING_ID IN (SELECT URL_MAPPING_ID FROM " +
             "AM_API_PRODUCT_MAPPING WHERE API_ID = ? )";
+
+    public static final String GET_API_TIERS_OF_DEPLOYED_REVISIONS_SQL = "SELECT " +
+            "AM_API_REVISION_METADATA.REVISION_UUID,AM_API_REVISION_METADATA.API_TIER FROM AM_API_REVISION_METADATA " +
+            "INNER JOIN AM_API ON AM_API.API_UUID=AM_API_REVISION_METADATA.API_UUID WHERE " +
+            "AM_API_REVISION_METADATA.REVISION_UUID IN (SELECT REVISION_UUID FROM AM_DEPLOYMENT_REVISION_MAPPING) ";
+
+    public static final String GET_URI_TEMPLATES_OF_DEPLOYED_REVISIONS_SQL = "SELECT " +
+            "AM_API_URL_MAPPING.REVISION_UUID,AM_API_URL_MAPPING.HTTP_METHOD,AM_API_URL_MAPPING.AUTH_SCHEME," +
+            "AM_API_URL_MAPPING.URL_PATTERN,AM_API_URL_MAPPING.THROTTLING_TIER," +
+            "AM_API_RESOURCE_SCOPE_MAPPING.SCOPE_NAME FROM AM_API_URL_MAPPING INNER JOIN AM_API ON " +
+            "AM_API.API_ID=AM_API_URL_MAPPING.API_ID LEFT JOIN AM_API_RESOURCE_SCOPE_MAPPING ON " +
+            "AM_API_URL_MAPPING.URL_MAPPING_ID=AM_API_RESOURCE_SCOPE_MAPPING.URL_MAPPING_ID WHERE " +
+            "AM_API_URL_MAPPING.REVISION_UUID IN (SELECT REVISION_UUID FROM AM_DEPLOYMENT_REVISION_MAPPING) ";
+
+    public static final String GET_URI_TEMPLATES_OF_API_PRODUCTS_SQL = "SELECT PRODUCT_MAPPING.API_ID," +
+            "AM_API_URL_MAPPING.HTTP_METHOD,AM_API_URL_MAPPING.AUTH_SCHEME,AM_API_URL_MAPPING.URL_PATTERN," +
+            "AM_API_URL_MAPPING.THROTTLING_TIER,AM_API_RESOURCE_SCOPE_MAPPING.SCOPE_NAME FROM AM_API INNER JOIN " +
+            "(SELECT DISTINCT API_ID, URL_MAPPING_ID FROM AM_API_PRODUCT_MAPPING) PRODUCT_MAPPING ON " +
+            "AM_API.API_ID=PRODUCT_MAPPING.API_ID INNER JOIN AM_API_URL_MAPPING ON " +
+            "AM_API_URL_MAPPING.URL_MAPPING_ID=PRODUCT_MAPPING.URL_MAPPING_ID LEFT JOIN " +
+            "AM_API_RESOURCE_SCOPE_MAPPING ON " +
+            "AM_API_URL_MAPPING.URL_MAPPING_ID=AM_API_RESOURCE_SCOPE_MAPPING.URL_MAPPING_ID WHERE " +
+            "AM_API.API_TYPE = ? ";
     public static final String  GET_API_BY_CONTEXT_AND_VERSION_SQL = "SELECT AM_API.API_PROVIDER, AM_API.API_NAME, " +
             "AM_API.CONTEXT, AM_API.CONTEXT_TEMPLATE, AM_API.API_UUID, AM_API.API_ID,AM_API.API_TIER, " +
             "AM_API.API_VERSION, AM_API.API_TYPE, AM_API.STATUS, AM_REVISION.REVISION_UUID AS REVISION_UUID, " +
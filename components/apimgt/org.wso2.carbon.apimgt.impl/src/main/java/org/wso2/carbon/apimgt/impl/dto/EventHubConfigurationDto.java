@@ -29,6 +29,7 @@ public class EventHubConfigurationDto {
     private EventHubReceiverConfiguration eventHubReceiverConfiguration;
     private EventHubPublisherConfiguration eventHubPublisherConfiguration ;
     private long eventWaitingTime = 0;
+    private int dataLoadingPageSize = 1000;
 
     public boolean isEnabled() {
 
@@ -86,6 +87,22 @@ public class EventHubConfigurationDto {
         return eventWaitingTime > 0;
     }
 
+    /**
+     * Returns the number of subscriptions and applications retrieved per request when loading them from the event
+     * hub. A page size of 0 or less retrieves them in a single request.
+     *
+     * @return page size used while loading subscription data
+     */
+    public int getDataLoadingPageSize() {
+
+        return dataLoadingPageSize;
+    }
+
+    public void setDataLoadingPageSize(int dataLoadingPageSize) {
+
+        this.dataLoadingPageSize = dataLoadingPageSize;
+    }
+
     public String getUsername() {
 
         return username;
@@ -18,6 +18,8 @@ public class GatewayArtifactSynchronizerProperties {
     private int maxRetryCount = 5;
     private double retryProgressionFactor = 2.0;
     private String gatewayStartup = "sync";
+    private int deploymentConcurrency = 1;
+    private int eventDeploymentConcurrency = 4;
     private long eventWaitingTime = 1;
     private boolean onDemandLoading;
     private boolean tenantLoading;
@@ -154,6 +156,42 @@ public class GatewayArtifactSynchronizerProperties {
         this.gatewayStartup = gatewayStartup;
     }
 
+    /**
+     * Returns the number of workers used to deploy the APIs of a tenant when the gateway starts up. A value of 1
+     * deploys the APIs sequentially. The workers deserialize the artifacts and build the GraphQL schemas in
+     * parallel, but the artifacts of a tenant are applied to its Synapse configuration one at a time. Hence only
+     * the preparation of the artifacts is parallelized, and values beyond the number of available cores do not help.
+     *
+     * @return number of deployment workers
+     */
+    public int getDeploymentConcurrency() {
+
+        return deploymentConcurrency;
+    }
+
+    public void setDeploymentConcurrency(int deploymentConcurrency) {
+
+        this.deploymentConcurrency = Math.max(1, deploymentConcurrency);
+    }
+
+    /**
+     * Returns the number of workers processing the API deployment events received from the event hub. Events of an
+     * API are processed in order, while events of different APIs are processed in parallel. The workers retrieve
+     * and prepare the artifacts in parallel, but the artifacts of a tenant are applied to its Synapse configuration
+     * one at a time, so a value of 1 processes all the events sequentially.
+     *
+     * @return number of event deployment workers
+     */
+    public int getEventDeploymentConcurrency() {
+
+        return eventDeploymentConcurrency;
+    }
+
+    public void setEventDeploymentConcurrency(int eventDeploymentConcurrency) {
+
+        this.eventDeploymentConcurrency = Math.max(1, eventDeploymentConcurrency);
+    }
+
     public void setOnDemandLoading(boolean onDemandLoading) {
         this.onDemandLoading = onDemandLoading;
     }
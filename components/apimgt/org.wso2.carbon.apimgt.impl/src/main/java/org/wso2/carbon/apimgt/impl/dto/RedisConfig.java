@@ -45,6 +45,9 @@ public class RedisConfig {
     private int minGatewayCount;
     private long keyLockRetrievalTimeout;
     private String hybridThrottleProcessorType;
+    private boolean counterBatchingEnabled = false;
+    private long counterSyncInterval = 100L;
+    private long counterMaxUnsyncedDelta = 20L;
     public int getMaxTotal() {
 
         return maxTotal;
@@ -262,4 +265,40 @@ public class RedisConfig {
     public String getHybridThrottleProcessorType() {
         return hybridThrottleProcessorType;
     }
+
+    public boolean isCounterBatchingEnabled() {
+        return counterBatchingEnabled;
+    }
+
+    public void setCounterBatchingEnabled(boolean counterBatchingEnabled) {
+        this.counterBatchingEnabled = counterBatchingEnabled;
+    }
+
+    /**
+     * Returns the interval in milliseconds at which locally aggregated throttle counter increments are synced to
+     * Redis when counter batching is enabled.
+     *
+     * @return counter sync interval in milliseconds
+     */
+    public long getCounterSyncInterval() {
+        return counterSyncInterval;
+    }
+
+    public void setCounterSyncInterval(long counterSyncInterval) {
+        this.counterSyncInterval = counterSyncInterval;
+    }
+
+    /**
+     * Returns the maximum number of increments of a throttle counter a gateway may hold locally before syncing the
+     * counter to Redis. This bounds the over-admission of a gateway per counter between two syncs.
+     *
+     * @return maximum unsynced increments per counter
+     */
+    public long getCounterMaxUnsyncedDelta() {
+        return counterMaxUnsyncedDelta;
+    }
+
+    public void setCounterMaxUnsyncedDelta(long counterMaxUnsyncedDelta) {
+        this.counterMaxUnsyncedDelta = counterMaxUnsyncedDelta;
+    }
 }
@@ -4,6 +4,7 @@ public class RuntimeArtifactDto {
 
     private Object artifact;
     private boolean file;
+    private String entityTag;
 
     public Object getArtifact() {
 
@@ -24,4 +25,17 @@ public class RuntimeArtifactDto {
 
         this.file = file;
     }
+
+    /**
+     * @return entity tag identifying the content of the artifacts, or null if the artifacts are not tagged
+     */
+    public String getEntityTag() {
+
+        return entityTag;
+    }
+
+    public void setEntityTag(String entityTag) {
+
+        this.entityTag = entityTag;
+    }
 }
@@ -43,9 +43,11 @@ public class ThrottleProperties {
     private boolean enablePolicyDeployment;
     private PolicyDeployer policyDeployer;
     private BlockCondition blockCondition;
+    private WebSocketFrameQuotaLease webSocketFrameQuotaLease = new WebSocketFrameQuotaLease();
     private boolean enableHeaderConditions = false;
     private boolean enableJwtConditions = false;
     private boolean enableQueryParamConditions =false;
+    private boolean publishReferencedPropertiesOnly = false;
     private String[] skipRedeployingPolicies = new String[]{};
     private Map<String, Long> defaultThrottleTierLimits = new HashMap<String, Long>();
     private boolean enablePolicyRecreate;
@@ -74,6 +76,14 @@ public class ThrottleProperties {
         this.blockCondition = blockCondition;
     }
 
+    public WebSocketFrameQuotaLease getWebSocketFrameQuotaLease() {
+        return webSocketFrameQuotaLease;
+    }
+
+    public void setWebSocketFrameQuotaLease(WebSocketFrameQuotaLease webSocketFrameQuotaLease) {
+        this.webSocketFrameQuotaLease = webSocketFrameQuotaLease;
+    }
+
     public PolicyDeployer getPolicyDeployer() {
         return policyDeployer;
     }
@@ -155,6 +165,20 @@ public class ThrottleProperties {
         this.enableQueryParamConditions = enableQueryParamConditions;
     }
 
+    /**
+     * Returns whether the throttle events published to the traffic manager should only carry the headers, query
+     * parameters and JWT claims referenced by the conditions of the API level policy applied to the request.
+     *
+     * @return true if only the referenced request properties are published
+     */
+    public boolean isPublishReferencedPropertiesOnly() {
+        return publishReferencedPropertiesOnly;
+    }
+
+    public void setPublishReferencedPropertiesOnly(boolean publishReferencedPropertiesOnly) {
+        this.publishReferencedPropertiesOnly = publishReferencedPropertiesOnly;
+    }
+
     public void setTrafficManager(TrafficManager trafficManager) {
         this.trafficManager = trafficManager;
     }
@@ -634,6 +658,63 @@ public class ThrottleProperties {
         }
     }
 
+    /**
+     * Configuration of the quota leased by WebSocket and GraphQL subscription connections. A connection holding a
+     * lease admits frames without checking the throttle state until the frames, bytes or time of the lease run out,
+     * and the usage of the connection is published to the traffic manager as periodic aggregated events carrying
+     * the number of frames and the total size of them. Only the frames of which every policy is a bandwidth or
+     * unlimited policy are leased, as the traffic manager counts the events of request and event count policies.
+     */
+    public static class WebSocketFrameQuotaLease {
+        private boolean enabled = false;
+        private int frameCount = 100;
+        private long byteCount = 1048576;
+        // by default 1 second
+        private long duration = 1000;
+        // by default 1 second
+        private long usagePublishInterval = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFrameCount() {
+            return frameCount;
+        }
+
+        public void setFrameCount(int frameCount) {
+            this.frameCount = frameCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+
+        public void setByteCount(long byteCount) {
+            this.byteCount = byteCount;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public void setDuration(long duration) {
+            this.duration = duration;
+        }
+
+        public long getUsagePublishInterval() {
+            return usagePublishInterval;
+        }
+
+        public void setUsagePublishInterval(long usagePublishInterval) {
+            this.usagePublishInterval = usagePublishInterval;
+        }
+    }
+
     public String[] getSkipRedeployingPolicies() {
         return skipRedeployingPolicies;
     }
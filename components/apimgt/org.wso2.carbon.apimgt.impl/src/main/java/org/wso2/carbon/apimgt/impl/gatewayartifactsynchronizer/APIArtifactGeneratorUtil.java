@@ -68,7 +68,7 @@ public class APIArtifactGeneratorUtil {
             if (gatewayArtifacts == null || gatewayArtifacts.isEmpty()) {
                 return null;
             }
-            return gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+            return RenderedArtifactCache.getInstance().generate(gatewayArtifactGenerator, gatewayArtifacts);
         } else {
             Set<String> gatewayArtifactGeneratorTypes =
                     ServiceReferenceHolder.getInstance().getGatewayArtifactGeneratorTypes();
@@ -110,7 +110,7 @@ public class APIArtifactGeneratorUtil {
             if (gatewayArtifacts == null || gatewayArtifacts.isEmpty()) {
                 return null;
             }
-            return gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+            return RenderedArtifactCache.getInstance().generate(gatewayArtifactGenerator, gatewayArtifacts);
         } else {
             Set<String> gatewayArtifactGeneratorTypes =
                     ServiceReferenceHolder.getInstance().getGatewayArtifactGeneratorTypes();
@@ -22,6 +22,7 @@ import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.Artifac
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is a Artifact Retriever type. this interface let users to retriever API artifacts from a storage.
@@ -67,6 +68,66 @@ public interface ArtifactRetriever {
      */
      List<String> retrieveAllArtifacts(String gatewayLabel, String tenantDomain) throws ArtifactSynchronizerException;
 
+    /**
+     * This method is used to retrieve data from the storage and hand over each artifact to the given consumer as it
+     * is read, without holding all the artifacts of the tenant in memory. Retrievers which can not stream the
+     * artifacts retrieve them using {@link #retrieveAllArtifacts(String, String)}.
+     *
+     * @param gatewayLabel      - Label subscribed by the gateway
+     * @param tenantDomain      Tenant Domain
+     * @param artifactConsumer  Consumer of the information about each API and its gateway artifacts
+     * @return number of artifacts retrieved
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default int retrieveAllArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        List<String> artifacts = retrieveAllArtifacts(gatewayLabel, tenantDomain);
+        artifacts.forEach(artifactConsumer);
+        return artifacts.size();
+    }
+
+    /**
+     * This method is used to retrieve data from the storage only if it has changed since the last time all the
+     * artifacts of the label and tenant were retrieved. Retrievers which can not tell whether the artifacts have
+     * changed retrieve them using {@link #retrieveAllArtifacts(String, String, Consumer)}.
+     *
+     * @param gatewayLabel      - Label subscribed by the gateway
+     * @param tenantDomain      Tenant Domain
+     * @param artifactConsumer  Consumer of the information about each API and its gateway artifacts
+     * @return number of artifacts retrieved, which is zero if the artifacts have not changed
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default int retrieveChangedArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        return retrieveAllArtifacts(gatewayLabel, tenantDomain, artifactConsumer);
+    }
+
+    /**
+     * Discards what is known about the artifacts last retrieved for the label and tenant, so that they are retrieved
+     * again by the next call to {@link #retrieveChangedArtifacts(String, String, Consumer)}. This is called when the
+     * retrieved artifacts could not be deployed.
+     *
+     * @param gatewayLabel  - Label subscribed by the gateway
+     * @param tenantDomain  Tenant Domain
+     */
+    default void invalidateRetrievedArtifacts(String gatewayLabel, String tenantDomain) {
+
+    }
+
+    /**
+     * Discards what is known about the artifacts last retrieved for all the labels of a tenant, so that they are
+     * retrieved again by the next call to {@link #retrieveChangedArtifacts(String, String, Consumer)}. This is called
+     * when an API of the tenant is deployed or undeployed individually, after which the deployed artifacts no longer
+     * match the ones last retrieved.
+     *
+     * @param tenantDomain  Tenant Domain
+     */
+    default void invalidateRetrievedArtifacts(String tenantDomain) {
+
+    }
+
     /**
      * Will be called after all publishing is done or if init fails
      */
@@ -20,11 +20,15 @@ package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.util.EntityUtils;
 import org.json.JSONArray;
@@ -40,6 +44,7 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
@@ -48,6 +53,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 public class DBRetriever implements ArtifactRetriever {
 
@@ -58,6 +66,10 @@ public class DBRetriever implements ArtifactRetriever {
             ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration()
                     .getGatewayArtifactSynchronizerProperties();
     private String baseURL = eventHubConfigurationDto.getServiceUrl() + APIConstants.INTERNAL_WEB_APP_EP;
+    // Entity tags of the artifacts last retrieved for each gateway label and tenant
+    private final Map<String, String> entityTags = new ConcurrentHashMap<>();
+    // Incremented on each invalidation, so that an entity tag received meanwhile is not remembered
+    private final AtomicLong entityTagInvalidations = new AtomicLong();
 
     @Override
     public void init() throws ArtifactSynchronizerException {
@@ -123,21 +135,68 @@ public class DBRetriever implements ArtifactRetriever {
     @Override
     public List<String> retrieveAllArtifacts(String label, String tenantDomain) throws ArtifactSynchronizerException {
         List<String> gatewayRuntimeArtifactsArray = new ArrayList<>();
+        retrieveAllArtifacts(label, tenantDomain, gatewayRuntimeArtifactsArray::add);
+        return gatewayRuntimeArtifactsArray;
+    }
+
+    @Override
+    public int retrieveAllArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+        return retrieveAllArtifacts(label, tenantDomain, artifactConsumer, false);
+    }
+
+    @Override
+    public int retrieveChangedArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+        return retrieveAllArtifacts(label, tenantDomain, artifactConsumer, true);
+    }
+
+    @Override
+    public void invalidateRetrievedArtifacts(String label, String tenantDomain) {
+        entityTagInvalidations.incrementAndGet();
+        entityTags.remove(getEntityTagKey(label, tenantDomain));
+    }
+
+    @Override
+    public void invalidateRetrievedArtifacts(String tenantDomain) {
+        entityTagInvalidations.incrementAndGet();
+        String keySuffix = getEntityTagKey("", tenantDomain);
+        entityTags.keySet().removeIf(key -> key.endsWith(keySuffix));
+    }
+
+    private int retrieveAllArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer,
+                                     boolean onlyIfChanged) throws ArtifactSynchronizerException {
+        String entityTagKey = getEntityTagKey(label, tenantDomain);
         try {
             String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
             String path = APIConstants.GatewayArtifactSynchronizer.GATEAY_SYNAPSE_ARTIFACTS
                     + "?gatewayLabel=" + endcodedgatewayLabel + "&type=Synapse";
             String endpoint = baseURL + path;
-            try (CloseableHttpResponse httpResponse = invokeService(endpoint,tenantDomain)) {
-                JSONArray jsonArray = retrieveArtifact(httpResponse);
-                if (jsonArray != null) {
-                    for (int i = 0; i < jsonArray.length(); i++) {
-                        gatewayRuntimeArtifactsArray.add(jsonArray.getString(i));
+            long invalidations = entityTagInvalidations.get();
+            String entityTag = onlyIfChanged ? entityTags.get(entityTagKey) : null;
+            int[] artifactCount = new int[1];
+            try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain, entityTag)) {
+                if (entityTag != null && httpResponse.getStatusLine().getStatusCode() == 304) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Artifacts of the gateway label " + label + " have not changed");
                     }
+                    return 0;
+                }
+                // Forgets the previous entity tag until the new artifacts have been read completely
+                entityTags.remove(entityTagKey);
+                // Each artifact is handed over as it is read, so that the artifacts of the tenant are not all held
+                // in memory. Consumers deploying in the background bound the artifacts waiting to be deployed.
+                readArtifacts(httpResponse, artifact -> {
+                    artifactCount[0]++;
+                    artifactConsumer.accept(artifact);
+                });
+                Header entityTagHeader = httpResponse.getFirstHeader(HttpHeaders.ETAG);
+                if (httpResponse.getStatusLine().getStatusCode() == 200 && entityTagHeader != null
+                        && invalidations == entityTagInvalidations.get()) {
+                    entityTags.put(entityTagKey, entityTagHeader.getValue());
                 }
-
             }
-            return gatewayRuntimeArtifactsArray;
+            return artifactCount[0];
         } catch (IOException e) {
             String msg = "Error while executing the http client";
             log.error(msg, e);
@@ -149,6 +208,45 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    /**
+     * Reads the artifact list of the response one element at a time, so that only the artifacts themselves are held
+     * in memory and not the response body as a whole.
+     */
+    private void readArtifacts(CloseableHttpResponse httpResponse, Consumer<String> artifactConsumer)
+            throws IOException, ArtifactSynchronizerException {
+
+        if (httpResponse.getStatusLine().getStatusCode() != 200 || httpResponse.getEntity() == null) {
+            JSONArray jsonArray = retrieveArtifact(httpResponse);
+            for (int i = 0; i < jsonArray.length(); i++) {
+                artifactConsumer.accept(jsonArray.getString(i));
+            }
+            return;
+        }
+        try (JsonReader reader = new JsonReader(new InputStreamReader(httpResponse.getEntity().getContent(),
+                APIConstants.DigestAuthConstants.CHARSET))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new ArtifactSynchronizerException("Unexpected response received from the storage");
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("list".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (reader.peek() == JsonToken.STRING) {
+                            artifactConsumer.accept(reader.nextString());
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+    }
+
     @Override
     public Map<String, String> retrieveAttributes(String apiName, String version, String tenantDomain)
             throws ArtifactSynchronizerException {
@@ -200,9 +298,20 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    private static String getEntityTagKey(String label, String tenantDomain) {
+
+        return label + "\n" + tenantDomain;
+    }
+
     private CloseableHttpResponse invokeService(String endpoint,String tenantDomain) throws IOException,
             ArtifactSynchronizerException {
 
+        return invokeService(endpoint, tenantDomain, null);
+    }
+
+    private CloseableHttpResponse invokeService(String endpoint, String tenantDomain, String ifNoneMatch)
+            throws IOException, ArtifactSynchronizerException {
+
         HttpGet method = new HttpGet(endpoint);
         URL url = new URL(endpoint);
         String username = eventHubConfigurationDto.getUsername();
@@ -216,6 +325,9 @@ public class DBRetriever implements ArtifactRetriever {
         if (tenantDomain != null) {
             method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
         }
+        if (ifNoneMatch != null) {
+            method.setHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
 
         HttpClient httpClient = APIUtil.getHttpClient(port, protocol);
         try {
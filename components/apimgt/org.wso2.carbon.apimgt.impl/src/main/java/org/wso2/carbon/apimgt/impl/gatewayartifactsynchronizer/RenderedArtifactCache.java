@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import com.google.gson.Gson;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.simple.JSONObject;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.Environment;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dao.ApiMgtDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the Synapse artifacts rendered from the revision archives of APIs, shared by the gateways retrieving
+ * their runtime artifacts from the control plane. When many gateways start up together, the artifacts of a
+ * revision are rendered once instead of once per gateway.
+ * <p>
+ * The rendered artifacts are content addressed: an artifact is cached against the hash of the revision archive and
+ * of every other input of the rendering. The archive holds the endpoints and certificates of the revision, and the
+ * other inputs are the gateway environment, the tenant configuration, and the custom backends and GraphQL complexity
+ * details of the API. A change to any of them hence renders the artifact again. Artifacts of API products, whose
+ * rendering depends on the current state of their APIs, are not cached. Artifacts rendered concurrently for the same
+ * key are rendered only once. Artifacts are evicted after the configured expiry time, and the least recently used
+ * artifacts are evicted to stay within the configured size.
+ * <p>
+ * Each set of generated artifacts is given an entity tag derived from the keys of its artifacts, with which gateways
+ * can skip retrieving artifacts that have not changed. As the keys are computed from the stored revisions, a request
+ * for artifacts that have not changed is answered without rendering them. When an artifact has no key, or is not
+ * rendered, the entity tag is derived from the hashes of the rendered artifacts instead.
+ */
+public class RenderedArtifactCache {
+
+    private static final Log log = LogFactory.getLog(RenderedArtifactCache.class);
+    private static final String SHA_256 = "SHA-256";
+    private static final long DEFAULT_MAX_SIZE_MB = 64;
+    private static final long DEFAULT_EXPIRY_SECONDS = 300;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static volatile RenderedArtifactCache instance;
+
+    private final long maxSize;
+    private final long expiryNanos;
+    private final Map<String, RenderedArtifact> renderedArtifacts = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, FutureTask<RenderedArtifact>> inFlightRenderings = new ConcurrentHashMap<>();
+    private long size;
+
+    /**
+     * @param maxSize       maximum total size in characters of the cached artifacts, 0 to disable the cache
+     * @param expiryMillis  time in milliseconds an artifact is cached for
+     */
+    public RenderedArtifactCache(long maxSize, long expiryMillis) {
+
+        this.maxSize = expiryMillis > 0 ? Math.max(0, maxSize) : 0;
+        this.expiryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiryMillis));
+    }
+
+    public static RenderedArtifactCache getInstance() {
+
+        if (instance == null) {
+            synchronized (RenderedArtifactCache.class) {
+                if (instance == null) {
+                    APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance()
+                            .getAPIManagerConfigurationService().getAPIManagerConfiguration();
+                    long maxSizeMB = getConfiguredValue(configuration,
+                            APIConstants.GatewayArtifactSynchronizer.RENDERED_ARTIFACT_CACHE_SIZE,
+                            DEFAULT_MAX_SIZE_MB);
+                    long expirySeconds = getConfiguredValue(configuration,
+                            APIConstants.GatewayArtifactSynchronizer.RENDERED_ARTIFACT_CACHE_EXPIRY,
+                            DEFAULT_EXPIRY_SECONDS);
+                    // Characters are counted as two bytes, as they are in the heap in the worst case
+                    instance = new RenderedArtifactCache(maxSizeMB * BYTES_PER_MB / 2,
+                            TimeUnit.SECONDS.toMillis(expirySeconds));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Generates the gateway artifacts of the given API revisions, rendering only the ones which are not cached.
+     * Artifacts of gateway types other than Synapse are generated as they are without being cached.
+     *
+     * @param generator generator of the gateway artifacts
+     * @param artifacts revision archives of the APIs, as retrieved from the database
+     * @return generated gateway artifacts, along with their entity tag if they are not a file
+     * @throws APIManagementException if the artifacts can not be generated
+     */
+    public RuntimeArtifactDto generate(GatewayArtifactGenerator generator, List<APIRuntimeArtifactDto> artifacts)
+            throws APIManagementException {
+
+        return generate(generator, artifacts, null);
+    }
+
+    /**
+     * Generates the gateway artifacts of the given API revisions, unless they have not changed since they were
+     * generated with the given entity tag.
+     *
+     * @param generator  generator of the gateway artifacts
+     * @param artifacts  revision archives of the APIs, as retrieved from the database
+     * @param entityTag  entity tag of the artifacts the caller already has, or null
+     * @return generated gateway artifacts along with their entity tag if they are not a file, or only the entity tag
+     * without any artifacts if it matches the given entity tag
+     * @throws APIManagementException if the artifacts can not be generated
+     */
+    public RuntimeArtifactDto generate(GatewayArtifactGenerator generator, List<APIRuntimeArtifactDto> artifacts,
+                                       String entityTag) throws APIManagementException {
+
+        if (artifacts == null || !APIConstants.API_GATEWAY_TYPE_SYNAPSE.equals(generator.getType())) {
+            return generator.generateGatewayArtifact(artifacts);
+        }
+        Map<String, String> configVersions = new HashMap<>();
+        Map<String, String> apiVersions = new HashMap<>();
+        List<String> keys = new ArrayList<>(artifacts.size());
+        MessageDigest keysDigest = getDigest();
+        boolean keyed = true;
+        for (APIRuntimeArtifactDto artifact : artifacts) {
+            String key = getKey(artifact, configVersions, apiVersions);
+            keys.add(key);
+            if (key == null) {
+                keyed = false;
+            } else {
+                keysDigest.update(key.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        String keysEntityTag = keyed ? Hex.encodeHexString(keysDigest.digest()) : null;
+        RuntimeArtifactDto runtimeArtifactDto = new RuntimeArtifactDto();
+        runtimeArtifactDto.setFile(false);
+        if (keysEntityTag != null && keysEntityTag.equals(entityTag)) {
+            runtimeArtifactDto.setEntityTag(keysEntityTag);
+            return runtimeArtifactDto;
+        }
+        MessageDigest contentDigest = getDigest();
+        List<String> generatedArtifacts = new ArrayList<>(artifacts.size());
+        boolean rendered = true;
+        for (int i = 0; i < artifacts.size(); i++) {
+            RenderedArtifact renderedArtifact = getRenderedArtifact(generator, artifacts.get(i), keys.get(i));
+            if (renderedArtifact != null) {
+                generatedArtifacts.add(renderedArtifact.content);
+                contentDigest.update(renderedArtifact.hash);
+            } else {
+                rendered = false;
+            }
+        }
+        runtimeArtifactDto.setArtifact(generatedArtifacts);
+        // An artifact that failed to render is retried on the next request, which the keys would answer with 304
+        runtimeArtifactDto.setEntityTag(keysEntityTag != null && rendered ? keysEntityTag
+                : Hex.encodeHexString(contentDigest.digest()));
+        return runtimeArtifactDto;
+    }
+
+    /**
+     * Removes all the cached artifacts.
+     */
+    public void clear() {
+
+        synchronized (renderedArtifacts) {
+            renderedArtifacts.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * @return number of cached artifacts
+     */
+    public int getCachedCount() {
+
+        synchronized (renderedArtifacts) {
+            return renderedArtifacts.size();
+        }
+    }
+
+    /**
+     * Returns a version of the configuration artifacts are rendered with, which changes along with the configuration
+     * of the gateway environment and of the tenant.
+     *
+     * @param tenantDomain tenant domain of the API
+     * @param label        name of the gateway environment
+     * @return version of the configuration, or null if the environment does not exist
+     * @throws APIManagementException if the configuration of the tenant can not be retrieved
+     */
+    protected String getConfigVersion(String tenantDomain, String label) throws APIManagementException {
+
+        Environment environment = APIUtil.getEnvironments(tenantDomain).get(label);
+        if (environment == null) {
+            return null;
+        }
+        JSONObject tenantConfig = APIUtil.getTenantConfig(tenantDomain);
+        return new Gson().toJson(environment) + '\n' + (tenantConfig != null ? tenantConfig.toJSONString() : "");
+    }
+
+    /**
+     * Returns a version of the details of an API which are stored outside its revision archives and used to render
+     * its artifacts, which changes along with the custom backends and GraphQL complexity details of the API.
+     *
+     * @param apiId UUID of the API
+     * @return version of the details of the API
+     * @throws APIManagementException if the details of the API can not be retrieved
+     */
+    protected String getAPIVersion(String apiId) throws APIManagementException {
+
+        ApiMgtDAO apiMgtDAO = ApiMgtDAO.getInstance();
+        Gson gson = new Gson();
+        return gson.toJson(apiMgtDAO.getSequenceBackendsByAPIUUID(apiId)) + '\n'
+                + gson.toJson(apiMgtDAO.getComplexityDetails(apiId));
+    }
+
+    private RenderedArtifact getRenderedArtifact(GatewayArtifactGenerator generator, APIRuntimeArtifactDto artifact,
+                                                 String key) throws APIManagementException {
+
+        if (maxSize <= 0 || key == null) {
+            return render(generator, artifact);
+        }
+        RenderedArtifact renderedArtifact = getCached(key);
+        if (renderedArtifact != null) {
+            return renderedArtifact;
+        }
+        FutureTask<RenderedArtifact> rendering = new FutureTask<>(() -> render(generator, artifact));
+        FutureTask<RenderedArtifact> inFlightRendering = inFlightRenderings.putIfAbsent(key, rendering);
+        if (inFlightRendering == null) {
+            try {
+                rendering.run();
+            } finally {
+                inFlightRenderings.remove(key, rendering);
+            }
+            inFlightRendering = rendering;
+        }
+        try {
+            renderedArtifact = inFlightRendering.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIManagementException("Interrupted while rendering the artifact of API "
+                    + artifact.getApiId(), e);
+        } catch (ExecutionException e) {
+            throw new APIManagementException("Error while rendering the artifact of API " + artifact.getApiId(),
+                    e.getCause());
+        }
+        if (renderedArtifact != null && inFlightRendering == rendering) {
+            put(key, renderedArtifact);
+        }
+        return renderedArtifact;
+    }
+
+    private RenderedArtifact render(GatewayArtifactGenerator generator, APIRuntimeArtifactDto artifact)
+            throws APIManagementException {
+
+        RuntimeArtifactDto runtimeArtifactDto = generator.generateGatewayArtifact(Collections.singletonList(artifact));
+        if (runtimeArtifactDto == null || !(runtimeArtifactDto.getArtifact() instanceof List)) {
+            return null;
+        }
+        List<?> renderedArtifacts = (List<?>) runtimeArtifactDto.getArtifact();
+        if (renderedArtifacts.isEmpty()) {
+            // The generator logs the artifacts it fails to render and skips them
+            return null;
+        }
+        String content = (String) renderedArtifacts.get(0);
+        return new RenderedArtifact(content, getDigest().digest(content.getBytes(StandardCharsets.UTF_8)),
+                System.nanoTime());
+    }
+
+    /**
+     * Returns the key of the artifact rendered from a revision archive, or null if the artifact is of an API product
+     * or the archive can not be read without being consumed.
+     */
+    private String getKey(APIRuntimeArtifactDto artifact, Map<String, String> configVersions,
+                          Map<String, String> apiVersions) throws APIManagementException {
+
+        if (!artifact.isFile() || !(artifact.getArtifact() instanceof InputStream)
+                || APIConstants.API_PRODUCT.equals(artifact.getType())) {
+            return null;
+        }
+        InputStream archive = (InputStream) artifact.getArtifact();
+        if (!archive.markSupported()) {
+            return null;
+        }
+        String configKey = artifact.getTenantDomain() + '\n' + artifact.getLabel();
+        String configVersion = configVersions.get(configKey);
+        if (configVersion == null) {
+            configVersion = StringUtils.defaultString(getConfigVersion(artifact.getTenantDomain(),
+                    artifact.getLabel()));
+            configVersions.put(configKey, configVersion);
+        }
+        String apiVersion = apiVersions.get(artifact.getApiId());
+        if (apiVersion == null) {
+            apiVersion = StringUtils.defaultString(getAPIVersion(artifact.getApiId()));
+            apiVersions.put(artifact.getApiId(), apiVersion);
+        }
+        MessageDigest digest = getDigest();
+        try {
+            archive.mark(Integer.MAX_VALUE);
+            digest.update(IOUtils.toByteArray(archive));
+            archive.reset();
+        } catch (IOException e) {
+            throw new APIManagementException("Error while reading the artifact of API " + artifact.getApiId(), e);
+        }
+        for (String attribute : new String[]{artifact.getApiId(), artifact.getRevision(), artifact.getType(),
+                artifact.getTenantDomain(), artifact.getLabel(), artifact.getVhost(), configVersion, apiVersion}) {
+            digest.update((byte) 0);
+            digest.update(StringUtils.defaultString(attribute).getBytes(StandardCharsets.UTF_8));
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private RenderedArtifact getCached(String key) {
+
+        synchronized (renderedArtifacts) {
+            RenderedArtifact renderedArtifact = renderedArtifacts.get(key);
+            if (renderedArtifact != null && System.nanoTime() - renderedArtifact.renderedTime > expiryNanos) {
+                renderedArtifacts.remove(key);
+                size -= renderedArtifact.content.length();
+                return null;
+            }
+            return renderedArtifact;
+        }
+    }
+
+    private void put(String key, RenderedArtifact renderedArtifact) {
+
+        if (renderedArtifact.content.length() > maxSize) {
+            return;
+        }
+        synchronized (renderedArtifacts) {
+            RenderedArtifact previous = renderedArtifacts.put(key, renderedArtifact);
+            if (previous != null) {
+                size -= previous.content.length();
+            }
+            size += renderedArtifact.content.length();
+            Iterator<RenderedArtifact> iterator = renderedArtifacts.values().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                size -= iterator.next().content.length();
+                iterator.remove();
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cached the rendered artifact " + key);
+        }
+    }
+
+    private static MessageDigest getDigest() throws APIManagementException {
+
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new APIManagementException("Error while creating the digest of the artifacts", e);
+        }
+    }
+
+    private static long getConfiguredValue(APIManagerConfiguration configuration, String key, long defaultValue) {
+
+        String value = configuration != null ? configuration.getFirstProperty(key) : null;
+        if (StringUtils.isNotEmpty(value)) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value " + value + " configured for " + key + ". Using " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Artifact rendered from a revision archive, along with the hash of its content.
+     */
+    private static final class RenderedArtifact {
+
+        private final String content;
+        private final byte[] hash;
+        private final long renderedTime;
+
+        private RenderedArtifact(String content, byte[] hash, long renderedTime) {
+
+            this.content = content;
+            this.hash = hash;
+            this.renderedTime = renderedTime;
+        }
+    }
+}
@@ -54,11 +54,23 @@ public class RuntimeArtifactGeneratorUtil {
                                                              String gatewayLabel, String type, String tenantDomain)
             throws APIManagementException {
 
+        return generateRuntimeArtifact(apiId, gatewayLabel, type, tenantDomain, null);
+    }
+
+    /**
+     * Generates the runtime artifacts of the APIs of a tenant, unless they have not changed since they were generated
+     * with the given entity tag, in which case only the entity tag is returned.
+     */
+    public static RuntimeArtifactDto generateRuntimeArtifact(String apiId, String gatewayLabel, String type,
+                                                             String tenantDomain, String entityTag)
+            throws APIManagementException {
+
         GatewayArtifactGenerator gatewayArtifactGenerator =
                 ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
         if (gatewayArtifactGenerator != null) {
             List<APIRuntimeArtifactDto> gatewayArtifacts = getRuntimeArtifacts(apiId, gatewayLabel, tenantDomain);
-            return gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+            return RenderedArtifactCache.getInstance().generate(gatewayArtifactGenerator, gatewayArtifacts,
+                    entityTag);
         } else {
             Set<String> gatewayArtifactGeneratorTypes =
                     ServiceReferenceHolder.getInstance().getGatewayArtifactGeneratorTypes();
@@ -72,11 +84,22 @@ public class RuntimeArtifactGeneratorUtil {
                                                                 String gatewayLabel, String type)
             throws APIManagementException {
 
+        return generateAllRuntimeArtifact(apiId, gatewayLabel, type, null);
+    }
+
+    /**
+     * Generates the runtime artifacts of the APIs of all the tenants, unless they have not changed since they were
+     * generated with the given entity tag, in which case only the entity tag is returned.
+     */
+    public static RuntimeArtifactDto generateAllRuntimeArtifact(String apiId, String gatewayLabel, String type,
+                                                                String entityTag) throws APIManagementException {
+
         GatewayArtifactGenerator gatewayArtifactGenerator =
                 ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
         if (gatewayArtifactGenerator != null) {
             List<APIRuntimeArtifactDto> gatewayArtifacts = getAllRuntimeArtifacts(apiId, gatewayLabel);
-            return gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+            return RenderedArtifactCache.getInstance().generate(gatewayArtifactGenerator, gatewayArtifacts,
+                    entityTag);
         } else {
             Set<String> gatewayArtifactGeneratorTypes =
                     ServiceReferenceHolder.getInstance().getGatewayArtifactGeneratorTypes();
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Signature verifiers of the keys published in the JWKS endpoint of a token issuer, indexed by key ID.
+ * <p>
+ * The key set is refreshed in the background at a fixed interval. A token signed with a key that is not in the
+ * key set triggers a refresh on the request thread, at most once within the minimum refresh interval, so that tokens
+ * with unknown key IDs do not make the request threads wait on the JWKS endpoint.
+ */
+public class JWKSKeyStore {
+
+    private static final Log log = LogFactory.getLog(JWKSKeyStore.class);
+    private static final long DEFAULT_REFRESH_INTERVAL = 900;
+    private static final long DEFAULT_MIN_REFRESH_INTERVAL = 60;
+    private static final Map<String, JWKSKeyStore> keyStores = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "JWKSKeyStoreRefresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private static final AtomicBoolean metricsRegistered = new AtomicBoolean();
+
+    private final String jwksEndpoint;
+    private final long minRefreshIntervalMillis;
+    private final Object loadLock = new Object();
+    private final AtomicLong lastRefreshTime = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+    private volatile Map<String, JWSVerifier> verifiers = Collections.emptyMap();
+    private volatile boolean loaded;
+
+    JWKSKeyStore(String jwksEndpoint, long minRefreshIntervalMillis) {
+
+        this.jwksEndpoint = jwksEndpoint;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+    }
+
+    /**
+     * Returns the key store of the given JWKS endpoint, creating it and scheduling its background refresh on first
+     * use.
+     *
+     * @param jwksEndpoint JWKS endpoint of the token issuer
+     * @return key store of the JWKS endpoint
+     */
+    public static JWKSKeyStore getKeyStore(String jwksEndpoint) {
+
+        if (metricsRegistered.compareAndSet(false, true)) {
+            registerMetrics();
+        }
+        return keyStores.computeIfAbsent(jwksEndpoint, endpoint -> {
+            JWKSKeyStore keyStore = new JWKSKeyStore(endpoint, TimeUnit.SECONDS.toMillis(
+                    getConfiguredInterval(APIConstants.JWKS_MIN_REFRESH_INTERVAL, DEFAULT_MIN_REFRESH_INTERVAL)));
+            long refreshInterval = getConfiguredInterval(APIConstants.JWKS_REFRESH_INTERVAL,
+                    DEFAULT_REFRESH_INTERVAL);
+            refreshExecutor.scheduleWithFixedDelay(keyStore::refreshInBackground, refreshInterval, refreshInterval,
+                    TimeUnit.SECONDS);
+            return keyStore;
+        });
+    }
+
+    /**
+     * Returns the verifier of the key with the given key ID. The key set is loaded by the first caller, and
+     * refreshed when the key is not found and the key set has not been refreshed within the minimum refresh
+     * interval.
+     *
+     * @param keyId key ID of the token header
+     * @return verifier of the key, or null if the key set does not have a supported signing key with the key ID
+     * @throws APIManagementException if the key set has never been loaded and cannot be loaded
+     */
+    public JWSVerifier getVerifier(String keyId) throws APIManagementException {
+
+        if (!loaded) {
+            load();
+        }
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier != null) {
+            hitCount.increment();
+            return verifier;
+        }
+        missCount.increment();
+        if (tryAcquireRefresh()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Key " + keyId + " is not found in the JWKS of " + jwksEndpoint + ". Refreshing the JWKS");
+            }
+            try {
+                refresh();
+            } catch (APIManagementException e) {
+                log.error("Error while refreshing the JWKS of " + jwksEndpoint, e);
+            }
+            verifier = verifiers.get(keyId);
+        }
+        return verifier;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getRefreshCount() {
+
+        return refreshCount.sum();
+    }
+
+    public long getRefreshFailureCount() {
+
+        return refreshFailureCount.sum();
+    }
+
+    private void load() throws APIManagementException {
+
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            if (!tryAcquireRefresh()) {
+                throw new APIManagementException("JWKS of " + jwksEndpoint + " is not available");
+            }
+            refresh();
+        }
+    }
+
+    private boolean tryAcquireRefresh() {
+
+        long now = System.currentTimeMillis();
+        long lastRefresh = lastRefreshTime.get();
+        return now - lastRefresh >= minRefreshIntervalMillis && lastRefreshTime.compareAndSet(lastRefresh, now);
+    }
+
+    private void refreshInBackground() {
+
+        lastRefreshTime.set(System.currentTimeMillis());
+        try {
+            refresh();
+        } catch (APIManagementException e) {
+            log.error("Error while refreshing the JWKS of " + jwksEndpoint, e);
+        } catch (RuntimeException e) {
+            // Keeps the refresh scheduled
+            log.error("Unexpected error while refreshing the JWKS of " + jwksEndpoint, e);
+        }
+    }
+
+    void refresh() throws APIManagementException {
+
+        try {
+            String jwksInfo = retrieveJWKS();
+            if (jwksInfo == null) {
+                throw new APIManagementException("Invalid JWKS endpoint.");
+            }
+            verifiers = createVerifiers(JWKSet.parse(jwksInfo));
+            loaded = true;
+            refreshCount.increment();
+        } catch (IOException e) {
+            refreshFailureCount.increment();
+            throw new APIManagementException("Error while connecting to JWKS endpoint " + jwksEndpoint, e);
+        } catch (ParseException e) {
+            refreshFailureCount.increment();
+            throw new APIManagementException("Error while parsing JWKS information of " + jwksEndpoint, e);
+        } catch (APIManagementException e) {
+            refreshFailureCount.increment();
+            throw e;
+        }
+    }
+
+    String retrieveJWKS() throws IOException {
+
+        return JWTUtil.retrieveJWKSConfiguration(jwksEndpoint);
+    }
+
+    private Map<String, JWSVerifier> createVerifiers(JWKSet jwkSet) {
+
+        Map<String, JWSVerifier> jwkVerifiers = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            String keyId = jwk.getKeyID();
+            if (StringUtils.isEmpty(keyId) || KeyUse.ENCRYPTION.equals(jwk.getKeyUse())) {
+                continue;
+            }
+            try {
+                if (jwk instanceof RSAKey) {
+                    jwkVerifiers.put(keyId, new RSASSAVerifier((RSAKey) jwk));
+                } else if (jwk instanceof ECKey) {
+                    jwkVerifiers.put(keyId, new ECDSAVerifier((ECKey) jwk));
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Key algorithm of key " + keyId + " in the JWKS of " + jwksEndpoint
+                            + " is not supported");
+                }
+            } catch (JOSEException e) {
+                log.warn("Skipping invalid key " + keyId + " in the JWKS of " + jwksEndpoint, e);
+            }
+        }
+        return Collections.unmodifiableMap(jwkVerifiers);
+    }
+
+    /**
+     * Registers gauges of the hit, miss, refresh and refresh failure counts summed over the key stores of all the
+     * JWKS endpoints.
+     */
+    private static void registerMetrics() {
+
+        try {
+            registerGauge("HitCount", JWKSKeyStore::getHitCount);
+            registerGauge("MissCount", JWKSKeyStore::getMissCount);
+            registerGauge("RefreshCount", JWKSKeyStore::getRefreshCount);
+            registerGauge("RefreshFailureCount", JWKSKeyStore::getRefreshFailureCount);
+        } catch (RuntimeException e) {
+            log.warn("Error while registering the JWKS key store metrics", e);
+        }
+    }
+
+    private static void registerGauge(String name, ToLongFunction<JWKSKeyStore> count) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                JWKSKeyStore.class.getSimpleName(), name), (Gauge<Long>) () -> {
+            long total = 0;
+            for (JWKSKeyStore keyStore : keyStores.values()) {
+                total += count.applyAsLong(keyStore);
+            }
+            return total;
+        });
+    }
+
+    private static long getConfiguredInterval(String property, long defaultInterval) {
+
+        APIManagerConfigurationService configurationService =
+                ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService();
+        if (configurationService != null) {
+            APIManagerConfiguration configuration = configurationService.getAPIManagerConfiguration();
+            if (configuration != null) {
+                String interval = configuration.getFirstProperty(property);
+                if (StringUtils.isNotEmpty(interval)) {
+                    try {
+                        return Long.parseLong(interval.trim());
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid value " + interval + " for " + property + ". Using the default "
+                                + defaultInterval);
+                    }
+                }
+            }
+        }
+        return defaultInterval;
+    }
+}
@@ -19,8 +19,7 @@
 package org.wso2.carbon.apimgt.impl.jwt;
 
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.util.DateUtils;
@@ -38,7 +37,6 @@ import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
 
-import java.io.IOException;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Date;
@@ -50,7 +48,6 @@ public class JWTValidatorImpl implements JWTValidator {
     TokenIssuerDto tokenIssuer;
     private Log log = LogFactory.getLog(JWTValidatorImpl.class);
     JWTTransformer jwtTransformer;
-    private JWKSet jwkSet;
 
     @Override
     public JWTValidationInfo validateToken(SignedJWTInfo signedJWTInfo) throws APIManagementException {
@@ -139,25 +136,15 @@ public class JWTValidatorImpl implements JWTValidator {
             if (StringUtils.isNotEmpty(keyID)) {
                 if (tokenIssuer.getJwksConfigurationDTO().isEnabled() &&
                         StringUtils.isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
-                    // Check JWKSet Available in Cache
-                    if (jwkSet == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) instanceof RSAKey) {
-                        RSAKey keyByKeyId = (RSAKey) jwkSet.getKeyByKeyId(keyID);
-                        RSAPublicKey rsaPublicKey = keyByKeyId.toRSAPublicKey();
-                        if (rsaPublicKey != null) {
-                            return JWTUtil.verifyTokenSignature(signedJWT, rsaPublicKey);
-                        }
-                    } else {
+                    JWSVerifier jwsVerifier =
+                            JWKSKeyStore.getKeyStore(tokenIssuer.getJwksConfigurationDTO().getUrl()).getVerifier(keyID);
+                    if (jwsVerifier == null) {
                         if (log.isDebugEnabled()) {
-                            log.debug("Key Algorithm not supported");
+                            log.debug("Signing key " + keyID + " is not found or key algorithm not supported");
                         }
                         return false; // return false to produce 401 unauthenticated response
                     }
+                    return verifyTokenSignature(signedJWT, jwsVerifier);
                 } else if (tokenIssuer.getCertificate() != null) {
                     log.debug("Retrieve certificate from Token issuer and validating");
                     RSAPublicKey rsaPublicKey = (RSAPublicKey) tokenIssuer.getCertificate().getPublicKey();
@@ -167,15 +154,6 @@ public class JWTValidatorImpl implements JWTValidator {
                 }
             }
             return JWTUtil.verifyTokenSignature(signedJWT, certificateAlias);
-        } catch (ParseException e) {
-            log.error("Error while parsing JWKS information", e);
-            throw new APIManagementException("Error while parsing JWT", e);
-        } catch (JOSEException e) {
-            log.error("Error while verifying token signature", e);
-            throw new APIManagementException("Error while parsing JWT", e);
-        } catch (IOException e) {
-            log.error("Error while connecting to JWKS endpoint", e);
-            throw new APIManagementException("Error while parsing JWT", e);
         } catch (APIManagementException e) {
             log.error("Error while retrieving JWKS information", e);
             throw new APIManagementException(e.getMessage(), e);
@@ -183,6 +161,22 @@ public class JWTValidatorImpl implements JWTValidator {
 
     }
 
+    private boolean verifyTokenSignature(SignedJWT signedJWT, JWSVerifier jwsVerifier) {
+
+        if (!jwsVerifier.supportedJWSAlgorithms().contains(signedJWT.getHeader().getAlgorithm())) {
+            if (log.isDebugEnabled()) {
+                log.debug("Token algorithm " + signedJWT.getHeader().getAlgorithm() + " does not match the key");
+            }
+            return false;
+        }
+        try {
+            return signedJWT.verify(jwsVerifier);
+        } catch (JOSEException e) {
+            log.error("Error while verifying JWT signature", e);
+            return false;
+        }
+    }
+
     protected boolean validateTokenExpiry(JWTClaimsSet jwtClaimsSet) {
 
         long timestampSkew =
@@ -228,16 +222,4 @@ public class JWTValidatorImpl implements JWTValidator {
         jwtValidationInfo.setUser(jwtClaimsSet.getSubject());
         jwtValidationInfo.setJti(jwtClaimsSet.getJWTID());
     }
-
-    private JWKSet retrieveJWKSet() throws IOException, ParseException, APIManagementException {
-
-        String jwksInfo = JWTUtil
-                .retrieveJWKSConfiguration(tokenIssuer.getJwksConfigurationDTO().getUrl());
-        if (jwksInfo != null) {
-            jwkSet = JWKSet.parse(jwksInfo);
-        } else {
-            throw new APIManagementException("Invalid JWKS endpoint.");
-        }
-        return jwkSet;
-    }
 }
@@ -851,6 +851,42 @@ public class APIMgtDAOTest {
         apiMgtDAO.deleteAPI(api.getUuid());
     }
 
+    @Test
+    public void testGetAPIDetailsByUUIDs() throws Exception {
+        API api1 = new API(new APIIdentifier("getAPIDetailsByUUIDs", "getAPIDetailsByUUIDs1", "1.0.0"));
+        api1.setContext("/getAPIDetailsByUUIDs1");
+        api1.setContextTemplate("/getAPIDetailsByUUIDs1/{version}");
+        api1.setUUID(UUID.randomUUID().toString());
+        api1.setGatewayType("testGatewayVendor");
+        apiMgtDAO.addAPI(api1, -1234, "testOrg");
+        API api2 = new API(new APIIdentifier("getAPIDetailsByUUIDs", "getAPIDetailsByUUIDs2", "1.0.0"));
+        api2.setContext("/getAPIDetailsByUUIDs2");
+        api2.setContextTemplate("/getAPIDetailsByUUIDs2/{version}");
+        api2.setUUID(UUID.randomUUID().toString());
+        apiMgtDAO.addAPI(api2, -1234, "testOrg");
+        List<String> apiIds = Arrays.asList(api1.getUuid(), api2.getUuid(), UUID.randomUUID().toString());
+
+        Map<String, APIInfo> apiInfos = apiMgtDAO.getAPIInfoByUUIDs(apiIds);
+        assertEquals(2, apiInfos.size());
+        assertEquals(APIConstants.CREATED, apiInfos.get(api1.getUuid()).getStatus());
+        assertEquals(APIConstants.CREATED, apiInfos.get(api2.getUuid()).getStatus());
+        assertEquals("getAPIDetailsByUUIDs2", apiInfos.get(api2.getUuid()).getName());
+        assertEquals(apiMgtDAO.getAPIInfoByUUID(api1.getUuid()).getApiSubtype(),
+                apiInfos.get(api1.getUuid()).getApiSubtype());
+
+        Map<String, String> gatewayVendors = apiMgtDAO.getGatewayVendorsByAPIUUIDs(apiIds);
+        assertEquals(2, gatewayVendors.size());
+        assertEquals("testGatewayVendor", gatewayVendors.get(api1.getUuid()));
+        assertEquals(apiMgtDAO.getGatewayVendorByAPIUUID(api2.getUuid()), gatewayVendors.get(api2.getUuid()));
+
+        Map<String, Float> ratings = apiMgtDAO.getAverageRatings(apiIds);
+        assertEquals(2, ratings.size());
+        assertEquals(0f, ratings.get(api1.getUuid()), 0f);
+        assertEquals(0f, ratings.get(api2.getUuid()), 0f);
+        apiMgtDAO.deleteAPI(api1.getUuid());
+        apiMgtDAO.deleteAPI(api2.getUuid());
+    }
+
     @Test
     public void testCreateApplicationRegistrationEntry() throws Exception {
         Subscriber subscriber = new Subscriber("testCreateApplicationRegistrationEntry");
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.GatewayPolicyArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RenderedArtifactCacheTest {
+
+    private CountingGenerator generator;
+    private RenderedArtifactCache renderedArtifactCache;
+    private String configVersion;
+    private Map<String, String> apiVersions;
+
+    @Before
+    public void init() {
+
+        generator = new CountingGenerator("Synapse");
+        configVersion = "1";
+        apiVersions = new HashMap<>();
+        renderedArtifactCache = createCache(1024 * 1024, 60000);
+    }
+
+    @Test
+    public void testArtifactsAreRenderedOnce() throws Exception {
+
+        RuntimeArtifactDto first = renderedArtifactCache.generate(generator,
+                Arrays.asList(createArtifact("api1", "archive1"), createArtifact("api2", "archive2")));
+        RuntimeArtifactDto second = renderedArtifactCache.generate(generator,
+                Arrays.asList(createArtifact("api1", "archive1"), createArtifact("api2", "archive2")));
+
+        Assert.assertEquals(2, generator.renderCount);
+        Assert.assertEquals(2, renderedArtifactCache.getCachedCount());
+        Assert.assertEquals(Arrays.asList("api1:archive1", "api2:archive2"), first.getArtifact());
+        Assert.assertEquals(first.getArtifact(), second.getArtifact());
+        Assert.assertFalse(second.isFile());
+        Assert.assertNotNull(first.getEntityTag());
+        Assert.assertEquals(first.getEntityTag(), second.getEntityTag());
+    }
+
+    @Test
+    public void testChangedArchiveIsRenderedAgain() throws Exception {
+
+        RuntimeArtifactDto first = renderedArtifactCache.generate(generator,
+                Collections.singletonList(createArtifact("api1", "archive1")));
+        RuntimeArtifactDto second = renderedArtifactCache.generate(generator,
+                Collections.singletonList(createArtifact("api1", "archive2")));
+
+        Assert.assertEquals(2, generator.renderCount);
+        Assert.assertEquals(Collections.singletonList("api1:archive2"), second.getArtifact());
+        Assert.assertNotEquals(first.getEntityTag(), second.getEntityTag());
+    }
+
+    @Test
+    public void testExpiredArtifactIsRenderedAgain() throws Exception {
+
+        RenderedArtifactCache expiringCache = createCache(1024 * 1024, 1);
+        expiringCache.generate(generator, Collections.singletonList(createArtifact("api1", "archive1")));
+        Thread.sleep(10);
+        expiringCache.generate(generator, Collections.singletonList(createArtifact("api1", "archive1")));
+
+        Assert.assertEquals(2, generator.renderCount);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedArtifactIsEvicted() throws Exception {
+
+        // Each rendered artifact is 13 characters long
+        RenderedArtifactCache smallCache = createCache(30, 60000);
+        smallCache.generate(generator, Arrays.asList(createArtifact("api1", "archive1"),
+                createArtifact("api2", "archive2"), createArtifact("api3", "archive3")));
+
+        Assert.assertEquals(2, smallCache.getCachedCount());
+        smallCache.generate(generator, Collections.singletonList(createArtifact("api1", "archive1")));
+        Assert.assertEquals(4, generator.renderCount);
+    }
+
+    @Test
+    public void testOtherGatewayTypesAreNotCached() throws Exception {
+
+        CountingGenerator otherGenerator = new CountingGenerator("Other");
+        List<APIRuntimeArtifactDto> artifacts = Collections.singletonList(createArtifact("api1", "archive1"));
+        RuntimeArtifactDto runtimeArtifactDto = renderedArtifactCache.generate(otherGenerator, artifacts);
+        renderedArtifactCache.generate(otherGenerator, artifacts);
+
+        Assert.assertEquals(2, otherGenerator.generateCount);
+        Assert.assertEquals(0, renderedArtifactCache.getCachedCount());
+        Assert.assertNull(runtimeArtifactDto.getEntityTag());
+    }
+
+    @Test
+    public void testChangedConfigurationIsRenderedAgain() throws Exception {
+
+        RuntimeArtifactDto first = renderedArtifactCache.generate(generator,
+                Collections.singletonList(createArtifact("api1", "archive1")));
+        configVersion = "2";
+        RuntimeArtifactDto second = renderedArtifactCache.generate(generator,
+                Collections.singletonList(createArtifact("api1", "archive1")));
+
+        Assert.assertEquals(2, generator.renderCount);
+        Assert.assertNotEquals(first.getEntityTag(), second.getEntityTag());
+    }
+
+    @Test
+    public void testChangedAPIDetailsAreRenderedAgain() throws Exception {
+
+        RuntimeArtifactDto first = renderedArtifactCache.generate(generator,
+                Collections.singletonList(createArtifact("api1", "archive1")));
+        apiVersions.put("api1", "custom backend");
+        RuntimeArtifactDto second = renderedArtifactCache.generate(generator,
+                Collections.singletonList(createArtifact("api1", "archive1")));
+
+        Assert.assertEquals(2, generator.renderCount);
+        Assert.assertNotEquals(first.getEntityTag(), second.getEntityTag());
+    }
+
+    @Test
+    public void testUnchangedArtifactsAreNotRendered() throws Exception {
+
+        RenderedArtifactCache disabledCache = createCache(0, 60000);
+        RuntimeArtifactDto first = disabledCache.generate(generator,
+                Arrays.asList(createArtifact("api1", "archive1"), createArtifact("api2", "archive2")));
+        RuntimeArtifactDto notModified = disabledCache.generate(generator,
+                Arrays.asList(createArtifact("api1", "archive1"), createArtifact("api2", "archive2")),
+                first.getEntityTag());
+
+        Assert.assertEquals(2, generator.renderCount);
+        Assert.assertNull(notModified.getArtifact());
+        Assert.assertEquals(first.getEntityTag(), notModified.getEntityTag());
+
+        RuntimeArtifactDto modified = disabledCache.generate(generator,
+                Arrays.asList(createArtifact("api1", "archive1"), createArtifact("api2", "archive3")),
+                first.getEntityTag());
+        Assert.assertEquals(4, generator.renderCount);
+        Assert.assertEquals(Arrays.asList("api1:archive1", "api2:archive3"), modified.getArtifact());
+        Assert.assertNotEquals(first.getEntityTag(), modified.getEntityTag());
+    }
+
+    @Test
+    public void testAPIProductsAreNotCached() throws Exception {
+
+        APIRuntimeArtifactDto apiProduct = createArtifact("product1", "archive1");
+        apiProduct.setType("APIProduct");
+        RuntimeArtifactDto first = renderedArtifactCache.generate(generator, Collections.singletonList(apiProduct));
+        apiProduct = createArtifact("product1", "archive1");
+        apiProduct.setType("APIProduct");
+        RuntimeArtifactDto second = renderedArtifactCache.generate(generator, Collections.singletonList(apiProduct),
+                first.getEntityTag());
+
+        Assert.assertEquals(2, generator.renderCount);
+        Assert.assertEquals(0, renderedArtifactCache.getCachedCount());
+        Assert.assertEquals(Collections.singletonList("product1:archive1"), second.getArtifact());
+    }
+
+    private RenderedArtifactCache createCache(long maxSize, long expiryMillis) {
+
+        return new RenderedArtifactCache(maxSize, expiryMillis) {
+            @Override
+            protected String getConfigVersion(String tenantDomain, String label) {
+
+                return configVersion;
+            }
+
+            @Override
+            protected String getAPIVersion(String apiId) {
+
+                return apiVersions.get(apiId);
+            }
+        };
+    }
+
+    private static APIRuntimeArtifactDto createArtifact(String apiId, String archive) {
+
+        APIRuntimeArtifactDto artifact = new APIRuntimeArtifactDto();
+        artifact.setApiId(apiId);
+        artifact.setRevision("1");
+        artifact.setType("HTTP");
+        artifact.setTenantDomain("carbon.super");
+        artifact.setLabel("Default");
+        artifact.setVhost("localhost");
+        artifact.setFile(true);
+        artifact.setArtifact(new ByteArrayInputStream(archive.getBytes(StandardCharsets.UTF_8)));
+        return artifact;
+    }
+
+    /**
+     * Generator rendering an archive to the API ID followed by the content of the archive.
+     */
+    private static final class CountingGenerator implements GatewayArtifactGenerator {
+
+        private final String type;
+        private int generateCount;
+        private int renderCount;
+
+        private CountingGenerator(String type) {
+
+            this.type = type;
+        }
+
+        @Override
+        public RuntimeArtifactDto generateGatewayArtifact(List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList) {
+
+            generateCount++;
+            List<String> renderedArtifacts = new ArrayList<>();
+            for (APIRuntimeArtifactDto artifact : apiRuntimeArtifactDtoList) {
+                ByteArrayInputStream archive = (ByteArrayInputStream) artifact.getArtifact();
+                byte[] content = new byte[archive.available()];
+                archive.read(content, 0, content.length);
+                renderedArtifacts.add(artifact.getApiId() + ":" + new String(content, StandardCharsets.UTF_8));
+                renderCount++;
+            }
+            RuntimeArtifactDto runtimeArtifactDto = new RuntimeArtifactDto();
+            runtimeArtifactDto.setArtifact(renderedArtifacts);
+            runtimeArtifactDto.setFile(false);
+            return runtimeArtifactDto;
+        }
+
+        @Override
+        public RuntimeArtifactDto generateGatewayPolicyArtifact(
+                List<GatewayPolicyArtifactDto> gatewayPolicyArtifactDtoList) {
+
+            return null;
+        }
+
+        @Override
+        public String getType() {
+
+            return type;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class JWKSKeyStoreTest {
+
+    private static final String JWKS_ENDPOINT = "https://localhost:9443/oauth2/jwks";
+
+    private RSAKey rsaKey;
+    private ECKey ecKey;
+    private RSAKey encryptionKey;
+
+    @Before
+    public void setup() throws Exception {
+
+        rsaKey = new RSAKeyGenerator(2048).keyID("rsa-key").keyUse(KeyUse.SIGNATURE).generate();
+        ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec-key").generate();
+        encryptionKey = new RSAKeyGenerator(2048).keyID("enc-key").keyUse(KeyUse.ENCRYPTION).generate();
+    }
+
+    @Test
+    public void testVerifiersOfSigningKeys() throws Exception {
+
+        StubJWKSKeyStore keyStore = new StubJWKSKeyStore(60000, rsaKey, ecKey, encryptionKey);
+
+        SignedJWT rsaSignedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("rsa-key").build(),
+                new JWTClaimsSet.Builder().subject("admin").build());
+        rsaSignedJWT.sign(new RSASSASigner(rsaKey));
+        SignedJWT ecSignedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID("ec-key").build(),
+                new JWTClaimsSet.Builder().subject("admin").build());
+        ecSignedJWT.sign(new ECDSASigner(ecKey));
+
+        JWSVerifier rsaVerifier = keyStore.getVerifier("rsa-key");
+        Assert.assertNotNull(rsaVerifier);
+        Assert.assertTrue(rsaSignedJWT.verify(rsaVerifier));
+        JWSVerifier ecVerifier = keyStore.getVerifier("ec-key");
+        Assert.assertNotNull(ecVerifier);
+        Assert.assertTrue(ecSignedJWT.verify(ecVerifier));
+        Assert.assertSame(rsaVerifier, keyStore.getVerifier("rsa-key"));
+        Assert.assertNull(keyStore.getVerifier("enc-key"));
+
+        Assert.assertEquals(1, keyStore.retrievalCount);
+        Assert.assertEquals(1, keyStore.getRefreshCount());
+        Assert.assertEquals(3, keyStore.getHitCount());
+        Assert.assertEquals(1, keyStore.getMissCount());
+    }
+
+    @Test
+    public void testUnknownKeyRefreshIsRateLimited() throws Exception {
+
+        StubJWKSKeyStore keyStore = new StubJWKSKeyStore(60000, rsaKey);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNull(keyStore.getVerifier("unknown-key-" + i));
+        }
+        Assert.assertEquals(1, keyStore.retrievalCount);
+        Assert.assertEquals(10, keyStore.getMissCount());
+        Assert.assertNotNull(keyStore.getVerifier("rsa-key"));
+    }
+
+    @Test
+    public void testRotatedKeyIsLoadedOnDemand() throws Exception {
+
+        StubJWKSKeyStore keyStore = new StubJWKSKeyStore(0, rsaKey);
+        Assert.assertNotNull(keyStore.getVerifier("rsa-key"));
+        Assert.assertNull(keyStore.getVerifier("ec-key"));
+
+        keyStore.keys = Arrays.<JWK>asList(rsaKey, ecKey);
+        Assert.assertNotNull(keyStore.getVerifier("ec-key"));
+        Assert.assertEquals(3, keyStore.retrievalCount);
+
+        // Keys removed from the JWKS are dropped on refresh
+        keyStore.keys = Arrays.<JWK>asList(ecKey);
+        keyStore.refresh();
+        Assert.assertNull(keyStore.getVerifier("rsa-key"));
+        Assert.assertEquals(5, keyStore.retrievalCount);
+    }
+
+    @Test
+    public void testFailedInitialLoad() throws Exception {
+
+        StubJWKSKeyStore keyStore = new StubJWKSKeyStore(60000);
+        keyStore.available = false;
+        for (int i = 0; i < 3; i++) {
+            try {
+                keyStore.getVerifier("rsa-key");
+                Assert.fail("Verifier returned without a loaded JWKS");
+            } catch (APIManagementException e) {
+                // The JWKS endpoint is called once within the minimum refresh interval
+            }
+        }
+        Assert.assertEquals(1, keyStore.retrievalCount);
+        Assert.assertEquals(1, keyStore.getRefreshFailureCount());
+    }
+
+    private static class StubJWKSKeyStore extends JWKSKeyStore {
+
+        private List<JWK> keys;
+        private boolean available = true;
+        private int retrievalCount;
+
+        StubJWKSKeyStore(long minRefreshIntervalMillis, JWK... keys) {
+
+            super(JWKS_ENDPOINT, minRefreshIntervalMillis);
+            this.keys = new ArrayList<>(Arrays.asList(keys));
+        }
+
+        @Override
+        String retrieveJWKS() throws IOException {
+
+            retrievalCount++;
+            if (!available) {
+                throw new IOException("Connection refused");
+            }
+            return new JWKSet(keys).toString();
+        }
+    }
+}
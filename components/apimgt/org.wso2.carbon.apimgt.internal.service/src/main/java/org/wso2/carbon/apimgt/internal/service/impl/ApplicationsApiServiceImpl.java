@@ -20,10 +20,13 @@ package org.wso2.carbon.apimgt.internal.service.impl;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.model.subscription.Application;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.internal.service.ApplicationsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationListDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.PaginationDTO;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -34,7 +37,8 @@ import javax.ws.rs.core.Response;
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
     @Override
-    public Response applicationsGet(String xWSO2Tenant, Integer appId, MessageContext messageContext) {
+    public Response applicationsGet(String xWSO2Tenant, Integer appId, Integer after, Integer limit,
+                                    MessageContext messageContext) throws APIManagementException {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
         if (appId != null && appId > 0) {
@@ -47,8 +51,15 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(organization, messageContext);
         }
-        if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
-                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
+        boolean allOrganizations = StringUtils.isNotEmpty(organization) &&
+                organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
+                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        if (after != null || limit != null) {
+            return Response.ok().entity(getApplicationPage(subscriptionValidationDAO,
+                    allOrganizations ? null : xWSO2Tenant, after != null ? after : 0, limit != null ? limit : 0))
+                    .build();
+        }
+        if (allOrganizations) {
             return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                     subscriptionValidationDAO.getAllApplications())).build();
         }
@@ -60,4 +71,22 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                 subscriptionValidationDAO.getAllApplications())).build();
     }
+
+    ApplicationListDTO getApplicationPage(SubscriptionValidationDAO subscriptionValidationDAO, String organization,
+                                          int after, int limit) throws APIManagementException {
+
+        List<Application> applications;
+        if (StringUtils.isNotEmpty(organization)) {
+            applications = subscriptionValidationDAO.getAllApplications(organization, after, limit);
+        } else {
+            applications = subscriptionValidationDAO.getAllApplications(after, limit);
+        }
+        ApplicationListDTO applicationListDTO =
+                SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(applications);
+        int lastId = applications.isEmpty() ? after : applications.get(applications.size() - 1).getId();
+        PaginationDTO paginationDTO = SubscriptionValidationDataUtil.getPaginationDTO(after, limit,
+                applications.size(), lastId);
+        applicationListDTO.setPagination(paginationDTO);
+        return applicationListDTO;
+    }
 }
@@ -33,6 +33,8 @@ import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
@@ -53,13 +55,15 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
         if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(organization, messageContext);
         }
+        // Artifacts that have not changed since the gateway retrieved them are not rendered
+        String ifNoneMatch = getIfNoneMatch(messageContext);
         if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
                 xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateAllRuntimeArtifact(apiId,
-                    gatewayLabel, type);
+                    gatewayLabel, type, ifNoneMatch);
         } else {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateRuntimeArtifact(apiId,
-                    gatewayLabel, type, xWSO2Tenant);
+                    gatewayLabel, type, xWSO2Tenant, ifNoneMatch);
         }
         if (runtimeArtifactDto != null) {
             if (runtimeArtifactDto.isFile()) {
@@ -75,13 +79,22 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                         "attachment; filename=apis.zip").header(RestApiConstants.HEADER_CONTENT_TYPE,
                         APIConstants.APPLICATION_ZIP).build();
             } else {
+                String entityTag = runtimeArtifactDto.getEntityTag();
+                if (entityTag != null && entityTag.equals(ifNoneMatch)) {
+                    // The gateway already has the artifacts, which are hence not sent again
+                    return Response.notModified(new EntityTag(entityTag)).build();
+                }
                 SynapseArtifactListDTO synapseArtifactListDTO = new SynapseArtifactListDTO();
                 if (runtimeArtifactDto.getArtifact() instanceof List) {
                     synapseArtifactListDTO.setList((List<String>) runtimeArtifactDto.getArtifact());
                     synapseArtifactListDTO.setCount(((List<String>) runtimeArtifactDto.getArtifact()).size());
                 }
-                return Response.ok().entity(synapseArtifactListDTO)
-                        .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
+                Response.ResponseBuilder responseBuilder = Response.ok().entity(synapseArtifactListDTO)
+                        .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON);
+                if (entityTag != null) {
+                    responseBuilder.tag(new EntityTag(entityTag));
+                }
+                return responseBuilder.build();
             }
         } else {
             return Response
@@ -90,4 +103,17 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                     .build();
         }
     }
+
+    /**
+     * @return entity tag of the If-None-Match header of the request without its quotes, or null if not given
+     */
+    private static String getIfNoneMatch(MessageContext messageContext) {
+
+        String ifNoneMatch = messageContext.getHttpHeaders().getHeaderString(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        ifNoneMatch = StringUtils.removeStart(ifNoneMatch.trim(), "W/");
+        return StringUtils.removeEnd(StringUtils.removeStart(ifNoneMatch, "\""), "\"");
+    }
 }
\ No newline at end of file
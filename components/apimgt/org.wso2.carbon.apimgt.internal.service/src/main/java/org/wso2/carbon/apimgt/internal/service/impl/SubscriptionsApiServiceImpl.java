@@ -25,6 +25,8 @@ import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.internal.service.SubscriptionsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.PaginationDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionListDTO;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -37,8 +39,8 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
     @Override
     public Response subscriptionsGet(String xWSO2Tenant, Integer apiId, Integer appId, String apiUUID,
-                                     String applicationUUID, MessageContext messageContext) throws
-            APIManagementException {
+                                     String applicationUUID, Integer after, Integer limit,
+                                     MessageContext messageContext) throws APIManagementException {
 
         Response result;
 
@@ -60,6 +62,9 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
             }
             result = Response.ok().entity(
                     SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList)).build();
+        } else if (after != null || limit != null) {
+            result = Response.ok().entity(getSubscriptionPage(subscriptionValidationDAO, xWSO2Tenant, organization,
+                    after != null ? after : 0, limit != null ? limit : 0)).build();
         } else if (StringUtils.isNotEmpty(organization) &&
                 !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
@@ -78,4 +83,30 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
         return result;
     }
+
+    SubscriptionListDTO getSubscriptionPage(SubscriptionValidationDAO subscriptionValidationDAO, String xWSO2Tenant,
+                                            String organization, int after, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions;
+        if (StringUtils.isNotEmpty(organization) &&
+                !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
+            subscriptions = subscriptionValidationDAO.getAllSubscriptionsByOrganization(organization, after, limit);
+        } else if (StringUtils.isNotEmpty(organization) &&
+                organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
+                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
+            subscriptions = subscriptionValidationDAO.getAllSubscriptions(after, limit);
+        } else if (StringUtils.isNotEmpty(xWSO2Tenant)) {
+            subscriptions = subscriptionValidationDAO.getAllSubscriptions(xWSO2Tenant, after, limit);
+        } else {
+            subscriptions = subscriptionValidationDAO.getAllSubscriptions(after, limit);
+        }
+        SubscriptionListDTO subscriptionListDTO =
+                SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptions);
+        int lastId = subscriptions.isEmpty() ? after : subscriptions.get(subscriptions.size() - 1).getSubscriptionId();
+        PaginationDTO paginationDTO = SubscriptionValidationDataUtil.getPaginationDTO(after, limit,
+                subscriptions.size(), lastId);
+        subscriptionListDTO.setPagination(paginationDTO);
+        return subscriptionListDTO;
+    }
 }
@@ -270,6 +270,30 @@ public class SubscriptionValidationDataUtil {
         return subscriptionListDTO;
     }
 
+    /**
+     * Builds the pagination of an ID keyed page. A link to the next page is only added when the page is full, as a
+     * page shorter than the limit is the last one.
+     *
+     * @param after       ID after which the page started
+     * @param limit       maximum number of entries in the page
+     * @param count       number of entries in the page
+     * @param lastId      ID of the last entry in the page
+     * @return pagination of the page
+     */
+    public static PaginationDTO getPaginationDTO(int after, int limit, int count, int lastId) {
+
+        PaginationDTO paginationDTO = new PaginationDTO();
+        paginationDTO.setOffset(after);
+        paginationDTO.setLimit(limit);
+        if (limit > 0 && count == limit) {
+            paginationDTO.setNext("?after=" + lastId + "&limit=" + limit);
+        } else {
+            paginationDTO.setNext("");
+        }
+        paginationDTO.setPrevious("");
+        return paginationDTO;
+    }
+
     public static SubscriptionPolicyListDTO fromSubscriptionPolicyToSubscriptionPolicyListDTO(
             List<SubscriptionPolicy> model) {
 
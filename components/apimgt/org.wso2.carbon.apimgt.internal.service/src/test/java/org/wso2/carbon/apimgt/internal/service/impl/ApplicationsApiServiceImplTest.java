@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.subscription.Application;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationListDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases of the ID keyed pages of applications returned by {@link ApplicationsApiServiceImpl}.
+ */
+public class ApplicationsApiServiceImplTest {
+
+    private static final String ORGANIZATION = "carbon.super";
+
+    private final ApplicationsApiServiceImpl applicationsApiService = new ApplicationsApiServiceImpl();
+
+    @Test
+    public void testLastPageIsShorterThanLimit() throws APIManagementException {
+
+        SubscriptionValidationDAO dao = new ApplicationDAO(1, 2, 5);
+
+        ApplicationListDTO firstPage = applicationsApiService.getApplicationPage(dao, ORGANIZATION, 0, 2);
+        Assert.assertEquals(Arrays.asList(1, 2), getIds(firstPage));
+        Assert.assertEquals("?after=2&limit=2", firstPage.getPagination().getNext());
+
+        ApplicationListDTO lastPage = applicationsApiService.getApplicationPage(dao, ORGANIZATION, 2, 2);
+        Assert.assertEquals(Arrays.asList(5), getIds(lastPage));
+        Assert.assertEquals("", lastPage.getPagination().getNext());
+    }
+
+    @Test
+    public void testFullLastPageIsFollowedByEmptyPage() throws APIManagementException {
+
+        SubscriptionValidationDAO dao = new ApplicationDAO(1, 2, 3, 4);
+
+        ApplicationListDTO lastPage = applicationsApiService.getApplicationPage(dao, ORGANIZATION, 2, 2);
+        Assert.assertEquals(Arrays.asList(3, 4), getIds(lastPage));
+        Assert.assertEquals("?after=4&limit=2", lastPage.getPagination().getNext());
+
+        ApplicationListDTO emptyPage = applicationsApiService.getApplicationPage(dao, ORGANIZATION, 4, 2);
+        Assert.assertTrue(emptyPage.getList().isEmpty());
+        Assert.assertEquals(Integer.valueOf(0), emptyPage.getCount());
+        Assert.assertEquals("", emptyPage.getPagination().getNext());
+        Assert.assertEquals(Integer.valueOf(4), emptyPage.getPagination().getOffset());
+    }
+
+    @Test
+    public void testAllApplicationsWithoutLimit() throws APIManagementException {
+
+        SubscriptionValidationDAO dao = new ApplicationDAO(1, 2, 3);
+
+        ApplicationListDTO page = applicationsApiService.getApplicationPage(dao, null, 1, 0);
+        Assert.assertEquals(Arrays.asList(2, 3), getIds(page));
+        Assert.assertEquals("", page.getPagination().getNext());
+    }
+
+    private static List<Integer> getIds(ApplicationListDTO applicationListDTO) {
+
+        List<Integer> ids = new ArrayList<>();
+        for (ApplicationDTO applicationDTO : applicationListDTO.getList()) {
+            ids.add(applicationDTO.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the applications with the given IDs the way the paged queries do.
+     */
+    private static class ApplicationDAO extends SubscriptionValidationDAO {
+
+        private final int[] ids;
+
+        ApplicationDAO(int... ids) {
+
+            this.ids = ids;
+        }
+
+        @Override
+        public List<Application> getAllApplications(int after, int limit) {
+
+            List<Application> applications = new ArrayList<>();
+            for (int id : ids) {
+                if (id > after && (limit <= 0 || applications.size() < limit)) {
+                    Application application = new Application();
+                    application.setId(id);
+                    applications.add(application);
+                }
+            }
+            return applications;
+        }
+
+        @Override
+        public List<Application> getAllApplications(String organization, int after, int limit) {
+
+            Assert.assertEquals(ORGANIZATION, organization);
+            return getAllApplications(after, limit);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionListDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases of the ID keyed pages of subscriptions returned by {@link SubscriptionsApiServiceImpl}.
+ */
+public class SubscriptionsApiServiceImplTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String ORGANIZATION = "org1";
+
+    private final SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
+
+    @Test
+    public void testLastPageIsShorterThanLimit() throws APIManagementException {
+
+        SubscriptionValidationDAO dao = new SubscriptionDAO(3, 7, 9);
+
+        SubscriptionListDTO firstPage =
+                subscriptionsApiService.getSubscriptionPage(dao, TENANT_DOMAIN, null, 0, 2);
+        Assert.assertEquals(Arrays.asList(3, 7), getIds(firstPage));
+        Assert.assertEquals("?after=7&limit=2", firstPage.getPagination().getNext());
+
+        SubscriptionListDTO lastPage = subscriptionsApiService.getSubscriptionPage(dao, TENANT_DOMAIN, null, 7, 2);
+        Assert.assertEquals(Arrays.asList(9), getIds(lastPage));
+        Assert.assertEquals("", lastPage.getPagination().getNext());
+    }
+
+    @Test
+    public void testFullLastPageIsFollowedByEmptyPage() throws APIManagementException {
+
+        SubscriptionValidationDAO dao = new SubscriptionDAO(1, 2, 3, 4);
+
+        SubscriptionListDTO lastPage =
+                subscriptionsApiService.getSubscriptionPage(dao, TENANT_DOMAIN, ORGANIZATION, 2, 2);
+        Assert.assertEquals(Arrays.asList(3, 4), getIds(lastPage));
+        Assert.assertEquals("?after=4&limit=2", lastPage.getPagination().getNext());
+
+        SubscriptionListDTO emptyPage =
+                subscriptionsApiService.getSubscriptionPage(dao, TENANT_DOMAIN, ORGANIZATION, 4, 2);
+        Assert.assertTrue(emptyPage.getList().isEmpty());
+        Assert.assertEquals(Integer.valueOf(0), emptyPage.getCount());
+        Assert.assertEquals("", emptyPage.getPagination().getNext());
+        Assert.assertEquals(Integer.valueOf(4), emptyPage.getPagination().getOffset());
+    }
+
+    @Test
+    public void testAllSubscriptionsWithoutLimit() throws APIManagementException {
+
+        SubscriptionValidationDAO dao = new SubscriptionDAO(1, 2, 3);
+
+        SubscriptionListDTO page = subscriptionsApiService.getSubscriptionPage(dao, TENANT_DOMAIN, null, 0, 0);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), getIds(page));
+        Assert.assertEquals("", page.getPagination().getNext());
+    }
+
+    private static List<Integer> getIds(SubscriptionListDTO subscriptionListDTO) {
+
+        List<Integer> ids = new ArrayList<>();
+        for (SubscriptionDTO subscriptionDTO : subscriptionListDTO.getList()) {
+            ids.add(subscriptionDTO.getSubscriptionId());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the subscriptions with the given IDs the way the paged queries do.
+     */
+    private static class SubscriptionDAO extends SubscriptionValidationDAO {
+
+        private final int[] ids;
+
+        SubscriptionDAO(int... ids) {
+
+            this.ids = ids;
+        }
+
+        @Override
+        public List<Subscription> getAllSubscriptions(int after, int limit) {
+
+            List<Subscription> subscriptions = new ArrayList<>();
+            for (int id : ids) {
+                if (id > after && (limit <= 0 || subscriptions.size() < limit)) {
+                    Subscription subscription = new Subscription();
+                    subscription.setSubscriptionId(id);
+                    subscriptions.add(subscription);
+                }
+            }
+            return subscriptions;
+        }
+
+        @Override
+        public List<Subscription> getAllSubscriptions(String tenantDomain, int after, int limit) {
+
+            Assert.assertEquals(TENANT_DOMAIN, tenantDomain);
+            return getAllSubscriptions(after, limit);
+        }
+
+        @Override
+        public List<Subscription> getAllSubscriptionsByOrganization(String organization, int after, int limit) {
+
+            Assert.assertEquals(ORGANIZATION, organization);
+            return getAllSubscriptions(after, limit);
+        }
+    }
+}
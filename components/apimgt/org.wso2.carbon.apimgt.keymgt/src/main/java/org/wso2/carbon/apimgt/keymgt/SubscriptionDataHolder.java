@@ -84,13 +84,12 @@ public class SubscriptionDataHolder {
     }
 
     public void refreshSubscriptionStore() {
-        subscriptionStore.keySet().forEach(tenant -> {
-            // Cleaning the existing SubscriptionDataStore instance before re-population
-            subscriptionStore.put(tenant, new SubscriptionDataStoreImpl(tenant));
+        subscriptionStore.forEach((tenant, tenantStore) -> {
+            // The store is refreshed in place, so that it keeps serving the existing entries while re-populating
             if (log.isDebugEnabled()) {
                 log.debug("Refreshing subscription data store for tenant: " + tenant);
             }
-            initializeSubscriptionStore(tenant);
+            tenantStore.refresh();
         });
     }
 
@@ -29,6 +29,7 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * This interface abstracts Data Loading operations. Interface will be consumed by
@@ -62,6 +63,36 @@ public interface SubscriptionDataLoader {
      */
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Loads the subscriptions of a tenant, handing each of them to the given consumer as soon as it is read, instead
+     * of collecting them into a list.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded subscriptions
+     * @throws DataLoadingException If any error
+     */
+    void loadSubscriptions(String tenantDomain, Consumer<Subscription> consumer) throws DataLoadingException;
+
+    /**
+     * Loads the applications of a tenant, handing each of them to the given consumer as soon as it is read, instead
+     * of collecting them into a list.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded applications
+     * @throws DataLoadingException If any error
+     */
+    void loadApplications(String tenantDomain, Consumer<Application> consumer) throws DataLoadingException;
+
+    /**
+     * Loads the key mappings of a tenant, handing each of them to the given consumer as soon as it is read, instead
+     * of collecting them into a list.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded key mappings
+     * @throws DataLoadingException If any error
+     */
+    void loadKeyMappings(String tenantDomain, Consumer<ApplicationKeyMapping> consumer) throws DataLoadingException;
+
     /**
      * Load all {@link API} objects owned by all Tenants.
      *
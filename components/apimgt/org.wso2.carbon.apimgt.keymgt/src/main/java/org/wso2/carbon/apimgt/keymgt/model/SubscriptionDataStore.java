@@ -40,6 +40,12 @@ public interface SubscriptionDataStore {
      */
     void init();
 
+    /**
+     * Reloads the SubscriptionDataStore in place. The existing entries keep being served until all the entries of a
+     * type have been loaded, and are kept if the loading fails.
+     */
+    void refresh();
+
     /**
      * Gets an {@link Application} by Id
      *
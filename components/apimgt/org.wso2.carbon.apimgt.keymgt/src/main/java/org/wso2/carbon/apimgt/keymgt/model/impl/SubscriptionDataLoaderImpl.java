@@ -19,9 +19,13 @@ package org.wso2.carbon.apimgt.keymgt.model.impl;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -53,7 +57,9 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicyList;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLEncoder;
@@ -61,10 +67,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
 
     private static final Log log = LogFactory.getLog(SubscriptionDataLoaderImpl.class);
+    private static final Gson gson = new Gson();
     private EventHubConfigurationDto getEventHubConfigurationDto;
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     public static final String UTF8 = "UTF-8";
@@ -82,58 +90,136 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     @Override
     public List<Subscription> loadAllSubscriptions(String tenantDomain) throws DataLoadingException {
 
-        String subscriptionsEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS;
         List<Subscription> subscriptions = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(subscriptionsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + subscriptionsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            subscriptions = (new Gson().fromJson(responseString, SubscriptionList.class)).getList();
-        }
+        loadSubscriptions(tenantDomain, subscriptions::add);
         return subscriptions;
     }
 
     @Override
     public List<Application> loadAllApplications(String tenantDomain) throws DataLoadingException {
 
-        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATIONS;
         List<Application> applications = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applications = (new Gson().fromJson(responseString, ApplicationList.class)).getList();
-        }
+        loadApplications(tenantDomain, applications::add);
         return applications;
     }
 
     @Override
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException {
 
-        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS;
         List<ApplicationKeyMapping> applicationKeyMappings = new ArrayList<>();
-        String responseString = null;
+        loadKeyMappings(tenantDomain, applicationKeyMappings::add);
+        return applicationKeyMappings;
+    }
+
+    @Override
+    public void loadSubscriptions(String tenantDomain, Consumer<Subscription> consumer)
+            throws DataLoadingException {
+
+        loadPages(APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS, tenantDomain, Subscription.class,
+                consumer);
+    }
+
+    @Override
+    public void loadApplications(String tenantDomain, Consumer<Application> consumer)
+            throws DataLoadingException {
+
+        loadPages(APIConstants.SubscriptionValidationResources.APPLICATIONS, tenantDomain, Application.class,
+                consumer);
+    }
+
+    @Override
+    public void loadKeyMappings(String tenantDomain, Consumer<ApplicationKeyMapping> consumer)
+            throws DataLoadingException {
+
+        String applicationKeyMappingsEP = APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS;
         try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
+            invokeService(applicationKeyMappingsEP, tenantDomain,
+                    entity -> readList(entity, ApplicationKeyMapping.class, consumer));
+        } catch (IOException | JsonParseException e) {
+            String msg = "Error while executing the http client " + applicationKeyMappingsEP;
             log.error(msg, e);
             throw new DataLoadingException(msg, e);
         }
-        if (responseString != null && !responseString.isEmpty()) {
-            applicationKeyMappings = (new Gson().fromJson(responseString, ApplicationKeyMappingList.class)).getList();
+    }
+
+    /**
+     * Loads a list resource of the internal service page by page, following the next page link of each page. The
+     * pages are read as a stream, so that a page is never held in memory as a whole. A page that can not be
+     * retrieved fails the whole loading, so that the consumer never ends up with a part of the entries only.
+     */
+    private <T> void loadPages(String path, String tenantDomain, Class<T> type, Consumer<T> consumer)
+            throws DataLoadingException {
+
+        int pageSize = getEventHubConfigurationDto.getDataLoadingPageSize();
+        String pagePath = pageSize > 0 ? path + "?limit=" + pageSize : path;
+        int pageCount = 0;
+        try {
+            while (pagePath != null) {
+                Pagination pagination = invokeService(pagePath, tenantDomain,
+                        entity -> readList(entity, type, consumer));
+                pageCount++;
+                // Only a server aware of paging returns the pagination, so that a server ignoring the page
+                // parameters is never asked for the same page over again
+                pagePath = pagination != null && pagination.next != null && !pagination.next.isEmpty() ?
+                        path + pagination.next : null;
+            }
+        } catch (IOException | JsonParseException e) {
+            String msg = "Error while executing the http client " + path;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
         }
-        return applicationKeyMappings;
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + path + " of tenant " + tenantDomain + " in " + pageCount + " page(s)");
+        }
+    }
+
+    /**
+     * Reads a list response of the internal service, handing each entry of the list to the given consumer as it is
+     * parsed.
+     *
+     * @return pagination of the response, or null if the response was not paginated
+     */
+    private static <T> Pagination readList(HttpEntity entity, Class<T> type, Consumer<T> consumer)
+            throws IOException {
+
+        if (entity == null) {
+            return null;
+        }
+        Pagination pagination = null;
+        try (JsonReader reader = new JsonReader(new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8))) {
+            JsonToken token;
+            try {
+                token = reader.peek();
+            } catch (EOFException e) {
+                // empty response
+                return null;
+            }
+            if (token != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException("Expected a JSON object but was " + token);
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("list".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        T entry = gson.fromJson(reader, type);
+                        if (entry != null) {
+                            consumer.accept(entry);
+                        }
+                    }
+                    reader.endArray();
+                } else if ("pagination".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    pagination = gson.fromJson(reader, Pagination.class);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException e) {
+            throw new JsonParseException("Error while reading the response", e);
+        }
+        return pagination;
     }
 
     @Override
@@ -476,31 +562,36 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
 
     private String invokeService(String path, String tenantDomain) throws DataLoadingException, IOException {
 
+        String responseString = invokeService(path, tenantDomain, entity -> EntityUtils.toString(entity, UTF8));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Response : " + responseString);
+        }
+        return responseString;
+    }
+
+    private <R> R invokeService(String path, String tenantDomain, ResponseReader<R> responseReader)
+            throws DataLoadingException, IOException {
+
         String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
         HttpGet method = new HttpGet(serviceURLStr + path);
 
-            URL serviceURL = new URL(serviceURLStr + path);
-            byte[] credentials = getServiceCredentials(getEventHubConfigurationDto);
-            int servicePort = serviceURL.getPort();
-            String serviceProtocol = serviceURL.getProtocol();
-            method.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
-                    APIConstants.AUTHORIZATION_BASIC +
-                            new String(credentials, StandardCharsets.UTF_8));
-            if (tenantDomain != null) {
-                method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
-            }
-            HttpClient httpClient = APIUtil.getHttpClient(servicePort, serviceProtocol);
-            String responseString;
-            try (CloseableHttpResponse httpResponse = APIUtil.executeHTTPRequestWithRetries(method, httpClient)) {
-                responseString = EntityUtils.toString(httpResponse.getEntity(), UTF8);
-            } catch (APIManagementException e) {
-                throw new DataLoadingException("Error while retrieving subscriptions", e);
-            }
-
-            if (log.isDebugEnabled()) {
-                log.debug("Response : " + responseString);
-            }
-            return responseString;
+        URL serviceURL = new URL(serviceURLStr + path);
+        byte[] credentials = getServiceCredentials(getEventHubConfigurationDto);
+        int servicePort = serviceURL.getPort();
+        String serviceProtocol = serviceURL.getProtocol();
+        method.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
+                APIConstants.AUTHORIZATION_BASIC +
+                        new String(credentials, StandardCharsets.UTF_8));
+        if (tenantDomain != null) {
+            method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
+        }
+        HttpClient httpClient = APIUtil.getHttpClient(servicePort, serviceProtocol);
+        try (CloseableHttpResponse httpResponse = APIUtil.executeHTTPRequestWithRetries(method, httpClient)) {
+            return responseReader.read(httpResponse.getEntity());
+        } catch (APIManagementException e) {
+            throw new DataLoadingException("Error while retrieving subscriptions", e);
+        }
     }
 
     private void invokePostService(String path, String tenantDomain, String payload)
@@ -550,4 +641,20 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
         }
         return encodedGatewayLabel.replace("\\+", "%20");
     }
+
+    /**
+     * Reads the entity of a service response.
+     */
+    private interface ResponseReader<R> {
+
+        R read(HttpEntity entity) throws IOException;
+    }
+
+    /**
+     * Pagination of a list response of the internal service.
+     */
+    private static class Pagination {
+
+        private String next;
+    }
 }
@@ -48,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -69,6 +70,13 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private Map<String, ApplicationPolicy> appPolicyMap;
     private Map<String, Subscription> subscriptionMap;
     private Map<String, Scope> scopesMap;
+    // Secondary indexes of the application and subscription maps. They are only updated while holding the lock of
+    // the corresponding primary map, so that they always reflect its content.
+    private Map<String, Application> applicationByUUIDMap;
+    private Map<String, Map<Integer, Application>> applicationsByNameMap;
+    private Map<Integer, Map<String, Subscription>> subscriptionsByAPIIdMap;
+    private final Object applicationIndexLock = new Object();
+    private final Object subscriptionIndexLock = new Object();
     private boolean apisInitialized;
     private boolean apiPoliciesInitialized;
     private String tenantDomain;
@@ -96,6 +104,9 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         this.subscriptionMap = new ConcurrentHashMap<>();
         this.scopesMap = new ConcurrentHashMap<>();
         this.apiNameVersionMap = new ConcurrentHashMap<>();
+        this.applicationByUUIDMap = new ConcurrentHashMap<>();
+        this.applicationsByNameMap = new ConcurrentHashMap<>();
+        this.subscriptionsByAPIIdMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -103,6 +114,13 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         initializeLoadingTasks();
     }
 
+    @Override
+    public void refresh() {
+        // Removed entries can not be told apart from the changes since the previous load, hence all of them are
+        // reloaded
+        initializeLoadingTasks();
+    }
+
     @Override
     public Application getApplicationById(int appId, boolean validationDisabled) {
         Application application;
@@ -324,7 +342,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                 if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
                     // load to the memory
                     log.debug("Loading Subscription to the in-memory datastore.");
-                    subscriptionMap.put(subscription.getCacheKey(), subscription);
+                    putSubscription(subscription);
                 }
             }
         }
@@ -357,6 +375,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                         log.debug("Calling loadAllApis. ");
                         List<API> apiList = new SubscriptionDataLoaderImpl().loadAllApis(tenantDomain);
                         apiByUUIDMap.clear();
+                        apiNameVersionMap.clear();
                         for (API api : apiList) {
                             apiByUUIDMap.put(api.getUuid(), api);
                             String key = api.getApiName().concat(":").concat(api.getApiVersion());
@@ -372,29 +391,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         executorService.schedule(apiTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
-        Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap,
-                () -> {
-                    try {
-                        log.debug("Calling loadAllSubscriptions.");
-                        return new SubscriptionDataLoaderImpl().loadAllSubscriptions(tenantDomain);
-                    } catch (APIManagementException e) {
-                        log.error("Exception while loading Subscriptions " + e);
-                    }
-                    return null;
-                });
+        Runnable subscriptionLoadingTask = getSubscriptionLoadingTask();
 
         executorService.schedule(subscriptionLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
-        Runnable applicationLoadingTask = new PopulateTask<>(applicationMap,
-                () -> {
-                    try {
-                        log.debug("Calling loadAllApplications.");
-                        return new SubscriptionDataLoaderImpl().loadAllApplications(tenantDomain);
-                    } catch (APIManagementException e) {
-                        log.error("Exception while loading Applications " + e);
-                    }
-                    return null;
-                });
+        Runnable applicationLoadingTask = getApplicationLoadingTask();
 
         executorService.schedule(applicationLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
@@ -474,6 +475,34 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         executorService.schedule(scopesLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
     }
 
+    private Runnable getSubscriptionLoadingTask() {
+
+        return new PopulateTask<>(
+                () -> {
+                    try {
+                        log.debug("Calling loadAllSubscriptions.");
+                        return new SubscriptionDataLoaderImpl().loadAllSubscriptions(tenantDomain);
+                    } catch (APIManagementException e) {
+                        log.error("Exception while loading Subscriptions " + e);
+                    }
+                    return null;
+                }, this::populateSubscriptions);
+    }
+
+    private Runnable getApplicationLoadingTask() {
+
+        return new PopulateTask<>(
+                () -> {
+                    try {
+                        log.debug("Calling loadAllApplications.");
+                        return new SubscriptionDataLoaderImpl().loadAllApplications(tenantDomain);
+                    } catch (APIManagementException e) {
+                        log.error("Exception while loading Applications " + e);
+                    }
+                    return null;
+                }, this::populateApplications);
+    }
+
     public boolean isApisInitialized() {
 
         return apisInitialized;
@@ -491,7 +520,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         synchronized (synchronizeKey.intern()) {
             Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
             if (retrievedSubscription == null) {
-                subscriptionMap.put(subscription.getCacheKey(), subscription);
+                putSubscription(subscription);
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
@@ -502,7 +531,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     }
                 } else {
                     if (!APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
-                        subscriptionMap.put(subscription.getCacheKey(), subscription);
+                        putSubscription(subscription);
                     } else {
                         if (log.isDebugEnabled()) {
                             log.debug("Drop the Event " + subscription.toString() + " since the event was marked as " +
@@ -537,7 +566,53 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void removeSubscription(Subscription subscription) {
 
-        subscriptionMap.remove(subscription.getCacheKey());
+        synchronized (subscriptionIndexLock) {
+            Subscription removedSubscription = subscriptionMap.remove(subscription.getCacheKey());
+            if (removedSubscription != null) {
+                removeSubscriptionFromIndexes(removedSubscription);
+            }
+        }
+    }
+
+    private void putSubscription(Subscription subscription) {
+
+        synchronized (subscriptionIndexLock) {
+            Subscription previousSubscription = subscriptionMap.put(subscription.getCacheKey(), subscription);
+            if (previousSubscription != null) {
+                removeSubscriptionFromIndexes(previousSubscription);
+            }
+            addSubscriptionToIndexes(subscription);
+        }
+    }
+
+    private void populateSubscriptions(Map<String, Subscription> subscriptions) {
+
+        synchronized (subscriptionIndexLock) {
+            subscriptionMap.clear();
+            subscriptionMap.putAll(subscriptions);
+            subscriptionsByAPIIdMap.clear();
+            for (Subscription subscription : subscriptions.values()) {
+                addSubscriptionToIndexes(subscription);
+            }
+        }
+    }
+
+    private void addSubscriptionToIndexes(Subscription subscription) {
+
+        if (subscription.getApiId() != null) {
+            subscriptionsByAPIIdMap.computeIfAbsent(subscription.getApiId(), k -> new ConcurrentHashMap<>())
+                    .put(subscription.getCacheKey(), subscription);
+        }
+    }
+
+    private void removeSubscriptionFromIndexes(Subscription subscription) {
+
+        if (subscription.getApiId() != null) {
+            subscriptionsByAPIIdMap.computeIfPresent(subscription.getApiId(), (apiId, subscriptions) -> {
+                subscriptions.remove(subscription.getCacheKey(), subscription);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
     }
 
     @Override
@@ -617,16 +692,71 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void addOrUpdateApplication(Application application) {
 
-        applicationMap.remove(application.getId());
-        applicationMap.put(application.getId(), application);
+        synchronized (applicationIndexLock) {
+            Application previousApplication = applicationMap.remove(application.getId());
+            if (previousApplication != null) {
+                removeApplicationFromIndexes(previousApplication);
+            }
+            applicationMap.put(application.getId(), application);
+            addApplicationToIndexes(application);
+        }
     }
 
     @Override
     public void removeApplication(Application application) {
 
-        applicationMap.remove(application.getId());
-        subscriptionMap.values().removeIf(subscription ->
-                subscription != null && application.getUUID().equals(subscription.getApplicationUUID()));
+        synchronized (applicationIndexLock) {
+            Application removedApplication = applicationMap.remove(application.getId());
+            if (removedApplication != null) {
+                removeApplicationFromIndexes(removedApplication);
+            }
+        }
+        synchronized (subscriptionIndexLock) {
+            subscriptionMap.values().removeIf(subscription -> {
+                if (subscription != null && application.getUUID().equals(subscription.getApplicationUUID())) {
+                    removeSubscriptionFromIndexes(subscription);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    private void populateApplications(Map<Integer, Application> applications) {
+
+        synchronized (applicationIndexLock) {
+            applicationMap.clear();
+            applicationMap.putAll(applications);
+            applicationByUUIDMap.clear();
+            applicationsByNameMap.clear();
+            for (Application application : applications.values()) {
+                addApplicationToIndexes(application);
+            }
+        }
+    }
+
+    private void addApplicationToIndexes(Application application) {
+
+        if (application.getUUID() != null) {
+            applicationByUUIDMap.put(application.getUUID(), application);
+        }
+        if (application.getName() != null) {
+            applicationsByNameMap.computeIfAbsent(application.getName(), k -> new ConcurrentHashMap<>())
+                    .put(application.getId(), application);
+        }
+    }
+
+    private void removeApplicationFromIndexes(Application application) {
+
+        if (application.getUUID() != null) {
+            applicationByUUIDMap.remove(application.getUUID(), application);
+        }
+        if (application.getName() != null) {
+            applicationsByNameMap.computeIfPresent(application.getName(), (name, applications) -> {
+                applications.remove(application.getId(), application);
+                return applications.isEmpty() ? null : applications;
+            });
+        }
     }
 
     @Override
@@ -682,42 +812,27 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<Application> getApplicationsByName(String name) {
 
-        List<Application> applicationList = new ArrayList<>();
-        if (applicationMap != null) {
-            for (Application application : applicationMap.values()) {
-                if (application.getName().equals(name)) {
-                    applicationList.add(application);
-                }
-            }
+        if (name == null) {
+            return new ArrayList<>();
         }
-        return applicationList;
+        Map<Integer, Application> applications = applicationsByNameMap.get(name);
+        return applications != null ? new ArrayList<>(applications.values()) : new ArrayList<>();
     }
 
     @Override
     public Application getApplicationByUUID(String uuid) {
 
-        if (applicationMap != null) {
-            for (Application application : applicationMap.values()) {
-                if (application.getUUID().equals(uuid)) {
-                    return application;
-                }
-            }
+        if (uuid == null) {
+            return null;
         }
-        return null;
+        return applicationByUUIDMap.get(uuid);
     }
 
     @Override
     public List<Subscription> getSubscriptionsByAPIId(int apiId) {
 
-        List<Subscription> subscriptionList = new ArrayList<>();
-        if (subscriptionMap != null) {
-            for (Subscription subscription : subscriptionMap.values()) {
-                if (subscription.getApiId() == apiId) {
-                    subscriptionList.add(subscription);
-                }
-            }
-        }
-        return subscriptionList;
+        Map<String, Subscription> subscriptions = subscriptionsByAPIIdMap.get(apiId);
+        return subscriptions != null ? new ArrayList<>(subscriptions.values()) : new ArrayList<>();
     }
 
     @Override
@@ -850,13 +965,21 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     private static class PopulateTask<K, V extends CacheableEntity<K>> implements Runnable {
 
-        private Map<K, V> entityMap;
         private Supplier<List<V>> supplier;
+        private Consumer<Map<K, V>> populator;
 
         PopulateTask(Map<K, V> entityMap, Supplier<List<V>> supplier) {
 
-            this.entityMap = entityMap;
+            this(supplier, entities -> {
+                entityMap.clear();
+                entityMap.putAll(entities);
+            });
+        }
+
+        PopulateTask(Supplier<List<V>> supplier, Consumer<Map<K, V>> populator) {
+
             this.supplier = supplier;
+            this.populator = populator;
         }
 
         public void run() {
@@ -870,13 +993,9 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     if (log.isDebugEnabled()) {
                         log.debug(String.format("Adding entry Key : %s Value : %s", v.getCacheKey(), v));
                     }
-
-                    if (!tempMap.isEmpty()) {
-                        entityMap.clear();
-                        entityMap.putAll(tempMap);
-                    }
                 }
-
+                // The entries are replaced even if none was loaded, since the store may be refreshed in place
+                populator.accept(tempMap);
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug("List is null for " + supplier.getClass());
@@ -24,15 +24,35 @@ import org.wso2.carbon.apimgt.impl.dao.WebhooksDAO;
 import org.wso2.carbon.apimgt.impl.handlers.EventHandler;
 import org.wso2.carbon.apimgt.notification.event.WebhooksDeliveryEvent;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * This class implements to handle webhooks delivery status related notification events.
+ * An event holds either the delivery status of a single subscription or an array of delivery statuses batched by
+ * the gateway.
  */
 public class WebhooksDeliveryEventHandler implements EventHandler {
     @Override
     public boolean handleEvent(String event, Map<String, List<String>> headers) throws APIManagementException {
+        if (event.trim().startsWith("[")) {
+            WebhooksDeliveryEvent[] deliveryEvents = new Gson().fromJson(event, WebhooksDeliveryEvent[].class);
+            List<Properties> deliveryStatuses = new ArrayList<>(deliveryEvents.length);
+            for (WebhooksDeliveryEvent deliveryEvent : deliveryEvents) {
+                Properties deliveryStatus = new Properties();
+                addProperty(deliveryStatus, APIConstants.Webhooks.API_UUID, deliveryEvent.getApiUUID());
+                addProperty(deliveryStatus, APIConstants.Webhooks.APP_ID, deliveryEvent.getAppID());
+                addProperty(deliveryStatus, APIConstants.Webhooks.TENANT_DOMAIN, deliveryEvent.getTenantDomain());
+                addProperty(deliveryStatus, APIConstants.Webhooks.CALLBACK, deliveryEvent.getCallback());
+                addProperty(deliveryStatus, APIConstants.Webhooks.TOPIC, deliveryEvent.getTopic());
+                addProperty(deliveryStatus, APIConstants.Webhooks.STATUS, String.valueOf(deliveryEvent.getStatus()));
+                deliveryStatuses.add(deliveryStatus);
+            }
+            WebhooksDAO.getInstance().updateDeliveryStatuses(deliveryStatuses);
+            return true;
+        }
         WebhooksDeliveryEvent deliveryEvent = new Gson().fromJson(event, WebhooksDeliveryEvent.class);
         WebhooksDAO.getInstance().updateDeliveryStatus(deliveryEvent.getApiUUID(), deliveryEvent.getAppID(),
                 deliveryEvent.getTenantDomain(), deliveryEvent.getCallback(), deliveryEvent.getTopic(),
@@ -40,6 +60,13 @@ public class WebhooksDeliveryEventHandler implements EventHandler {
         return true;
     }
 
+    private static void addProperty(Properties properties, String key, String value) {
+        // Properties reject null values, and an absent property is read back as null
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
     @Override
     public String getType() {
         return APIConstants.Webhooks.DELIVERY_EVENT_TYPE;
@@ -2323,8 +2323,8 @@ public class PublisherCommonUtils {
             List<SOAPToRestSequence> sequenceList = SequenceGenerator.generateSequencesFromSwagger(apiDefinition);
             existingAPI.setSoapToRestSequences(sequenceList);
         }
-        Set<URITemplate> uriTemplates = null;
-        uriTemplates = oasParser.getURITemplates(apiDefinition);
+        // The resources and the scopes are read from the same definition, which the parser parses only once
+        Set<URITemplate> uriTemplates = oasParser.getURITemplates(apiDefinition);
 
         if (uriTemplates == null || uriTemplates.isEmpty()) {
             throw new APIManagementException(ExceptionCodes.NO_RESOURCES_FOUND);
@@ -2362,10 +2362,9 @@ public class PublisherCommonUtils {
         existingAPI.setScopes(scopes);
         try {
             ObjectMapper mapper = ObjectMapperFactory.createJson();
-            JsonNode newProductionEndpointJson = mapper.readTree(apiDefinition)
-                    .get(APIConstants.X_WSO2_PRODUCTION_ENDPOINTS);
-            JsonNode newSandboxEndpointJson = mapper.readTree(apiDefinition)
-                    .get(APIConstants.X_WSO2_SANDBOX_ENDPOINTS);
+            JsonNode apiDefinitionJson = mapper.readTree(apiDefinition);
+            JsonNode newProductionEndpointJson = apiDefinitionJson.get(APIConstants.X_WSO2_PRODUCTION_ENDPOINTS);
+            JsonNode newSandboxEndpointJson = apiDefinitionJson.get(APIConstants.X_WSO2_SANDBOX_ENDPOINTS);
             String existingEndpointConfigString = existingAPI.getEndpointConfig();
 
             if (StringUtils.isNotEmpty(existingEndpointConfigString)) { //check if endpoints are configured
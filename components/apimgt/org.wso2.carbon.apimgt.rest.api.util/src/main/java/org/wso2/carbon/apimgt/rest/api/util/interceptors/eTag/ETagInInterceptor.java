@@ -31,8 +31,6 @@ import org.wso2.carbon.apimgt.rest.api.util.utils.ETagGenerator;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,10 +40,29 @@ import static org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil.checkETagSk
 public class ETagInInterceptor extends AbstractPhaseInterceptor<Message> {
     private static final Log log = LogFactory.getLog(ETagInInterceptor.class);
 
+    private final ETagLastUpdatedTimeRegistry lastUpdatedTimeRegistry = new ETagLastUpdatedTimeRegistry();
+
     public ETagInInterceptor() {
         super(Phase.PRE_INVOKE);
     }
 
+    /**
+     * Resolves the last updated time lookups of the operations of the given service classes when the interceptor is
+     * created, instead of on the first request to each operation.
+     *
+     * @param serviceClasses fully qualified names of the service classes
+     */
+    public void setServiceClasses(List<String> serviceClasses) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String serviceClass : serviceClasses) {
+            try {
+                lastUpdatedTimeRegistry.register(Class.forName(serviceClass, false, classLoader));
+            } catch (ClassNotFoundException e) {
+                log.error("Error while registering the last updated time lookups of " + serviceClass, e);
+            }
+        }
+    }
+
     @Override
     public void handleMessage(Message message) throws Fault {
 
@@ -60,51 +77,39 @@ public class ETagInInterceptor extends AbstractPhaseInterceptor<Message> {
         OperationResourceInfo operationResource = message.getExchange().get(OperationResourceInfo.class);
         Map<String, List<String>> headers = CastUtils.cast((Map) message.get(Message.PROTOCOL_HEADERS));
         List<Object> arguments = MessageContentsList.getContentsList(message);
-        try {
-            Class aClass = Class.forName(operationResource.getMethodToInvoke().getDeclaringClass().getName());
-            Method aClassMethod = aClass.getMethod(operationResource.getMethodToInvoke().getName() +
-                    RestApiConstants.GET_LAST_UPDATED, operationResource.getMethodToInvoke().getParameterTypes());
-            Object o = aClass.newInstance();
-            String lastUpdatedTime = String.valueOf(aClassMethod.invoke(o, arguments.toArray()));
-            if (message.get(Message.HTTP_REQUEST_METHOD).equals(RestApiConstants.GET)) {
-                if (!Objects.equals(lastUpdatedTime, "null")) {
-                    String eTag = ETagGenerator.getETag(lastUpdatedTime);
-                    if (headers.containsKey(HttpHeaders.IF_NONE_MATCH)) {
-                        String headerValue = headers.get(HttpHeaders.IF_NONE_MATCH).get(0);
-                        if (Objects.equals(eTag, headerValue)) {
-                            Response response = Response.notModified(eTag).build();
-                            message.getExchange().put(Response.class, response);
-                            return;
-                        }
-                    }
-                    message.getExchange().put(RestApiConstants.ETAG, eTag);
-                }
-            }
-            /*
-            If the request method is a PUT or a DELETE and the If-Match header is given then the ETag value for the
-            resource and the header value will be compared and if they do not match then the flow will be terminated
-            with 412 PRECONDITION FAILED
-             */
-            if (((RestApiConstants.PUT.equals(message.get(Message.HTTP_REQUEST_METHOD))
-                    || RestApiConstants.DELETE.equals(message.get(Message.HTTP_REQUEST_METHOD))))
-                    && headers.containsKey(HttpHeaders.IF_MATCH)) {
-                String ifMatchHeaderValue;
-                ifMatchHeaderValue = String.valueOf(headers.get(HttpHeaders.IF_MATCH).get(0));
-                if (!Objects.equals(lastUpdatedTime, "null")) {
-                    String eTag = ETagGenerator.getETag(lastUpdatedTime);
-                    if (!Objects.equals(ifMatchHeaderValue, eTag)) {
-                        Response response = Response.status(Response.Status.PRECONDITION_FAILED).build();
-                        message.getExchange().put(Response.class, response);
-                    }
+        String lastUpdatedTime = lastUpdatedTimeRegistry.getLastUpdatedTime(operationResource.getMethodToInvoke(),
+                arguments.toArray());
+        if (lastUpdatedTime == null) {
+            return;
+        }
+        String eTag = ETagGenerator.getETag(lastUpdatedTime);
+        if (eTag == null) {
+            return;
+        }
+        if (RestApiConstants.GET.equals(message.get(Message.HTTP_REQUEST_METHOD))) {
+            if (headers.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+                String headerValue = headers.get(HttpHeaders.IF_NONE_MATCH).get(0);
+                if (Objects.equals(eTag, headerValue)) {
+                    Response response = Response.notModified(eTag).build();
+                    message.getExchange().put(Response.class, response);
+                    return;
                 }
             }
-        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException |
-                InvocationTargetException | InstantiationException e) {
-            if (log.isDebugEnabled()) {
-                log.debug(" Error while retrieving the ETag Resource timestamps due to " + e.getMessage(), e);
+            message.getExchange().put(RestApiConstants.ETAG, eTag);
+        }
+        /*
+        If the request method is a PUT or a DELETE and the If-Match header is given then the ETag value for the
+        resource and the header value will be compared and if they do not match then the flow will be terminated
+        with 412 PRECONDITION FAILED
+         */
+        if (((RestApiConstants.PUT.equals(message.get(Message.HTTP_REQUEST_METHOD))
+                || RestApiConstants.DELETE.equals(message.get(Message.HTTP_REQUEST_METHOD))))
+                && headers.containsKey(HttpHeaders.IF_MATCH)) {
+            String ifMatchHeaderValue = String.valueOf(headers.get(HttpHeaders.IF_MATCH).get(0));
+            if (!Objects.equals(ifMatchHeaderValue, eTag)) {
+                Response response = Response.status(Response.Status.PRECONDITION_FAILED).build();
+                message.getExchange().put(Response.class, response);
             }
         }
-
     }
-
 }
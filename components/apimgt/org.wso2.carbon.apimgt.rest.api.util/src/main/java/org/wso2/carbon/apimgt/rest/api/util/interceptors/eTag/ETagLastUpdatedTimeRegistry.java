@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.rest.api.util.interceptors.eTag;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the last updated time lookups of the REST API operations. The lookup of an operation is the public
+ * method of the service class of the operation named after it with the {@link RestApiConstants#GET_LAST_UPDATED}
+ * suffix and taking the same parameters. It is resolved once per operation, either when the service class is
+ * registered or on the first request to the operation, to a method handle bound to an instance of the service class.
+ */
+public class ETagLastUpdatedTimeRegistry {
+
+    private static final Log log = LogFactory.getLog(ETagLastUpdatedTimeRegistry.class);
+    private static final MethodType LOOKUP_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Map<Method, Optional<MethodHandle>> lookups = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> serviceInstances = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the last updated time lookups of all the operations of the given service class.
+     *
+     * @param serviceClass service class of the operations
+     */
+    public void register(Class<?> serviceClass) {
+
+        for (Method method : serviceClass.getMethods()) {
+            if (method.getDeclaringClass() != Object.class
+                    && !method.getName().endsWith(RestApiConstants.GET_LAST_UPDATED)) {
+                getLookup(method);
+            }
+        }
+    }
+
+    /**
+     * Returns the last updated time of the resource of an operation.
+     *
+     * @param operation method of the operation
+     * @param arguments arguments of the operation
+     * @return last updated time of the resource in UNIX time, or null if the operation does not have a last
+     * updated time lookup or the lookup failed
+     */
+    public String getLastUpdatedTime(Method operation, Object[] arguments) {
+
+        Optional<MethodHandle> lookup = getLookup(operation);
+        if (!lookup.isPresent()) {
+            return null;
+        }
+        try {
+            Object lastUpdatedTime = (Object) lookup.get().invokeExact(arguments);
+            return lastUpdatedTime != null ? String.valueOf(lastUpdatedTime) : null;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while retrieving the last updated time of the resource of " + operation.getName(),
+                        e);
+            }
+            return null;
+        }
+    }
+
+    private Optional<MethodHandle> getLookup(Method operation) {
+
+        Optional<MethodHandle> lookup = lookups.get(operation);
+        if (lookup == null) {
+            // Resolving the same lookup more than once under concurrent requests is harmless
+            lookup = resolveLookup(operation);
+            lookups.put(operation, lookup);
+        }
+        return lookup;
+    }
+
+    private Optional<MethodHandle> resolveLookup(Method operation) {
+
+        Class<?> serviceClass = operation.getDeclaringClass();
+        Method lookupMethod;
+        try {
+            lookupMethod = serviceClass.getMethod(operation.getName() + RestApiConstants.GET_LAST_UPDATED,
+                    operation.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandle lookup = MethodHandles.publicLookup().unreflect(lookupMethod);
+            if (!Modifier.isStatic(lookupMethod.getModifiers())) {
+                lookup = lookup.bindTo(getServiceInstance(serviceClass));
+            }
+            return Optional.of(lookup.asSpreader(Object[].class, lookupMethod.getParameterCount())
+                    .asType(LOOKUP_TYPE));
+        } catch (IllegalAccessException | InstantiationException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while resolving the last updated time lookup of " + operation.getName(), e);
+            }
+            return Optional.empty();
+        }
+    }
+
+    private Object getServiceInstance(Class<?> serviceClass) throws IllegalAccessException, InstantiationException {
+
+        Object serviceInstance = serviceInstances.get(serviceClass);
+        if (serviceInstance == null) {
+            serviceInstance = serviceClass.newInstance();
+            serviceInstances.put(serviceClass, serviceInstance);
+        }
+        return serviceInstance;
+    }
+}
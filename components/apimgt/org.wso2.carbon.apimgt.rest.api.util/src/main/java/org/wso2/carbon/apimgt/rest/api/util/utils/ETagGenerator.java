@@ -29,6 +29,9 @@ import java.security.NoSuchAlgorithmException;
  */
 public class ETagGenerator {
     private static final Log log = LogFactory.getLog(ETagGenerator.class);
+    private static final String MD5 = "MD5";
+    // Digests are reset once digested, hence reused by the requests served by the same thread
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = new ThreadLocal<>();
 
     /**
      * This generates the ETag value using the given algorithm
@@ -56,7 +59,10 @@ public class ETagGenerator {
      * @throws NoSuchAlgorithmException if the given algorithm is invalid or not found in {@link MessageDigest}
      */
     private static String getHash(long updatedTimeInMillis, String algorithm) throws NoSuchAlgorithmException {
-        MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
+        return getHash(updatedTimeInMillis, MessageDigest.getInstance(algorithm));
+    }
+
+    private static String getHash(long updatedTimeInMillis, MessageDigest messageDigest) {
         messageDigest.update(String.valueOf(updatedTimeInMillis).getBytes());
         byte[] digest = messageDigest.digest();
 
@@ -78,7 +84,12 @@ public class ETagGenerator {
      * @throws NoSuchAlgorithmException if the given algorithm is invalid or not found in {@link MessageDigest}
      */
     private static String getHash(long updatedTimeInMillis) throws NoSuchAlgorithmException {
-        return getHash(updatedTimeInMillis, "MD5");
+        MessageDigest messageDigest = MD5_DIGEST.get();
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(MD5);
+            MD5_DIGEST.set(messageDigest);
+        }
+        return getHash(updatedTimeInMillis, messageDigest);
     }
 
     public static String getETag(String lastUpdatedTimeInMillis) {
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.rest.api.util.interceptors.eTag;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+public class ETagLastUpdatedTimeRegistryTest {
+
+    @Test
+    public void testGetLastUpdatedTime() throws Exception {
+
+        ETagLastUpdatedTimeRegistry registry = new ETagLastUpdatedTimeRegistry();
+        registry.register(TestService.class);
+        Method getResource = TestService.class.getMethod("getResource", String.class, int.class);
+        Assert.assertEquals("1700000000042",
+                registry.getLastUpdatedTime(getResource, new Object[]{"resource", 42}));
+        Assert.assertNull(registry.getLastUpdatedTime(getResource, new Object[]{null, 42}));
+    }
+
+    @Test
+    public void testGetLastUpdatedTimeWithoutLookup() throws Exception {
+
+        ETagLastUpdatedTimeRegistry registry = new ETagLastUpdatedTimeRegistry();
+        Method getResources = TestService.class.getMethod("getResources");
+        Assert.assertNull(registry.getLastUpdatedTime(getResources, new Object[0]));
+    }
+
+    @Test
+    public void testGetLastUpdatedTimeWhenLookupFails() throws Exception {
+
+        ETagLastUpdatedTimeRegistry registry = new ETagLastUpdatedTimeRegistry();
+        Method getResource = TestService.class.getMethod("getResource", String.class, int.class);
+        Assert.assertNull(registry.getLastUpdatedTime(getResource, new Object[]{"invalid", 42}));
+        Assert.assertNull(registry.getLastUpdatedTime(getResource, new Object[]{"resource"}));
+    }
+
+    public static class TestService {
+
+        public String getResource(String id, int version) {
+
+            return id;
+        }
+
+        public Long getResourceGetLastUpdatedTime(String id, int version) {
+
+            if (id == null) {
+                return null;
+            }
+            if ("invalid".equals(id)) {
+                throw new IllegalArgumentException("Invalid resource " + id);
+            }
+            return 1700000000000L + version;
+        }
+
+        public String getResources() {
+
+            return "resources";
+        }
+    }
+}
@@ -105,6 +105,8 @@ import static org.wso2.carbon.apimgt.spec.parser.definitions.OASParserUtil.isVal
  */
 public class OAS2Parser extends APIDefinition {
     private static final Log log = LogFactory.getLog(OAS2Parser.class);
+    private static final ParsedDefinitionCache<Swagger> parsedDefinitions =
+            new ParsedDefinitionCache<>(ParsedDefinitionCache.DEFAULT_MAX_DEFINITIONS);
     private static final String SWAGGER_SECURITY_SCHEMA_KEY = "default";
     private List<String> otherSchemes;
     private List<String> getOtherSchemes() {
@@ -344,9 +346,19 @@ public class OAS2Parser extends APIDefinition {
      */
     @Override
     public Set<URITemplate> getURITemplates(String resourceConfigsJSON) throws APIManagementException {
-        Swagger swagger = getSwagger(resourceConfigsJSON);
+        return getURITemplates(getParsedSwagger(resourceConfigsJSON));
+    }
+
+    /**
+     * This method returns URI templates according to the given parsed swagger definition
+     *
+     * @param swagger parsed swagger definition, which is not modified
+     * @return URI Templates
+     * @throws APIManagementException
+     */
+    public Set<URITemplate> getURITemplates(Swagger swagger) throws APIManagementException {
         Set<URITemplate> urlTemplates = new LinkedHashSet<>();
-        Set<Scope> scopes = getScopes(resourceConfigsJSON);
+        Set<Scope> scopes = getScopes(swagger);
         String oauth2SchemeKey = getOAuth2SecuritySchemeKey(swagger);
 
         for (String pathString : swagger.getPaths().keySet()) {
@@ -422,7 +434,17 @@ public class OAS2Parser extends APIDefinition {
      */
     @Override
     public Set<Scope> getScopes(String resourceConfigsJSON) throws APIManagementException {
-        Swagger swagger = getSwagger(resourceConfigsJSON);
+        return getScopes(getParsedSwagger(resourceConfigsJSON));
+    }
+
+    /**
+     * This method returns the oauth scopes according to the given parsed swagger definition
+     *
+     * @param swagger parsed swagger definition, which is not modified
+     * @return scope set
+     * @throws APIManagementException
+     */
+    public Set<Scope> getScopes(Swagger swagger) throws APIManagementException {
         String oauth2SchemeKey = getOAuth2SecuritySchemeKey(swagger);
 
         Map<String, SecuritySchemeDefinition> securityDefinitions = swagger.getSecurityDefinitions();
@@ -915,7 +937,7 @@ public class OAS2Parser extends APIDefinition {
 
     @Override
     public String getOASVersion(String oasDefinition) {
-        Swagger swagger = getSwagger(oasDefinition);
+        Swagger swagger = getParsedSwagger(oasDefinition);
         return swagger.getInfo().getVersion();
     }
 
@@ -1292,6 +1314,18 @@ public class OAS2Parser extends APIDefinition {
         return parseAttemptForV2.getSwagger();
     }
 
+    /**
+     * Get parsed Swagger object shared by all the readers of the same OAS definition. The definition is parsed only
+     * if a definition with the same content has not been parsed recently, hence the returned object must not be
+     * modified. Use {@link #getSwagger(String)} to get a Swagger object that can be modified.
+     *
+     * @param oasDefinition OAS definition
+     * @return Swagger, which must not be modified
+     */
+    public Swagger getParsedSwagger(String oasDefinition) {
+        return parsedDefinitions.get(oasDefinition, this::getSwagger);
+    }
+
     /**
      * Remove responsesObject from the swagger string
      * This is to address a bug in swagger parser
@@ -1565,7 +1599,7 @@ public class OAS2Parser extends APIDefinition {
      * @throws APIManagementException
      */
     private boolean isDefaultGiven(String swaggerContent) throws APIManagementException {
-        Swagger swagger = getSwagger(swaggerContent);
+        Swagger swagger = getParsedSwagger(swaggerContent);
 
         Map<String, SecuritySchemeDefinition> securityDefinitions = swagger.getSecurityDefinitions();
         if (securityDefinitions == null) {
@@ -1852,7 +1886,17 @@ public class OAS2Parser extends APIDefinition {
      */
     @Override
     public API setExtensionsToAPI(String apiDefinition, API api) throws APIManagementException {
-        Swagger swagger = getSwagger(apiDefinition);
+        return setExtensionsToAPI(getParsedSwagger(apiDefinition), api);
+    }
+
+    /**
+     * This method returns api that is attached with api extensions of the given parsed swagger definition
+     *
+     * @param swagger parsed swagger definition, which is not modified
+     * @param api     API
+     * @return API
+     */
+    public API setExtensionsToAPI(Swagger swagger, API api) throws APIManagementException {
         Map<String, Object> extensions = swagger.getVendorExtensions();
         if (extensions == null) {
             return api;
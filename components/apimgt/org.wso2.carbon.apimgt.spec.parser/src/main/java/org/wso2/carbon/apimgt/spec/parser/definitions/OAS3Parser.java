@@ -95,6 +95,8 @@ import static org.wso2.carbon.apimgt.spec.parser.definitions.OASParserUtil.isVal
  */
 public class OAS3Parser extends APIDefinition {
     private static final Log log = LogFactory.getLog(OAS3Parser.class);
+    private static final ParsedDefinitionCache<OpenAPI> parsedDefinitions =
+            new ParsedDefinitionCache<>(ParsedDefinitionCache.DEFAULT_MAX_DEFINITIONS);
     static final String OPENAPI_SECURITY_SCHEMA_KEY = "default";
     static final String OPENAPI_DEFAULT_AUTHORIZATION_URL = "https://test.com";
     private List<String> otherSchemes;
@@ -440,9 +442,19 @@ public class OAS3Parser extends APIDefinition {
      */
     @Override
     public Set<URITemplate> getURITemplates(String resourceConfigsJSON) throws APIManagementException {
-        OpenAPI openAPI = getOpenAPI(resourceConfigsJSON);
+        return getURITemplates(getParsedOpenAPI(resourceConfigsJSON));
+    }
+
+    /**
+     * This method returns URI templates according to the given parsed openAPI definition
+     *
+     * @param openAPI parsed openAPI definition, which is not modified
+     * @return URI Templates
+     * @throws APIManagementException
+     */
+    public Set<URITemplate> getURITemplates(OpenAPI openAPI) throws APIManagementException {
         Set<URITemplate> urlTemplates = new LinkedHashSet<>();
-        Set<Scope> scopes = getScopes(resourceConfigsJSON);
+        Set<Scope> scopes = getScopes(openAPI);
 
         for (String pathKey : openAPI.getPaths().keySet()) {
             PathItem pathItem = openAPI.getPaths().get(pathKey);
@@ -533,7 +545,17 @@ public class OAS3Parser extends APIDefinition {
      */
     @Override
     public Set<Scope> getScopes(String resourceConfigsJSON) throws APIManagementException {
-        OpenAPI openAPI = getOpenAPI(resourceConfigsJSON);
+        return getScopes(getParsedOpenAPI(resourceConfigsJSON));
+    }
+
+    /**
+     * This method returns the oauth scopes according to the given parsed openAPI definition
+     *
+     * @param openAPI parsed openAPI definition, which is not modified
+     * @return scope set
+     * @throws APIManagementException
+     */
+    public Set<Scope> getScopes(OpenAPI openAPI) throws APIManagementException {
         Map<String, SecurityScheme> securitySchemes;
         SecurityScheme securityScheme;
         OAuthFlows oAuthFlows;
@@ -1060,7 +1082,7 @@ public class OAS3Parser extends APIDefinition {
 
     @Override
     public String getOASVersion(String oasDefinition) throws APIManagementException {
-        OpenAPI openAPI = getOpenAPI(oasDefinition);
+        OpenAPI openAPI = getParsedOpenAPI(oasDefinition);
         return openAPI.getInfo().getVersion();
     }
 
@@ -1745,6 +1767,18 @@ public class OAS3Parser extends APIDefinition {
         return parseAttemptForV3.getOpenAPI();
     }
 
+    /**
+     * Get parsed OpenAPI object shared by all the readers of the same OAS definition. The definition is parsed only
+     * if a definition with the same content has not been parsed recently, hence the returned object must not be
+     * modified. Use {@link #getOpenAPI(String)} to get an OpenAPI object that can be modified.
+     *
+     * @param oasDefinition OAS definition
+     * @return OpenAPI, which must not be modified
+     */
+    public OpenAPI getParsedOpenAPI(String oasDefinition) {
+        return parsedDefinitions.get(oasDefinition, this::getOpenAPI);
+    }
+
     /**
      * Construct openAPI definition for graphQL. Add get and post operations
      *
@@ -1838,7 +1872,7 @@ public class OAS3Parser extends APIDefinition {
      * @throws APIManagementException
      */
     private boolean isDefaultGiven(String swaggerContent) throws APIManagementException {
-        OpenAPI openAPI = getOpenAPI(swaggerContent);
+        OpenAPI openAPI = getParsedOpenAPI(swaggerContent);
 
         Components components = openAPI.getComponents();
         if (components == null) {
@@ -2251,7 +2285,17 @@ public class OAS3Parser extends APIDefinition {
      */
     @Override
     public API setExtensionsToAPI(String apiDefinition, API api) throws APIManagementException {
-        OpenAPI openAPI = getOpenAPI(apiDefinition);
+        return setExtensionsToAPI(getParsedOpenAPI(apiDefinition), api);
+    }
+
+    /**
+     * This method returns api that is attached with api extensions of the given parsed openAPI definition
+     *
+     * @param openAPI parsed openAPI definition, which is not modified
+     * @param api     API
+     * @return API
+     */
+    public API setExtensionsToAPI(OpenAPI openAPI, API api) throws APIManagementException {
         Map<String, Object> extensions = openAPI.getExtensions();
         if (extensions == null) {
             return api;
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.spec.parser.definitions;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed API definitions, keyed by the SHA-256 hash of the definition content. The same definition
+ * is usually parsed several times while an API is created or updated, to read its resources, scopes and extensions,
+ * and each of those reads then share the model parsed first instead of parsing the definition again.
+ * <p>
+ * The cached models are shared by all the readers of the same definition, hence must not be modified. Operations
+ * that modify the parsed model to produce a new definition have to parse their own model.
+ *
+ * @param <T> type of the parsed model
+ */
+public class ParsedDefinitionCache<T> {
+
+    static final int DEFAULT_MAX_DEFINITIONS = 16;
+
+    private final Map<String, T> models;
+
+    /**
+     * @param maxDefinitions maximum number of parsed definitions kept, after which the least recently used one is
+     *                       evicted
+     */
+    public ParsedDefinitionCache(final int maxDefinitions) {
+
+        models = new LinkedHashMap<String, T>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+
+                return size() > maxDefinitions;
+            }
+        };
+    }
+
+    /**
+     * Returns the parsed model of the given definition, parsing it only if a definition with the same content has
+     * not been parsed already. A definition that can not be parsed is not cached.
+     *
+     * @param definition content of the definition
+     * @param parser     parser of the definition, returning null if the definition can not be parsed
+     * @return parsed model of the definition, which must not be modified
+     */
+    public T get(String definition, Function<String, T> parser) {
+
+        if (definition == null) {
+            return parser.apply(null);
+        }
+        String key = hash(definition);
+        synchronized (models) {
+            T model = models.get(key);
+            if (model != null) {
+                return model;
+            }
+        }
+        // Parsed outside the lock so that a large definition does not block the readers of the other ones
+        T model = parser.apply(definition);
+        if (model != null) {
+            synchronized (models) {
+                T existing = models.putIfAbsent(key, model);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+        }
+        return model;
+    }
+
+    /**
+     * @return number of parsed definitions in the cache
+     */
+    public int size() {
+
+        synchronized (models) {
+            return models.size();
+        }
+    }
+
+    /**
+     * Removes all the parsed definitions from the cache.
+     */
+    public void clear() {
+
+        synchronized (models) {
+            models.clear();
+        }
+    }
+
+    private static String hash(String definition) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(definition.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every Java platform
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
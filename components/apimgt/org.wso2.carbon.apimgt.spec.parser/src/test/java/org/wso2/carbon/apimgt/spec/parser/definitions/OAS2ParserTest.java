@@ -59,6 +59,19 @@ public class OAS2ParserTest extends OASTestBase {
         testGetURITemplates(oas2Parser, oas2Scope);
     }
 
+    @Test
+    public void testGetParsedSwagger() throws Exception {
+        String relativePath = "definitions" + File.separator + "oas2" + File.separator + "oas2_uri_template.json";
+        String definition = IOUtils.toString(getClass().getClassLoader().getResourceAsStream(relativePath), "UTF-8");
+        Swagger swagger = oas2Parser.getParsedSwagger(definition);
+        Assert.assertNotNull(swagger);
+        // A definition with the same content is not parsed again
+        Assert.assertSame(swagger, new OAS2Parser().getParsedSwagger(new String(definition.toCharArray())));
+        Assert.assertNotSame(swagger, oas2Parser.getSwagger(definition));
+        Assert.assertEquals(oas2Parser.getURITemplates(definition), oas2Parser.getURITemplates(swagger));
+        Assert.assertEquals(oas2Parser.getScopes(definition), oas2Parser.getScopes(swagger));
+    }
+
     @Test
     public void testGetScopes() throws Exception {
         String relativePath = "definitions" + File.separator + "oas2" + File.separator + "oas2_scopes.json";
@@ -52,6 +52,19 @@ public class OAS3ParserTest extends OASTestBase {
         testGetScopes(oas3Parser, oas3Scope);
     }
 
+    @Test
+    public void testGetParsedOpenAPI() throws Exception {
+        String relativePath = "definitions" + File.separator + "oas3" + File.separator + "oas3_uri_template.json";
+        String definition = IOUtils.toString(getClass().getClassLoader().getResourceAsStream(relativePath), "UTF-8");
+        OpenAPI openAPI = oas3Parser.getParsedOpenAPI(definition);
+        Assert.assertNotNull(openAPI);
+        // A definition with the same content is not parsed again
+        Assert.assertSame(openAPI, new OAS3Parser().getParsedOpenAPI(new String(definition.toCharArray())));
+        Assert.assertNotSame(openAPI, oas3Parser.getOpenAPI(definition));
+        Assert.assertEquals(oas3Parser.getURITemplates(definition), oas3Parser.getURITemplates(openAPI));
+        Assert.assertEquals(oas3Parser.getScopes(definition), oas3Parser.getScopes(openAPI));
+    }
+
     @Test
     public void testGenerateAPIDefinition() throws Exception {
         testGenerateAPIDefinition(oas3Parser);
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.spec.parser.definitions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class ParsedDefinitionCacheTest {
+
+    @Test
+    public void testDefinitionIsParsedOnce() {
+
+        ParsedDefinitionCache<StringBuilder> cache = new ParsedDefinitionCache<>(2);
+        CountingParser parser = new CountingParser();
+        StringBuilder model = cache.get("{\"openapi\":\"3.0.1\"}", parser);
+        Assert.assertSame(model, cache.get(new String("{\"openapi\":\"3.0.1\"}".toCharArray()), parser));
+        Assert.assertEquals(1, parser.getParseCount());
+        Assert.assertNotSame(model, cache.get("{\"openapi\":\"3.0.2\"}", parser));
+        Assert.assertEquals(2, parser.getParseCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDefinitionIsEvicted() {
+
+        ParsedDefinitionCache<StringBuilder> cache = new ParsedDefinitionCache<>(2);
+        CountingParser parser = new CountingParser();
+        cache.get("first", parser);
+        cache.get("second", parser);
+        cache.get("first", parser);
+        cache.get("third", parser);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(3, parser.getParseCount());
+        cache.get("first", parser);
+        Assert.assertEquals(3, parser.getParseCount());
+        cache.get("second", parser);
+        Assert.assertEquals(4, parser.getParseCount());
+    }
+
+    @Test
+    public void testUnparsableDefinitionIsNotCached() {
+
+        ParsedDefinitionCache<StringBuilder> cache = new ParsedDefinitionCache<>(2);
+        AtomicInteger parseCount = new AtomicInteger();
+        Function<String, StringBuilder> parser = definition -> {
+            parseCount.incrementAndGet();
+            return null;
+        };
+        Assert.assertNull(cache.get("invalid", parser));
+        Assert.assertNull(cache.get("invalid", parser));
+        Assert.assertEquals(2, parseCount.get());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClear() {
+
+        ParsedDefinitionCache<StringBuilder> cache = new ParsedDefinitionCache<>(2);
+        CountingParser parser = new CountingParser();
+        StringBuilder model = cache.get("definition", parser);
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertNotSame(model, cache.get("definition", parser));
+        Assert.assertEquals(2, parser.getParseCount());
+    }
+
+    private static class CountingParser implements Function<String, StringBuilder> {
+
+        private final AtomicInteger parseCount = new AtomicInteger();
+
+        @Override
+        public StringBuilder apply(String definition) {
+
+            parseCount.incrementAndGet();
+            return new StringBuilder(definition);
+        }
+
+        int getParseCount() {
+
+            return parseCount.get();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.api.API;
+import org.apache.synapse.api.Resource;
+import org.apache.synapse.api.dispatch.URITemplateHelper;
+import org.apache.synapse.rest.RESTConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityException;
+import org.wso2.carbon.apimgt.gateway.handlers.security.ResourceNotFoundException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link APIKeyValidator#findMatchingVerb(MessageContext)} for a request to the last resource of an API,
+ * both when the resource has already been elected by an earlier handler and when it has to be dispatched among the
+ * synapse resources of the API first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class APIKeyValidatorBenchmark {
+
+    @Param({"10", "100"})
+    private int resourceCount;
+
+    private APIKeyValidator keyValidator;
+    private MessageContext electedMessageContext;
+    private MessageContext dispatchedMessageContext;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        keyValidator = new BenchmarkAPIKeyValidator(BenchmarkAPIKeyValidator.createURITemplates(resourceCount));
+
+        int resourceIndex = resourceCount - 1;
+        String subPath = "/resource" + resourceIndex + "/42";
+        electedMessageContext = GatewayBenchmarkUtils.createMessageContext("GET", subPath,
+                Collections.<String, String>emptyMap());
+        electedMessageContext.setProperty(APIConstants.API_ELECTED_RESOURCE,
+                BenchmarkAPIKeyValidator.getResourcePath(resourceIndex));
+
+        API api = new API(GatewayBenchmarkUtils.API_NAME, GatewayBenchmarkUtils.API_CONTEXT);
+        for (int i = 0; i < resourceCount; i++) {
+            Resource resource = new Resource();
+            resource.addMethod("GET");
+            resource.addMethod("POST");
+            resource.setDispatcherHelper(new URITemplateHelper(BenchmarkAPIKeyValidator.getResourcePath(i)));
+            api.addResource(resource);
+        }
+        dispatchedMessageContext = GatewayBenchmarkUtils.createMessageContext("GET", subPath,
+                Collections.<String, String>emptyMap());
+        dispatchedMessageContext.setProperty(RESTConstants.PROCESSED_API, api);
+
+        // Compiles the resource router of the validator
+        keyValidator.findMatchingVerb(electedMessageContext);
+    }
+
+    @Benchmark
+    public List<VerbInfoDTO> electedResource() throws ResourceNotFoundException, APISecurityException {
+
+        return keyValidator.findMatchingVerb(electedMessageContext);
+    }
+
+    @Benchmark
+    public List<VerbInfoDTO> dispatchedResource() throws ResourceNotFoundException, APISecurityException {
+
+        // The elected resource is set on the context by the lookup, hence cleared to dispatch on every invocation
+        dispatchedMessageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, null);
+        return keyValidator.findMatchingVerb(dispatchedMessageContext);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+import org.wso2.carbon.apimgt.common.analytics.publishers.impl.AnalyticsEventWriter;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of writing the attributes of an analytics event into the event builder of a reporter, as
+ * done by AbstractRequestDataPublisher#publish: the conversion of the event to a map with Jackson used before, and
+ * the {@link AnalyticsEventWriter} walking the event DTOs. The builder keeps the attributes in a map, as the builders
+ * of the analytics publisher do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsEventWriterBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    @Param({"1", "10"})
+    private int resourceCount;
+
+    private Event event;
+    private AnalyticsEventWriter writer;
+    private Map<String, Object> attributes;
+    private MetricEventBuilder builder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        writer = new AnalyticsEventWriter(OBJECT_MAPPER);
+        attributes = new HashMap<>();
+        builder = (MetricEventBuilder) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{MetricEventBuilder.class}, (proxy, method, args) -> {
+                    if ("addAttribute".equals(method.getName())) {
+                        attributes.put((String) args[0], args[1]);
+                        return proxy;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        event = createEvent(resourceCount);
+        if (!writer.isSupported(event)) {
+            throw new IllegalStateException("Analytics event of the benchmark is not supported by the writer");
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> objectMapperConversion() throws MetricReportingException {
+
+        attributes.clear();
+        Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE);
+        for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+            builder.addAttribute(entry.getKey(), entry.getValue());
+        }
+        return attributes;
+    }
+
+    @Benchmark
+    public Map<String, Object> eventWriter() throws MetricReportingException {
+
+        attributes.clear();
+        writer.write(event, builder);
+        return attributes;
+    }
+
+    private static Event createEvent(int resourceCount) {
+
+        ExtendedAPI api = new ExtendedAPI();
+        api.setApiId(GatewayBenchmarkUtils.API_UUID);
+        api.setApiType("HTTP");
+        api.setApiName(GatewayBenchmarkUtils.API_NAME);
+        api.setApiVersion(GatewayBenchmarkUtils.API_VERSION);
+        api.setApiCreator(GatewayBenchmarkUtils.API_PROVIDER);
+        api.setApiCreatorTenantDomain(GatewayBenchmarkUtils.TENANT_DOMAIN);
+        api.setOrganizationId(GatewayBenchmarkUtils.TENANT_DOMAIN);
+        api.setApiContext(GatewayBenchmarkUtils.API_CONTEXT + "/" + GatewayBenchmarkUtils.API_VERSION);
+        List<URITemplate> uriTemplates = new ArrayList<>(resourceCount);
+        for (int i = 0; i < resourceCount; i++) {
+            URITemplate uriTemplate = new URITemplate();
+            uriTemplate.setUriTemplate(BenchmarkAPIKeyValidator.getResourcePath(i));
+            uriTemplate.setHttpVerb("GET");
+            uriTemplate.setAuthScheme("Any");
+            uriTemplate.setResourceURI("http://localhost:8080/resource" + i);
+            uriTemplates.add(uriTemplate);
+        }
+        api.setUriTemplates(uriTemplates);
+
+        Event event = new Event();
+        event.setApi(api);
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate(BenchmarkAPIKeyValidator.getResourcePath(0));
+        event.setOperation(operation);
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setDestination("http://localhost:8080/resource0");
+        event.setTarget(target);
+        Application application = new Application();
+        application.setKeyType("PRODUCTION");
+        application.setApplicationId("5c2b7e9a-4f1d-4e3b-8a6c-0d9e8f7a6b5c");
+        application.setApplicationName("DefaultApplication");
+        application.setApplicationOwner(GatewayBenchmarkUtils.API_PROVIDER);
+        event.setApplication(application);
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(120L);
+        latencies.setBackendLatency(100L);
+        latencies.setRequestMediationLatency(12L);
+        latencies.setResponseMediationLatency(8L);
+        event.setLatencies(latencies);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("0f6c3b1e-2d4a-4e5f-9a8b-7c6d5e4f3a2b");
+        metaInfo.setRegionId("default");
+        metaInfo.setGatewayType("SYNAPSE");
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2026-01-01T00:00:00.000Z");
+        event.setUserAgentHeader("Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101 Firefox/128.0");
+        event.setUserName(GatewayBenchmarkUtils.API_PROVIDER);
+        event.setUserIp("192.168.1.10");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("apiContext", api.getApiContext());
+        properties.put("responseContentType", "application/json");
+        properties.put("responseSize", 1024L);
+        event.setProperties(properties);
+        return event;
+    }
+}
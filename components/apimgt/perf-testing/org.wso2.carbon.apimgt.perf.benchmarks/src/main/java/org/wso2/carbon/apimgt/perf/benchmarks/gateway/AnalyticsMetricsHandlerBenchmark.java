@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.am.analytics.publisher.reporter.CounterMetric;
+import org.wso2.carbon.apimgt.api.model.URITemplate;
+import org.wso2.carbon.apimgt.common.analytics.collectors.impl.SuccessRequestDataCollector;
+import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.RequestDataPublisher;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.analytics.AnalyticsMetricsHandler;
+import org.wso2.carbon.apimgt.gateway.handlers.analytics.SynapseAnalyticsDataProvider;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the analytics of a successful request: the request and response flow callbacks of
+ * {@link AnalyticsMetricsHandler} followed by building the analytics event from the message context. The event is
+ * handed to a publisher keeping it in memory, as the reporters of the analytics publisher are external to the gateway.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsMetricsHandlerBenchmark {
+
+    private AnalyticsMetricsHandler analyticsMetricsHandler;
+    private MessageContext messageContext;
+    private CapturingRequestDataPublisher requestDataPublisher;
+
+    @Setup(Level.Trial)
+    public void setup() throws AnalyticsException {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        analyticsMetricsHandler = new AnalyticsMetricsHandler();
+        requestDataPublisher = new CapturingRequestDataPublisher();
+
+        ArrayList<URITemplate> uriTemplates = BenchmarkAPIKeyValidator.createURITemplates(10);
+        Map<String, String> headers = new HashMap<>();
+        headers.put("User-Agent", "Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101 Firefox/128.0");
+        headers.put("X-Forwarded-For", "192.168.1.10");
+        headers.put("Content-Type", "application/json");
+        headers.put("Content-Length", "1024");
+        messageContext = GatewayBenchmarkUtils.createMessageContext("GET", "/resource5/42", headers);
+        messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, BenchmarkAPIKeyValidator.getResourcePath(5));
+        messageContext.setProperty(APIMgtGatewayConstants.API_OBJECT, GatewayBenchmarkUtils.deployAPI(uriTemplates));
+        APISecurityUtils.setAuthenticationContext(messageContext,
+                GatewayBenchmarkUtils.createAuthenticationContext());
+        ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(SynapseConstants.HTTP_SC, 200);
+
+        collectData();
+        if (requestDataPublisher.event == null) {
+            throw new IllegalStateException("Analytics event of the benchmark request was not collected");
+        }
+    }
+
+    @Benchmark
+    public void handlerCallbacks() {
+
+        analyticsMetricsHandler.handleRequestInFlow(messageContext);
+        analyticsMetricsHandler.handleRequestOutFlow(messageContext);
+        analyticsMetricsHandler.handleResponseInFlow(messageContext);
+    }
+
+    @Benchmark
+    public void collectEvent(Blackhole blackhole) throws AnalyticsException {
+
+        analyticsMetricsHandler.handleRequestInFlow(messageContext);
+        analyticsMetricsHandler.handleRequestOutFlow(messageContext);
+        analyticsMetricsHandler.handleResponseInFlow(messageContext);
+        collectData();
+        blackhole.consume(requestDataPublisher.event);
+    }
+
+    private void collectData() throws AnalyticsException {
+
+        new SuccessRequestDataCollector(new BenchmarkAnalyticsDataProvider(messageContext), requestDataPublisher)
+                .collectData();
+    }
+
+    /**
+     * Analytics data provider reading the response size from the headers only and without masking, as the analytics
+     * configuration of the API Manager is not loaded.
+     */
+    private static class BenchmarkAnalyticsDataProvider extends SynapseAnalyticsDataProvider {
+
+        private final MessageContext messageContext;
+
+        BenchmarkAnalyticsDataProvider(MessageContext messageContext) {
+
+            super(messageContext, null);
+            this.messageContext = messageContext;
+        }
+
+        @Override
+        public Map<String, String> getMaskProperties() {
+
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public long getResponseSize() {
+
+            Map<?, ?> headers = (Map<?, ?>) ((Axis2MessageContext) messageContext).getAxis2MessageContext()
+                    .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
+            Object contentLength = headers.get("Content-Length");
+            return contentLength == null ? 0L : Long.parseLong(contentLength.toString());
+        }
+    }
+
+    /**
+     * Request data publisher keeping the last event instead of reporting it.
+     */
+    private static class CapturingRequestDataPublisher implements RequestDataPublisher {
+
+        private Event event;
+
+        @Override
+        public void publish(Event analyticsEvent) {
+
+            event = analyticsEvent;
+        }
+
+        @Override
+        public CounterMetric getCounterMetric() {
+
+            return null;
+        }
+
+        @Override
+        public List<CounterMetric> getMultipleCounterMetrics() {
+
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.SynapseEnvironment;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.URITemplate;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APIAuthenticationHandler;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityException;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationResponse;
+import org.wso2.carbon.apimgt.gateway.handlers.security.Authenticator;
+import org.wso2.carbon.apimgt.gateway.handlers.security.jwt.JWTValidator;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.ExtendedJWTConfigurationDto;
+import org.wso2.carbon.apimgt.impl.jwt.JWTValidationService;
+import org.wso2.carbon.apimgt.impl.jwt.SignedJWTInfo;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the authentication of a request bearing an RS256 signed JWT access token by
+ * {@link APIAuthenticationHandler}: resolving the resource of the request, parsing the token, verifying its
+ * signature, validating the subscription and the scopes and populating the authentication context. The key manager
+ * is replaced by a JWT validation service verifying the signature against an in memory key pair, and the
+ * subscription data store by {@link BenchmarkAPIKeyValidator}. The gateway token caches are disabled, so every
+ * request goes through the full validation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationHandlerBenchmark {
+
+    private static final String CONSUMER_KEY = "gDqXyO4cm3cUk7nKPRtdnWKgUpca";
+    private static final String KEY_MANAGER = "Resident Key Manager";
+
+    private APIAuthenticationHandler authenticationHandler;
+    private JWTValidator jwtValidator;
+    private MessageContext messageContext;
+    private SignedJWTInfo signedJWTInfo;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        long now = System.currentTimeMillis();
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+                .subject("admin@carbon.super")
+                .issuer("https://localhost:9443/oauth2/token")
+                .audience(CONSUMER_KEY)
+                .claim("azp", CONSUMER_KEY)
+                .claim("scope", "default read write")
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(new Date(now))
+                .expirationTime(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .type(JOSEObjectType.JWT).keyID("benchmark").build(), claimsSet);
+        signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+        String accessToken = signedJWT.serialize();
+
+        ArrayList<URITemplate> uriTemplates = BenchmarkAPIKeyValidator.createURITemplates(10);
+        APIKeyValidator keyValidator = new BenchmarkAPIKeyValidator(uriTemplates);
+        jwtValidator = new BenchmarkJWTValidator(keyValidator,
+                new StubJWTValidationService((RSAPublicKey) keyPair.getPublic()));
+        authenticationHandler = new BenchmarkAuthenticationHandler(keyValidator, jwtValidator);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Authorization", "Bearer " + accessToken);
+        headers.put("Accept", "application/json");
+        messageContext = GatewayBenchmarkUtils.createMessageContext("GET", "/resource5/42", headers);
+        messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, BenchmarkAPIKeyValidator.getResourcePath(5));
+        messageContext.setProperty(APIMgtGatewayConstants.API_OBJECT, GatewayBenchmarkUtils.deployAPI(uriTemplates));
+        SignedJWT parsedJWT = SignedJWT.parse(accessToken);
+        signedJWTInfo = new SignedJWTInfo(accessToken, parsedJWT, parsedJWT.getJWTClaimsSet());
+        if (!authenticationHandler.handleRequest(messageContext)) {
+            throw new IllegalStateException("Authentication of the benchmark request failed");
+        }
+    }
+
+    @Benchmark
+    public boolean authenticationHandler() {
+
+        return authenticationHandler.handleRequest(messageContext);
+    }
+
+    @Benchmark
+    public AuthenticationContext jwtValidator() throws APISecurityException {
+
+        return jwtValidator.authenticate(signedJWTInfo, messageContext);
+    }
+
+    /**
+     * Authentication handler with a single authenticator of JWT access tokens and no metric timers.
+     */
+    private static class BenchmarkAuthenticationHandler extends APIAuthenticationHandler {
+
+        BenchmarkAuthenticationHandler(APIKeyValidator keyValidator, JWTValidator jwtValidator) {
+
+            this.keyValidator = keyValidator;
+            this.authenticators.add(new JWTBearerAuthenticator(jwtValidator));
+            this.isAuthenticatorsInitialized = true;
+            this.isOauthParamsInitialized = true;
+        }
+
+        @Override
+        protected Timer.Context startMetricTimer() {
+
+            return GatewayBenchmarkUtils.getNoOpTimer().start();
+        }
+
+        @Override
+        protected boolean isAnalyticsEnabled() {
+
+            return false;
+        }
+    }
+
+    /**
+     * Authenticator of JWT bearer tokens doing what OAuthAuthenticator does for a JWT access token, apart from the
+     * lookup of the signed JWT parse cache which needs the Carbon caching implementation.
+     */
+    private static class JWTBearerAuthenticator implements Authenticator {
+
+        private static final String BEARER_PREFIX = "Bearer ";
+
+        private final JWTValidator jwtValidator;
+
+        JWTBearerAuthenticator(JWTValidator jwtValidator) {
+
+            this.jwtValidator = jwtValidator;
+        }
+
+        @Override
+        public void init(SynapseEnvironment env) {
+
+        }
+
+        @Override
+        public void destroy() {
+
+        }
+
+        @Override
+        public AuthenticationResponse authenticate(MessageContext synCtx) throws APIManagementException {
+
+            Map headers = (Map) ((Axis2MessageContext) synCtx).getAxis2MessageContext()
+                    .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
+            String authorizationHeader = (String) headers.get("Authorization");
+            if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+                return new AuthenticationResponse(false, true, true,
+                        APISecurityConstants.API_AUTH_MISSING_CREDENTIALS,
+                        APISecurityConstants.API_AUTH_MISSING_CREDENTIALS_MESSAGE);
+            }
+            String accessToken = authorizationHeader.substring(BEARER_PREFIX.length()).trim();
+            try {
+                SignedJWT signedJWT = SignedJWT.parse(accessToken);
+                SignedJWTInfo jwtInfo = new SignedJWTInfo(accessToken, signedJWT, signedJWT.getJWTClaimsSet());
+                AuthenticationContext authenticationContext = jwtValidator.authenticate(jwtInfo, synCtx);
+                APISecurityUtils.setAuthenticationContext(synCtx, authenticationContext);
+                return new AuthenticationResponse(true, true, false, 0, null);
+            } catch (ParseException e) {
+                return new AuthenticationResponse(false, true, false,
+                        APISecurityConstants.API_AUTH_INVALID_CREDENTIALS,
+                        APISecurityConstants.API_AUTH_INVALID_CREDENTIALS_MESSAGE);
+            } catch (APISecurityException e) {
+                return new AuthenticationResponse(false, true, false, e.getErrorCode(), e.getMessage());
+            }
+        }
+
+        @Override
+        public String getChallengeString() {
+
+            return "Bearer realm=\"WSO2 API Manager\"";
+        }
+
+        @Override
+        public String getRequestOrigin() {
+
+            return null;
+        }
+
+        @Override
+        public int getPriority() {
+
+            return 10;
+        }
+    }
+
+    /**
+     * JWT validator without backend JWT generation and gateway token caches.
+     */
+    private static class BenchmarkJWTValidator extends JWTValidator {
+
+        BenchmarkJWTValidator(APIKeyValidator apiKeyValidator, JWTValidationService jwtValidationService) {
+
+            super(APIConstants.UNLIMITED_TIER, false, apiKeyValidator, false, null,
+                    new ExtendedJWTConfigurationDto(), jwtValidationService);
+        }
+    }
+
+    /**
+     * Key manager JWT validation verifying the RS256 signature of the token against an in memory public key.
+     */
+    private static class StubJWTValidationService implements JWTValidationService {
+
+        private final RSASSAVerifier verifier;
+
+        StubJWTValidationService(RSAPublicKey publicKey) {
+
+            this.verifier = new RSASSAVerifier(publicKey);
+        }
+
+        @Override
+        public JWTValidationInfo validateJWTToken(SignedJWTInfo signedJWTInfo) throws APIManagementException {
+
+            JWTValidationInfo jwtValidationInfo = new JWTValidationInfo();
+            JWTClaimsSet claimsSet = signedJWTInfo.getJwtClaimsSet();
+            try {
+                boolean valid = signedJWTInfo.getSignedJWT().verify(verifier)
+                        && claimsSet.getExpirationTime().getTime() > System.currentTimeMillis();
+                jwtValidationInfo.setValid(valid);
+                if (!valid) {
+                    jwtValidationInfo.setValidationCode(APISecurityConstants.API_AUTH_INVALID_CREDENTIALS);
+                    return jwtValidationInfo;
+                }
+            } catch (JOSEException e) {
+                throw new APIManagementException("Error while verifying the signature of the JWT", e);
+            }
+            jwtValidationInfo.setUser(claimsSet.getSubject());
+            jwtValidationInfo.setIssuer(claimsSet.getIssuer());
+            jwtValidationInfo.setJti(claimsSet.getJWTID());
+            jwtValidationInfo.setIssuedTime(claimsSet.getIssueTime().getTime());
+            jwtValidationInfo.setExpiryTime(claimsSet.getExpirationTime().getTime());
+            jwtValidationInfo.setConsumerKey((String) claimsSet.getClaim("azp"));
+            jwtValidationInfo.setKeyManager(KEY_MANAGER);
+            Object scope = claimsSet.getClaim("scope");
+            jwtValidationInfo.setScopes(scope instanceof String ? Arrays.asList(((String) scope).split(" "))
+                    : Collections.<String>emptyList());
+            jwtValidationInfo.setClaims(new HashMap<>(claimsSet.getClaims()));
+            jwtValidationInfo.setRawPayload(signedJWTInfo.getToken());
+            return jwtValidationInfo;
+        }
+
+        @Override
+        public String getKeyManagerNameIfJwtValidatorExist(SignedJWTInfo signedJWTInfo) {
+
+            return KEY_MANAGER;
+        }
+    }
+}
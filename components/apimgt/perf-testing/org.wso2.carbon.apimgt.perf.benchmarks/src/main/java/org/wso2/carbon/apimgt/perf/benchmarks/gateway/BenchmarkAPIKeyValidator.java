@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.apimgt.api.model.URITemplate;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+import org.wso2.carbon.apimgt.keymgt.service.TokenValidationContext;
+
+import java.util.ArrayList;
+
+/**
+ * {@link APIKeyValidator} whose key manager and subscription data store are stubbed in memory: the URI templates of
+ * the API are given up front and every subscription and scope validation succeeds.
+ */
+public class BenchmarkAPIKeyValidator extends APIKeyValidator {
+
+    private final ArrayList<URITemplate> uriTemplates;
+    private final APIKeyValidationInfoDTO subscriptionInfo;
+
+    public BenchmarkAPIKeyValidator(ArrayList<URITemplate> uriTemplates) {
+
+        this.uriTemplates = uriTemplates;
+        subscriptionInfo = new APIKeyValidationInfoDTO();
+        subscriptionInfo.setAuthorized(true);
+        subscriptionInfo.setApplicationId("1");
+        subscriptionInfo.setApplicationUUID("5c2b7e9a-4f1d-4e3b-8a6c-0d9e8f7a6b5c");
+        subscriptionInfo.setApplicationName("DefaultApplication");
+        subscriptionInfo.setApplicationTier(APIConstants.UNLIMITED_TIER);
+        subscriptionInfo.setSubscriber(GatewayBenchmarkUtils.API_PROVIDER);
+        subscriptionInfo.setSubscriberTenantDomain(GatewayBenchmarkUtils.TENANT_DOMAIN);
+        subscriptionInfo.setTier(APIConstants.UNLIMITED_TIER);
+        subscriptionInfo.setApiTier(APIConstants.UNLIMITED_TIER);
+        subscriptionInfo.setType(APIConstants.API_KEY_TYPE_PRODUCTION);
+        subscriptionInfo.setApiName(GatewayBenchmarkUtils.API_NAME);
+        subscriptionInfo.setApiPublisher(GatewayBenchmarkUtils.API_PROVIDER);
+        subscriptionInfo.setEndUserName(GatewayBenchmarkUtils.API_PROVIDER);
+    }
+
+    /**
+     * Creates the URI templates of an API with the given number of resources, each of which has a path parameter.
+     *
+     * @param resourceCount number of resources
+     * @return URI templates of the API
+     */
+    public static ArrayList<URITemplate> createURITemplates(int resourceCount) {
+
+        ArrayList<URITemplate> uriTemplates = new ArrayList<>(resourceCount);
+        for (int i = 0; i < resourceCount; i++) {
+            for (String httpVerb : new String[]{"GET", "POST"}) {
+                URITemplate uriTemplate = new URITemplate();
+                uriTemplate.setUriTemplate(getResourcePath(i));
+                uriTemplate.setHTTPVerb(httpVerb);
+                uriTemplate.setAuthType(APIConstants.AUTH_APPLICATION_OR_USER_LEVEL_TOKEN);
+                uriTemplate.setThrottlingTier(APIConstants.UNLIMITED_TIER);
+                uriTemplates.add(uriTemplate);
+            }
+        }
+        return uriTemplates;
+    }
+
+    /**
+     * @param index index of the resource
+     * @return URL pattern of the resource
+     */
+    public static String getResourcePath(int index) {
+
+        return "/resource" + index + "/{id}";
+    }
+
+    @Override
+    protected ArrayList<URITemplate> getAllURITemplates(MessageContext messageContext, String context,
+                                                        String apiVersion) {
+
+        return uriTemplates;
+    }
+
+    @Override
+    public APIKeyValidationInfoDTO validateSubscription(String context, String version, String consumerKey,
+                                                        String tenantDomain, String keyManager) {
+
+        return subscriptionInfo;
+    }
+
+    @Override
+    public boolean validateScopes(TokenValidationContext tokenValidationContext, String tenantDomain) {
+
+        return true;
+    }
+}
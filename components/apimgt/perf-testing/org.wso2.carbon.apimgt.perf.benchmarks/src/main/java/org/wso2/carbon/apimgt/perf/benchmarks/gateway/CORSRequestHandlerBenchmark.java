@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.api.API;
+import org.apache.synapse.api.Resource;
+import org.apache.synapse.api.dispatch.URITemplateHelper;
+import org.apache.synapse.rest.RESTConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.handlers.security.CORSRequestHandler;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CORSRequestHandler#handleRequest(MessageContext)} for a cross origin request to the last resource
+ * of an API, both when synapse has already selected the resource and when the handler has to dispatch the request
+ * among the resources of the API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CORSRequestHandlerBenchmark {
+
+    @Param({"10", "100"})
+    private int resourceCount;
+
+    private CORSRequestHandler corsRequestHandler;
+    private MessageContext selectedMessageContext;
+    private MessageContext dispatchedMessageContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        corsRequestHandler = new BenchmarkCORSRequestHandler();
+        corsRequestHandler.setAllowHeaders("authorization,Access-Control-Allow-Origin,Content-Type,SOAPAction");
+        corsRequestHandler.setAllowedOrigins("https://localhost:9443,https://*.example.com");
+        corsRequestHandler.setAllowedMethods("GET,PUT,POST,DELETE,PATCH,OPTIONS");
+        corsRequestHandler.setAllowCredentials("false");
+
+        API api = new API(GatewayBenchmarkUtils.API_NAME, GatewayBenchmarkUtils.API_CONTEXT);
+        Resource lastResource = null;
+        for (int i = 0; i < resourceCount; i++) {
+            Resource resource = new Resource();
+            resource.addMethod("GET");
+            resource.addMethod("POST");
+            resource.setDispatcherHelper(new URITemplateHelper(BenchmarkAPIKeyValidator.getResourcePath(i)));
+            api.addResource(resource);
+            lastResource = resource;
+        }
+
+        String subPath = "/resource" + (resourceCount - 1) + "/42";
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Origin", "https://portal.example.com");
+        selectedMessageContext = GatewayBenchmarkUtils.createMessageContext("GET", subPath, headers);
+        selectedMessageContext.setProperty(RESTConstants.PROCESSED_API, api);
+        selectedMessageContext.setProperty(RESTConstants.SELECTED_RESOURCE, lastResource);
+        dispatchedMessageContext = GatewayBenchmarkUtils.createMessageContext("GET", subPath, headers);
+        dispatchedMessageContext.setProperty(RESTConstants.PROCESSED_API, api);
+
+        if (!corsRequestHandler.handleRequest(selectedMessageContext)
+                || !corsRequestHandler.handleRequest(dispatchedMessageContext)) {
+            throw new IllegalStateException("CORS request handler rejected the benchmark request");
+        }
+    }
+
+    @Benchmark
+    public boolean selectedResource() {
+
+        return corsRequestHandler.handleRequest(selectedMessageContext);
+    }
+
+    @Benchmark
+    public boolean dispatchedResource() {
+
+        return corsRequestHandler.handleRequest(dispatchedMessageContext);
+    }
+
+    /**
+     * CORS request handler with CORS enabled regardless of the API Manager configuration, and not recording metrics.
+     */
+    private static class BenchmarkCORSRequestHandler extends CORSRequestHandler {
+
+        @Override
+        protected boolean isCorsEnabled() {
+
+            return true;
+        }
+
+        @Override
+        protected Timer.Context startMetricTimer() {
+
+            return GatewayBenchmarkUtils.getNoOpTimer().start();
+        }
+
+        @Override
+        protected void stopMetricTimer(Timer.Context context) {
+
+        }
+    }
+}
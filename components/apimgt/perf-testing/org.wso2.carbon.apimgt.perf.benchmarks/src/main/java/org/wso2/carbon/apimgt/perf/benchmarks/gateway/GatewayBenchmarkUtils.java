@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.apache.axis2.Constants;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.config.xml.rest.VersionStrategyFactory;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.core.axis2.Axis2SynapseEnvironment;
+import org.apache.synapse.rest.RESTConstants;
+import org.wso2.carbon.apimgt.api.model.URITemplate;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleDataPublisher;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
+import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the runtime state shared by the gateway handler benchmarks: an empty API Manager configuration registered
+ * in the service holders, synthetic message contexts of a request that has been dispatched to an API, and no-op
+ * metric timers replacing the ones of the metrics service.
+ */
+public final class GatewayBenchmarkUtils {
+
+    public static final String TENANT_DOMAIN = "carbon.super";
+    public static final String API_NAME = "PetStore";
+    public static final String API_CONTEXT = "/petstore";
+    public static final String API_VERSION = "1.0.0";
+    public static final String API_PROVIDER = "admin";
+    public static final String API_UUID = "2f5a3c1e-8d4b-4c6a-9e7f-1b2d3c4e5f60";
+
+    private static final Timer NO_OP_TIMER = createNoOpTimer();
+
+    private GatewayBenchmarkUtils() {
+
+    }
+
+    /**
+     * Registers an empty API Manager configuration in the impl, gateway and key manager service holders, so that
+     * all the optional features backed by caches, analytics, tracing and the traffic manager are disabled.
+     */
+    public static synchronized void initConfiguration() {
+
+        if (System.getProperty("carbon.home") == null) {
+            System.setProperty("carbon.home", new File(System.getProperty("java.io.tmpdir")).getAbsolutePath());
+        }
+        APIManagerConfigurationService configurationService =
+                new APIManagerConfigurationServiceImpl(new APIManagerConfiguration());
+        org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
+                .setAPIManagerConfigurationService(configurationService);
+        org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder.getInstance()
+                .setAPIManagerConfigurationService(configurationService);
+        org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder gatewayHolder =
+                org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder.getInstance();
+        gatewayHolder.setAPIManagerConfigurationService(configurationService);
+        if (gatewayHolder.getThrottleDataPublisher() == null) {
+            // Without throttle properties the publisher is not connected to a traffic manager
+            gatewayHolder.setThrottleDataPublisher(new ThrottleDataPublisher());
+        }
+    }
+
+    /**
+     * Adds the benchmarked API to the subscription data store of the super tenant.
+     *
+     * @param uriTemplates URI templates of the API
+     * @return API added to the store
+     */
+    public static API deployAPI(List<URITemplate> uriTemplates) {
+
+        API api = new API();
+        api.setApiId(1);
+        api.setUuid(API_UUID);
+        api.setApiName(API_NAME);
+        api.setApiVersion(API_VERSION);
+        api.setContext(API_CONTEXT);
+        api.setApiProvider(API_PROVIDER);
+        api.setApiType("HTTP");
+        api.setApiTier(APIConstants.UNLIMITED_TIER);
+        api.setEgress(false);
+        for (URITemplate uriTemplate : uriTemplates) {
+            URLMapping urlMapping = new URLMapping();
+            urlMapping.setHttpMethod(uriTemplate.getHTTPVerb());
+            urlMapping.setUrlPattern(uriTemplate.getUriTemplate());
+            urlMapping.setAuthScheme(uriTemplate.getAuthType());
+            urlMapping.setThrottlingPolicy(uriTemplate.getThrottlingTier());
+            api.addResource(urlMapping);
+        }
+        SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(TENANT_DOMAIN).addOrUpdateAPI(api);
+        return api;
+    }
+
+    /**
+     * Creates the message context of a request to the benchmarked API, as it is after the API has been dispatched
+     * by synapse.
+     *
+     * @param httpMethod HTTP method of the request
+     * @param subPath    path of the request relative to the API context and version
+     * @param headers    transport headers of the request
+     * @return message context of the request
+     */
+    public static MessageContext createMessageContext(String httpMethod, String subPath,
+                                                      Map<String, String> headers) {
+
+        SynapseConfiguration synapseConfiguration = new SynapseConfiguration();
+        org.apache.axis2.context.MessageContext axis2MessageContext = new org.apache.axis2.context.MessageContext();
+        ConfigurationContext configurationContext = new ConfigurationContext(new AxisConfiguration());
+        axis2MessageContext.setConfigurationContext(configurationContext);
+        axis2MessageContext.setIncomingTransportName(Constants.TRANSPORT_HTTP);
+        axis2MessageContext.setProperty(Constants.Configuration.HTTP_METHOD, httpMethod);
+        Map<String, String> transportHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        transportHeaders.putAll(headers);
+        axis2MessageContext.setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS,
+                transportHeaders);
+        MessageContext messageContext = new Axis2MessageContext(axis2MessageContext, synapseConfiguration,
+                new Axis2SynapseEnvironment(configurationContext, synapseConfiguration));
+        String fullRequestPath = API_CONTEXT + "/" + API_VERSION + subPath;
+        axis2MessageContext.setProperty(Constants.Configuration.TRANSPORT_IN_URL, fullRequestPath);
+        messageContext.setProperty(RESTConstants.SYNAPSE_REST_API, API_PROVIDER + "--" + API_NAME + ":v"
+                + API_VERSION);
+        messageContext.setProperty(RESTConstants.REST_API_CONTEXT, API_CONTEXT);
+        messageContext.setProperty(RESTConstants.SYNAPSE_REST_API_VERSION, API_VERSION);
+        messageContext.setProperty(RESTConstants.SYNAPSE_REST_API_VERSION_STRATEGY, VersionStrategyFactory.TYPE_URL);
+        messageContext.setProperty(RESTConstants.REST_FULL_REQUEST_PATH, fullRequestPath);
+        messageContext.setProperty(RESTConstants.REST_SUB_REQUEST_PATH, subPath);
+        messageContext.setProperty(APIMgtGatewayConstants.HTTP_METHOD, httpMethod);
+        return messageContext;
+    }
+
+    /**
+     * Creates the authentication context of a production key of an application subscribed to the benchmarked API
+     * with unlimited policies.
+     *
+     * @return authentication context of the request
+     */
+    public static AuthenticationContext createAuthenticationContext() {
+
+        AuthenticationContext authenticationContext = new AuthenticationContext();
+        authenticationContext.setAuthenticated(true);
+        authenticationContext.setUsername(API_PROVIDER);
+        authenticationContext.setApplicationId("1");
+        authenticationContext.setApplicationUUID("5c2b7e9a-4f1d-4e3b-8a6c-0d9e8f7a6b5c");
+        authenticationContext.setApplicationName("DefaultApplication");
+        authenticationContext.setApplicationTier(APIConstants.UNLIMITED_TIER);
+        authenticationContext.setTier(APIConstants.UNLIMITED_TIER);
+        authenticationContext.setApiTier(APIConstants.UNLIMITED_TIER);
+        authenticationContext.setSubscriber(API_PROVIDER);
+        authenticationContext.setSubscriberTenantDomain(TENANT_DOMAIN);
+        authenticationContext.setKeyType(APIConstants.API_KEY_TYPE_PRODUCTION);
+        authenticationContext.setConsumerKey("benchmark-consumer-key");
+        authenticationContext.setApiName(API_NAME);
+        authenticationContext.setApiPublisher(API_PROVIDER);
+        authenticationContext.setApiVersion(API_VERSION);
+        authenticationContext.setStopOnQuotaReach(true);
+        return authenticationContext;
+    }
+
+    /**
+     * @return metric timer that does not record anything
+     */
+    public static Timer getNoOpTimer() {
+
+        return NO_OP_TIMER;
+    }
+
+    private static Timer createNoOpTimer() {
+
+        ClassLoader classLoader = GatewayBenchmarkUtils.class.getClassLoader();
+        Timer.Context context = (Timer.Context) Proxy.newProxyInstance(classLoader,
+                new Class[]{Timer.Context.class}, (proxy, method, args) -> defaultValue(method));
+        return (Timer) Proxy.newProxyInstance(classLoader, new Class[]{Timer.class},
+                (proxy, method, args) -> "start".equals(method.getName()) ? context : defaultValue(method));
+    }
+
+    private static Object defaultValue(Method method) {
+
+        Class<?> returnType = method.getReturnType();
+        if (returnType == long.class) {
+            return 0L;
+        } else if (returnType == int.class) {
+            return 0;
+        } else if (returnType == double.class) {
+            return 0D;
+        } else if (returnType == boolean.class) {
+            return false;
+        }
+        return null;
+    }
+}
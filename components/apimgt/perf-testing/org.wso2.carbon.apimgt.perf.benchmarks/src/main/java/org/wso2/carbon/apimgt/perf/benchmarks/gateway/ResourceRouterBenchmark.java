@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.apimgt.gateway.handlers.security.ResourceRouter;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the resource lookup done by APIKeyValidator#findMatchingVerb using the compiled {@link ResourceRouter}
+ * against the linear scan of all URL patterns of the API that was used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceRouterBenchmark {
+
+    private static final String[] HTTP_VERBS = {"GET", "POST", "PUT", "DELETE"};
+
+    @Param({"10", "100", "300"})
+    private int resourceCount;
+
+    private APIInfoDTO apiInfoDTO;
+    private ResourceRouter router;
+    private String[] electedResources;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setContext("/pets");
+        apiInfoDTO.setVersion("1.0.0");
+        apiInfoDTO.setResources(new LinkedHashSet<>());
+        electedResources = new String[resourceCount];
+        for (int i = 0; i < resourceCount; i++) {
+            String urlPattern = "/store" + (i % 10) + "/pets" + i + "/{petId}/photos";
+            ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+            resourceInfoDTO.setUrlPattern(urlPattern);
+            resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>());
+            for (String httpVerb : HTTP_VERBS) {
+                VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+                verbInfoDTO.setHttpVerb(httpVerb);
+                resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
+            }
+            apiInfoDTO.getResources().add(resourceInfoDTO);
+            electedResources[i] = urlPattern;
+        }
+        router = ResourceRouter.compile(apiInfoDTO);
+    }
+
+    private String nextResource() {
+
+        String resource = electedResources[index];
+        index = (index + 1) % electedResources.length;
+        return resource;
+    }
+
+    @Benchmark
+    public void compiledRouter(Blackhole blackhole) {
+
+        for (VerbInfoDTO verb : router.getMatchingVerbs("DELETE", nextResource())) {
+            blackhole.consume(verb);
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+
+        String resourceString = nextResource();
+        for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
+            for (VerbInfoDTO verb : resourceInfoDTO.getHttpVerbs()) {
+                if (verb.getHttpVerb().equals("DELETE") && isResourcePathMatching(resourceString, resourceInfoDTO)) {
+                    blackhole.consume(verb);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public ResourceRouter compile() {
+
+        return ResourceRouter.compile(apiInfoDTO);
+    }
+
+    private static boolean isResourcePathMatching(String resourceString, ResourceInfoDTO resourceInfoDTO) {
+
+        String resource = resourceString.trim();
+        String urlPattern = resourceInfoDTO.getUrlPattern().trim();
+        if (resource.equalsIgnoreCase(urlPattern)) {
+            return true;
+        }
+        if (resource.length() + 1 == urlPattern.length() && urlPattern.endsWith("/")) {
+            String urlPatternWithoutSlash = urlPattern.substring(0, urlPattern.length() - 1);
+            return resource.equalsIgnoreCase(urlPatternWithoutSlash);
+        }
+        return false;
+    }
+}
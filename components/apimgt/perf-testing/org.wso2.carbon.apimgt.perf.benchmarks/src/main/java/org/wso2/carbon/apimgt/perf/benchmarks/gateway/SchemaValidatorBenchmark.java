@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import com.atlassian.oai.validator.report.ValidationReport;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.transport.passthru.PassThroughConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.SchemaValidator;
+import org.wso2.carbon.apimgt.gateway.handlers.security.model.OpenAPIRequest;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of validating a JSON request against the OpenAPI definition of an API of 10 and 200
+ * resources with {@link SchemaValidator}, which shares the validator of the deployed API across requests, against
+ * building the validator of the definition for each request as done before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaValidatorBenchmark {
+
+    @Param({"10", "200"})
+    private int resourceCount;
+
+    private OpenAPI openAPI;
+    private MessageContext messageContext;
+    private SchemaValidator schemaValidator;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        String definition = createDefinition(resourceCount);
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        parseOptions.setResolveCombinators(false);
+        openAPI = new OpenAPIParser().readContents(definition, null, parseOptions).getOpenAPI();
+
+        String resourcePath = "/resource" + (resourceCount - 1);
+        messageContext = GatewayBenchmarkUtils.createMessageContext("POST", resourcePath,
+                Collections.singletonMap("Content-Type", "application/json"));
+        messageContext.setProperty(APIMgtGatewayConstants.API_ELECTED_RESOURCE, resourcePath);
+        messageContext.setProperty(APIMgtGatewayConstants.API_UUID_PROPERTY, GatewayBenchmarkUtils.API_UUID);
+        messageContext.setProperty(APIMgtGatewayConstants.OPEN_API_OBJECT, openAPI);
+        messageContext.setProperty(APIMgtGatewayConstants.OPEN_API_STRING, definition);
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        axis2MessageContext.setEnvelope(OMAbstractFactory.getSOAP11Factory().getDefaultEnvelope());
+        JsonUtil.getNewJsonPayload(axis2MessageContext, "{\"id\":42,\"name\":\"item\",\"price\":12.5,"
+                + "\"status\":\"available\",\"tags\":[\"a\",\"b\",\"c\"],"
+                + "\"owner\":{\"id\":7,\"email\":\"owner@example.com\"}}", true, true);
+        axis2MessageContext.setProperty(PassThroughConstants.MESSAGE_BUILDER_INVOKED, Boolean.TRUE);
+        schemaValidator = new SchemaValidator();
+        schemaValidator.handleRequest(messageContext);
+    }
+
+    @Benchmark
+    public boolean sharedValidator() {
+
+        return schemaValidator.handleRequest(messageContext);
+    }
+
+    @Benchmark
+    public ValidationReport validatorPerRequest() {
+
+        return SchemaValidator.createOpenAPIValidator(openAPI).validateRequest(new OpenAPIRequest(messageContext));
+    }
+
+    /**
+     * Creates an OpenAPI definition with the given number of resources, each of which accepts a JSON object of a
+     * schema of its own.
+     */
+    private static String createDefinition(int resourceCount) {
+
+        StringBuilder paths = new StringBuilder();
+        StringBuilder schemas = new StringBuilder();
+        for (int i = 0; i < resourceCount; i++) {
+            if (i > 0) {
+                paths.append(',');
+                schemas.append(',');
+            }
+            paths.append("\"/resource").append(i).append("\":{\"post\":{\"requestBody\":{\"required\":true,")
+                    .append("\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/Item")
+                    .append(i).append("\"}}}},\"responses\":{\"200\":{\"description\":\"OK\"}}}}");
+            schemas.append("\"Item").append(i).append("\":{\"type\":\"object\",\"required\":[\"id\",\"name\"],")
+                    .append("\"properties\":{\"id\":{\"type\":\"integer\",\"format\":\"int64\"},")
+                    .append("\"name\":{\"type\":\"string\",\"maxLength\":64},")
+                    .append("\"price\":{\"type\":\"number\",\"minimum\":0},")
+                    .append("\"status\":{\"type\":\"string\",\"enum\":[\"available\",\"pending\",\"sold\"]},")
+                    .append("\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}},")
+                    .append("\"owner\":{\"$ref\":\"#/components/schemas/Owner\"}}}");
+        }
+        return "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"" + GatewayBenchmarkUtils.API_NAME
+                + "\",\"version\":\"" + GatewayBenchmarkUtils.API_VERSION + "\"},\"paths\":{" + paths
+                + "},\"components\":{\"schemas\":{" + schemas + ",\"Owner\":{\"type\":\"object\","
+                + "\"properties\":{\"id\":{\"type\":\"integer\"},\"email\":{\"type\":\"string\","
+                + "\"format\":\"email\"}}}}}}";
+    }
+}
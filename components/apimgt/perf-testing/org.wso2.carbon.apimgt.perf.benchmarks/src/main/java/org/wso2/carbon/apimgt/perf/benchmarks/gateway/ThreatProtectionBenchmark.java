@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerException;
+import org.wso2.carbon.apimgt.gateway.threatprotection.AnalyzerHolder;
+import org.wso2.carbon.apimgt.gateway.threatprotection.analyzer.APIMThreatAnalyzer;
+import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.JSONConfig;
+import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.XMLConfig;
+import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorConstants;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON and XML threat protection analyzers on payloads of the given number of records, including
+ * borrowing the analyzer from its pool, configuring it with the limits of the API and returning it, as the threat
+ * protection mediators do for every request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreatProtectionBenchmark {
+
+    @Param({"10", "1000"})
+    private int recordCount;
+
+    private byte[] jsonPayload;
+    private byte[] xmlPayload;
+    private JSONConfig jsonConfig;
+    private XMLConfig xmlConfig;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        StringBuilder json = new StringBuilder("{\"pets\":[");
+        StringBuilder xml = new StringBuilder("<pets>");
+        for (int i = 0; i < recordCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i).append(",\"name\":\"pet").append(i)
+                    .append("\",\"status\":\"available\",\"tags\":[\"dog\",\"puppy\"]}");
+            xml.append("<pet id=\"").append(i).append("\"><name>pet").append(i)
+                    .append("</name><status>available</status><tags><tag>dog</tag><tag>puppy</tag></tags></pet>");
+        }
+        jsonPayload = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        xmlPayload = xml.append("</pets>").toString().getBytes(StandardCharsets.UTF_8);
+
+        jsonConfig = new JSONConfig();
+        jsonConfig.setEnabled(true);
+        // Properties are counted across the whole payload, and array elements by the tokens nested in the array
+        jsonConfig.setMaxPropertyCount(recordCount * 10);
+        jsonConfig.setMaxStringLength(1000);
+        jsonConfig.setMaxArrayElementCount(recordCount * 20);
+        jsonConfig.setMaxKeyLength(100);
+        jsonConfig.setMaxJsonDepth(10);
+
+        xmlConfig = new XMLConfig();
+        xmlConfig.setDtdEnabled(false);
+        xmlConfig.setExternalEntitiesEnabled(false);
+        xmlConfig.setMaxDepth(10);
+        xmlConfig.setMaxElementCount(recordCount * 10);
+        xmlConfig.setMaxAttributeCount(10);
+        xmlConfig.setMaxAttributeLength(100);
+        xmlConfig.setEntityExpansionLimit(100);
+        xmlConfig.setMaxChildrenPerElement(recordCount);
+    }
+
+    @Benchmark
+    public void jsonAnalyzer() throws APIMThreatAnalyzerException {
+
+        APIMThreatAnalyzer analyzer = AnalyzerHolder.getAnalyzer(ThreatProtectorConstants.APPLICATION_JSON);
+        try {
+            analyzer.configure(jsonConfig);
+            analyzer.analyze(new ByteArrayInputStream(jsonPayload), GatewayBenchmarkUtils.API_CONTEXT);
+        } finally {
+            AnalyzerHolder.returnObject(analyzer);
+        }
+    }
+
+    @Benchmark
+    public void xmlAnalyzer() throws APIMThreatAnalyzerException {
+
+        APIMThreatAnalyzer analyzer = AnalyzerHolder.getAnalyzer(ThreatProtectorConstants.APPLICATION_XML);
+        try {
+            analyzer.configure(xmlConfig);
+            analyzer.analyze(new ByteArrayInputStream(xmlPayload), GatewayBenchmarkUtils.API_CONTEXT);
+        } finally {
+            AnalyzerHolder.returnObject(analyzer);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleEventPropertiesWriter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of building the properties of a throttle event as done by
+ * DataProcessAndPublishingAgent#run: the JSON object map used before, the reused
+ * {@link ThrottleEventPropertiesWriter} writing all the request properties, and the writer restricted to the
+ * properties referenced by the conditions of the applied policy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThrottleEventPropertiesBenchmark {
+
+    @Param({"10", "30"})
+    private int headerCount;
+
+    private Map<String, String> headers;
+    private Map<String, String> queryParams;
+    private Map<String, String> jwtClaims;
+    private Map<String, Object> customProperties;
+    private Set<String> referencedHeaders;
+    private Set<String> referencedJwtClaims;
+    private ThrottleEventPropertiesWriter writer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        headers = new HashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put("x-header-" + i, "value-of-header-" + i);
+        }
+        headers.put("user-agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko)");
+        queryParams = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            queryParams.put("param" + i, "value" + i);
+        }
+        jwtClaims = new HashMap<>();
+        jwtClaims.put("sub", "admin@carbon.super");
+        jwtClaims.put("iss", "https://localhost:9443/oauth2/token");
+        jwtClaims.put("aud", "gDqXyO4cm3cUk7nKPRtdnWKgUpca");
+        jwtClaims.put("scope", "default read write");
+        jwtClaims.put("azp", "gDqXyO4cm3cUk7nKPRtdnWKgUpca");
+        jwtClaims.put("exp", "1893456000");
+        jwtClaims.put("iat", "1893452400");
+        jwtClaims.put("jti", "8f1e3bb4-5c1b-4a8b-9b8e-0a4c2f6e7d11");
+        customProperties = Collections.singletonMap("region", "us-east");
+        referencedHeaders = Collections.singleton("x-header-1");
+        referencedJwtClaims = new HashSet<>(Collections.singleton("sub"));
+        writer = new ThrottleEventPropertiesWriter();
+    }
+
+    @Benchmark
+    public String jsonObject() {
+
+        JSONObject jsonObMap = new JSONObject();
+        jsonObMap.put("ip", 3232235777L);
+        jsonObMap.put("ipv6", 0);
+        jsonObMap.putAll(headers);
+        jsonObMap.putAll(customProperties);
+        jsonObMap.putAll(queryParams);
+        jsonObMap.putAll(jwtClaims);
+        jsonObMap.put("totalTokens", 0L);
+        jsonObMap.put("promptTokens", 0L);
+        jsonObMap.put("completionTokens", 0L);
+        return jsonObMap.toString();
+    }
+
+    @Benchmark
+    public String writerAllProperties() {
+
+        ThrottleEventPropertiesWriter properties = writer.reset();
+        properties.put("completionTokens", 0L);
+        properties.put("promptTokens", 0L);
+        properties.put("totalTokens", 0L);
+        properties.putAll(jwtClaims);
+        properties.putAll(queryParams);
+        properties.putAll(customProperties);
+        properties.putAll(headers);
+        properties.put("ipv6", 0);
+        properties.put("ip", 3232235777L);
+        return properties.toJSONString();
+    }
+
+    @Benchmark
+    public String writerReferencedProperties() {
+
+        ThrottleEventPropertiesWriter properties = writer.reset();
+        properties.put("completionTokens", 0L);
+        properties.put("promptTokens", 0L);
+        properties.put("totalTokens", 0L);
+        properties.putAll(jwtClaims, referencedJwtClaims);
+        properties.putAll(customProperties);
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (referencedHeaders.contains(header.getKey())) {
+                properties.put(header.getKey(), header.getValue());
+            }
+        }
+        properties.put("ipv6", 0);
+        properties.put("ip", 3232235777L);
+        return properties.toJSONString();
+    }
+}
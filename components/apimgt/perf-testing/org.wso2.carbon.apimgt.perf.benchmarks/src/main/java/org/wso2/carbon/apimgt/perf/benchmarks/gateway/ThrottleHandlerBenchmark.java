@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.perf.benchmarks.gateway;
+
+import org.apache.synapse.MessageContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.ThrottleHandler;
+import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ThrottleHandler#handleRequest(MessageContext)} for a request that is not throttled, both for a
+ * resource without throttle decisions and for a resource throttled by the traffic manager under conditions that do
+ * not match the request, in which case every condition of the resource is evaluated before the request passes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThrottleHandlerBenchmark {
+
+    private static final String RESOURCE_THROTTLE_POLICY = "10KPerMin";
+
+    @Param({"1", "10"})
+    private int conditionCount;
+
+    private ThrottleHandler throttleHandler;
+    private MessageContext messageContext;
+    private MessageContext conditionalMessageContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        throttleHandler = new BenchmarkThrottleHandler();
+
+        messageContext = createMessageContext(BenchmarkAPIKeyValidator.getResourcePath(1));
+        String conditionalResourceKey = BenchmarkAPIKeyValidator.getResourcePath(2);
+        conditionalMessageContext = createMessageContext(conditionalResourceKey);
+
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        String throttleKey = GatewayBenchmarkUtils.API_CONTEXT + "/" + GatewayBenchmarkUtils.API_VERSION
+                + conditionalResourceKey + ":GET";
+        throttleDataHolder.addThrottledAPIKey(throttleKey, Long.MAX_VALUE);
+        for (int i = 0; i < conditionCount; i++) {
+            ConditionDto.HeaderConditions headerConditions = new ConditionDto.HeaderConditions();
+            Map<String, String> values = new HashMap<>();
+            values.put("X-Partner", "partner" + i);
+            headerConditions.setValues(values);
+            ConditionDto conditionDto = new ConditionDto();
+            conditionDto.setHeaderConditions(headerConditions);
+            throttleDataHolder.addThrottledApiConditions(throttleKey, "condition_" + i,
+                    Collections.singletonList(conditionDto));
+        }
+
+        if (!throttleHandler.handleRequest(messageContext)
+                || !throttleHandler.handleRequest(conditionalMessageContext)) {
+            throw new IllegalStateException("Throttle handler rejected the benchmark request");
+        }
+    }
+
+    @Benchmark
+    public boolean unconditional() {
+
+        return throttleHandler.handleRequest(messageContext);
+    }
+
+    @Benchmark
+    public boolean conditional() {
+
+        return throttleHandler.handleRequest(conditionalMessageContext);
+    }
+
+    private static MessageContext createMessageContext(String resourcePath) {
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-Forwarded-For", "192.168.1.10");
+        headers.put("X-Partner", "external");
+        MessageContext messageContext = GatewayBenchmarkUtils.createMessageContext("GET",
+                resourcePath.replace("{id}", "42"), headers);
+        APISecurityUtils.setAuthenticationContext(messageContext,
+                GatewayBenchmarkUtils.createAuthenticationContext());
+
+        VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+        verbInfoDTO.setHttpVerb("GET");
+        verbInfoDTO.setAuthType(APIConstants.AUTH_APPLICATION_OR_USER_LEVEL_TOKEN);
+        verbInfoDTO.setThrottling(RESOURCE_THROTTLE_POLICY);
+        verbInfoDTO.setRequestKey(GatewayBenchmarkUtils.API_CONTEXT + "/" + GatewayBenchmarkUtils.API_VERSION
+                + resourcePath + ":GET");
+        List<VerbInfoDTO> verbInfoDTOList = new ArrayList<>(1);
+        verbInfoDTOList.add(verbInfoDTO);
+        messageContext.setProperty(APIConstants.VERB_INFO_DTO, verbInfoDTOList);
+        return messageContext;
+    }
+
+    /**
+     * Throttle handler reading the throttle decisions of the gateway and the super tenant domain without a carbon
+     * context, and not recording metrics.
+     */
+    private static class BenchmarkThrottleHandler extends ThrottleHandler {
+
+        @Override
+        protected ThrottleDataHolder getThrottleDataHolder() {
+
+            return ThrottleDataHolder.getInstance();
+        }
+
+        @Override
+        protected String getTenantDomain() {
+
+            return GatewayBenchmarkUtils.TENANT_DOMAIN;
+        }
+
+        @Override
+        protected Timer getTimer(String name) {
+
+            return GatewayBenchmarkUtils.getNoOpTimer();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.perf.benchmarks.impl;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.dao.ApiMgtDAO;
+import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
+import org.wso2.carbon.apimgt.perf.benchmarks.gateway.GatewayBenchmarkUtils;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures retrieving the rating, gateway vendor and information of the APIs of a listing page from
+ * {@link ApiMgtDAO}, per API as the Dev Portal and Publisher listings used to, against the batch methods retrieving
+ * them for the whole page at once. The database is an in-memory H2 database holding the AM_API, AM_API_RATINGS and
+ * AM_REVISION tables only, hence the results do not include the network round trips to a remote database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class APIListingDAOBenchmark {
+
+    private static final int RATINGS_PER_API = 5;
+
+    @Param({"25", "100", "500"})
+    private int pageSize;
+
+    private ApiMgtDAO apiMgtDAO;
+    private List<String> apiIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        GatewayBenchmarkUtils.initConfiguration();
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:api_listing_" + pageSize + ";DB_CLOSE_DELAY=-1");
+        apiIds = new ArrayList<>(pageSize);
+        try (Connection connection = dataSource.getConnection()) {
+            createTables(connection);
+            addAPIs(connection);
+        }
+        // The data source is otherwise looked up from JNDI by the name configured in api-manager.xml
+        Field dataSourceField = APIMgtDBUtil.class.getDeclaredField("dataSource");
+        dataSourceField.setAccessible(true);
+        dataSourceField.set(null, dataSource);
+        apiMgtDAO = ApiMgtDAO.getInstance();
+    }
+
+    @Benchmark
+    public void perAPI(Blackhole blackhole) throws APIManagementException {
+
+        for (String apiId : apiIds) {
+            blackhole.consume(apiMgtDAO.getAverageRating(apiId));
+            blackhole.consume(apiMgtDAO.getGatewayVendorByAPIUUID(apiId));
+            blackhole.consume(apiMgtDAO.getAPIInfoByUUID(apiId));
+        }
+    }
+
+    @Benchmark
+    public void batched(Blackhole blackhole) throws APIManagementException {
+
+        blackhole.consume(apiMgtDAO.getAverageRatings(apiIds));
+        blackhole.consume(apiMgtDAO.getGatewayVendorsByAPIUUIDs(apiIds));
+        blackhole.consume(apiMgtDAO.getAPIInfoByUUIDs(apiIds));
+    }
+
+    private static void createTables(Connection connection) throws SQLException {
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE AM_API (API_ID INTEGER AUTO_INCREMENT, API_UUID VARCHAR(256), "
+                    + "API_PROVIDER VARCHAR(256), API_NAME VARCHAR(256), API_VERSION VARCHAR(30), "
+                    + "CONTEXT VARCHAR(256), CONTEXT_TEMPLATE VARCHAR(256), API_TIER VARCHAR(256), "
+                    + "API_TYPE VARCHAR(10), API_SUBTYPE VARCHAR(10), ORGANIZATION VARCHAR(100), "
+                    + "GATEWAY_VENDOR VARCHAR(100) DEFAULT 'wso2', CREATED_BY VARCHAR(100), "
+                    + "CREATED_TIME TIMESTAMP, UPDATED_BY VARCHAR(100), UPDATED_TIME TIMESTAMP, "
+                    + "REVISIONS_CREATED INTEGER DEFAULT 0, STATUS VARCHAR(30), IS_EGRESS INTEGER DEFAULT 0, "
+                    + "PRIMARY KEY (API_ID), UNIQUE (API_UUID))");
+            statement.execute("CREATE TABLE AM_API_RATINGS (RATING_ID VARCHAR(255) NOT NULL, API_ID INTEGER, "
+                    + "RATING INTEGER, SUBSCRIBER_ID INTEGER, PRIMARY KEY (RATING_ID))");
+            statement.execute("CREATE TABLE AM_REVISION (ID INTEGER NOT NULL, API_UUID VARCHAR(255) NOT NULL, "
+                    + "REVISION_UUID VARCHAR(255) NOT NULL, DESCRIPTION VARCHAR(255), "
+                    + "CREATED_TIME TIMESTAMP DEFAULT CURRENT_TIMESTAMP, CREATED_BY VARCHAR(255), "
+                    + "PRIMARY KEY (ID, API_UUID), UNIQUE (REVISION_UUID))");
+        }
+    }
+
+    private void addAPIs(Connection connection) throws SQLException {
+
+        try (PreparedStatement addAPI = connection.prepareStatement("INSERT INTO AM_API (API_ID, API_UUID, "
+                + "API_PROVIDER, API_NAME, API_VERSION, CONTEXT, CONTEXT_TEMPLATE, API_TIER, API_TYPE, "
+                + "API_SUBTYPE, ORGANIZATION, CREATED_BY, CREATED_TIME, STATUS) "
+                + "VALUES (?, ?, 'admin', ?, '1.0.0', ?, ?, 'Unlimited', 'HTTP', 'DEFAULT', 'carbon.super', "
+                + "'admin', CURRENT_TIMESTAMP, 'PUBLISHED')");
+             PreparedStatement addRating = connection.prepareStatement(
+                     "INSERT INTO AM_API_RATINGS (RATING_ID, API_ID, RATING) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < pageSize; i++) {
+                String apiId = UUID.randomUUID().toString();
+                addAPI.setInt(1, i + 1);
+                addAPI.setString(2, apiId);
+                addAPI.setString(3, "API" + i);
+                addAPI.setString(4, "/api" + i + "/1.0.0");
+                addAPI.setString(5, "/api" + i + "/{version}");
+                addAPI.executeUpdate();
+                for (int j = 0; j < RATINGS_PER_API; j++) {
+                    addRating.setString(1, UUID.randomUUID().toString());
+                    addRating.setInt(2, i + 1);
+                    addRating.setInt(3, j + 1);
+                    addRating.executeUpdate();
+                }
+                apiIds.add(apiId);
+            }
+        }
+    }
+}
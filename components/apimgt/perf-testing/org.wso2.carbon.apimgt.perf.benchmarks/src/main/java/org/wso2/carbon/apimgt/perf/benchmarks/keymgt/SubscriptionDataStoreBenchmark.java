@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks.keymgt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Application;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataStoreImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the application and subscription lookups of {@link SubscriptionDataStoreImpl}, which are served from
+ * secondary indexes, against the scan of all the entries of the store that was used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class SubscriptionDataStoreBenchmark {
+
+    private static final int APPLICATIONS_PER_NAME = 10;
+    private static final int SUBSCRIPTIONS_PER_API = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    private int entryCount;
+
+    private SubscriptionDataStoreImpl subscriptionDataStore;
+    private Map<Integer, Application> applicationMap;
+    private Map<String, Subscription> subscriptionMap;
+    private String[] applicationUUIDs;
+    private String[] applicationNames;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(
+                new APIManagerConfigurationServiceImpl(new APIManagerConfiguration()));
+        subscriptionDataStore = new SubscriptionDataStoreImpl("carbon.super");
+        applicationMap = new ConcurrentHashMap<>();
+        subscriptionMap = new ConcurrentHashMap<>();
+        applicationUUIDs = new String[entryCount];
+        applicationNames = new String[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            applicationUUIDs[i] = "8f3b2c1e-0000-4000-8000-" + String.format("%012d", i);
+            applicationNames[i] = "Application-" + (i / APPLICATIONS_PER_NAME);
+            Application application = new Application();
+            application.setId(i);
+            application.setUUID(applicationUUIDs[i]);
+            application.setName(applicationNames[i]);
+            subscriptionDataStore.addOrUpdateApplication(application);
+            applicationMap.put(application.getId(), application);
+
+            Subscription subscription = new Subscription();
+            subscription.setAppId(i);
+            subscription.setApplicationUUID(application.getUUID());
+            subscription.setApiId(apiId(i));
+            subscription.setSubscriptionId(String.valueOf(i));
+            subscriptionDataStore.addOrUpdateSubscription(subscription);
+            subscriptionMap.put(subscription.getCacheKey(), subscription);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        subscriptionDataStore.destroy();
+    }
+
+    private static int apiId(int i) {
+
+        return i / SUBSCRIPTIONS_PER_API;
+    }
+
+    private int nextIndex() {
+
+        index = (index + 7919) % entryCount;
+        return index;
+    }
+
+    @Benchmark
+    public Application indexedApplicationByUUID() {
+
+        return subscriptionDataStore.getApplicationByUUID(applicationUUIDs[nextIndex()]);
+    }
+
+    @Benchmark
+    public Application scanApplicationByUUID() {
+
+        String uuid = applicationUUIDs[nextIndex()];
+        for (Application application : applicationMap.values()) {
+            if (application.getUUID().equals(uuid)) {
+                return application;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public List<Application> indexedApplicationsByName() {
+
+        return subscriptionDataStore.getApplicationsByName(applicationNames[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<Application> scanApplicationsByName() {
+
+        String name = applicationNames[nextIndex()];
+        List<Application> applicationList = new ArrayList<>();
+        for (Application application : applicationMap.values()) {
+            if (application.getName().equals(name)) {
+                applicationList.add(application);
+            }
+        }
+        return applicationList;
+    }
+
+    @Benchmark
+    public List<Subscription> indexedSubscriptionsByAPIId() {
+
+        return subscriptionDataStore.getSubscriptionsByAPIId(apiId(nextIndex()));
+    }
+
+    @Benchmark
+    public List<Subscription> scanSubscriptionsByAPIId() {
+
+        int apiId = apiId(nextIndex());
+        List<Subscription> subscriptionList = new ArrayList<>();
+        for (Subscription subscription : subscriptionMap.values()) {
+            if (subscription.getApiId() == apiId) {
+                subscriptionList.add(subscription);
+            }
+        }
+        return subscriptionList;
+    }
+}